@@ -198,6 +198,22 @@ case $COMMAND in
         echo_step "Redeployed! URL: $SERVICE_URL"
         ;;
         
+    "redeploy-fast-start")
+        echo_step "Redeploying with the startup-optimized image (AOT + CDS)..."
+        
+        gcloud builds submit \
+            --config cloudbuild.fast-start.yaml \
+            --substitutions _IMAGE=$REGION-docker.pkg.dev/$PROJECT_ID/kaiz-repo/$SERVICE_NAME
+        # Startup CPU boost gives the instance extra CPU while it is starting
+        gcloud run deploy $SERVICE_NAME \
+            --image $REGION-docker.pkg.dev/$PROJECT_ID/kaiz-repo/$SERVICE_NAME \
+            --region $REGION \
+            --cpu-boost
+        
+        SERVICE_URL=$(gcloud run services describe $SERVICE_NAME --region=$REGION --format='value(status.url)')
+        echo_step "Redeployed! URL: $SERVICE_URL"
+        ;;
+        
     "logs")
         echo_step "Streaming logs..."
         gcloud run services logs read $SERVICE_NAME --region=$REGION --limit=100
@@ -295,6 +311,7 @@ case $COMMAND in
         echo "  set-anthropic-key - Add/update Anthropic API key for Claude AI"
         echo "  deploy            - Build and deploy to Cloud Run"
         echo "  redeploy          - Quick redeploy of code changes"
+        echo "  redeploy-fast-start - Redeploy with the startup-optimized image (AOT + CDS)"
         echo "  logs              - View recent logs"
         echo "  status            - Check service status"
         echo "  url               - Get the service URL"
@@ -0,0 +1,16 @@
+#!/bin/sh
+# Clones the primary on first start, then runs as a hot standby streaming from it.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -h "$PRIMARY_HOST" -p 5432 -U replicator; do
+    sleep 1
+  done
+  PGPASSWORD="$REPLICATION_PASSWORD" pg_basebackup \
+    -h "$PRIMARY_HOST" -p 5432 -U replicator \
+    -D "$PGDATA" -S kaiz_replica -X stream -R
+  chmod 0700 "$PGDATA"
+  chown -R postgres:postgres "$PGDATA"
+fi
+
+exec su-exec postgres postgres -c hot_standby=on
@@ -0,0 +1,121 @@
+package app.kaiz.challenge.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import app.kaiz.challenge.application.dto.ChallengeEntryDto;
+import app.kaiz.challenge.application.dto.ChallengeEntryDto.CreateChallengeEntryRequest;
+import app.kaiz.challenge.domain.Challenge;
+import app.kaiz.challenge.domain.ChallengeEntry;
+import app.kaiz.challenge.domain.MetricType;
+import app.kaiz.challenge.infrastructure.ChallengeEntryRepository;
+import app.kaiz.challenge.infrastructure.ChallengeParticipantRepository;
+import app.kaiz.challenge.infrastructure.ChallengeRepository;
+import app.kaiz.challenge.infrastructure.ChallengeTemplateRepository;
+import app.kaiz.identity.domain.User;
+import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.life_wheel.infrastructure.LifeWheelAreaRepository;
+import app.kaiz.shared.outbox.OutboxPublisher;
+import app.kaiz.shared.persistence.EntityStreamer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Streak recomputation in {@link ChallengeService#logEntry}. The streak walk issues one entry
+ * lookup per day, so the cost grows with streak length; lookups are served from an in-memory map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChallengeStreakBenchmark {
+
+  @Param({"7", "30", "365"})
+  private int streakDays;
+
+  private ChallengeService challengeService;
+  private UUID userId;
+  private UUID challengeId;
+  private CreateChallengeEntryRequest request;
+
+  @Setup
+  public void setUp() {
+    ChallengeRepository challengeRepository =
+        mock(ChallengeRepository.class, withSettings().stubOnly());
+    ChallengeEntryRepository entryRepository =
+        mock(ChallengeEntryRepository.class, withSettings().stubOnly());
+    UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+    challengeService =
+        new ChallengeService(
+            challengeRepository,
+            mock(ChallengeTemplateRepository.class, withSettings().stubOnly()),
+            mock(ChallengeParticipantRepository.class, withSettings().stubOnly()),
+            entryRepository,
+            userRepository,
+            mock(LifeWheelAreaRepository.class, withSettings().stubOnly()),
+            new ChallengeMapperImpl(),
+            mock(OutboxPublisher.class, withSettings().stubOnly()),
+            mock(EntityStreamer.class, withSettings().stubOnly()));
+
+    userId = UUID.randomUUID();
+    challengeId = UUID.randomUUID();
+    User user = User.builder().email("bench@example.com").fullName("Bench").build();
+    user.setId(userId);
+    Challenge challenge =
+        Challenge.builder()
+            .name("Run every day")
+            .user(user)
+            .metricType(MetricType.COUNT)
+            .targetValue(BigDecimal.valueOf(5))
+            .graceDays(1)
+            .build();
+    challenge.setId(challengeId);
+
+    LocalDate today = LocalDate.now();
+    Map<LocalDate, ChallengeEntry> entries = new HashMap<>();
+    for (int day = 0; day < streakDays; day++) {
+      ChallengeEntry entry =
+          ChallengeEntry.builder()
+              .challenge(challenge)
+              .user(user)
+              .entryDate(today.minusDays(day))
+              .valueNumeric(BigDecimal.TEN)
+              .build();
+      entry.setId(UUID.randomUUID());
+      entries.put(entry.getEntryDate(), entry);
+    }
+    request = new CreateChallengeEntryRequest(today, BigDecimal.TEN, null, null);
+
+    when(challengeRepository.findByIdAndUserId(challengeId, userId))
+        .thenReturn(Optional.of(challenge));
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(entryRepository.findByChallengeIdAndUserIdAndEntryDate(any(), any(), any()))
+        .thenAnswer(invocation -> Optional.ofNullable(entries.get(invocation.getArgument(2))));
+    when(entryRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Benchmark
+  public ChallengeEntryDto logEntry() {
+    return challengeService.logEntry(userId, challengeId, request);
+  }
+}
@@ -0,0 +1,99 @@
+package app.kaiz.command_center.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import app.kaiz.command_center.api.dto.SmartInputRequest;
+import app.kaiz.command_center.api.dto.SmartInputResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.anthropic.AnthropicChatModel;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+/**
+ * Prompt building and response parsing in {@link SmartInputAIService#processInput}. The chat model
+ * replays recorded responses from {@code fixtures/smart-input}, so the model round trip is
+ * excluded. Only READY fixtures are used: clarification responses open a session that would grow
+ * without bound across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmartInputAIServiceBenchmark {
+
+  @Param({"ready-task", "ready-event", "ready-bill"})
+  private String fixture;
+
+  private SmartInputAIService smartInputAIService;
+  private UUID userId;
+  private SmartInputRequest request;
+
+  @Setup
+  public void setUp() throws IOException {
+    ChatResponse recorded =
+        new ChatResponse(List.of(new Generation(new AssistantMessage(readFixture(fixture)))));
+    AnthropicChatModel chatModel = mock(AnthropicChatModel.class, withSettings().stubOnly());
+    when(chatModel.call(any(Prompt.class))).thenReturn(recorded);
+
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    smartInputAIService = new SmartInputAIService(chatModel, objectMapper, 24);
+
+    userId = UUID.randomUUID();
+    request =
+        new SmartInputRequest(
+            userId,
+            "Dinner with Sam and Alex on the 11th at 7:30, and pay the power bill",
+            "remind me to run every morning next week",
+            List.of(
+                new SmartInputRequest.Attachment(
+                    "invite.jpg",
+                    "image",
+                    "image/jpeg",
+                    182_344,
+                    null,
+                    "You're invited! Saturday April 11, 7:30 PM, Trattoria Roma",
+                    Map.of("width", 1080, "height", 1920))),
+            null);
+  }
+
+  @Benchmark
+  public SmartInputResponse processInput() {
+    return smartInputAIService.processInput(userId, request);
+  }
+
+  private static String readFixture(String name) throws IOException {
+    String path = "/fixtures/smart-input/" + name + ".json";
+    try (InputStream in = SmartInputAIServiceBenchmark.class.getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IOException("Missing fixture " + path);
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package app.kaiz.community.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import app.kaiz.community.application.dto.CommunityActivityResponse;
+import app.kaiz.community.application.dto.QuestionResponse;
+import app.kaiz.community.application.dto.SuccessStoryResponse;
+import app.kaiz.community.domain.ActivityType;
+import app.kaiz.community.domain.Answer;
+import app.kaiz.community.domain.BadgeType;
+import app.kaiz.community.domain.CommunityActivity;
+import app.kaiz.community.domain.CommunityMember;
+import app.kaiz.community.domain.Question;
+import app.kaiz.community.domain.StoryComment;
+import app.kaiz.community.domain.SuccessStory;
+import app.kaiz.community.infrastructure.AccountabilityPartnerRepository;
+import app.kaiz.community.infrastructure.AnswerRepository;
+import app.kaiz.community.infrastructure.ArticleRepository;
+import app.kaiz.community.infrastructure.CommunityActivityRepository;
+import app.kaiz.community.infrastructure.CommunityBadgeRepository;
+import app.kaiz.community.infrastructure.CommunityMemberRepository;
+import app.kaiz.community.infrastructure.CommunityTemplateRepository;
+import app.kaiz.community.infrastructure.MotivationGroupRepository;
+import app.kaiz.community.infrastructure.PartnerRequestRepository;
+import app.kaiz.community.infrastructure.QuestionRepository;
+import app.kaiz.community.infrastructure.StoryCommentRepository;
+import app.kaiz.community.infrastructure.SuccessStoryRepository;
+import app.kaiz.identity.domain.User;
+import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.shared.outbox.OutboxPublisher;
+import app.kaiz.shared.persistence.BaseEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Response mapping in {@link CommunityService} for the paged feeds. Repositories are stubbed to
+ * return a prepared page so only the entity-to-response mapping is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommunityServiceMapperBenchmark {
+
+  @Param({"20", "100"})
+  private int pageSize;
+
+  private CommunityService communityService;
+
+  @Setup
+  public void setUp() {
+    SuccessStoryRepository storyRepository =
+        mock(SuccessStoryRepository.class, withSettings().stubOnly());
+    QuestionRepository questionRepository =
+        mock(QuestionRepository.class, withSettings().stubOnly());
+    CommunityActivityRepository activityRepository =
+        mock(CommunityActivityRepository.class, withSettings().stubOnly());
+
+    communityService =
+        new CommunityService(
+            mock(CommunityMemberRepository.class, withSettings().stubOnly()),
+            mock(ArticleRepository.class, withSettings().stubOnly()),
+            questionRepository,
+            mock(AnswerRepository.class, withSettings().stubOnly()),
+            storyRepository,
+            mock(StoryCommentRepository.class, withSettings().stubOnly()),
+            mock(CommunityTemplateRepository.class, withSettings().stubOnly()),
+            mock(MotivationGroupRepository.class, withSettings().stubOnly()),
+            mock(AccountabilityPartnerRepository.class, withSettings().stubOnly()),
+            mock(PartnerRequestRepository.class, withSettings().stubOnly()),
+            activityRepository,
+            mock(CommunityBadgeRepository.class, withSettings().stubOnly()),
+            mock(UserRepository.class, withSettings().stubOnly()),
+            mock(OutboxPublisher.class, withSettings().stubOnly()));
+
+    List<CommunityMember> members = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      members.add(member(i));
+    }
+
+    List<SuccessStory> stories = new ArrayList<>();
+    List<Question> questions = new ArrayList<>();
+    List<CommunityActivity> activities = new ArrayList<>();
+    for (int i = 0; i < pageSize; i++) {
+      stories.add(story(i, members));
+      questions.add(question(i, members));
+      activities.add(activity(i, members));
+    }
+
+    when(storyRepository.findAll(any(Pageable.class))).thenReturn(page(stories));
+    when(questionRepository.findAll(any(Pageable.class))).thenReturn(page(questions));
+    when(activityRepository.findAll(any(Pageable.class))).thenReturn(page(activities));
+  }
+
+  @Benchmark
+  public Page<SuccessStoryResponse> getStories() {
+    return communityService.getStories(null, 0, pageSize);
+  }
+
+  @Benchmark
+  public Page<QuestionResponse> getQuestions() {
+    return communityService.getQuestions(null, null, 0, pageSize);
+  }
+
+  @Benchmark
+  public Page<CommunityActivityResponse> getActivityFeed() {
+    return communityService.getActivityFeed(0, pageSize);
+  }
+
+  private static <T> Page<T> page(List<T> content) {
+    return new PageImpl<>(content, Pageable.ofSize(content.size()), content.size() * 10L);
+  }
+
+  private static CommunityMember member(int i) {
+    User user = User.builder().email("member" + i + "@example.com").fullName("Member " + i).build();
+    user.setId(UUID.randomUUID());
+    CommunityMember member =
+        CommunityMember.builder()
+            .user(user)
+            .displayName("Member " + i)
+            .bio("Working on getting one percent better every day.")
+            .badges(new ArrayList<>(List.of(BadgeType.values()).subList(0, 3)))
+            .build();
+    stamp(member);
+    return member;
+  }
+
+  private static SuccessStory story(int i, List<CommunityMember> members) {
+    SuccessStory story =
+        SuccessStory.builder()
+            .author(members.get(i % members.size()))
+            .title("Story " + i)
+            .story("Finished my first sprint with every task done. ".repeat(10))
+            .imageUrls(new ArrayList<>(List.of("https://cdn.example.com/" + i + ".jpg")))
+            .build();
+    for (int c = 0; c < 5; c++) {
+      StoryComment comment =
+          StoryComment.builder()
+              .story(story)
+              .author(members.get((i + c) % members.size()))
+              .text("Congrats!")
+              .build();
+      stamp(comment);
+      story.getComments().add(comment);
+    }
+    stamp(story);
+    return story;
+  }
+
+  private static Question question(int i, List<CommunityMember> members) {
+    Question question =
+        Question.builder()
+            .author(members.get(i % members.size()))
+            .title("How do you plan sprint " + i + "?")
+            .body("Looking for tips on sizing story points. ".repeat(5))
+            .tags(new ArrayList<>(List.of("planning", "sprints")))
+            .build();
+    for (int a = 0; a < 3; a++) {
+      Answer answer =
+          Answer.builder()
+              .question(question)
+              .author(members.get((i + a) % members.size()))
+              .body("Start small and review every Sunday.")
+              .build();
+      stamp(answer);
+      question.getAnswers().add(answer);
+    }
+    stamp(question);
+    return question;
+  }
+
+  private static CommunityActivity activity(int i, List<CommunityMember> members) {
+    ActivityType[] types = ActivityType.values();
+    CommunityActivity activity =
+        CommunityActivity.builder()
+            .member(members.get(i % members.size()))
+            .activityType(types[i % types.length])
+            .title("Activity " + i)
+            .description("Completed a sprint")
+            .build();
+    stamp(activity);
+    return activity;
+  }
+
+  private static void stamp(BaseEntity entity) {
+    entity.setId(UUID.randomUUID());
+    entity.setCreatedAt(Instant.now());
+    entity.setUpdatedAt(Instant.now());
+  }
+}
@@ -0,0 +1,95 @@
+package app.kaiz.notification.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.notification.application.dto.NotificationDto.GroupedNotificationsDto;
+import app.kaiz.notification.domain.Notification;
+import app.kaiz.notification.domain.NotificationCategory;
+import app.kaiz.notification.domain.NotificationType;
+import app.kaiz.notification.infrastructure.NotificationPreferencesRepository;
+import app.kaiz.notification.infrastructure.NotificationRepository;
+import app.kaiz.shared.persistence.EntityStreamer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping and day-bucketing in {@link NotificationService#getGroupedNotifications(UUID)} over
+ * notifications spread across the last 37 days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationGroupingBenchmark {
+
+  @Param({"100", "1000"})
+  private int notificationCount;
+
+  private NotificationService notificationService;
+  private UUID userId;
+
+  @Setup
+  public void setUp() {
+    NotificationRepository notificationRepository =
+        mock(NotificationRepository.class, withSettings().stubOnly());
+    notificationService =
+        new NotificationService(
+            notificationRepository,
+            mock(NotificationPreferencesRepository.class, withSettings().stubOnly()),
+            mock(UserRepository.class, withSettings().stubOnly()),
+            new NotificationMapperImpl(),
+            mock(EntityStreamer.class, withSettings().stubOnly()),
+            mock(NotificationStreamPublisher.class, withSettings().stubOnly()),
+            mock(NotificationCounterService.class, withSettings().stubOnly()));
+    userId = UUID.randomUUID();
+
+    NotificationType[] types = NotificationType.values();
+    NotificationCategory[] categories = NotificationCategory.values();
+    Duration spread = Duration.ofDays(37);
+    Instant now = Instant.now();
+    List<Notification> notifications = new ArrayList<>(notificationCount);
+    for (int i = 0; i < notificationCount; i++) {
+      Notification notification =
+          Notification.builder()
+              .type(types[i % types.length])
+              .category(categories[i % categories.length])
+              .title("Notification " + i)
+              .content("Your sprint review is ready")
+              .isRead(i % 2 == 0)
+              .metadata(Map.of("taskId", UUID.randomUUID().toString()))
+              .build();
+      notification.setId(UUID.randomUUID());
+      notification.setCreatedAt(now.minus(spread.multipliedBy(i).dividedBy(notificationCount)));
+      notifications.add(notification);
+    }
+
+    when(notificationRepository.findRecentNotifications(any(), any())).thenReturn(notifications);
+  }
+
+  @Benchmark
+  public GroupedNotificationsDto getGroupedNotifications() {
+    return notificationService.getGroupedNotifications(userId);
+  }
+}
@@ -0,0 +1,121 @@
+package app.kaiz.shared.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import app.kaiz.shared.config.JwtProperties;
+import app.kaiz.shared.config.TokenRevocationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ *
+ * <ul>
+ *   <li>{@code legacyFourParses} - the previous filter: four independent signature checks
+ *   <li>{@code singlePassUncached} - one signature check, as paid on the first request of a token
+ *   <li>{@code filterWithVerifiedTokenCache} - the full filter once the token is cached, including
+ *       the revocation check
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+  private JwtTokenProvider jwtTokenProvider;
+  private JwtAuthenticationFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    JwtProperties jwtProperties =
+        new JwtProperties(
+            "benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256",
+            "kaiz",
+            "kaiz-mobile-app",
+            900_000L,
+            604_800_000L);
+    jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+    TokenRevocationProperties revocationProperties =
+        new TokenRevocationProperties("bench", Duration.ofSeconds(10), Duration.ofSeconds(5));
+    TokenRevocationList revocationList =
+        new TokenRevocationList(
+            null,
+            mock(PlatformTransactionManager.class, withSettings().stubOnly()),
+            new ObjectMapper(),
+            revocationProperties,
+            jwtProperties,
+            new SimpleMeterRegistry());
+    revocationList.markLoaded();
+    filter =
+        new JwtAuthenticationFilter(
+            jwtTokenProvider, revocationList, revocationProperties, new ObjectMapper());
+    token = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "bench@example.com");
+
+    request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+    request.addHeader("Authorization", "Bearer " + token);
+    response = new MockHttpServletResponse();
+  }
+
+  @TearDown(Level.Invocation)
+  public void clearContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public Authentication legacyFourParses() {
+    if (jwtTokenProvider.validateToken(token) && jwtTokenProvider.isAccessToken(token)) {
+      UUID userId = jwtTokenProvider.getUserIdFromToken(token);
+      String email = jwtTokenProvider.getEmailFromToken(token);
+      UsernamePasswordAuthenticationToken authentication =
+          new UsernamePasswordAuthenticationToken(
+              userId.toString(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+      authentication.setDetails(email);
+      return authentication;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public VerifiedToken singlePassUncached() {
+    return jwtTokenProvider.parse(token);
+  }
+
+  @Benchmark
+  public Authentication filterWithVerifiedTokenCache() throws Exception {
+    filter.doFilter(request, response, NO_OP_CHAIN);
+    return SecurityContextHolder.getContext().getAuthentication();
+  }
+}
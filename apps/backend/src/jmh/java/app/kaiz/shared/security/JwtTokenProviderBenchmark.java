@@ -0,0 +1,63 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.JwtProperties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Raw cost of issuing, validating and parsing tokens in {@link JwtTokenProvider}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+  private JwtTokenProvider jwtTokenProvider;
+  private UUID userId;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider =
+        new JwtTokenProvider(
+            new JwtProperties(
+                "benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256",
+                "kaiz",
+                "kaiz-mobile-app",
+                900_000L,
+                604_800_000L));
+    userId = UUID.randomUUID();
+    token = jwtTokenProvider.generateAccessToken(userId, "bench@example.com");
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return jwtTokenProvider.generateAccessToken(userId, "bench@example.com");
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtTokenProvider.validateToken(token);
+  }
+
+  @Benchmark
+  public VerifiedToken parse() {
+    return jwtTokenProvider.parse(token);
+  }
+
+  @Benchmark
+  public Object verifyCached() {
+    return jwtTokenProvider.verify(token);
+  }
+}
@@ -0,0 +1,76 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.PasswordHashingProperties.Pool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Login throughput (password checks per second) with 32 concurrent callers.
+ *
+ * <ul>
+ *   <li>{@code inline} - each caller hashes on its own thread, as request threads used to
+ *   <li>{@code pooled} - callers go through {@link PasswordHasher}, one hashing thread per core
+ * </ul>
+ *
+ * <p>Both should reach about the same rate, since hashing is CPU-bound either way; the pool gets
+ * there without more threads burning CPU than there are cores. The queue is sized so that no caller
+ * is rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+  private static final String PASSWORD = "SecurePassword123!";
+
+  @Param({"10"})
+  private int cost;
+
+  private PasswordEncoder encoder;
+  private PasswordHasher hasher;
+  private String hash;
+
+  @Setup
+  public void setUp() {
+    encoder = new BCryptPasswordEncoder(cost);
+    hasher =
+        new PasswordHasher(
+            encoder, new Pool(0, 64, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+    hash = encoder.encode(PASSWORD);
+  }
+
+  @TearDown
+  public void tearDown() {
+    hasher.destroy();
+  }
+
+  @Benchmark
+  public boolean inline() {
+    return encoder.matches(PASSWORD, hash);
+  }
+
+  @Benchmark
+  public boolean pooled() {
+    return hasher.matches(PASSWORD, hash);
+  }
+}
@@ -0,0 +1,102 @@
+package app.kaiz.shared.util;
+
+import app.kaiz.tasks.application.dto.TaskDto;
+import app.kaiz.tasks.domain.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson serialization of {@link ApiResponse}-wrapped payloads with the same settings as the
+ * {@code spring.jackson} block in application.yml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+  @Param({"20", "1000"})
+  private int taskCount;
+
+  private ObjectMapper objectMapper;
+  private ApiResponse<List<TaskDto>> page;
+  private ApiResponse<List<TaskDto>> list;
+  private ApiResponse<Void> error;
+
+  @Setup
+  public void setUp() {
+    objectMapper =
+        Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .timeZone(TimeZone.getTimeZone("UTC"))
+            .build();
+
+    TaskStatus[] statuses = TaskStatus.values();
+    List<TaskDto> tasks = new ArrayList<>(taskCount);
+    for (int i = 0; i < taskCount; i++) {
+      tasks.add(
+          new TaskDto(
+              UUID.randomUUID(),
+              "Task " + i,
+              "Benchmark task number " + i,
+              i % 3 == 0 ? UUID.randomUUID() : null,
+              i % 3 == 0 ? "Get fit" : null,
+              "lw-1",
+              "q2",
+              "2026-W10",
+              i % 8 + 1,
+              statuses[i % statuses.length],
+              false,
+              i % 5 == 0 ? new BigDecimal("0.85") : null,
+              null,
+              null,
+              Instant.now(),
+              Instant.now(),
+              null,
+              null));
+    }
+
+    page = ApiResponse.success(tasks, ApiResponse.PageMeta.of(0, taskCount, taskCount * 10L));
+    list = ApiResponse.success(tasks);
+    error = ApiResponse.error("Task not found");
+  }
+
+  @Benchmark
+  public byte[] pagedTasks() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] taskList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(list);
+  }
+
+  @Benchmark
+  public byte[] error() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(error);
+  }
+}
@@ -0,0 +1,91 @@
+package app.kaiz.tasks.application;
+
+import app.kaiz.life_wheel.domain.EisenhowerQuadrant;
+import app.kaiz.life_wheel.domain.LifeWheelArea;
+import app.kaiz.tasks.application.dto.TaskDto;
+import app.kaiz.tasks.domain.Epic;
+import app.kaiz.tasks.domain.Sprint;
+import app.kaiz.tasks.domain.Task;
+import app.kaiz.tasks.domain.TaskStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** List mappings in {@link SdlcMapper} as used by the task and backlog endpoints. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SdlcMapperBenchmark {
+
+  @Param({"1000"})
+  private int taskCount;
+
+  private SdlcMapper mapper;
+  private List<Task> tasks;
+
+  @Setup
+  public void setUp() {
+    mapper = new SdlcMapperImpl();
+
+    LifeWheelArea area = new LifeWheelArea("lw-1", "Health", "heart", "#EF4444", 1);
+    EisenhowerQuadrant quadrant =
+        new EisenhowerQuadrant("q2", "Schedule", "Important", "Not urgent", "#3B82F6", 2);
+    Sprint sprint =
+        Sprint.builder()
+            .id("2026-W10")
+            .weekNumber(10)
+            .year(2026)
+            .startDate(LocalDate.of(2026, 3, 2))
+            .endDate(LocalDate.of(2026, 3, 8))
+            .build();
+    Epic epic = Epic.builder().title("Get fit").lifeWheelArea(area).build();
+    epic.setId(UUID.randomUUID());
+
+    TaskStatus[] statuses = TaskStatus.values();
+    tasks = new ArrayList<>(taskCount);
+    for (int i = 0; i < taskCount; i++) {
+      Task task =
+          Task.builder()
+              .title("Task " + i)
+              .description("Benchmark task number " + i)
+              .lifeWheelArea(area)
+              .eisenhowerQuadrant(quadrant)
+              .sprint(sprint)
+              .epic(i % 3 == 0 ? epic : null)
+              .storyPoints(i % 8 + 1)
+              .status(statuses[i % statuses.length])
+              .build();
+      task.setId(UUID.randomUUID());
+      task.setCreatedAt(Instant.now());
+      task.setUpdatedAt(Instant.now());
+      tasks.add(task);
+    }
+  }
+
+  @Benchmark
+  public List<TaskDto> toTaskDtoList() {
+    return mapper.toTaskDtoList(tasks);
+  }
+
+  @Benchmark
+  public List<TaskDto> toTaskDtoListWithoutDetails() {
+    return mapper.toTaskDtoListWithoutDetails(tasks);
+  }
+}
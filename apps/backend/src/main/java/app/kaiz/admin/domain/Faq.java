@@ -1,5 +1,6 @@
 package app.kaiz.admin.domain;
 
+import app.kaiz.shared.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -15,7 +16,7 @@ import lombok.*;
 public class Faq {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedId
   private UUID id;
 
   @Column(nullable = false, columnDefinition = "TEXT")
@@ -1,5 +1,6 @@
 package app.kaiz.admin.domain;
 
+import app.kaiz.shared.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -16,7 +17,7 @@ import lombok.*;
 public class PricingTier {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedId
   private UUID id;
 
   @Column(nullable = false, length = 100)
@@ -1,5 +1,6 @@
 package app.kaiz.admin.domain;
 
+import app.kaiz.shared.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -17,7 +18,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class SiteContent {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedId
   private UUID id;
 
   @Column(name = "content_key", nullable = false, unique = true)
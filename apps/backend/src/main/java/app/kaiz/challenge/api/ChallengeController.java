@@ -5,10 +5,13 @@ import app.kaiz.challenge.application.dto.*;
 import app.kaiz.challenge.domain.ChallengeStatus;
 import app.kaiz.shared.security.CurrentUser;
 import app.kaiz.shared.util.ApiResponse;
+import app.kaiz.shared.util.JsonStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class ChallengeController {
 
   private final ChallengeService challengeService;
+  private final JsonStreamWriter jsonStreamWriter;
 
   // Template endpoints (public)
   @GetMapping("/templates")
@@ -50,13 +54,13 @@ public class ChallengeController {
   @Operation(
       summary = "Get all challenges",
       description = "Retrieve all challenges for the current user")
-  public ResponseEntity<ApiResponse<List<ChallengeDto>>> getChallenges(
-      @CurrentUser UUID userId, @RequestParam(required = false) ChallengeStatus status) {
-    List<ChallengeDto> challenges =
-        status != null
-            ? challengeService.getChallengesByUserIdAndStatus(userId, status)
-            : challengeService.getChallengesByUserId(userId);
-    return ResponseEntity.ok(ApiResponse.success(challenges));
+  public void getChallenges(
+      @CurrentUser UUID userId,
+      @RequestParam(required = false) ChallengeStatus status,
+      HttpServletResponse response)
+      throws IOException {
+    jsonStreamWriter.<ChallengeDto>writeApiResponse(
+        response, sink -> challengeService.streamChallenges(userId, status, sink));
   }
 
   @GetMapping("/active")
@@ -6,12 +6,17 @@ import app.kaiz.challenge.infrastructure.*;
 import app.kaiz.identity.domain.User;
 import app.kaiz.identity.infrastructure.UserRepository;
 import app.kaiz.life_wheel.infrastructure.LifeWheelAreaRepository;
+import app.kaiz.notification.application.NotificationEvents;
 import app.kaiz.shared.exception.ResourceNotFoundException;
+import app.kaiz.shared.outbox.OutboxPublisher;
+import app.kaiz.shared.persistence.EntityStreamer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ChallengeService {
 
+  private static final int STREAK_ANNOUNCEMENT_DAYS = 7;
+
   private final ChallengeRepository challengeRepository;
   private final ChallengeTemplateRepository challengeTemplateRepository;
   private final ChallengeParticipantRepository challengeParticipantRepository;
@@ -28,6 +35,8 @@ public class ChallengeService {
   private final UserRepository userRepository;
   private final LifeWheelAreaRepository lifeWheelAreaRepository;
   private final ChallengeMapper challengeMapper;
+  private final OutboxPublisher outbox;
+  private final EntityStreamer entityStreamer;
 
   // Template methods
   public List<ChallengeTemplateDto> getAllTemplates() {
@@ -50,14 +59,14 @@ public class ChallengeService {
   }
 
   // Challenge methods
-  public List<ChallengeDto> getChallengesByUserId(UUID userId) {
-    return challengeMapper.toChallengeDtoListWithoutParticipants(
-        challengeRepository.findByUserIdOrderByCreatedAtDesc(userId));
-  }
-
-  public List<ChallengeDto> getChallengesByUserIdAndStatus(UUID userId, ChallengeStatus status) {
-    return challengeMapper.toChallengeDtoListWithoutParticipants(
-        challengeRepository.findByUserIdAndStatusOrderByCreatedAtDesc(userId, status));
+  /** Emits the user's challenges, newest first, optionally limited to one status. */
+  public void streamChallenges(UUID userId, ChallengeStatus status, Consumer<ChallengeDto> sink) {
+    entityStreamer.forEach(
+        status != null
+            ? challengeRepository.streamByUserIdAndStatusOrderByCreatedAtDesc(userId, status)
+            : challengeRepository.streamByUserIdOrderByCreatedAtDesc(userId),
+        challengeMapper::toChallengeDtoWithoutParticipants,
+        sink);
   }
 
   public List<ChallengeDto> getActiveChallenges(UUID userId) {
@@ -251,12 +260,42 @@ public class ChallengeService {
     ChallengeEntry saved = challengeEntryRepository.save(entry);
 
     // Update streak
-    updateStreak(challenge, userId);
+    int previousStreak = challenge.getCurrentStreak();
+    int streak = updateStreak(challenge, userId);
+    if (streak > previousStreak) {
+      publishStreakEvents(challenge, userId, request.entryDate(), streak);
+    }
 
     return challengeMapper.toChallengeEntryDto(saved);
   }
 
-  private void updateStreak(Challenge challenge, UUID userId) {
+  /**
+   * Announces weekly streaks and the quarter marks of the challenge duration. Keys include the
+   * entry date, so retrying the same log is a no-op while a rebuilt streak is announced again.
+   */
+  private void publishStreakEvents(
+      Challenge challenge, UUID userId, LocalDate entryDate, int streak) {
+    String key = challenge.getId() + ":" + entryDate + ":" + streak;
+    if (streak % STREAK_ANNOUNCEMENT_DAYS == 0) {
+      outbox.publish(
+          "challenge",
+          challenge.getId(),
+          "challenge-streak:" + key,
+          new NotificationEvents.ChallengeStreak(
+              userId, challenge.getId(), challenge.getName(), streak));
+    }
+    int duration = challenge.getDuration();
+    if (IntStream.rangeClosed(1, 4).anyMatch(q -> streak == Math.ceilDiv(duration * q, 4))) {
+      outbox.publish(
+          "challenge",
+          challenge.getId(),
+          "challenge-milestone:" + key,
+          new NotificationEvents.ChallengeMilestone(
+              userId, challenge.getId(), challenge.getName(), streak, duration));
+    }
+  }
+
+  private int updateStreak(Challenge challenge, UUID userId) {
     LocalDate today = LocalDate.now();
     int streak = 0;
     LocalDate checkDate = today;
@@ -297,6 +336,7 @@ public class ChallengeService {
       challenge.setBestStreak(streak);
     }
     challengeRepository.save(challenge);
+    return streak;
   }
 
   // Participant methods
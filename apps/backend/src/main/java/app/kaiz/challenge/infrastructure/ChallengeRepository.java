@@ -2,20 +2,34 @@ package app.kaiz.challenge.infrastructure;
 
 import app.kaiz.challenge.domain.Challenge;
 import app.kaiz.challenge.domain.ChallengeStatus;
+import app.kaiz.shared.persistence.EntityStreamer;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChallengeRepository extends JpaRepository<Challenge, UUID> {
 
-  List<Challenge> findByUserIdOrderByCreatedAtDesc(UUID userId);
-
-  List<Challenge> findByUserIdAndStatusOrderByCreatedAtDesc(UUID userId, ChallengeStatus status);
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreamer.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Challenge> streamByUserIdOrderByCreatedAtDesc(UUID userId);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreamer.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Challenge> streamByUserIdAndStatusOrderByCreatedAtDesc(
+      UUID userId, ChallengeStatus status);
 
   Optional<Challenge> findByIdAndUserId(UUID id, UUID userId);
 
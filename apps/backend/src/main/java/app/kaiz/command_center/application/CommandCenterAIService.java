@@ -6,6 +6,8 @@ import app.kaiz.command_center.domain.*;
 import app.kaiz.command_center.infrastructure.PendingDraftRepository;
 import app.kaiz.identity.domain.User;
 import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.shared.observability.RequestTiming;
+import app.kaiz.shared.observability.RequestTiming.Phase;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -24,9 +26,10 @@ import org.springframework.ai.anthropic.AnthropicChatModel;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.content.Media;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -40,16 +43,19 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class CommandCenterAIService {
 
-  private final AnthropicChatModel chatModel;
+  @Lazy private final AnthropicChatModel chatModel;
   private final ObjectMapper objectMapper;
   private final PendingDraftRepository draftRepository;
   private final UserRepository userRepository;
+  private final TransactionTemplate transactionTemplate;
 
   // Draft expiration time (24 hours)
   private static final long DRAFT_EXPIRATION_HOURS = 24;
 
   /**
-   * Process user input and generate a structured draft using Claude AI.
+   * Process user input and generate a structured draft using Claude AI. Claude is called before any
+   * transaction opens, so no pooled connection is held while it answers; only the draft is saved in
+   * a short transaction.
    *
    * @param userId The user making the request
    * @param text The text input from the user
@@ -57,7 +63,6 @@ public class CommandCenterAIService {
    * @param voiceTranscription Transcription of voice input (if any)
    * @return AI-generated response with draft for approval
    */
-  @Transactional
   public CommandCenterAIResponse processInput(
       UUID userId,
       String text,
@@ -82,26 +87,30 @@ public class CommandCenterAIService {
     AIResponseParsed parsed = parseAIResponse(aiResponse);
 
     // Create and save the draft
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-
-    PendingDraft pendingDraft =
-        PendingDraft.builder()
-            .user(user)
-            .draftType(parsed.draft().type())
-            .draftContent(parsed.draft())
-            .confidenceScore(parsed.confidenceScore())
-            .aiReasoning(parsed.reasoning())
-            .originalInputText(text)
-            .voiceTranscription(voiceTranscription)
-            .attachmentCount(attachmentSummaries != null ? attachmentSummaries.size() : 0)
-            .processedAt(Instant.now())
-            .expiresAt(Instant.now().plus(DRAFT_EXPIRATION_HOURS, ChronoUnit.HOURS))
-            .build();
-
-    PendingDraft saved = draftRepository.save(pendingDraft);
+    PendingDraft saved =
+        transactionTemplate.execute(
+            status -> {
+              User user =
+                  userRepository
+                      .findById(userId)
+                      .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+
+              PendingDraft pendingDraft =
+                  PendingDraft.builder()
+                      .user(user)
+                      .draftType(parsed.draft().type())
+                      .draftContent(parsed.draft())
+                      .confidenceScore(parsed.confidenceScore())
+                      .aiReasoning(parsed.reasoning())
+                      .originalInputText(text)
+                      .voiceTranscription(voiceTranscription)
+                      .attachmentCount(attachmentSummaries != null ? attachmentSummaries.size() : 0)
+                      .processedAt(Instant.now())
+                      .expiresAt(Instant.now().plus(DRAFT_EXPIRATION_HOURS, ChronoUnit.HOURS))
+                      .build();
+
+              return draftRepository.save(pendingDraft);
+            });
     log.info("🤖 [AI] Draft saved with ID: {}, type: {}", saved.getId(), parsed.draft().type());
 
     // Build response
@@ -127,7 +136,7 @@ public class CommandCenterAIService {
                   new org.springframework.ai.chat.messages.SystemMessage(systemPrompt),
                   new UserMessage(userPrompt)));
 
-      var response = chatModel.call(prompt);
+      var response = RequestTiming.time(Phase.AI, () -> chatModel.call(prompt));
       return response.getResult().getOutput().getText();
     } catch (Exception e) {
       log.error("🤖 [AI] Error calling Claude: {}", e.getMessage(), e);
@@ -163,7 +172,7 @@ public class CommandCenterAIService {
 
     try {
       var prompt = new Prompt(List.of(userMessage));
-      var response = chatModel.call(prompt);
+      var response = RequestTiming.time(Phase.AI, () -> chatModel.call(prompt));
       String extractedText = response.getResult().getOutput().getText();
 
       log.info(
@@ -8,6 +8,8 @@ import app.kaiz.command_center.api.dto.SmartInputRequest;
 import app.kaiz.command_center.api.dto.SmartInputResponse;
 import app.kaiz.command_center.api.dto.SmartInputResponse.*;
 import app.kaiz.command_center.domain.*;
+import app.kaiz.shared.observability.RequestTiming;
+import app.kaiz.shared.observability.RequestTiming.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.anthropic.AnthropicChatModel;
@@ -17,6 +19,7 @@ import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
@@ -42,7 +45,7 @@ public class SmartInputAIService {
     private final Map<UUID, ConversationSession> sessions = new ConcurrentHashMap<>();
 
     public SmartInputAIService(
-            AnthropicChatModel chatModel,
+            @Lazy AnthropicChatModel chatModel,
             ObjectMapper objectMapper,
             @Value("${kaiz.command-center.draft-expiration-hours:24}") int expirationHours) {
 
@@ -65,7 +68,8 @@ public class SmartInputAIService {
                 new UserMessage(userPrompt));
 
         try {
-            ChatResponse response = chatModel.call(new Prompt(messages));
+            ChatResponse response =
+                    RequestTiming.time(Phase.AI, () -> chatModel.call(new Prompt(messages)));
             String aiContent = response.getResult().getOutput().getText();
 
             return parseAIResponse(sessionId, userId, aiContent, originalInput);
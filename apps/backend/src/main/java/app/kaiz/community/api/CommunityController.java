@@ -5,6 +5,7 @@ import app.kaiz.community.application.dto.*;
 import app.kaiz.community.domain.*;
 import app.kaiz.shared.security.CurrentUser;
 import app.kaiz.shared.util.ApiResponse;
+import app.kaiz.shared.util.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -130,6 +131,17 @@ public class CommunityController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/questions/cursor")
+    @Operation(summary = "Get questions by cursor (pass meta.nextCursor to continue)")
+    public ResponseEntity<ApiResponse<List<QuestionResponse>>> getQuestionsByCursor(
+            @RequestParam(required = false) QuestionStatus status,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<QuestionResponse> page = communityService.getQuestions(status, tag, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page.items(), page.meta()));
+    }
+
     @GetMapping("/questions/{questionId}")
     @Operation(summary = "Get question by ID")
     public ResponseEntity<ApiResponse<QuestionResponse>> getQuestion(
@@ -194,6 +206,16 @@ public class CommunityController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/stories/cursor")
+    @Operation(summary = "Get success stories by cursor (pass meta.nextCursor to continue)")
+    public ResponseEntity<ApiResponse<List<SuccessStoryResponse>>> getStoriesByCursor(
+            @RequestParam(required = false) StoryCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<SuccessStoryResponse> page = communityService.getStories(category, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page.items(), page.meta()));
+    }
+
     @PostMapping("/stories")
     @Operation(summary = "Share a success story")
     public ResponseEntity<ApiResponse<SuccessStoryResponse>> createStory(
@@ -359,6 +381,15 @@ public class CommunityController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/activities/cursor")
+    @Operation(summary = "Get community activity feed by cursor (pass meta.nextCursor to continue)")
+    public ResponseEntity<ApiResponse<List<CommunityActivityResponse>>> getActivityFeedByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<CommunityActivityResponse> page = communityService.getActivityFeed(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page.items(), page.meta()));
+    }
+
     @GetMapping("/activities/member/{memberId}")
     @Operation(summary = "Get activities for a specific member")
     public ResponseEntity<ApiResponse<Page<CommunityActivityResponse>>> getMemberActivities(
@@ -5,6 +5,11 @@ import app.kaiz.community.domain.*;
 import app.kaiz.community.infrastructure.*;
 import app.kaiz.identity.domain.User;
 import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.notification.application.NotificationEvents;
+import app.kaiz.shared.outbox.OutboxPublisher;
+import app.kaiz.shared.persistence.BaseEntity;
+import app.kaiz.shared.util.CursorPage;
+import app.kaiz.shared.util.PageCursor;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -39,6 +44,7 @@ public class CommunityService {
     private final CommunityActivityRepository activityRepository;
     private final CommunityBadgeRepository badgeRepository;
     private final UserRepository userRepository;
+    private final OutboxPublisher outbox;
 
     // ==================== Member Operations ====================
 
@@ -238,6 +244,23 @@ public class CommunityService {
         return questions.map(this::toQuestionResponse);
     }
 
+    /** Keyset variant of {@link #getQuestions(QuestionStatus, String, int, int)}. */
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionResponse> getQuestions(
+            QuestionStatus status, String tag, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Question> rows =
+                after == null
+                        ? questionRepository.findFirstPage(status, tag, CursorPage.limitFor(size))
+                        : questionRepository.findPageAfter(
+                                status,
+                                tag,
+                                after.timestamp(),
+                                after.id(),
+                                CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, this::cursorOf, this::toQuestionResponse);
+    }
+
     @Transactional(readOnly = true)
     public QuestionResponse getQuestion(UUID questionId) {
         Question question =
@@ -374,6 +397,19 @@ public class CommunityService {
         return stories.map(this::toStoryResponse);
     }
 
+    /** Keyset variant of {@link #getStories(StoryCategory, int, int)}. */
+    @Transactional(readOnly = true)
+    public CursorPage<SuccessStoryResponse> getStories(
+            StoryCategory category, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<SuccessStory> rows =
+                after == null
+                        ? storyRepository.findFirstPage(category, CursorPage.limitFor(size))
+                        : storyRepository.findPageAfter(
+                                category, after.timestamp(), after.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, this::cursorOf, this::toStoryResponse);
+    }
+
     public SuccessStoryResponse createStory(UUID authorId, CreateStoryRequest request) {
         CommunityMember author =
                 memberRepository
@@ -409,8 +445,30 @@ public class CommunityService {
                         .findById(storyId)
                         .orElseThrow(
                                 () -> new IllegalArgumentException("Story not found: " + storyId));
-        story.toggleLike(memberId);
+        boolean liked = story.toggleLike(memberId);
         storyRepository.save(story);
+
+        CommunityMember author = story.getAuthor();
+        if (liked && !author.getId().equals(memberId)) {
+            CommunityMember liker =
+                    memberRepository
+                            .findById(memberId)
+                            .orElseThrow(
+                                    () ->
+                                            new IllegalArgumentException(
+                                                    "Member not found: " + memberId));
+            // Keyed per liker, so unlike/like cycles notify the author only once
+            outbox.publish(
+                    "story",
+                    storyId,
+                    "story-liked:" + storyId + ":" + memberId,
+                    new NotificationEvents.PostLiked(
+                            author.getUser().getId(),
+                            storyId,
+                            liker.getUser().getId(),
+                            liker.getDisplayName(),
+                            liker.getAvatar()));
+        }
     }
 
     public void celebrateStory(UUID storyId, UUID memberId) {
@@ -705,6 +763,18 @@ public class CommunityService {
         return activityRepository.findAll(pageable).map(this::toActivityResponse);
     }
 
+    /** Keyset variant of {@link #getActivityFeed(int, int)}. */
+    @Transactional(readOnly = true)
+    public CursorPage<CommunityActivityResponse> getActivityFeed(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<CommunityActivity> rows =
+                after == null
+                        ? activityRepository.findFeedFirstPage(CursorPage.limitFor(size))
+                        : activityRepository.findFeedAfter(
+                                after.timestamp(), after.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, this::cursorOf, this::toActivityResponse);
+    }
+
     @Transactional(readOnly = true)
     public Page<CommunityActivityResponse> getMemberActivities(UUID memberId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -991,6 +1061,10 @@ public class CommunityService {
         return Math.max(1, wordCount / 200); // Average reading speed
     }
 
+    private PageCursor cursorOf(BaseEntity entity) {
+        return PageCursor.of(entity.getCreatedAt(), entity.getId());
+    }
+
     // ==================== Community Home Operations ====================
 
     @Transactional(readOnly = true)
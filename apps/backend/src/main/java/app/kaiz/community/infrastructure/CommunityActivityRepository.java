@@ -1,11 +1,15 @@
 package app.kaiz.community.infrastructure;
 
 import app.kaiz.community.domain.CommunityActivity;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** Repository for CommunityActivity entity. */
@@ -15,4 +19,15 @@ public interface CommunityActivityRepository extends JpaRepository<CommunityActi
     Page<CommunityActivity> findByMemberId(UUID memberId, Pageable pageable);
 
     List<CommunityActivity> findTop10ByOrderByCreatedAtDesc();
+
+    // Keyset pages of the global feed on (createdAt, id).
+
+    @Query("SELECT a FROM CommunityActivity a ORDER BY a.createdAt DESC, a.id DESC")
+    List<CommunityActivity> findFeedFirstPage(Limit limit);
+
+    @Query("SELECT a FROM CommunityActivity a "
+            + "WHERE (a.createdAt, a.id) < (:createdAt, :id) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<CommunityActivity> findFeedAfter(
+            @Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
 }
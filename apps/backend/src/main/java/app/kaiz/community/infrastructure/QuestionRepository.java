@@ -2,7 +2,10 @@ package app.kaiz.community.infrastructure;
 
 import app.kaiz.community.domain.Question;
 import app.kaiz.community.domain.QuestionStatus;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,4 +27,25 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
             @Param("status") QuestionStatus status, @Param("tag") String tag, Pageable pageable);
 
     Page<Question> findByAuthorId(UUID authorId, Pageable pageable);
+
+    // Keyset pages on (createdAt, id); status and tag are optional filters.
+
+    @Query("SELECT q FROM Question q "
+            + "WHERE (:status IS NULL OR q.status = :status) "
+            + "AND (:tag IS NULL OR :tag MEMBER OF q.tags) "
+            + "ORDER BY q.createdAt DESC, q.id DESC")
+    List<Question> findFirstPage(
+            @Param("status") QuestionStatus status, @Param("tag") String tag, Limit limit);
+
+    @Query("SELECT q FROM Question q "
+            + "WHERE (:status IS NULL OR q.status = :status) "
+            + "AND (:tag IS NULL OR :tag MEMBER OF q.tags) "
+            + "AND (q.createdAt, q.id) < (:createdAt, :id) "
+            + "ORDER BY q.createdAt DESC, q.id DESC")
+    List<Question> findPageAfter(
+            @Param("status") QuestionStatus status,
+            @Param("tag") String tag,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
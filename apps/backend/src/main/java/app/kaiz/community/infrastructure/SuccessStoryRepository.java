@@ -2,10 +2,15 @@ package app.kaiz.community.infrastructure;
 
 import app.kaiz.community.domain.StoryCategory;
 import app.kaiz.community.domain.SuccessStory;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** Repository for SuccessStory entity. */
@@ -17,4 +22,21 @@ public interface SuccessStoryRepository extends JpaRepository<SuccessStory, UUID
     Page<SuccessStory> findByAuthorId(UUID authorId, Pageable pageable);
 
     Page<SuccessStory> findByLifeWheelAreaId(String lifeWheelAreaId, Pageable pageable);
+
+    // Keyset pages on (createdAt, id); category is an optional filter.
+
+    @Query("SELECT s FROM SuccessStory s "
+            + "WHERE (:category IS NULL OR s.category = :category) "
+            + "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SuccessStory> findFirstPage(@Param("category") StoryCategory category, Limit limit);
+
+    @Query("SELECT s FROM SuccessStory s "
+            + "WHERE (:category IS NULL OR s.category = :category) "
+            + "AND (s.createdAt, s.id) < (:createdAt, :id) "
+            + "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SuccessStory> findPageAfter(
+            @Param("category") StoryCategory category,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
@@ -6,9 +6,12 @@ import app.kaiz.essentia.application.dto.EssentiaUserProgressDto;
 import app.kaiz.essentia.domain.Difficulty;
 import app.kaiz.shared.security.CurrentUser;
 import app.kaiz.shared.util.ApiResponse;
+import app.kaiz.shared.util.JsonStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,13 @@ import org.springframework.web.bind.annotation.*;
 public class EssentiaController {
 
   private final EssentiaService essentiaService;
+  private final JsonStreamWriter jsonStreamWriter;
 
   // Public endpoints for books
   @GetMapping("/books")
   @Operation(summary = "Get all books", description = "Retrieve all available micro-learning books")
-  public ResponseEntity<ApiResponse<List<EssentiaBookDto>>> getAllBooks() {
-    return ResponseEntity.ok(ApiResponse.success(essentiaService.getAllBooks()));
+  public void getAllBooks(HttpServletResponse response) throws IOException {
+    jsonStreamWriter.<EssentiaBookDto>writeApiResponse(response, essentiaService::streamAllBooks);
   }
 
   @GetMapping("/books/{id}")
@@ -10,8 +10,10 @@ import app.kaiz.essentia.infrastructure.EssentiaUserProgressRepository;
 import app.kaiz.identity.domain.User;
 import app.kaiz.identity.infrastructure.UserRepository;
 import app.kaiz.shared.exception.ResourceNotFoundException;
+import app.kaiz.shared.persistence.EntityStreamer;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,9 +27,10 @@ public class EssentiaService {
   private final EssentiaUserProgressRepository progressRepository;
   private final UserRepository userRepository;
   private final EssentiaMapper mapper;
+  private final EntityStreamer entityStreamer;
 
-  public List<EssentiaBookDto> getAllBooks() {
-    return bookRepository.findAll().stream().map(mapper::toBookDtoWithoutCards).toList();
+  public void streamAllBooks(Consumer<EssentiaBookDto> sink) {
+    entityStreamer.forEach(bookRepository.streamAll(), mapper::toBookDtoWithoutCards, sink);
   }
 
   public EssentiaBookDto getBookById(String id) {
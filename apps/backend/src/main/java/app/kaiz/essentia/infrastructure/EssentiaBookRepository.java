@@ -2,10 +2,15 @@ package app.kaiz.essentia.infrastructure;
 
 import app.kaiz.essentia.domain.Difficulty;
 import app.kaiz.essentia.domain.EssentiaBook;
+import app.kaiz.shared.persistence.EntityStreamer;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -26,4 +31,11 @@ public interface EssentiaBookRepository extends JpaRepository<EssentiaBook, UUID
 
   @Query("SELECT DISTINCT b.category FROM EssentiaBook b WHERE b.category IS NOT NULL ORDER BY b.category")
   List<String> findAllCategories();
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreamer.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT b FROM EssentiaBook b")
+  Stream<EssentiaBook> streamAll();
 }
@@ -11,6 +11,7 @@ import app.kaiz.identity.application.dto.AuthDtos.ResetPasswordRequest;
 import app.kaiz.identity.application.dto.AuthDtos.TokenResponse;
 import app.kaiz.identity.application.dto.AuthDtos.UserResponse;
 import app.kaiz.identity.application.dto.AuthDtos.VerifyEmailRequest;
+import app.kaiz.shared.security.VerifiedToken;
 import app.kaiz.shared.util.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -58,9 +60,11 @@ public class AuthController {
   }
 
   @PostMapping("/logout")
-  @Operation(summary = "Logout and revoke all refresh tokens")
-  public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal String userId) {
-    authService.logout(UUID.fromString(userId));
+  @Operation(summary = "Logout, revoking this access token and all refresh tokens")
+  public ResponseEntity<ApiResponse<Void>> logout(
+      @CurrentSecurityContext(expression = "authentication.credentials")
+          VerifiedToken accessToken) {
+    authService.logout(accessToken);
     return ResponseEntity.ok(ApiResponse.success(null));
   }
 
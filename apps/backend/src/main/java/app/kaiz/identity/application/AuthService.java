@@ -18,10 +18,14 @@ import app.kaiz.identity.infrastructure.PasswordResetTokenRepository;
 import app.kaiz.identity.infrastructure.RefreshTokenRepository;
 import app.kaiz.identity.infrastructure.UserRepository;
 import app.kaiz.shared.config.JwtProperties;
+import app.kaiz.shared.config.RequestTimingProperties;
 import app.kaiz.shared.exception.BadRequestException;
 import app.kaiz.shared.exception.ResourceNotFoundException;
 import app.kaiz.shared.exception.UnauthorizedException;
 import app.kaiz.shared.security.JwtTokenProvider;
+import app.kaiz.shared.security.PasswordHasher;
+import app.kaiz.shared.security.TokenRevocationList;
+import app.kaiz.shared.security.VerifiedToken;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -33,10 +37,15 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Registration, login and token lifecycle. Password hashing is tuned to take a noticeable fraction
+ * of a second, so register, login and resetPassword hash with no transaction open and write the
+ * result in a short transaction afterwards; a slow hash never holds a pooled connection.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -51,33 +60,38 @@ public class AuthService {
   private final RefreshTokenRepository refreshTokenRepository;
   private final PasswordResetTokenRepository passwordResetTokenRepository;
   private final EmailVerificationCodeRepository emailVerificationCodeRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final JwtTokenProvider jwtTokenProvider;
+  private final TokenRevocationList tokenRevocationList;
   private final JwtProperties jwtProperties;
+  private final RequestTimingProperties requestTimingProperties;
   private final UserMapper userMapper;
+  private final TransactionTemplate transactionTemplate;
   private final SecureRandom secureRandom = new SecureRandom();
 
-  @Transactional
   public AuthResponse register(RegisterRequest request) {
     if (userRepository.existsByEmail(request.email())) {
       throw new BadRequestException("EMAIL_EXISTS", "Email already registered");
     }
-
-    User user =
-        User.builder()
-            .email(request.email().toLowerCase().trim())
-            .passwordHash(passwordEncoder.encode(request.password()))
-            .fullName(request.fullName().trim())
-            .timezone(request.timezone() != null ? request.timezone() : "UTC")
-            .build();
-
-    user = userRepository.save(user);
-    log.info("User registered: {}", user.getEmail());
-
-    return createAuthResponse(user, request.deviceInfo());
+    String passwordHash = passwordHasher.encode(request.password());
+
+    return transactionTemplate.execute(
+        status -> {
+          User user =
+              User.builder()
+                  .email(request.email().toLowerCase().trim())
+                  .passwordHash(passwordHash)
+                  .fullName(request.fullName().trim())
+                  .timezone(request.timezone() != null ? request.timezone() : "UTC")
+                  .build();
+
+          user = userRepository.save(user);
+          log.info("User registered: {}", user.getEmail());
+
+          return createAuthResponse(user, request.deviceInfo());
+        });
   }
 
-  @Transactional
   public AuthResponse login(LoginRequest request) {
     User user =
         userRepository
@@ -86,12 +100,26 @@ public class AuthService {
                 () ->
                     new UnauthorizedException("INVALID_CREDENTIALS", "Invalid email or password"));
 
-    if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+    if (!passwordHasher.matches(request.password(), user.getPasswordHash())) {
       throw new UnauthorizedException("INVALID_CREDENTIALS", "Invalid email or password");
     }
 
-    log.info("User logged in: {}", user.getEmail());
-    return createAuthResponse(user, request.deviceInfo());
+    // The plaintext is only available now, so hashes from older parameters are upgraded here
+    String upgradedHash =
+        passwordHasher.needsRehash(user.getPasswordHash())
+            ? passwordHasher.encode(request.password())
+            : null;
+
+    return transactionTemplate.execute(
+        status -> {
+          if (upgradedHash != null) {
+            // Skipped if the password changed since it was read
+            userRepository.replacePasswordHash(
+                user.getId(), user.getPasswordHash(), upgradedHash, Instant.now());
+          }
+          log.info("User logged in: {}", user.getEmail());
+          return createAuthResponse(user, request.deviceInfo());
+        });
   }
 
   @Transactional
@@ -122,7 +150,9 @@ public class AuthService {
 
     // Generate new tokens
     User user = storedToken.getUser();
-    String newAccessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getEmail());
+    String newAccessToken =
+        jwtTokenProvider.generateAccessToken(
+            user.getId(), user.getEmail(), requestTimingProperties.isDebugUser(user.getEmail()));
     String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
     // Store new refresh token with preserved device info
@@ -132,10 +162,15 @@ public class AuthService {
     return new TokenResponse(newAccessToken, newRefreshToken);
   }
 
+  /**
+   * Revokes the presented access token and every refresh token of the user. Access tokens of other
+   * sessions stay valid until they expire, as they can no longer be refreshed.
+   */
   @Transactional
-  public void logout(UUID userId) {
-    refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
-    log.info("User logged out: {}", userId);
+  public void logout(VerifiedToken accessToken) {
+    refreshTokenRepository.revokeAllByUserId(accessToken.userId(), Instant.now());
+    tokenRevocationList.revokeToken(accessToken);
+    log.info("User logged out: {}", accessToken.userId());
   }
 
   @Transactional(readOnly = true)
@@ -180,10 +215,33 @@ public class AuthService {
     return "If an account exists with that email, a password reset link has been sent.";
   }
 
-  @Transactional
   public void resetPassword(ResetPasswordRequest request) {
     String tokenHash = hashToken(request.token());
 
+    // Checked before hashing so that a bad token costs no hash, and again when writing
+    findValidResetToken(tokenHash);
+    String passwordHash = passwordHasher.encode(request.newPassword());
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          PasswordResetToken resetToken = findValidResetToken(tokenHash);
+
+          User user = resetToken.getUser();
+          user.setPasswordHash(passwordHash);
+          userRepository.save(user);
+
+          resetToken.markAsUsed();
+          passwordResetTokenRepository.save(resetToken);
+
+          // Revoke all refresh tokens for security
+          refreshTokenRepository.revokeAllByUserId(user.getId(), Instant.now());
+          tokenRevocationList.revokeAllForUser(user.getId());
+
+          log.info("Password reset successful for user: {}", user.getEmail());
+        });
+  }
+
+  private PasswordResetToken findValidResetToken(String tokenHash) {
     PasswordResetToken resetToken =
         passwordResetTokenRepository
             .findByTokenHash(tokenHash)
@@ -194,18 +252,7 @@ public class AuthService {
       throw new BadRequestException(
           "TOKEN_EXPIRED", "Reset token has expired or already been used");
     }
-
-    User user = resetToken.getUser();
-    user.setPasswordHash(passwordEncoder.encode(request.newPassword()));
-    userRepository.save(user);
-
-    resetToken.markAsUsed();
-    passwordResetTokenRepository.save(resetToken);
-
-    // Revoke all refresh tokens for security
-    refreshTokenRepository.revokeAllByUserId(user.getId(), Instant.now());
-
-    log.info("Password reset successful for user: {}", user.getEmail());
+    return resetToken;
   }
 
   @Transactional
@@ -276,7 +323,9 @@ public class AuthService {
   }
 
   private AuthResponse createAuthResponse(User user, String deviceInfo) {
-    String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getEmail());
+    String accessToken =
+        jwtTokenProvider.generateAccessToken(
+            user.getId(), user.getEmail(), requestTimingProperties.isDebugUser(user.getEmail()));
     String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
     saveRefreshToken(user, refreshToken, deviceInfo);
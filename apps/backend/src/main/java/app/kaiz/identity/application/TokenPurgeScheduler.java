@@ -0,0 +1,116 @@
+package app.kaiz.identity.application;
+
+import app.kaiz.identity.infrastructure.EmailVerificationCodeRepository;
+import app.kaiz.identity.infrastructure.PasswordResetTokenRepository;
+import app.kaiz.identity.infrastructure.RefreshTokenRepository;
+import app.kaiz.shared.config.TokenPurgeProperties;
+import app.kaiz.shared.jobs.ClusterJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Purges refresh tokens, password reset tokens and email verification codes that can no longer be
+ * used: expired ones, and revoked, used or verified ones once the retention has passed.
+ *
+ * <p>Rows go in chunks of {@code chunkSize}, each deleted by {@code ctid} in its own short
+ * transaction, with a pause in between. No chunk holds locks for long, and rows a concurrent login
+ * is working on are skipped until the next run. A run stops early when the job times out.
+ */
+@Service
+@Slf4j
+public class TokenPurgeScheduler {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final PasswordResetTokenRepository passwordResetTokenRepository;
+  private final EmailVerificationCodeRepository emailVerificationCodeRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final TokenPurgeProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public TokenPurgeScheduler(
+      RefreshTokenRepository refreshTokenRepository,
+      PasswordResetTokenRepository passwordResetTokenRepository,
+      EmailVerificationCodeRepository emailVerificationCodeRepository,
+      PlatformTransactionManager transactionManager,
+      TokenPurgeProperties properties,
+      MeterRegistry meterRegistry) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.passwordResetTokenRepository = passwordResetTokenRepository;
+    this.emailVerificationCodeRepository = emailVerificationCodeRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /** Returns the number of rows purged across all three tables. */
+  @ClusterJob(name = "auth-token-purge", cron = "0 15 * * * *", timeout = "15m") // Hourly
+  public long purgeDeadTokens() {
+    Instant now = Instant.now();
+    Instant spentBefore = now.minus(properties.retention());
+
+    long purged =
+        purge(
+            "refresh_tokens",
+            limit -> refreshTokenRepository.deleteDeadChunk(now, spentBefore, limit));
+    purged +=
+        purge(
+            "password_reset_tokens",
+            limit -> passwordResetTokenRepository.deleteDeadChunk(now, spentBefore, limit));
+    purged +=
+        purge(
+            "email_verification_codes",
+            limit -> emailVerificationCodeRepository.deleteDeadChunk(now, spentBefore, limit));
+    return purged;
+  }
+
+  private long purge(String table, IntUnaryOperator deleteChunk) {
+    int chunkSize = properties.chunkSize();
+    long start = System.nanoTime();
+    long purged = 0;
+    int chunks = 0;
+    while (!Thread.currentThread().isInterrupted()) {
+      Integer deleted = transactionTemplate.execute(status -> deleteChunk.applyAsInt(chunkSize));
+      purged += deleted;
+      chunks++;
+      if (deleted < chunkSize || !pause()) {
+        break;
+      }
+    }
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+    Counter.builder("kaiz.token.purge.rows")
+        .description("Dead authentication token rows purged")
+        .tag("table", table)
+        .register(meterRegistry)
+        .increment(purged);
+    Timer.builder("kaiz.token.purge.duration")
+        .description("Time to purge dead authentication tokens from one table")
+        .tag("table", table)
+        .register(meterRegistry)
+        .record(duration);
+    if (purged > 0) {
+      log.info(
+          "Purged {} rows from {} in {} chunks, {} ms", purged, table, chunks, duration.toMillis());
+    }
+    return purged;
+  }
+
+  /** Waits between chunks; false when interrupted by the job timeout. */
+  private boolean pause() {
+    try {
+      Thread.sleep(properties.pause());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -1,10 +1,9 @@
 package app.kaiz.identity.domain;
 
+import app.kaiz.shared.persistence.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -27,7 +26,7 @@ import lombok.Setter;
 public class RefreshToken {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedId
   @Column(name = "id", updatable = false, nullable = false)
   private UUID id;
 
@@ -1,11 +1,13 @@
 package app.kaiz.identity.infrastructure;
 
 import app.kaiz.identity.domain.EmailVerificationCode;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,7 +22,20 @@ public interface EmailVerificationCodeRepository
   @Query("DELETE FROM EmailVerificationCode c WHERE c.user.id = :userId")
   void deleteAllByUserId(UUID userId);
 
+  /**
+   * Deletes up to {@code limit} codes that expired before {@code now} or were verified before
+   * {@code verifiedBefore}. Rows locked by a concurrent verification are skipped.
+   */
   @Modifying
-  @Query("DELETE FROM EmailVerificationCode c WHERE c.expiresAt < CURRENT_TIMESTAMP")
-  void deleteExpiredCodes();
+  @Query(
+      value =
+          "DELETE FROM email_verification_codes WHERE ctid IN (SELECT ctid"
+              + " FROM email_verification_codes"
+              + " WHERE expires_at < :now OR verified_at < :verifiedBefore"
+              + " LIMIT :limit FOR UPDATE SKIP LOCKED)",
+      nativeQuery = true)
+  int deleteDeadChunk(
+      @Param("now") Instant now,
+      @Param("verifiedBefore") Instant verifiedBefore,
+      @Param("limit") int limit);
 }
@@ -1,11 +1,13 @@
 package app.kaiz.identity.infrastructure;
 
 import app.kaiz.identity.domain.PasswordResetToken;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,7 +19,19 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
   @Query("DELETE FROM PasswordResetToken t WHERE t.user.id = :userId")
   void deleteAllByUserId(UUID userId);
 
+  /**
+   * Deletes up to {@code limit} tokens that expired before {@code now} or were used before {@code
+   * usedBefore}. Rows locked by a concurrent reset are skipped.
+   */
   @Modifying
-  @Query("DELETE FROM PasswordResetToken t WHERE t.expiresAt < CURRENT_TIMESTAMP")
-  void deleteExpiredTokens();
+  @Query(
+      value =
+          "DELETE FROM password_reset_tokens WHERE ctid IN (SELECT ctid FROM password_reset_tokens"
+              + " WHERE expires_at < :now OR used_at < :usedBefore"
+              + " LIMIT :limit FOR UPDATE SKIP LOCKED)",
+      nativeQuery = true)
+  int deleteDeadChunk(
+      @Param("now") Instant now,
+      @Param("usedBefore") Instant usedBefore,
+      @Param("limit") int limit);
 }
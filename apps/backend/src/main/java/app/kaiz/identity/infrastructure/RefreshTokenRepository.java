@@ -21,7 +21,21 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
           + " IS NULL")
   void revokeAllByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
 
+  /**
+   * Deletes up to {@code limit} tokens that expired before {@code now} or were revoked before
+   * {@code revokedBefore}. Revoked tokens always wait for the retention period, so each branch
+   * matches one partial index. Rows locked by a concurrent refresh are skipped.
+   */
   @Modifying
-  @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now OR r.revokedAt IS NOT NULL")
-  void deleteExpiredAndRevoked(@Param("now") Instant now);
+  @Query(
+      value =
+          "DELETE FROM refresh_tokens WHERE ctid IN (SELECT ctid FROM refresh_tokens"
+              + " WHERE (revoked_at IS NULL AND expires_at < :now)"
+              + " OR revoked_at < :revokedBefore"
+              + " LIMIT :limit FOR UPDATE SKIP LOCKED)",
+      nativeQuery = true)
+  int deleteDeadChunk(
+      @Param("now") Instant now,
+      @Param("revokedBefore") Instant revokedBefore,
+      @Param("limit") int limit);
 }
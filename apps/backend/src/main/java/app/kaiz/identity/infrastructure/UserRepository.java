@@ -1,9 +1,13 @@
 package app.kaiz.identity.infrastructure;
 
 import app.kaiz.identity.domain.User;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +16,20 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   Optional<User> findByEmail(String email);
 
   boolean existsByEmail(String email);
+
+  /**
+   * Replaces the password hash only while it is still {@code currentHash}, so that a hash computed
+   * outside the transaction cannot undo a password change made in the meantime.
+   *
+   * @return the number of users updated, 0 or 1
+   */
+  @Modifying
+  @Query(
+      "UPDATE User u SET u.passwordHash = :newHash, u.updatedAt = :now"
+          + " WHERE u.id = :id AND u.passwordHash = :currentHash")
+  int replacePasswordHash(
+      @Param("id") UUID id,
+      @Param("currentHash") String currentHash,
+      @Param("newHash") String newHash,
+      @Param("now") Instant now);
 }
@@ -1,6 +1,7 @@
 package app.kaiz.notification.api;
 
 import app.kaiz.notification.application.NotificationService;
+import app.kaiz.notification.application.NotificationStreamRegistry;
 import app.kaiz.notification.application.dto.CreateNotificationRequest;
 import app.kaiz.notification.application.dto.NotificationDto;
 import app.kaiz.notification.application.dto.NotificationDto.GroupedNotificationsDto;
@@ -9,11 +10,16 @@ import app.kaiz.notification.application.dto.NotificationPreferencesDto;
 import app.kaiz.notification.application.dto.UpdatePreferencesRequest;
 import app.kaiz.notification.domain.NotificationCategory;
 import app.kaiz.shared.security.CurrentUser;
+import app.kaiz.shared.util.ApiResponse;
+import app.kaiz.shared.util.JsonStreamWriter;
+import app.kaiz.shared.util.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -21,8 +27,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/notifications")
@@ -32,6 +40,8 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
   private final NotificationService notificationService;
+  private final JsonStreamWriter jsonStreamWriter;
+  private final NotificationStreamRegistry notificationStreamRegistry;
 
   // ============ Retrieval Endpoints ============
 
@@ -45,6 +55,21 @@ public class NotificationController {
     return ResponseEntity.ok(notificationService.getNotificationsByUserId(userId, pageable));
   }
 
+  @GetMapping("/cursor")
+  @Operation(
+      summary = "Get notifications by cursor",
+      description =
+          "Keyset-paginated notifications (excludes archived). Pass meta.nextCursor from the"
+              + " previous response to get the next page; it is absent on the last page.")
+  public ResponseEntity<ApiResponse<List<NotificationDto>>> getNotificationsByCursor(
+      @CurrentUser UUID userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CursorPage<NotificationDto> page =
+        notificationService.getNotificationsByUserId(userId, cursor, size);
+    return ResponseEntity.ok(ApiResponse.success(page.items(), page.meta()));
+  }
+
   @GetMapping("/category/{category}")
   @Operation(
       summary = "Get notifications by category",
@@ -88,8 +113,10 @@ public class NotificationController {
   @Operation(
       summary = "Get unread notifications",
       description = "Retrieve all unread notifications for the current user")
-  public ResponseEntity<List<NotificationDto>> getUnreadNotifications(@CurrentUser UUID userId) {
-    return ResponseEntity.ok(notificationService.getUnreadNotifications(userId));
+  public void getUnreadNotifications(@CurrentUser UUID userId, HttpServletResponse response)
+      throws IOException {
+    jsonStreamWriter.<NotificationDto>writeArray(
+        response, sink -> notificationService.streamUnreadNotifications(userId, sink));
   }
 
   @GetMapping("/search")
@@ -113,6 +140,21 @@ public class NotificationController {
     return ResponseEntity.ok(notificationService.getDetailedUnreadCount(userId));
   }
 
+  // ============ Live Updates ============
+
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Stream notifications",
+      description =
+          "Server-Sent Events: notification, unread-count, unread-delta and resync events, with"
+              + " comment heartbeats. Reconnect with Last-Event-ID to receive notifications missed"
+              + " in between; ignore ids already received.")
+  public SseEmitter streamNotifications(
+      @CurrentUser UUID userId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+    return notificationStreamRegistry.open(userId, lastEventId);
+  }
+
   // ============ Status Update Endpoints ============
 
   @PutMapping("/{id}/read")
@@ -0,0 +1,145 @@
+package app.kaiz.notification.application;
+
+import app.kaiz.notification.application.dto.NotificationDto.UnreadCountDto;
+import app.kaiz.notification.domain.NotificationCategory;
+import app.kaiz.notification.infrastructure.NotificationCounterStore;
+import app.kaiz.notification.infrastructure.NotificationCounterStore.CounterKey;
+import app.kaiz.shared.jobs.ClusterJob;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unread notification counts per user and category, kept in {@code notification_counters} and
+ * cached on each instance.
+ *
+ * <p>{@link NotificationService} applies a delta in the transaction of every change that makes a
+ * notification unread or not: created, read or unread, archived or unarchived, deleted. Unread
+ * means neither read nor archived. The changing instance evicts its cached counts on commit; every
+ * other instance evicts them when {@link NotificationStreamListener} receives the stream message
+ * the same change publishes, so only a change that never publishes one may leave counts stale,
+ * until the cache entry expires.
+ *
+ * <p>Counts are always loaded from the primary: a replica may not have the change that evicted them
+ * yet.
+ */
+@Service
+@Slf4j
+public class NotificationCounterService {
+
+  static final String CACHE = "notificationCounts";
+
+  private final NotificationCounterStore store;
+  private final NotificationStreamPublisher streamPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final Cache cache;
+
+  public NotificationCounterService(
+      NotificationCounterStore store,
+      NotificationStreamPublisher streamPublisher,
+      PlatformTransactionManager transactionManager,
+      CacheManager cacheManager) {
+    this.store = store;
+    this.streamPublisher = streamPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE), CACHE);
+  }
+
+  @Transactional
+  public UnreadCountDto getUnreadCount(UUID userId) {
+    return cache.get(userId, () -> load(userId));
+  }
+
+  private UnreadCountDto load(UUID userId) {
+    Map<String, Long> byCategory = new HashMap<>();
+    long total = 0;
+    for (Map.Entry<NotificationCategory, Integer> counter : store.find(userId).entrySet()) {
+      byCategory.put(counter.getKey().getId(), counter.getValue().longValue());
+      total += counter.getValue();
+    }
+    return new UnreadCountDto(total, Map.copyOf(byCategory));
+  }
+
+  /** Adds {@code delta} to one counter in the caller's transaction. */
+  public void add(UUID userId, NotificationCategory category, int delta) {
+    if (delta != 0) {
+      store.add(userId, category, delta);
+      evictAfterCommit(userId);
+    }
+  }
+
+  /**
+   * Adds several deltas of one user, in category order, so two bulk changes of the same user lock
+   * the counters in the same order.
+   */
+  public void addAll(UUID userId, Map<NotificationCategory, Integer> deltas) {
+    deltas.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(delta -> add(userId, delta.getKey(), delta.getValue()));
+  }
+
+  /** Forgets the cached counts of {@code userId} on this instance. */
+  void evict(UUID userId) {
+    cache.evict(userId);
+  }
+
+  /** Forgets all cached counts on this instance, after stream messages may have been missed. */
+  void evictAll() {
+    cache.clear();
+  }
+
+  private void evictAfterCommit(UUID userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(userId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evict(userId);
+          }
+        });
+  }
+
+  /**
+   * Recounts every counter that differs from the notifications, each in its own short transaction
+   * that also tells the user's open streams to reload their counts. Returns the number repaired.
+   */
+  @ClusterJob(name = "notification-counters-reconcile", cron = "0 30 3 * * *", timeout = "30m")
+  public long reconcileCounters() {
+    long repaired = 0;
+    for (CounterKey key : store.findDrifted()) {
+      if (Thread.currentThread().isInterrupted()) {
+        break;
+      }
+      Boolean changed =
+          transactionTemplate.execute(
+              status -> {
+                if (!store.repair(key.userId(), key.category())) {
+                  return false;
+                }
+                evictAfterCommit(key.userId());
+                streamPublisher.countsChanged(key.userId());
+                return true;
+              });
+      if (Boolean.TRUE.equals(changed)) {
+        repaired++;
+      }
+    }
+    if (repaired > 0) {
+      log.warn("Repaired {} drifted notification counters", repaired);
+    }
+    return repaired;
+  }
+}
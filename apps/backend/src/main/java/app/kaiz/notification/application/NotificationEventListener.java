@@ -4,18 +4,21 @@ import app.kaiz.notification.application.NotificationEvents.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
  * Listens for application events and triggers appropriate notifications.
  *
- * <p>This decouples notification creation from the business logic. Services just publish events,
- * and this listener handles the notification creation asynchronously.
+ * <p>This decouples notification creation from the business logic. Services write events to the
+ * outbox, and this listener handles the notification creation once the outbox relay delivers them.
+ *
+ * <p>Handlers run synchronously inside the relay's delivery transaction: the notification and the
+ * outbox row being marked as published commit together, and a failure leaves the event pending
+ * for a retry.
  *
  * <p>Benefits:
  * - Services don't need to know about notifications
- * - Notifications are created asynchronously (non-blocking)
+ * - Notifications are created off the request path (non-blocking)
  * - Easy to add/modify notification behavior without changing services
  * - Testable in isolation
  */
@@ -30,198 +33,180 @@ public class NotificationEventListener {
   // TASK EVENT HANDLERS
   // ============================================================
 
-  @Async
   @EventListener
   public void handleTaskCreated(TaskCreated event) {
-    log.debug("Handling TaskCreated event for user {}", event.getUserId());
-    notificationTrigger.notifyTaskCreated(event.getUserId(), event.getTaskId(), event.getTaskTitle());
+    log.debug("Handling TaskCreated event for user {}", event.userId());
+    notificationTrigger.notifyTaskCreated(event.userId(), event.taskId(), event.taskTitle());
   }
 
-  @Async
   @EventListener
   public void handleTaskCompleted(TaskCompleted event) {
-    log.debug("Handling TaskCompleted event for user {}", event.getUserId());
+    log.debug("Handling TaskCompleted event for user {}", event.userId());
     notificationTrigger.notifyTaskCompleted(
-        event.getUserId(), event.getTaskId(), event.getTaskTitle(), event.getXpEarned());
+        event.userId(), event.taskId(), event.taskTitle(), event.xpEarned());
   }
 
-  @Async
   @EventListener
   public void handleTaskAssigned(TaskAssigned event) {
-    log.debug("Handling TaskAssigned event for user {}", event.getUserId());
+    log.debug("Handling TaskAssigned event for user {}", event.userId());
     notificationTrigger.notifyTaskAssigned(
-        event.getUserId(), event.getTaskId(), event.getTaskTitle(), event.getAssignedBy());
+        event.userId(), event.taskId(), event.taskTitle(), event.assignedBy());
   }
 
-  @Async
   @EventListener
   public void handleTaskShared(TaskShared event) {
-    log.debug("Handling TaskShared event for user {}", event.getUserId());
+    log.debug("Handling TaskShared event for user {}", event.userId());
     notificationTrigger.notifyTaskShared(
-        event.getUserId(),
-        event.getTaskId(),
-        event.getTaskTitle(),
-        event.getSharedBy(),
-        event.getSharedByAvatar());
+        event.userId(),
+        event.taskId(),
+        event.taskTitle(),
+        event.sharedBy(),
+        event.sharedByAvatar());
   }
 
   // ============================================================
   // CHALLENGE EVENT HANDLERS
   // ============================================================
 
-  @Async
   @EventListener
   public void handleChallengeStarted(ChallengeStarted event) {
-    log.debug("Handling ChallengeStarted event for user {}", event.getUserId());
+    log.debug("Handling ChallengeStarted event for user {}", event.userId());
     notificationTrigger.notifyChallengeStarted(
-        event.getUserId(), event.getChallengeId(), event.getChallengeTitle());
+        event.userId(), event.challengeId(), event.challengeTitle());
   }
 
-  @Async
   @EventListener
   public void handleChallengeCompleted(ChallengeCompleted event) {
-    log.debug("Handling ChallengeCompleted event for user {}", event.getUserId());
+    log.debug("Handling ChallengeCompleted event for user {}", event.userId());
     notificationTrigger.notifyChallengeCompleted(
-        event.getUserId(), event.getChallengeId(), event.getChallengeTitle(), event.getXpEarned());
+        event.userId(), event.challengeId(), event.challengeTitle(), event.xpEarned());
   }
 
-  @Async
   @EventListener
   public void handleChallengeMilestone(ChallengeMilestone event) {
-    log.debug("Handling ChallengeMilestone event for user {}", event.getUserId());
+    log.debug("Handling ChallengeMilestone event for user {}", event.userId());
     notificationTrigger.notifyChallengeMilestone(
-        event.getUserId(),
-        event.getChallengeId(),
-        event.getChallengeTitle(),
-        event.getMilestone(),
-        event.getTotal());
+        event.userId(),
+        event.challengeId(),
+        event.challengeTitle(),
+        event.milestone(),
+        event.total());
   }
 
-  @Async
   @EventListener
   public void handleChallengeInvite(ChallengeInvite event) {
-    log.debug("Handling ChallengeInvite event for user {}", event.getUserId());
+    log.debug("Handling ChallengeInvite event for user {}", event.userId());
     notificationTrigger.notifyChallengeInvite(
-        event.getUserId(),
-        event.getChallengeId(),
-        event.getChallengeTitle(),
-        event.getInvitedBy(),
-        event.getInvitedByAvatar());
+        event.userId(),
+        event.challengeId(),
+        event.challengeTitle(),
+        event.invitedBy(),
+        event.invitedByAvatar());
   }
 
-  @Async
   @EventListener
   public void handleChallengeStreak(ChallengeStreak event) {
-    log.debug("Handling ChallengeStreak event for user {}", event.getUserId());
+    log.debug("Handling ChallengeStreak event for user {}", event.userId());
     notificationTrigger.notifyChallengeStreak(
-        event.getUserId(), event.getChallengeId(), event.getChallengeTitle(), event.getStreakDays());
+        event.userId(), event.challengeId(), event.challengeTitle(), event.streakDays());
   }
 
   // ============================================================
   // COMMUNITY EVENT HANDLERS
   // ============================================================
 
-  @Async
   @EventListener
   public void handleNewFollower(NewFollower event) {
-    log.debug("Handling NewFollower event for user {}", event.getUserId());
+    log.debug("Handling NewFollower event for user {}", event.userId());
     notificationTrigger.notifyNewFollower(
-        event.getUserId(), event.getFollowerId(), event.getFollowerName(), event.getFollowerAvatar());
+        event.userId(), event.followerId(), event.followerName(), event.followerAvatar());
   }
 
-  @Async
   @EventListener
   public void handlePostLiked(PostLiked event) {
-    log.debug("Handling PostLiked event for user {}", event.getUserId());
+    log.debug("Handling PostLiked event for user {}", event.userId());
     notificationTrigger.notifyPostLike(
-        event.getUserId(),
-        event.getPostId(),
-        event.getLikerId(),
-        event.getLikerName(),
-        event.getLikerAvatar());
+        event.userId(),
+        event.postId(),
+        event.likerId(),
+        event.likerName(),
+        event.likerAvatar());
   }
 
-  @Async
   @EventListener
   public void handlePostCommented(PostCommented event) {
-    log.debug("Handling PostCommented event for user {}", event.getUserId());
+    log.debug("Handling PostCommented event for user {}", event.userId());
     notificationTrigger.notifyPostComment(
-        event.getUserId(),
-        event.getPostId(),
-        event.getCommenterId(),
-        event.getCommenterName(),
-        event.getCommenterAvatar(),
-        event.getCommentPreview());
+        event.userId(),
+        event.postId(),
+        event.commenterId(),
+        event.commenterName(),
+        event.commenterAvatar(),
+        event.commentPreview());
   }
 
-  @Async
   @EventListener
   public void handleUserMentioned(UserMentioned event) {
-    log.debug("Handling UserMentioned event for user {}", event.getUserId());
+    log.debug("Handling UserMentioned event for user {}", event.userId());
     notificationTrigger.notifyMention(
-        event.getUserId(),
-        event.getPostId(),
-        event.getMentionerId(),
-        event.getMentionerName(),
-        event.getMentionerAvatar());
+        event.userId(),
+        event.postId(),
+        event.mentionerId(),
+        event.mentionerName(),
+        event.mentionerAvatar());
   }
 
   // ============================================================
   // EVENT EVENT HANDLERS
   // ============================================================
 
-  @Async
   @EventListener
   public void handleEventInvite(EventInvite event) {
-    log.debug("Handling EventInvite event for user {}", event.getUserId());
+    log.debug("Handling EventInvite event for user {}", event.userId());
     notificationTrigger.notifyEventInvite(
-        event.getUserId(),
-        event.getEventId(),
-        event.getEventTitle(),
-        event.getInvitedBy(),
-        event.getInvitedByAvatar());
+        event.userId(),
+        event.eventId(),
+        event.eventTitle(),
+        event.invitedBy(),
+        event.invitedByAvatar());
   }
 
   // ============================================================
   // ACHIEVEMENT EVENT HANDLERS
   // ============================================================
 
-  @Async
   @EventListener
   public void handleAchievementUnlocked(AchievementUnlocked event) {
-    log.debug("Handling AchievementUnlocked event for user {}", event.getUserId());
+    log.debug("Handling AchievementUnlocked event for user {}", event.userId());
     notificationTrigger.notifyAchievementUnlocked(
-        event.getUserId(),
-        event.getAchievementId(),
-        event.getAchievementTitle(),
-        event.getAchievementDescription(),
-        event.getXpEarned());
+        event.userId(),
+        event.achievementId(),
+        event.achievementTitle(),
+        event.achievementDescription(),
+        event.xpEarned());
   }
 
-  @Async
   @EventListener
   public void handleLevelUp(LevelUp event) {
-    log.debug("Handling LevelUp event for user {}", event.getUserId());
+    log.debug("Handling LevelUp event for user {}", event.userId());
     notificationTrigger.notifyLevelUp(
-        event.getUserId(), event.getNewLevel(), event.getUnlockedFeatures());
+        event.userId(), event.newLevel(), event.unlockedFeatures());
   }
 
   // ============================================================
   // LEARNING EVENT HANDLERS
   // ============================================================
 
-  @Async
   @EventListener
   public void handleLessonCompleted(LessonCompleted event) {
-    log.debug("Handling LessonCompleted event for user {}", event.getUserId());
+    log.debug("Handling LessonCompleted event for user {}", event.userId());
     notificationTrigger.notifyLessonCompleted(
-        event.getUserId(), event.getLessonId(), event.getLessonTitle(), event.getXpEarned());
+        event.userId(), event.lessonId(), event.lessonTitle(), event.xpEarned());
   }
 
-  @Async
   @EventListener
   public void handleLearningStreak(LearningStreak event) {
-    log.debug("Handling LearningStreak event for user {}", event.getUserId());
-    notificationTrigger.notifyLearningStreak(event.getUserId(), event.getStreakDays());
+    log.debug("Handling LearningStreak event for user {}", event.userId());
+    notificationTrigger.notifyLearningStreak(event.userId(), event.streakDays());
   }
 }
@@ -2,6 +2,7 @@ package app.kaiz.notification.application;
 
 import app.kaiz.identity.domain.User;
 import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.shared.jobs.ClusterJob;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,13 +13,15 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Scheduled jobs for generating time-based notifications.
  *
+ * <p>Jobs run through {@link app.kaiz.shared.jobs.JobRunner}, so each tick fires on one instance
+ * only, however many are deployed.
+ *
  * <p>This service runs periodic checks to generate notifications for:
  * - Upcoming task deadlines
  * - Birthday reminders
@@ -45,7 +48,7 @@ public class NotificationScheduler {
   // TASK DEADLINE NOTIFICATIONS
   // Runs every 15 minutes to check for upcoming deadlines
   // ============================================================
-  @Scheduled(cron = "0 */15 * * * *") // Every 15 minutes
+  @ClusterJob(name = "task-deadlines", cron = "0 */15 * * * *") // Every 15 minutes
   @Transactional(readOnly = true)
   public void checkTaskDeadlines() {
     log.debug("Running task deadline check...");
@@ -99,7 +102,7 @@ public class NotificationScheduler {
   // BIRTHDAY REMINDERS
   // Runs daily at 8 AM to notify about today's birthdays
   // ============================================================
-  @Scheduled(cron = "0 0 8 * * *") // Every day at 8 AM
+  @ClusterJob(name = "birthday-reminders", cron = "0 0 8 * * *") // Every day at 8 AM
   @Transactional(readOnly = true)
   public void checkBirthdays() {
     log.info("Running birthday reminder check...");
@@ -135,7 +138,7 @@ public class NotificationScheduler {
   // EVENT REMINDERS
   // Runs every 5 minutes to check for upcoming events
   // ============================================================
-  @Scheduled(cron = "0 */5 * * * *") // Every 5 minutes
+  @ClusterJob(name = "event-reminders", cron = "0 */5 * * * *") // Every 5 minutes
   @Transactional(readOnly = true)
   public void checkEventReminders() {
     log.debug("Running event reminder check...");
@@ -183,7 +186,7 @@ public class NotificationScheduler {
   // CHALLENGE DAILY REMINDERS
   // Runs daily at 9 AM to remind users about active challenges
   // ============================================================
-  @Scheduled(cron = "0 0 9 * * *") // Every day at 9 AM
+  @ClusterJob(name = "challenge-reminders", cron = "0 0 9 * * *") // Every day at 9 AM
   @Transactional(readOnly = true)
   public void sendChallengeReminders() {
     log.info("Running challenge daily reminder check...");
@@ -210,7 +213,7 @@ public class NotificationScheduler {
   // STREAK WARNING
   // Runs at 8 PM to warn users whose streaks are at risk
   // ============================================================
-  @Scheduled(cron = "0 0 20 * * *") // Every day at 8 PM
+  @ClusterJob(name = "streaks-at-risk", cron = "0 0 20 * * *") // Every day at 8 PM
   @Transactional(readOnly = true)
   public void checkStreaksAtRisk() {
     log.info("Running streak-at-risk check...");
@@ -236,7 +239,7 @@ public class NotificationScheduler {
   // WEEKLY AI REPORT
   // Runs every Sunday at 10 AM
   // ============================================================
-  @Scheduled(cron = "0 0 10 * * SUN") // Every Sunday at 10 AM
+  @ClusterJob(name = "weekly-reports", cron = "0 0 10 * * SUN") // Every Sunday at 10 AM
   @Transactional(readOnly = true)
   public void generateWeeklyReports() {
     log.info("Generating weekly reports...");
@@ -265,7 +268,7 @@ public class NotificationScheduler {
   // BILL PAYMENT REMINDERS
   // Runs daily at 9 AM to check for upcoming bills
   // ============================================================
-  @Scheduled(cron = "0 0 9 * * *") // Every day at 9 AM
+  @ClusterJob(name = "bill-reminders", cron = "0 0 9 * * *") // Every day at 9 AM
   @Transactional(readOnly = true)
   public void checkBillReminders() {
     log.debug("Running bill payment reminder check...");
@@ -297,7 +300,7 @@ public class NotificationScheduler {
   // ANNIVERSARY REMINDERS
   // Runs daily at 8 AM to check for anniversaries
   // ============================================================
-  @Scheduled(cron = "0 0 8 * * *") // Every day at 8 AM
+  @ClusterJob(name = "anniversaries", cron = "0 0 8 * * *") // Every day at 8 AM
   @Transactional(readOnly = true)
   public void checkAnniversaries() {
     log.debug("Running anniversary reminder check...");
@@ -329,7 +332,7 @@ public class NotificationScheduler {
   // CLEAN UP EXPIRED NOTIFICATIONS
   // Runs daily at 2 AM
   // ============================================================
-  @Scheduled(cron = "0 0 2 * * *") // Every day at 2 AM
+  @ClusterJob(name = "notification-cleanup", cron = "0 0 2 * * *") // Every day at 2 AM
   @Transactional
   public void cleanupExpiredNotifications() {
     log.info("Running notification cleanup...");
@@ -16,21 +16,29 @@ import app.kaiz.notification.domain.NotificationType;
 import app.kaiz.notification.infrastructure.NotificationPreferencesRepository;
 import app.kaiz.notification.infrastructure.NotificationRepository;
 import app.kaiz.shared.exception.ResourceNotFoundException;
+import app.kaiz.shared.jobs.ClusterJob;
+import app.kaiz.shared.persistence.EntityStreamer;
+import app.kaiz.shared.util.CursorPage;
+import app.kaiz.shared.util.PageCursor;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +52,9 @@ public class NotificationService {
   private final NotificationPreferencesRepository preferencesRepository;
   private final UserRepository userRepository;
   private final NotificationMapper notificationMapper;
+  private final EntityStreamer entityStreamer;
+  private final NotificationStreamPublisher streamPublisher;
+  private final NotificationCounterService counters;
 
   // ============ Notification Retrieval ============
 
@@ -53,6 +64,22 @@ public class NotificationService {
         .map(notificationMapper::toNotificationDto);
   }
 
+  /** Keyset variant of {@link #getNotificationsByUserId}: no OFFSET scan and no count query. */
+  public CursorPage<NotificationDto> getNotificationsByUserId(
+      UUID userId, String cursor, int size) {
+    PageCursor after = PageCursor.decode(cursor);
+    List<Notification> rows =
+        after == null
+            ? notificationRepository.findActiveFirstPage(userId, CursorPage.limitFor(size))
+            : notificationRepository.findActiveAfter(
+                userId, after.pinned(), after.timestamp(), after.id(), CursorPage.limitFor(size));
+    return CursorPage.of(
+        rows,
+        size,
+        n -> new PageCursor(n.getCreatedAt(), n.getId(), n.isPinned()),
+        notificationMapper::toNotificationDto);
+  }
+
   public Page<NotificationDto> getNotificationsByCategory(
       UUID userId, NotificationCategory category, Pageable pageable) {
     return notificationRepository
@@ -72,9 +99,29 @@ public class NotificationService {
         .map(notificationMapper::toNotificationDto);
   }
 
-  public List<NotificationDto> getUnreadNotifications(UUID userId) {
-    return notificationMapper.toNotificationDtoList(
-        notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId));
+  public void streamUnreadNotifications(UUID userId, Consumer<NotificationDto> sink) {
+    entityStreamer.forEach(
+        notificationRepository.streamByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId),
+        notificationMapper::toNotificationDto,
+        sink);
+  }
+
+  /** Notifications created after {@code since}, oldest first, for resuming a stream. */
+  public List<NotificationDto> getNotificationsCreatedSince(UUID userId, Instant since, int limit) {
+    return notificationRepository.findCreatedSince(userId, since, Limit.of(limit)).stream()
+        .map(notificationMapper::toNotificationDto)
+        .toList();
+  }
+
+  /**
+   * Reads from the primary, not a replica: called the moment the notification has committed,
+   * before a replica may have it.
+   */
+  @Transactional
+  public Optional<NotificationDto> getNotification(UUID userId, UUID notificationId) {
+    return notificationRepository
+        .findByIdAndUserId(notificationId, userId)
+        .map(notificationMapper::toNotificationDto);
   }
 
   public GroupedNotificationsDto getGroupedNotifications(UUID userId) {
@@ -118,57 +165,68 @@ public class NotificationService {
   }
 
   // ============ Unread Counts ============
+  // Unread means neither read nor archived. Counts come from NotificationCounterService, which
+  // loads them from the primary; a read-only transaction here could route it to a replica.
 
+  @Transactional
   public long getUnreadCount(UUID userId) {
-    return notificationRepository.countByUserIdAndIsReadFalse(userId);
+    return counters.getUnreadCount(userId).total();
   }
 
+  @Transactional
   public UnreadCountDto getDetailedUnreadCount(UUID userId) {
-    long total = notificationRepository.countByUserIdAndIsReadFalse(userId);
-    List<Object[]> byCategoryResult = notificationRepository.countUnreadByCategory(userId);
-
-    Map<String, Long> byCategory = new HashMap<>();
-    for (Object[] row : byCategoryResult) {
-      NotificationCategory category = (NotificationCategory) row[0];
-      Long count = (Long) row[1];
-      byCategory.put(category.getId(), count);
-    }
-
-    return new UnreadCountDto(total, byCategory);
+    return counters.getUnreadCount(userId);
   }
 
   // ============ Notification Status Updates ============
 
   @Transactional
   public NotificationDto markAsRead(UUID userId, UUID notificationId) {
-    notificationRepository.markAsRead(notificationId, userId, Instant.now());
+    int changed = notificationRepository.markAsRead(notificationId, userId, Instant.now());
     Notification notification =
         notificationRepository
             .findByIdAndUserId(notificationId, userId)
             .orElseThrow(
                 () -> new ResourceNotFoundException("Notification", notificationId.toString()));
+    if (!notification.isArchived()) {
+      unreadChanged(userId, notification.getCategory(), -changed);
+    }
     return notificationMapper.toNotificationDto(notification);
   }
 
   @Transactional
   public NotificationDto markAsUnread(UUID userId, UUID notificationId) {
-    notificationRepository.markAsUnread(notificationId, userId);
+    int changed = notificationRepository.markAsUnread(notificationId, userId);
     Notification notification =
         notificationRepository
             .findByIdAndUserId(notificationId, userId)
             .orElseThrow(
                 () -> new ResourceNotFoundException("Notification", notificationId.toString()));
+    if (!notification.isArchived()) {
+      unreadChanged(userId, notification.getCategory(), changed);
+    }
     return notificationMapper.toNotificationDto(notification);
   }
 
   @Transactional
   public int markAllAsRead(UUID userId) {
-    return notificationRepository.markAllAsReadByUserId(userId, Instant.now());
+    BulkRead read =
+        BulkRead.of(notificationRepository.markAllAsReadByUserId(userId, Instant.now()));
+    counters.addAll(userId, read.unreadDeltas());
+    if (!read.unreadDeltas().isEmpty()) {
+      streamPublisher.countsChanged(userId);
+    }
+    return read.marked();
   }
 
   @Transactional
   public int markCategoryAsRead(UUID userId, NotificationCategory category) {
-    return notificationRepository.markAllAsReadByCategory(userId, category, Instant.now());
+    BulkRead read =
+        BulkRead.of(
+            notificationRepository.markAllAsReadByCategory(
+                userId, category.name(), Instant.now()));
+    read.unreadDeltas().forEach((changed, delta) -> unreadChanged(userId, changed, delta));
+    return read.marked();
   }
 
   @Transactional
@@ -185,23 +243,29 @@ public class NotificationService {
 
   @Transactional
   public NotificationDto archiveNotification(UUID userId, UUID notificationId) {
-    notificationRepository.archiveNotification(notificationId, userId);
+    int changed = notificationRepository.archiveNotification(notificationId, userId);
     Notification notification =
         notificationRepository
             .findByIdAndUserId(notificationId, userId)
             .orElseThrow(
                 () -> new ResourceNotFoundException("Notification", notificationId.toString()));
+    if (!notification.isRead()) {
+      unreadChanged(userId, notification.getCategory(), -changed);
+    }
     return notificationMapper.toNotificationDto(notification);
   }
 
   @Transactional
   public NotificationDto unarchiveNotification(UUID userId, UUID notificationId) {
-    notificationRepository.unarchiveNotification(notificationId, userId);
+    int changed = notificationRepository.unarchiveNotification(notificationId, userId);
     Notification notification =
         notificationRepository
             .findByIdAndUserId(notificationId, userId)
             .orElseThrow(
                 () -> new ResourceNotFoundException("Notification", notificationId.toString()));
+    if (!notification.isRead()) {
+      unreadChanged(userId, notification.getCategory(), changed);
+    }
     return notificationMapper.toNotificationDto(notification);
   }
 
@@ -212,7 +276,39 @@ public class NotificationService {
 
   @Transactional
   public void deleteNotification(UUID userId, UUID notificationId) {
-    notificationRepository.deleteByIdAndUserId(notificationId, userId);
+    notificationRepository
+        .lockByIdAndUserId(notificationId, userId)
+        .ifPresent(
+            notification -> {
+              notificationRepository.delete(notification);
+              if (!notification.isRead() && !notification.isArchived()) {
+                unreadChanged(userId, notification.getCategory(), -1);
+              }
+            });
+  }
+
+  /** Applies an unread change to the counters and announces it, both in this transaction. */
+  private void unreadChanged(UUID userId, NotificationCategory category, int delta) {
+    counters.add(userId, category, delta);
+    streamPublisher.unreadChanged(userId, category, delta);
+  }
+
+  /** Result of a bulk mark-as-read: unread counter deltas by category and the number marked. */
+  private record BulkRead(Map<NotificationCategory, Integer> unreadDeltas, int marked) {
+
+    /** From (category, unread, marked) rows. */
+    static BulkRead of(List<Object[]> rows) {
+      Map<NotificationCategory, Integer> deltas = new EnumMap<>(NotificationCategory.class);
+      int marked = 0;
+      for (Object[] row : rows) {
+        int unread = ((Number) row[1]).intValue();
+        if (unread > 0) {
+          deltas.put(NotificationCategory.valueOf((String) row[0]), -unread);
+        }
+        marked += ((Number) row[2]).intValue();
+      }
+      return new BulkRead(deltas, marked);
+    }
   }
 
   // ============ Notification Creation ============
@@ -246,7 +342,7 @@ public class NotificationService {
             .metadata(metadata)
             .build();
 
-    return notificationMapper.toNotificationDto(notificationRepository.save(notification));
+    return publishCreated(userId, notification);
   }
 
   @Transactional
@@ -298,7 +394,19 @@ public class NotificationService {
             .actions(actions)
             .build();
 
-    return notificationMapper.toNotificationDto(notificationRepository.save(notification));
+    return publishCreated(request.userId(), notification);
+  }
+
+  /**
+   * Saves a new notification, counts it as unread and announces it to open streams once the
+   * transaction commits.
+   */
+  private NotificationDto publishCreated(UUID userId, Notification notification) {
+    NotificationDto dto =
+        notificationMapper.toNotificationDto(notificationRepository.save(notification));
+    counters.add(userId, notification.getCategory(), 1);
+    streamPublisher.created(userId, dto);
+    return dto;
   }
 
   // ============ Preferences Management ============
@@ -360,15 +468,28 @@ public class NotificationService {
   // ============ Scheduled Tasks ============
 
   /**
-   * Archive expired notifications daily at 2 AM.
+   * Archive expired notifications daily at 2 AM, taking the unread ones off their users' counters.
    */
-  @Scheduled(cron = "0 0 2 * * *")
+  @ClusterJob(name = "archive-expired-notifications", cron = "0 0 2 * * *")
   @Transactional
-  public void archiveExpiredNotifications() {
-    int count = notificationRepository.archiveExpiredNotifications(Instant.now());
+  public int archiveExpiredNotifications() {
+    int count = 0;
+    Set<UUID> changedUsers = new LinkedHashSet<>();
+    // (user id, category, unread, archived), ordered by user and category
+    for (Object[] row : notificationRepository.archiveExpiredNotifications(Instant.now())) {
+      UUID userId = (UUID) row[0];
+      int unread = ((Number) row[2]).intValue();
+      if (unread > 0) {
+        counters.add(userId, NotificationCategory.valueOf((String) row[1]), -unread);
+        changedUsers.add(userId);
+      }
+      count += ((Number) row[3]).intValue();
+    }
+    changedUsers.forEach(streamPublisher::countsChanged);
     if (count > 0) {
       log.info("Archived {} expired notifications", count);
     }
+    return count;
   }
 }
 
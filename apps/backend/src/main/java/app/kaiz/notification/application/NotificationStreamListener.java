@@ -0,0 +1,76 @@
+package app.kaiz.notification.application;
+
+import app.kaiz.shared.config.NotificationStreamProperties;
+import app.kaiz.shared.notify.PgNotifyListener;
+import app.kaiz.shared.notify.PgNotifySubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@link NotificationStreamRegistry} with the changes every instance announces through {@link
+ * NotificationStreamPublisher}, this one included.
+ *
+ * <p>Every message also evicts the user's cached unread counts in {@link
+ * NotificationCounterService}, since each change to them publishes one.
+ *
+ * <p>Receives them through {@link PgNotifyListener}. Messages sent while its connection was down
+ * are lost, so after a reconnect all cached counts are dropped and every local stream is told to
+ * resync.
+ */
+@Component
+@Slf4j
+public class NotificationStreamListener implements PgNotifySubscriber {
+
+  private final NotificationStreamRegistry registry;
+  private final NotificationCounterService counters;
+  private final NotificationStreamProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Counter received;
+
+  public NotificationStreamListener(
+      NotificationStreamRegistry registry,
+      NotificationCounterService counters,
+      NotificationStreamProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.registry = registry;
+    this.counters = counters;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.received =
+        Counter.builder("kaiz.notification.stream.received")
+            .description("Notification changes received over NOTIFY, including this instance's own")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String channel() {
+    return properties.channel();
+  }
+
+  /** Messages sent while the connection was down are lost, so every local view starts over. */
+  @Override
+  public void onConnect(boolean reconnect) {
+    if (reconnect) {
+      counters.evictAll();
+      registry.resyncAll();
+    }
+  }
+
+  @Override
+  public void onNotification(String payload) {
+    NotificationStreamMessage message;
+    try {
+      message = objectMapper.readValue(payload, NotificationStreamMessage.class);
+    } catch (Exception e) {
+      log.warn("Ignoring malformed notification stream message: {}", payload);
+      return;
+    }
+    received.increment();
+    counters.evict(message.userId());
+    registry.dispatch(message);
+  }
+}
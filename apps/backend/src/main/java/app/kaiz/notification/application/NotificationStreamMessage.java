@@ -0,0 +1,48 @@
+package app.kaiz.notification.application;
+
+import app.kaiz.notification.application.dto.NotificationDto;
+import app.kaiz.notification.domain.NotificationCategory;
+import java.util.UUID;
+
+/**
+ * What changed for one user, sent between instances as the {@code NOTIFY} payload.
+ *
+ * <ul>
+ *   <li>{@code CREATED} - a new unread notification; {@code notification} is left out when it would
+ *       not fit a payload, and receivers load it by {@code notificationId}
+ *   <li>{@code UNREAD_CHANGED} - the unread count of {@code category} changed by {@code delta}
+ *   <li>{@code COUNTS_CHANGED} - unread counts changed across categories; receivers send fresh ones
+ * </ul>
+ */
+public record NotificationStreamMessage(
+    Kind kind,
+    UUID userId,
+    UUID notificationId,
+    NotificationCategory category,
+    int delta,
+    NotificationDto notification) {
+
+  public enum Kind {
+    CREATED,
+    UNREAD_CHANGED,
+    COUNTS_CHANGED
+  }
+
+  static NotificationStreamMessage created(UUID userId, NotificationDto notification) {
+    return new NotificationStreamMessage(
+        Kind.CREATED, userId, notification.id(), notification.category(), 1, notification);
+  }
+
+  static NotificationStreamMessage unreadChanged(
+      UUID userId, NotificationCategory category, int delta) {
+    return new NotificationStreamMessage(Kind.UNREAD_CHANGED, userId, null, category, delta, null);
+  }
+
+  static NotificationStreamMessage countsChanged(UUID userId) {
+    return new NotificationStreamMessage(Kind.COUNTS_CHANGED, userId, null, null, 0, null);
+  }
+
+  NotificationStreamMessage withoutNotification() {
+    return new NotificationStreamMessage(kind, userId, notificationId, category, delta, null);
+  }
+}
@@ -0,0 +1,68 @@
+package app.kaiz.notification.application;
+
+import app.kaiz.notification.application.dto.NotificationDto;
+import app.kaiz.notification.domain.NotificationCategory;
+import app.kaiz.notification.infrastructure.NotificationStreamStore;
+import app.kaiz.shared.config.NotificationStreamProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Announces notification changes to every instance's {@link NotificationStreamListener}.
+ *
+ * <p>Called inside the transaction that makes the change: {@code NOTIFY} is transactional, so the
+ * message goes out exactly when that transaction commits and never if it rolls back.
+ */
+@Component
+public class NotificationStreamPublisher {
+
+  /** PostgreSQL rejects {@code NOTIFY} payloads of 8000 bytes or more. */
+  private static final int MAX_PAYLOAD_BYTES = 7900;
+
+  private final NotificationStreamStore store;
+  private final ObjectMapper objectMapper;
+  private final NotificationStreamProperties properties;
+
+  public NotificationStreamPublisher(
+      NotificationStreamStore store,
+      ObjectMapper objectMapper,
+      NotificationStreamProperties properties) {
+    this.store = store;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+  }
+
+  public void created(UUID userId, NotificationDto notification) {
+    NotificationStreamMessage message = NotificationStreamMessage.created(userId, notification);
+    String payload = serialize(message);
+    if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+      payload = serialize(message.withoutNotification());
+    }
+    store.sendNotification(properties.channel(), payload);
+  }
+
+  public void unreadChanged(UUID userId, NotificationCategory category, int delta) {
+    if (delta != 0) {
+      publish(NotificationStreamMessage.unreadChanged(userId, category, delta));
+    }
+  }
+
+  public void countsChanged(UUID userId) {
+    publish(NotificationStreamMessage.countsChanged(userId));
+  }
+
+  private void publish(NotificationStreamMessage message) {
+    store.sendNotification(properties.channel(), serialize(message));
+  }
+
+  private String serialize(NotificationStreamMessage message) {
+    try {
+      return objectMapper.writeValueAsString(message);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize notification stream message", e);
+    }
+  }
+}
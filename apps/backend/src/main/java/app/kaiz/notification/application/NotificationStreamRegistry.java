@@ -0,0 +1,299 @@
+package app.kaiz.notification.application;
+
+import app.kaiz.notification.application.dto.NotificationDto;
+import app.kaiz.notification.application.dto.NotificationDto.UnreadCountDto;
+import app.kaiz.notification.application.dto.NotificationDto.UnreadDeltaDto;
+import app.kaiz.shared.config.NotificationStreamProperties;
+import app.kaiz.shared.persistence.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Open notification streams on this instance, by user.
+ *
+ * <p>A stream is an async {@link SseEmitter}: while idle it holds no thread, only the connection
+ * and a few objects. Events from the listener and heartbeats are written on virtual threads, one
+ * per stream, so a slow client never holds up the listener or other clients. Events of different
+ * changes may therefore arrive out of order; deltas add up the same in any order.
+ *
+ * <p>Events:
+ *
+ * <ul>
+ *   <li>{@code notification} - a new {@link NotificationDto}; its id is the SSE event id
+ *   <li>{@code unread-count} - the full {@link UnreadCountDto}, on connect and after bulk changes
+ *   <li>{@code unread-delta} - an {@link UnreadDeltaDto} to add to the current counts
+ *   <li>{@code resync} - events may have been missed; reload notifications and counts
+ * </ul>
+ *
+ * <p>A client resuming with {@code Last-Event-ID} gets the notifications created since then,
+ * starting a little earlier to catch late commits, so it must ignore ids it already has. The stream
+ * is registered before counts and replay are read, so nothing committed in between is lost.
+ */
+@Component
+@Slf4j
+public class NotificationStreamRegistry implements SmartLifecycle {
+
+  private final NotificationService notificationService;
+  private final NotificationStreamProperties properties;
+  private final Map<UUID, List<SseEmitter>> streams = new ConcurrentHashMap<>();
+  private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<String, Counter> sent = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final Counter dropped;
+
+  private volatile ScheduledExecutorService heartbeats;
+
+  public NotificationStreamRegistry(
+      NotificationService notificationService,
+      NotificationStreamProperties properties,
+      MeterRegistry meterRegistry) {
+    this.notificationService = notificationService;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+
+    Gauge.builder("kaiz.notification.stream.connections", this, NotificationStreamRegistry::size)
+        .description("Open notification streams on this instance")
+        .register(meterRegistry);
+    this.dropped =
+        Counter.builder("kaiz.notification.stream.dropped")
+            .description("Notification streams closed because a write failed")
+            .register(meterRegistry);
+  }
+
+  /** Opens a stream for {@code userId}, resuming after {@code lastEventId} when given. */
+  public SseEmitter open(UUID userId, String lastEventId) {
+    SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+    emitter.onCompletion(() -> remove(userId, emitter));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> remove(userId, emitter));
+    add(userId, emitter);
+
+    send(
+        userId,
+        emitter,
+        "unread-count",
+        SseEmitter.event()
+            .reconnectTime(properties.reconnectTime().toMillis())
+            .name("unread-count")
+            .data(notificationService.getDetailedUnreadCount(userId)));
+    if (lastEventId != null && !lastEventId.isBlank()) {
+      replay(userId, emitter, lastEventId.strip());
+    }
+    return emitter;
+  }
+
+  private void replay(UUID userId, SseEmitter emitter, String lastEventId) {
+    UUID lastId = parseId(lastEventId);
+    Instant lastCreatedAt = lastId != null ? UuidV7.timestamp(lastId) : null;
+    if (lastCreatedAt == null) {
+      send(userId, emitter, "resync", resyncEvent());
+      return;
+    }
+    List<NotificationDto> missed =
+        notificationService.getNotificationsCreatedSince(
+            userId, lastCreatedAt.minus(properties.replayOverlap()), properties.replayLimit() + 1);
+    if (missed.size() > properties.replayLimit()) {
+      send(userId, emitter, "resync", resyncEvent());
+      return;
+    }
+    for (NotificationDto notification : missed) {
+      if (!notification.id().equals(lastId)) {
+        send(userId, emitter, "notification", notificationEvent(notification));
+      }
+    }
+  }
+
+  /** Delivers a message from {@link NotificationStreamListener} to this user's local streams. */
+  void dispatch(NotificationStreamMessage message) {
+    List<SseEmitter> targets = streams.get(message.userId());
+    if (targets == null) {
+      return;
+    }
+    writers.execute(() -> deliver(message, List.copyOf(targets)));
+  }
+
+  private void deliver(NotificationStreamMessage message, List<SseEmitter> targets) {
+    UUID userId = message.userId();
+    switch (message.kind()) {
+      case CREATED -> {
+        NotificationDto notification =
+            message.notification() != null
+                ? message.notification()
+                : notificationService
+                    .getNotification(userId, message.notificationId())
+                    .orElse(null);
+        UnreadDeltaDto delta = new UnreadDeltaDto(message.category(), message.delta());
+        for (SseEmitter emitter : targets) {
+          writers.execute(
+              () -> {
+                if (notification != null) {
+                  send(userId, emitter, "notification", notificationEvent(notification));
+                }
+                send(userId, emitter, "unread-delta", deltaEvent(delta));
+              });
+        }
+      }
+      case UNREAD_CHANGED -> {
+        UnreadDeltaDto delta = new UnreadDeltaDto(message.category(), message.delta());
+        targets.forEach(
+            emitter ->
+                writers.execute(() -> send(userId, emitter, "unread-delta", deltaEvent(delta))));
+      }
+      case COUNTS_CHANGED -> {
+        UnreadCountDto counts = notificationService.getDetailedUnreadCount(userId);
+        targets.forEach(
+            emitter ->
+                writers.execute(
+                    () ->
+                        send(
+                            userId,
+                            emitter,
+                            "unread-count",
+                            SseEmitter.event().name("unread-count").data(counts))));
+      }
+    }
+  }
+
+  /** Tells every local stream to reload, after the listener may have missed messages. */
+  void resyncAll() {
+    forEachStream((userId, emitter) -> send(userId, emitter, "resync", resyncEvent()));
+  }
+
+  private void heartbeat() {
+    forEachStream(
+        (userId, emitter) -> send(userId, emitter, "heartbeat", SseEmitter.event().comment("")));
+  }
+
+  private void forEachStream(StreamAction action) {
+    streams.forEach(
+        (userId, emitters) ->
+            emitters.forEach(emitter -> writers.execute(() -> action.run(userId, emitter))));
+  }
+
+  private void send(UUID userId, SseEmitter emitter, String event, SseEventBuilder builder) {
+    try {
+      emitter.send(builder);
+      sent.computeIfAbsent(event, this::sentCounter).increment();
+    } catch (IOException | IllegalStateException e) {
+      // Client gone or stream already completed; the container completes it with an error
+      if (remove(userId, emitter)) {
+        dropped.increment();
+        log.debug("Dropped notification stream of user {}: {}", userId, e.getMessage());
+      }
+    }
+  }
+
+  private void add(UUID userId, SseEmitter emitter) {
+    List<SseEmitter> evicted = new ArrayList<>();
+    streams.compute(
+        userId,
+        (id, current) -> {
+          List<SseEmitter> emitters = current != null ? current : new CopyOnWriteArrayList<>();
+          emitters.add(emitter);
+          while (emitters.size() > properties.maxConnectionsPerUser()) {
+            evicted.add(emitters.removeFirst());
+          }
+          return emitters;
+        });
+    evicted.forEach(SseEmitter::complete);
+  }
+
+  private boolean remove(UUID userId, SseEmitter emitter) {
+    List<SseEmitter> emitters = streams.get(userId);
+    if (emitters == null || !emitters.remove(emitter)) {
+      return false;
+    }
+    streams.computeIfPresent(userId, (id, current) -> current.isEmpty() ? null : current);
+    return true;
+  }
+
+  /** Open streams on this instance. */
+  public int size() {
+    return streams.values().stream().mapToInt(List::size).sum();
+  }
+
+  private Counter sentCounter(String event) {
+    return Counter.builder("kaiz.notification.stream.sent")
+        .description("Events written to notification streams")
+        .tag("event", event)
+        .register(meterRegistry);
+  }
+
+  private static SseEventBuilder notificationEvent(NotificationDto notification) {
+    return SseEmitter.event()
+        .id(notification.id().toString())
+        .name("notification")
+        .data(notification);
+  }
+
+  private static SseEventBuilder deltaEvent(UnreadDeltaDto delta) {
+    return SseEmitter.event().name("unread-delta").data(delta);
+  }
+
+  private static SseEventBuilder resyncEvent() {
+    return SseEmitter.event().name("resync").data("");
+  }
+
+  private static UUID parseId(String value) {
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @FunctionalInterface
+  private interface StreamAction {
+    void run(UUID userId, SseEmitter emitter);
+  }
+
+  // ============ Lifecycle ============
+
+  @Override
+  public void start() {
+    long interval = properties.heartbeatInterval().toMillis();
+    ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("notification-stream-heartbeat").daemon().factory());
+    scheduler.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    heartbeats = scheduler;
+  }
+
+  /**
+   * Closes every stream before the web server shuts down gracefully, which would otherwise wait for
+   * them; clients reconnect to another instance.
+   */
+  @Override
+  public void stop() {
+    ScheduledExecutorService scheduler = heartbeats;
+    heartbeats = null;
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    streams.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    streams.clear();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return heartbeats != null;
+  }
+}
@@ -6,6 +6,7 @@ import app.kaiz.notification.domain.Notification.NotificationAction;
 import app.kaiz.notification.domain.NotificationCategory;
 import app.kaiz.notification.domain.NotificationPriority;
 import app.kaiz.notification.domain.NotificationType;
+import app.kaiz.shared.config.AsyncConfig;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -19,6 +20,9 @@ import org.springframework.stereotype.Service;
 /**
  * Service for triggering notifications based on app events.
  * This service is called from other services when events occur.
+ *
+ * <p>Methods backing {@link NotificationEventListener} are synchronous so that they run inside the
+ * outbox delivery transaction; the ones called by {@link NotificationScheduler} stay {@code @Async}.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,7 +33,6 @@ public class NotificationTriggerService {
 
   // ============ Task Notifications ============
 
-  @Async
   public void notifyTaskCreated(UUID userId, UUID taskId, String taskTitle) {
     createNotification(
         userId,
@@ -42,7 +45,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyTaskCompleted(UUID userId, UUID taskId, String taskTitle, int xpEarned) {
     createNotification(
         userId,
@@ -59,7 +61,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyTaskDueSoon(UUID userId, UUID taskId, String taskTitle, int hoursUntilDue) {
     NotificationPriority priority = hoursUntilDue <= 1 ? NotificationPriority.URGENT :
         hoursUntilDue <= 6 ? NotificationPriority.HIGH : NotificationPriority.MEDIUM;
@@ -79,7 +81,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyTaskOverdue(UUID userId, UUID taskId, String taskTitle) {
     createNotification(
         userId,
@@ -96,7 +98,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyTaskAssigned(UUID userId, UUID taskId, String taskTitle, String assignedBy) {
     createNotificationWithSender(
         userId,
@@ -110,7 +111,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyTaskShared(UUID userId, UUID taskId, String taskTitle, String sharedBy, String sharedByAvatar) {
     createNotificationWithSender(
         userId,
@@ -126,7 +126,6 @@ public class NotificationTriggerService {
 
   // ============ Challenge Notifications ============
 
-  @Async
   public void notifyChallengeStarted(UUID userId, UUID challengeId, String challengeTitle) {
     createNotification(
         userId,
@@ -139,7 +138,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyChallengeMilestone(UUID userId, UUID challengeId, String challengeTitle, int milestone, int total) {
     createNotification(
         userId,
@@ -152,7 +150,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyChallengeCompleted(UUID userId, UUID challengeId, String challengeTitle, int xpEarned) {
     createNotification(
         userId,
@@ -169,7 +166,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyChallengeStreak(UUID userId, UUID challengeId, String challengeTitle, int streakDays) {
     createNotification(
         userId,
@@ -182,7 +178,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyDailyChallengeReminder(UUID userId, UUID challengeId, String challengeTitle) {
     createNotification(
         userId,
@@ -198,7 +194,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyChallengeInvite(UUID userId, UUID challengeId, String challengeTitle, String invitedBy, String invitedByAvatar) {
     createNotificationWithSender(
         userId,
@@ -214,7 +209,6 @@ public class NotificationTriggerService {
 
   // ============ Community Notifications ============
 
-  @Async
   public void notifyNewFollower(UUID userId, UUID followerId, String followerName, String followerAvatar) {
     createNotificationWithSender(
         userId,
@@ -228,7 +222,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyPostLike(UUID userId, UUID postId, UUID likerId, String likerName, String likerAvatar) {
     createNotificationWithSender(
         userId,
@@ -242,7 +235,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyPostComment(UUID userId, UUID postId, UUID commenterId, String commenterName, String commenterAvatar, String commentPreview) {
     createNotificationWithSender(
         userId,
@@ -256,7 +248,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyMention(UUID userId, UUID postId, UUID mentionerId, String mentionerName, String mentionerAvatar) {
     createNotificationWithSender(
         userId,
@@ -270,7 +261,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyFriendAchievement(UUID userId, UUID friendId, String friendName, String friendAvatar, String achievement) {
     createNotificationWithSender(
         userId,
@@ -286,7 +277,7 @@ public class NotificationTriggerService {
 
   // ============ Event Notifications ============
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyBirthdayReminder(UUID userId, String friendName, String friendAvatar, UUID friendId) {
     createNotificationWithSender(
         userId,
@@ -300,7 +291,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyEventReminder(UUID userId, UUID eventId, String eventTitle, int minutesUntil) {
     NotificationPriority priority = minutesUntil <= 15 ? NotificationPriority.URGENT :
         minutesUntil <= 60 ? NotificationPriority.HIGH : NotificationPriority.MEDIUM;
@@ -320,7 +311,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyEventInvite(UUID userId, UUID eventId, String eventTitle, String invitedBy, String invitedByAvatar) {
     createNotificationWithSender(
         userId,
@@ -336,7 +326,7 @@ public class NotificationTriggerService {
 
   // ============ Essentia (Learning) Notifications ============
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyNewLesson(UUID userId, UUID lessonId, String lessonTitle, String topic) {
     createNotification(
         userId,
@@ -349,7 +339,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyLessonCompleted(UUID userId, UUID lessonId, String lessonTitle, int xpEarned) {
     createNotification(
         userId,
@@ -362,7 +351,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyLearningStreak(UUID userId, int streakDays) {
     createNotification(
         userId,
@@ -375,7 +363,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyQuizResult(UUID userId, UUID quizId, int score, int total, boolean passed) {
     String emoji = passed ? "✅" : "📝";
     String message = passed
@@ -395,7 +383,7 @@ public class NotificationTriggerService {
 
   // ============ AI Notifications ============
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyAiInsight(UUID userId, String insightTitle, String insightContent, String category) {
     createNotification(
         userId,
@@ -408,7 +396,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyAiSuggestion(UUID userId, String suggestion, String context) {
     createNotification(
         userId,
@@ -421,7 +409,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifyWeeklyReport(UUID userId, int tasksCompleted, int challengeProgress, int xpEarned) {
     createNotification(
         userId,
@@ -438,7 +426,7 @@ public class NotificationTriggerService {
 
   // ============ System Notifications ============
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifySystemUpdate(UUID userId, String version, String changelog) {
     createNotification(
         userId,
@@ -451,7 +439,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyLevelUp(UUID userId, int newLevel, List<String> unlockedFeatures) {
     String featuresText = unlockedFeatures.isEmpty()
         ? ""
@@ -471,7 +458,6 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
   public void notifyAchievementUnlocked(UUID userId, String achievementId, String achievementTitle, String achievementDescription, int xpEarned) {
     createNotification(
         userId,
@@ -488,7 +474,7 @@ public class NotificationTriggerService {
     );
   }
 
-  @Async
+  @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
   public void notifySecurityAlert(UUID userId, String alertType, String details) {
     createNotification(
         userId,
@@ -58,6 +58,14 @@ public record NotificationDto(
     }
   }
 
+  /**
+   * Change to add to the unread counts: the total and, when set, the category's count.
+   */
+  public record UnreadDeltaDto(
+      NotificationCategory category,
+      int delta
+  ) {}
+
   /**
    * Paginated notifications response.
    */
@@ -0,0 +1,99 @@
+package app.kaiz.notification.infrastructure;
+
+import app.kaiz.notification.domain.NotificationCategory;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code notification_counters}: unread notifications per user and category.
+ *
+ * <p>Counters only ever move by deltas added to the current value, so concurrent changes queue on
+ * the row lock and add up in any order. A counter never goes below zero.
+ */
+@Component
+public class NotificationCounterStore {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public NotificationCounterStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Adds {@code delta} to one counter, creating it on first use. */
+  public void add(UUID userId, NotificationCategory category, int delta) {
+    jdbcTemplate.update(
+        "INSERT INTO notification_counters (user_id, category, unread)"
+            + " VALUES (?, ?, GREATEST(?, 0))"
+            + " ON CONFLICT (user_id, category)"
+            + " DO UPDATE SET unread = GREATEST(notification_counters.unread + ?, 0)",
+        userId,
+        category.name(),
+        delta,
+        delta);
+  }
+
+  /** Non-zero counters of one user. */
+  public Map<NotificationCategory, Integer> find(UUID userId) {
+    Map<NotificationCategory, Integer> counters = new EnumMap<>(NotificationCategory.class);
+    jdbcTemplate.query(
+        "SELECT category, unread FROM notification_counters WHERE user_id = ? AND unread > 0",
+        rs -> {
+          counters.put(NotificationCategory.valueOf(rs.getString(1)), rs.getInt(2));
+        },
+        userId);
+    return counters;
+  }
+
+  /** Counters that differ from a count of the notifications, including missing ones. */
+  public List<CounterKey> findDrifted() {
+    return jdbcTemplate.query(
+        "SELECT coalesce(a.user_id, c.user_id), coalesce(a.category, c.category)"
+            + " FROM (SELECT user_id, category, count(*) AS unread FROM notifications"
+            + "   WHERE is_read = false AND is_archived = false GROUP BY user_id, category) a"
+            + " FULL JOIN notification_counters c"
+            + "   ON c.user_id = a.user_id AND c.category = a.category"
+            + " WHERE coalesce(a.unread, 0) <> coalesce(c.unread, 0)",
+        (rs, rowNum) ->
+            new CounterKey(
+                rs.getObject(1, UUID.class), NotificationCategory.valueOf(rs.getString(2))));
+  }
+
+  /**
+   * Recounts one counter; returns whether it changed. Call in a transaction of its own.
+   *
+   * <p>The counter row is locked before counting, so a change that already applied its delta has
+   * committed and is counted, and one that has not yet applied it adds it on top of the recount.
+   */
+  public boolean repair(UUID userId, NotificationCategory category) {
+    jdbcTemplate.update(
+        "INSERT INTO notification_counters (user_id, category, unread) VALUES (?, ?, 0)"
+            + " ON CONFLICT (user_id, category) DO NOTHING",
+        userId,
+        category.name());
+    Integer before =
+        jdbcTemplate.queryForObject(
+            "SELECT unread FROM notification_counters"
+                + " WHERE user_id = ? AND category = ? FOR UPDATE",
+            Integer.class,
+            userId,
+            category.name());
+    Integer after =
+        jdbcTemplate.queryForObject(
+            "UPDATE notification_counters SET unread ="
+                + " (SELECT count(*) FROM notifications WHERE user_id = ? AND category = ?"
+                + "   AND is_read = false AND is_archived = false)"
+                + " WHERE user_id = ? AND category = ? RETURNING unread",
+            Integer.class,
+            userId,
+            category.name(),
+            userId,
+            category.name());
+    return !after.equals(before);
+  }
+
+  public record CounterKey(UUID userId, NotificationCategory category) {}
+}
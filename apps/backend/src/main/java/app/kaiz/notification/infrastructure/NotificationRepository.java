@@ -4,15 +4,23 @@ import app.kaiz.notification.domain.Notification;
 import app.kaiz.notification.domain.NotificationCategory;
 import app.kaiz.notification.domain.NotificationPriority;
 import app.kaiz.notification.domain.NotificationType;
+import app.kaiz.shared.persistence.EntityStreamer;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,13 +31,20 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
   Page<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
-  List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(UUID userId);
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreamer.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Notification> streamByUserIdAndIsReadFalseOrderByCreatedAtDesc(UUID userId);
 
   List<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(UUID userId, NotificationType type);
 
   Optional<Notification> findByIdAndUserId(UUID id, UUID userId);
 
-  long countByUserIdAndIsReadFalse(UUID userId);
+  /** Locks the notification, so it cannot be read or archived while it is being deleted. */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT n FROM Notification n WHERE n.id = :id AND n.user.id = :userId")
+  Optional<Notification> lockByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
   // ============ Category Queries ============
 
@@ -39,11 +54,6 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
   Page<Notification> findByUserIdAndCategoryAndIsArchivedFalseOrderByCreatedAtDesc(
       UUID userId, NotificationCategory category, Pageable pageable);
 
-  @Query("SELECT n.category, COUNT(n) FROM Notification n " +
-         "WHERE n.user.id = :userId AND n.isRead = false AND n.isArchived = false " +
-         "GROUP BY n.category")
-  List<Object[]> countUnreadByCategory(@Param("userId") UUID userId);
-
   // ============ Archive & Pin Queries ============
 
   Page<Notification> findByUserIdAndIsArchivedFalseOrderByIsPinnedDescCreatedAtDesc(
@@ -55,6 +65,30 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
   Page<Notification> findByUserIdAndIsPinnedTrueAndIsArchivedFalseOrderByCreatedAtDesc(
       UUID userId, Pageable pageable);
 
+  // ============ Keyset Queries ============
+  // Same order as findByUserIdAndIsArchivedFalseOrderByIsPinnedDescCreatedAtDesc with id as the
+  // tie-breaker, so the next page starts right after the last (isPinned, createdAt, id) seen.
+
+  @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isArchived = false " +
+         "ORDER BY n.isPinned DESC, n.createdAt DESC, n.id DESC")
+  List<Notification> findActiveFirstPage(@Param("userId") UUID userId, Limit limit);
+
+  @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isArchived = false " +
+         "AND (n.isPinned, n.createdAt, n.id) < (:pinned, :createdAt, :id) " +
+         "ORDER BY n.isPinned DESC, n.createdAt DESC, n.id DESC")
+  List<Notification> findActiveAfter(
+      @Param("userId") UUID userId,
+      @Param("pinned") boolean pinned,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Limit limit);
+
+  /** Notifications created after {@code since}, oldest first; replayed to resuming streams. */
+  @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isArchived = false " +
+         "AND n.createdAt > :since ORDER BY n.createdAt, n.id")
+  List<Notification> findCreatedSince(
+      @Param("userId") UUID userId, @Param("since") Instant since, Limit limit);
+
   // ============ Priority Queries ============
 
   Page<Notification> findByUserIdAndPriorityAndIsArchivedFalseOrderByCreatedAtDesc(
@@ -86,26 +120,38 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
          "AND n.expiresAt < :now AND n.isArchived = false")
   List<Notification> findExpiredNotifications(@Param("now") Instant now);
 
-  @Modifying
-  @Query("UPDATE Notification n SET n.isArchived = true " +
-         "WHERE n.expiresAt IS NOT NULL AND n.expiresAt < :now AND n.isArchived = false")
-  int archiveExpiredNotifications(@Param("now") Instant now);
+  /**
+   * Archives expired notifications; returns (user id, category, unread, archived) per user and
+   * category, in that order, for the unread counters.
+   */
+  @Query(value = "WITH archived AS (UPDATE notifications SET is_archived = true " +
+                 "WHERE expires_at IS NOT NULL AND expires_at < :now AND is_archived = false " +
+                 "RETURNING user_id, category, is_read) " +
+                 "SELECT user_id, category, count(*) FILTER (WHERE NOT is_read), count(*) " +
+                 "FROM archived GROUP BY user_id, category ORDER BY user_id, category",
+         nativeQuery = true)
+  List<Object[]> archiveExpiredNotifications(@Param("now") Instant now);
 
   // ============ Bulk Update Queries ============
+  // Bulk reads return (category, unread, marked) per category: "unread" counts the marked
+  // notifications that were not archived, which the unread counters drop by.
 
-  @Modifying
-  @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now " +
-         "WHERE n.user.id = :userId AND n.isRead = false")
-  int markAllAsReadByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
+  @Query(value = "WITH marked AS (UPDATE notifications SET is_read = true, read_at = :now " +
+                 "WHERE user_id = :userId AND is_read = false " +
+                 "RETURNING category, is_archived) " +
+                 "SELECT category, count(*) FILTER (WHERE NOT is_archived), count(*) " +
+                 "FROM marked GROUP BY category",
+         nativeQuery = true)
+  List<Object[]> markAllAsReadByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
 
   @Modifying
   @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now " +
-         "WHERE n.id = :id AND n.user.id = :userId")
+         "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
   int markAsRead(@Param("id") UUID id, @Param("userId") UUID userId, @Param("now") Instant now);
 
   @Modifying
   @Query("UPDATE Notification n SET n.isRead = false, n.readAt = null " +
-         "WHERE n.id = :id AND n.user.id = :userId")
+         "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = true")
   int markAsUnread(@Param("id") UUID id, @Param("userId") UUID userId);
 
   @Modifying
@@ -115,12 +161,12 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
   @Modifying
   @Query("UPDATE Notification n SET n.isArchived = true " +
-         "WHERE n.id = :id AND n.user.id = :userId")
+         "WHERE n.id = :id AND n.user.id = :userId AND n.isArchived = false")
   int archiveNotification(@Param("id") UUID id, @Param("userId") UUID userId);
 
   @Modifying
   @Query("UPDATE Notification n SET n.isArchived = false " +
-         "WHERE n.id = :id AND n.user.id = :userId")
+         "WHERE n.id = :id AND n.user.id = :userId AND n.isArchived = true")
   int unarchiveNotification(@Param("id") UUID id, @Param("userId") UUID userId);
 
   @Modifying
@@ -128,12 +174,15 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
          "WHERE n.user.id = :userId AND n.isRead = true AND n.isArchived = false")
   int archiveAllReadByUserId(@Param("userId") UUID userId);
 
-  @Modifying
-  @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now " +
-         "WHERE n.user.id = :userId AND n.category = :category AND n.isRead = false")
-  int markAllAsReadByCategory(
+  @Query(value = "WITH marked AS (UPDATE notifications SET is_read = true, read_at = :now " +
+                 "WHERE user_id = :userId AND category = :category AND is_read = false " +
+                 "RETURNING category, is_archived) " +
+                 "SELECT category, count(*) FILTER (WHERE NOT is_archived), count(*) " +
+                 "FROM marked GROUP BY category",
+         nativeQuery = true)
+  List<Object[]> markAllAsReadByCategory(
       @Param("userId") UUID userId,
-      @Param("category") NotificationCategory category,
+      @Param("category") String category,
       @Param("now") Instant now);
 
   // ============ Delete Queries ============
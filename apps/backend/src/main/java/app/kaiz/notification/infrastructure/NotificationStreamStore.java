@@ -0,0 +1,20 @@
+package app.kaiz.notification.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** {@code NOTIFY} side of the notification stream. */
+@Component
+public class NotificationStreamStore {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public NotificationStreamStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Queues {@code payload} on {@code channel}; PostgreSQL delivers it when the caller commits. */
+  public void sendNotification(String channel, String payload) {
+    jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+  }
+}
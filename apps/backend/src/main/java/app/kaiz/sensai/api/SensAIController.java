@@ -4,6 +4,7 @@ import app.kaiz.sensai.application.SensAIService;
 import app.kaiz.sensai.application.dto.*;
 import app.kaiz.shared.security.CurrentUser;
 import app.kaiz.shared.util.ApiResponse;
+import app.kaiz.shared.util.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -109,6 +110,17 @@ public class SensAIController {
             sensAIService.getInterventionHistory(userId, pageable)));
     }
 
+    @GetMapping("/interventions/history/cursor")
+    @Operation(summary = "Get intervention history by cursor",
+        description = "Keyset-paginated intervention history; pass meta.nextCursor to continue")
+    public ResponseEntity<ApiResponse<List<InterventionDto>>> getInterventionHistoryByCursor(
+            @CurrentUser UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<InterventionDto> page = sensAIService.getInterventionHistory(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page.items(), page.meta()));
+    }
+
     @PostMapping("/interventions/{interventionId}/acknowledge")
     @Operation(summary = "Acknowledge intervention", description = "Acknowledge and optionally take action on an intervention")
     public ResponseEntity<ApiResponse<InterventionDto>> acknowledgeIntervention(
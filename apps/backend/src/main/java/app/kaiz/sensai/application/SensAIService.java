@@ -9,6 +9,8 @@ import app.kaiz.sensai.domain.*;
 import app.kaiz.sensai.infrastructure.*;
 import app.kaiz.tasks.infrastructure.TaskRepository;
 import app.kaiz.shared.exception.ResourceNotFoundException;
+import app.kaiz.shared.util.CursorPage;
+import app.kaiz.shared.util.PageCursor;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -185,6 +187,20 @@ public class SensAIService {
             .map(mapper::toDto);
     }
 
+    /**
+     * Keyset variant of {@link #getInterventionHistory(UUID, Pageable)}, ordered by
+     * (triggeredAt, id) like the page-number version.
+     */
+    public CursorPage<InterventionDto> getInterventionHistory(UUID userId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Intervention> rows = after == null
+            ? interventionRepository.findHistoryFirstPage(userId, CursorPage.limitFor(size))
+            : interventionRepository.findHistoryAfter(
+                userId, after.timestamp(), after.id(), CursorPage.limitFor(size));
+        return CursorPage.of(
+            rows, size, i -> PageCursor.of(i.getTriggeredAt(), i.getId()), mapper::toDto);
+    }
+
     @Transactional
     public InterventionDto acknowledgeIntervention(UUID userId, UUID interventionId, InterventionDto.AcknowledgeRequest request) {
         Intervention intervention = interventionRepository.findById(interventionId)
@@ -5,6 +5,7 @@ import app.kaiz.sensai.domain.InterventionType;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,6 +23,19 @@ public interface InterventionRepository extends JpaRepository<Intervention, UUID
 
     Page<Intervention> findByUserIdOrderByTriggeredAtDesc(UUID userId, Pageable pageable);
 
+    @Query("SELECT i FROM Intervention i WHERE i.user.id = :userId " +
+           "ORDER BY i.triggeredAt DESC, i.id DESC")
+    List<Intervention> findHistoryFirstPage(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT i FROM Intervention i WHERE i.user.id = :userId " +
+           "AND (i.triggeredAt, i.id) < (:triggeredAt, :id) " +
+           "ORDER BY i.triggeredAt DESC, i.id DESC")
+    List<Intervention> findHistoryAfter(
+        @Param("userId") UUID userId,
+        @Param("triggeredAt") Instant triggeredAt,
+        @Param("id") UUID id,
+        Limit limit);
+
     List<Intervention> findByUserIdAndInterventionTypeAndIsActiveTrue(
         UUID userId, InterventionType type);
 
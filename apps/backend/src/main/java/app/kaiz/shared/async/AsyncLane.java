@@ -0,0 +1,146 @@
+package app.kaiz.shared.async;
+
+import app.kaiz.shared.config.AsyncProperties.Lane;
+import app.kaiz.shared.config.AsyncProperties.RejectionPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * A named executor with a fixed number of virtual worker threads and a bounded queue.
+ *
+ * <p>Stops after the web server's graceful shutdown (phase {@code DEFAULT_PHASE - 1024}), so tasks
+ * submitted by in-flight requests are still accepted; it then stops taking work and waits up to the
+ * drain timeout for the queue to empty.
+ */
+@Slf4j
+public class AsyncLane implements Executor, SmartLifecycle {
+
+  private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+  private final String name;
+  private final RejectionPolicy rejectionPolicy;
+  private final Duration drainTimeout;
+  private final ThreadPoolExecutor executor;
+  private final Timer waitTimer;
+  private final Timer executionTimer;
+  private final Counter rejected;
+  private volatile boolean running;
+
+  public AsyncLane(String name, Lane lane, Duration drainTimeout, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.rejectionPolicy = lane.rejectionPolicy();
+    this.drainTimeout = drainTimeout;
+    this.executor =
+        new ThreadPoolExecutor(
+            lane.concurrency(),
+            lane.concurrency(),
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(lane.queueCapacity()),
+            Thread.ofVirtual().name("async-" + name + "-", 0).factory(),
+            (task, pool) -> reject(task));
+
+    Gauge.builder("kaiz.async.queue.depth", executor, pool -> pool.getQueue().size())
+        .description("Tasks waiting for a free slot")
+        .tag("lane", name)
+        .register(meterRegistry);
+    Gauge.builder("kaiz.async.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Tasks currently running")
+        .tag("lane", name)
+        .register(meterRegistry);
+    this.waitTimer =
+        Timer.builder("kaiz.async.wait")
+            .description("Time between submission and start")
+            .tag("lane", name)
+            .register(meterRegistry);
+    this.executionTimer =
+        Timer.builder("kaiz.async.execution")
+            .description("Task run time")
+            .tag("lane", name)
+            .register(meterRegistry);
+    this.rejected =
+        Counter.builder("kaiz.async.rejected")
+            .description("Tasks that did not fit in the queue")
+            .tag("lane", name)
+            .tag("policy", rejectionPolicy.name().toLowerCase())
+            .register(meterRegistry);
+  }
+
+  /** Runs {@code task} with the submitter's MDC, so async log lines keep the correlation id. */
+  @Override
+  public void execute(Runnable task) {
+    long submittedAt = System.nanoTime();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    executor.execute(
+        () -> {
+          waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+          if (mdc != null) {
+            MDC.setContextMap(mdc);
+          }
+          try {
+            executionTimer.record(task);
+          } finally {
+            MDC.clear();
+          }
+        });
+  }
+
+  private void reject(Runnable task) {
+    rejected.increment();
+    switch (rejectionPolicy) {
+      case CALLER_RUNS -> task.run();
+      case ABORT ->
+          throw new TaskRejectedException(
+              "Async lane '" + name + "' is full", new RejectedExecutionException());
+      case DISCARD -> log.warn("Async lane '{}' is full, dropping task", name);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        int dropped = executor.shutdownNow().size();
+        log.warn(
+            "Async lane '{}' did not drain in {}, dropped {} tasks", name, drainTimeout, dropped);
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
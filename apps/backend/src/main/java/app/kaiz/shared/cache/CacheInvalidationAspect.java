@@ -0,0 +1,49 @@
+package app.kaiz.shared.cache;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propagates declarative cache changes to other instances. After a {@code @CacheEvict} or
+ * {@code @CachePut} method returns, the caches it names are cleared on every other instance; they
+ * reload on next use. Key expressions are not evaluated here, so remote instances clear the whole
+ * cache, which is cheap for the small reference-data caches this is meant for.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(
+    prefix = "kaiz.cache-invalidation",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class CacheInvalidationAspect {
+
+  private final CacheInvalidationBus bus;
+
+  public CacheInvalidationAspect(CacheInvalidationBus bus) {
+    this.bus = bus;
+  }
+
+  @AfterReturning("@annotation(cacheEvict)")
+  public void afterEvict(CacheEvict cacheEvict) {
+    broadcast(cacheEvict.value(), cacheEvict.cacheNames());
+  }
+
+  @AfterReturning("@annotation(cachePut)")
+  public void afterPut(CachePut cachePut) {
+    broadcast(cachePut.value(), cachePut.cacheNames());
+  }
+
+  private void broadcast(String[] values, String[] cacheNames) {
+    Set<String> names = new LinkedHashSet<>(List.of(values));
+    names.addAll(List.of(cacheNames));
+    names.forEach(bus::clear);
+  }
+}
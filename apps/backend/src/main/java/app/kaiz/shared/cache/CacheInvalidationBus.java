@@ -0,0 +1,105 @@
+package app.kaiz.shared.cache;
+
+import app.kaiz.shared.config.CacheInvalidationProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Broadcasts cache evictions to every instance through PostgreSQL {@code NOTIFY}, so local caches
+ * stay consistent without Redis. {@link CacheInvalidationListener} applies them on the receiving
+ * side; the sending instance is expected to have updated its own cache already.
+ *
+ * <p>Inside a transaction the notification is sent after commit, so other instances never reload a
+ * value the database does not have yet.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "kaiz.cache-invalidation",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class CacheInvalidationBus {
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate sendTransaction;
+  private final ObjectMapper objectMapper;
+  private final CacheInvalidationProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public CacheInvalidationBus(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      CacheInvalidationProperties properties,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    // Always a fresh read-write transaction, so NOTIFY never lands on a read replica
+    this.sendTransaction = new TransactionTemplate(transactionManager);
+    this.sendTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /** Evicts one entry on all other instances. */
+  public void evict(String cacheName, String key) {
+    broadcast(cacheName, key);
+  }
+
+  /** Clears a whole cache on all other instances. */
+  public void clear(String cacheName) {
+    broadcast(cacheName, null);
+  }
+
+  String instanceId() {
+    return instanceId;
+  }
+
+  private void broadcast(String cacheName, String key) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              send(cacheName, key);
+            }
+          });
+    } else {
+      send(cacheName, key);
+    }
+  }
+
+  private void send(String cacheName, String key) {
+    try {
+      String payload =
+          objectMapper.writeValueAsString(
+              new CacheInvalidationMessage(instanceId, cacheName, key, System.currentTimeMillis()));
+      sendTransaction.executeWithoutResult(
+          status ->
+              jdbcTemplate.queryForObject(
+                  "SELECT pg_notify(?, ?)", Object.class, properties.channel(), payload));
+      Counter.builder("kaiz.cache.invalidation.sent")
+          .description("Cache invalidations broadcast to other instances")
+          .tag("cache", cacheName)
+          .register(meterRegistry)
+          .increment();
+    } catch (JsonProcessingException | RuntimeException e) {
+      // Other instances fall back to the cache TTL
+      log.warn("Could not broadcast invalidation of cache '{}': {}", cacheName, e.getMessage());
+    }
+  }
+}
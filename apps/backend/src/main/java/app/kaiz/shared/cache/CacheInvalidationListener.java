@@ -0,0 +1,121 @@
+package app.kaiz.shared.cache;
+
+import app.kaiz.shared.config.CacheInvalidationProperties;
+import app.kaiz.shared.notify.PgNotifyListener;
+import app.kaiz.shared.notify.PgNotifySubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies invalidations broadcast by {@link CacheInvalidationBus} on other instances.
+ *
+ * <p>Receives them through {@link PgNotifyListener}. If its connection drops, notifications sent
+ * meanwhile are lost, so every local cache is cleared once it is back.
+ *
+ * <p>Metrics: {@code kaiz.cache.invalidation.received} per cache, {@code
+ * kaiz.cache.invalidation.latency} (sender clock to local eviction, includes clock skew) and {@code
+ * kaiz.cache.invalidation.roundtrip} (an instance hearing its own notification, same clock).
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "kaiz.cache-invalidation",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class CacheInvalidationListener implements PgNotifySubscriber {
+
+  private final CacheInvalidationBus bus;
+  private final CacheManager cacheManager;
+  private final CacheInvalidationProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final Timer latency;
+  private final Timer roundTrip;
+
+  public CacheInvalidationListener(
+      CacheInvalidationBus bus,
+      CacheManager cacheManager,
+      CacheInvalidationProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.bus = bus;
+    this.cacheManager = cacheManager;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.latency =
+        Timer.builder("kaiz.cache.invalidation.latency")
+            .description("Time from broadcasting an invalidation to evicting it on this instance")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.roundTrip =
+        Timer.builder("kaiz.cache.invalidation.roundtrip")
+            .description("Time for an instance's own invalidation to come back over NOTIFY")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String channel() {
+    return properties.channel();
+  }
+
+  /** Anything broadcast while the connection was down is lost; on startup this is a no-op. */
+  @Override
+  public void onConnect(boolean reconnect) {
+    cacheManager.getCacheNames().forEach(this::clearLocal);
+  }
+
+  @Override
+  public void onNotification(String payload) {
+    CacheInvalidationMessage message;
+    try {
+      message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+    } catch (Exception e) {
+      log.warn("Ignoring malformed cache invalidation: {}", payload);
+      return;
+    }
+
+    Duration elapsed = Duration.ofMillis(System.currentTimeMillis() - message.sentAt());
+    if (bus.instanceId().equals(message.origin())) {
+      roundTrip.record(elapsed);
+      return; // the sender already updated its own cache
+    }
+
+    Cache cache = cacheManager.getCache(message.cache());
+    if (cache != null) {
+      if (message.key() == null) {
+        cache.clear();
+      } else {
+        cache.evict(message.key());
+      }
+    }
+    latency.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+    Counter.builder("kaiz.cache.invalidation.received")
+        .description("Cache invalidations received from other instances")
+        .tag("cache", message.cache())
+        .register(meterRegistry)
+        .increment();
+    log.debug(
+        "Invalidated cache '{}'{} from instance {}",
+        message.cache(),
+        message.key() != null ? " key " + message.key() : "",
+        message.origin());
+  }
+
+  private void clearLocal(String cacheName) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package app.kaiz.shared.cache;
+
+/**
+ * Payload of one invalidation notification.
+ *
+ * @param origin id of the instance that sent it
+ * @param cache cache name
+ * @param key entry to evict, or {@code null} to clear the whole cache
+ * @param sentAt sender clock in epoch milliseconds
+ */
+record CacheInvalidationMessage(String origin, String cache, String key, long sentAt) {}
@@ -0,0 +1,14 @@
+package app.kaiz.shared.cache;
+
+/**
+ * Recomputes entries of one named cache in the background.
+ *
+ * <p>Caches configured with {@code refresh-after-write} keep serving the current value while a
+ * registered reloader computes its replacement. Without a reloader the setting is ignored.
+ */
+public interface CacheReloader {
+
+  String cacheName();
+
+  Object reload(Object key);
+}
@@ -0,0 +1,114 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.cache.CacheInvalidationBus;
+import app.kaiz.shared.observability.MappingTimingAspect;
+import app.kaiz.shared.outbox.OutboxRelay;
+import app.kaiz.shared.profiling.JfrProfiler;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.flywaydb.core.Flyway;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Keeps an AOT-processed build (the {@code fast-start} Maven profile) honest about the conditions
+ * it evaluated at build time.
+ *
+ * <p>Spring AOT decides {@code @ConditionalOnProperty} once, during the build, with the prod
+ * profile and the {@code aot.*} Maven properties. A runtime property that contradicts one of those
+ * decisions would otherwise be ignored silently, so startup fails instead and names the Maven
+ * property to rebuild with. Without AOT the check does nothing.
+ */
+@Configuration
+public class AotConfig {
+
+  /**
+   * Migrates on startup unless {@code spring.flyway.enabled=false}. Flyway's auto-configuration
+   * reads that property as a build-time condition under AOT, so the CDS training run, which has no
+   * database, switches migrations off here instead.
+   */
+  @Bean
+  public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+    boolean enabled = environment.getProperty("spring.flyway.enabled", Boolean.class, true);
+    return enabled ? Flyway::migrate : flyway -> {};
+  }
+
+  @Bean
+  public SmartInitializingSingleton aotConditionsCheck(
+      Environment environment, ListableBeanFactory beanFactory) {
+    return () -> {
+      if (AotDetector.useGeneratedArtifacts()) {
+        verify(environment, beanFactory);
+      }
+    };
+  }
+
+  /**
+   * Every property that decides a {@code @ConditionalOnProperty} in this application, with a bean
+   * that exists exactly when the condition held at build time. Properties only read at runtime,
+   * such as {@code kaiz.jobs.enabled}, need no entry.
+   */
+  static final List<Switch> SWITCHES =
+      List.of(
+          flag("kaiz.profiling.enabled", false, JfrProfiler.class),
+          flag("kaiz.read-replica.enabled", false, ReadReplicaConfig.class),
+          flag("kaiz.sql-monitoring.enabled", true, SqlMonitoringConfig.class),
+          flag("kaiz.cache-invalidation.enabled", true, CacheInvalidationBus.class),
+          flag("kaiz.outbox.relay-enabled", true, OutboxRelay.class),
+          flag("kaiz.request-timing.enabled", true, MappingTimingAspect.class),
+          new Switch(
+              "rate-limit.store",
+              "rate-limit.store=postgres",
+              environment -> "postgres".equals(environment.getProperty("rate-limit.store")),
+              ProxyManager.class,
+              "aot.rate-limit.store"));
+
+  /**
+   * @param property the property the condition reads
+   * @param setting how the condition is described in the startup error
+   * @param atRuntime whether the condition holds in the runtime environment
+   * @param beanType a bean registered exactly when the condition held at build time
+   * @param mavenProperty the {@code fast-start} property that sets it for the build
+   */
+  record Switch(
+      String property,
+      String setting,
+      Predicate<Environment> atRuntime,
+      Class<?> beanType,
+      String mavenProperty) {}
+
+  private static Switch flag(String property, boolean matchIfMissing, Class<?> beanType) {
+    return new Switch(
+        property,
+        property,
+        environment -> environment.getProperty(property, Boolean.class, matchIfMissing),
+        beanType,
+        "aot." + property.substring("kaiz.".length()));
+  }
+
+  static void verify(Environment environment, ListableBeanFactory beanFactory) {
+    List<String> mismatches = new ArrayList<>();
+    for (Switch condition : SWITCHES) {
+      boolean atRuntime = condition.atRuntime().test(environment);
+      boolean atBuild =
+          beanFactory.getBeanNamesForType(condition.beanType(), false, false).length > 0;
+      if (atRuntime != atBuild) {
+        mismatches.add(
+            String.format(
+                "%s is %s at runtime but was %s at build time (rebuild with -D%s)",
+                condition.setting(), atRuntime, atBuild, condition.mavenProperty()));
+      }
+    }
+    if (!mismatches.isEmpty()) {
+      throw new IllegalStateException(
+          "This AOT build was processed with different settings: " + String.join("; ", mismatches));
+    }
+  }
+}
@@ -1,18 +1,58 @@
 package app.kaiz.shared.config;
 
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import app.kaiz.shared.async.AsyncLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+/**
+ * {@code @Async} runs on bounded lanes; pick one with {@code @Async(AsyncConfig.AI_EXECUTOR)}.
+ * Unqualified {@code @Async} uses the notifications lane, which is also the {@code taskExecutor}.
+ *
+ * <p>Metrics, tagged by lane: {@code kaiz.async.queue.depth}, {@code kaiz.async.active}, {@code
+ * kaiz.async.wait} (submission to start), {@code kaiz.async.execution} and {@code
+ * kaiz.async.rejected}.
+ */
 @Configuration
 @EnableAsync
+@EnableConfigurationProperties(AsyncProperties.class)
 public class AsyncConfig {
 
-  @Bean(name = "taskExecutor")
-  public Executor taskExecutor() {
-    // Use virtual threads for async operations (Java 21)
-    return Executors.newVirtualThreadPerTaskExecutor();
+  public static final String NOTIFICATIONS = "notifications";
+  public static final String AI = "ai";
+  public static final String ANALYTICS = "analytics";
+
+  public static final String NOTIFICATIONS_EXECUTOR = "notificationsExecutor";
+  public static final String AI_EXECUTOR = "aiExecutor";
+  public static final String ANALYTICS_EXECUTOR = "analyticsExecutor";
+
+  private final AsyncProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public AsyncConfig(AsyncProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Bean(name = {NOTIFICATIONS_EXECUTOR, "taskExecutor"})
+  public AsyncLane notificationsExecutor() {
+    return lane(NOTIFICATIONS);
+  }
+
+  @Bean(name = AI_EXECUTOR)
+  public AsyncLane aiExecutor() {
+    return lane(AI);
+  }
+
+  @Bean(name = ANALYTICS_EXECUTOR)
+  public AsyncLane analyticsExecutor() {
+    return lane(ANALYTICS);
+  }
+
+  private AsyncLane lane(String name) {
+    return new AsyncLane(
+        name, properties.lanes().get(name), properties.drainTimeout(), meterRegistry);
   }
 }
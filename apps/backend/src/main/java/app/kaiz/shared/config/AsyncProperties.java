@@ -0,0 +1,46 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bounded executors behind {@code @Async}, one per lane. Lanes missing from {@code lanes} get the
+ * defaults below.
+ *
+ * @param drainTimeout how long shutdown waits for queued and running tasks before dropping them
+ * @param lanes per-lane limits, keyed by lane name ({@code notifications}, {@code ai}, {@code
+ *     analytics})
+ */
+@ConfigurationProperties(prefix = "kaiz.async")
+public record AsyncProperties(Duration drainTimeout, Map<String, Lane> lanes) {
+
+  public AsyncProperties {
+    drainTimeout = drainTimeout != null ? drainTimeout : Duration.ofSeconds(30);
+    Map<String, Lane> merged = new HashMap<>();
+    merged.put(AsyncConfig.NOTIFICATIONS, new Lane(8, 1_000, RejectionPolicy.CALLER_RUNS));
+    merged.put(AsyncConfig.AI, new Lane(4, 50, RejectionPolicy.ABORT));
+    merged.put(AsyncConfig.ANALYTICS, new Lane(2, 500, RejectionPolicy.DISCARD));
+    if (lanes != null) {
+      merged.putAll(lanes);
+    }
+    lanes = Map.copyOf(merged);
+  }
+
+  /**
+   * @param concurrency tasks running at once; also bounds the database connections a lane can hold
+   * @param queueCapacity tasks waiting for a free slot before {@code rejectionPolicy} applies
+   * @param rejectionPolicy what happens to a task when the queue is full or the lane has shut down
+   */
+  public record Lane(int concurrency, int queueCapacity, RejectionPolicy rejectionPolicy) {}
+
+  public enum RejectionPolicy {
+    /** Run the task on the submitting thread, slowing the producer down. */
+    CALLER_RUNS,
+    /** Throw {@code TaskRejectedException} to the submitter. */
+    ABORT,
+    /** Drop the task with a warning. */
+    DISCARD
+  }
+}
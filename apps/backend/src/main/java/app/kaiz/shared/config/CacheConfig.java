@@ -0,0 +1,70 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.cache.CacheReloader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine-backed {@link CacheManager} with a bounded, expiring policy per named cache.
+ *
+ * <p>All caches record statistics, which Spring Boot exports to Micrometer as {@code cache.gets},
+ * {@code cache.puts} and {@code cache.evictions} for every cache declared at startup.
+ *
+ * <p>Evictions are propagated to other instances by {@code CacheInvalidationBus} (see {@code
+ * kaiz.cache-invalidation}).
+ */
+@Configuration
+@EnableConfigurationProperties({CachePolicyProperties.class, CacheInvalidationProperties.class})
+@Slf4j
+public class CacheConfig {
+
+  @Bean
+  public CacheManager cacheManager(
+      CachePolicyProperties properties, ObjectProvider<CacheReloader> reloaderProvider) {
+    Map<String, CacheReloader> reloaders =
+        reloaderProvider
+            .orderedStream()
+            .collect(Collectors.toMap(CacheReloader::cacheName, Function.identity()));
+
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.setCaffeine(builder(properties.defaults()));
+
+    properties
+        .caches()
+        .forEach(
+            (name, policy) -> {
+              Caffeine<Object, Object> builder = builder(policy);
+              CacheReloader reloader = reloaders.get(name);
+              if (policy.refreshAfterWrite() != null && reloader != null) {
+                builder.refreshAfterWrite(policy.refreshAfterWrite());
+                cacheManager.registerCustomCache(name, builder.build(reloader::reload));
+              } else {
+                if (policy.refreshAfterWrite() != null) {
+                  log.warn("Cache '{}' has refresh-after-write but no CacheReloader", name);
+                }
+                cacheManager.registerCustomCache(name, builder.build());
+              }
+              log.debug("Configured cache '{}' with {}", name, policy);
+            });
+
+    return cacheManager;
+  }
+
+  private static Caffeine<Object, Object> builder(CachePolicyProperties.Policy policy) {
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().maximumSize(policy.maxSize()).recordStats();
+    if (policy.ttl() != null) {
+      builder.expireAfterWrite(policy.ttl());
+    }
+    return builder;
+  }
+}
@@ -0,0 +1,15 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cross-instance cache invalidation over PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * @param enabled whether evictions are broadcast to, and received from, other instances
+ * @param channel notification channel shared by all instances of one environment
+ */
+@ConfigurationProperties(prefix = "kaiz.cache-invalidation")
+public record CacheInvalidationProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("kaiz_cache_invalidation") String channel) {}
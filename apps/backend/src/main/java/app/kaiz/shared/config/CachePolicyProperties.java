@@ -0,0 +1,25 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-cache Caffeine policies. Caches without an entry under {@code caches} use {@code defaults}.
+ */
+@ConfigurationProperties(prefix = "kaiz.cache")
+public record CachePolicyProperties(Policy defaults, Map<String, Policy> caches) {
+
+  public CachePolicyProperties {
+    defaults = defaults != null ? defaults : new Policy(1_000, Duration.ofMinutes(10), null);
+    caches = caches != null ? caches : Map.of();
+  }
+
+  /**
+   * @param maxSize maximum number of entries
+   * @param ttl time after write at which an entry expires
+   * @param refreshAfterWrite time after write at which an entry is reloaded in the background, only
+   *     honoured when a {@code CacheReloader} exists for the cache
+   */
+  public record Policy(long maxSize, Duration ttl, Duration refreshAfterWrite) {}
+}
@@ -0,0 +1,14 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * How to find the client IP behind reverse proxies; used for per-IP rate limits and IP allow lists.
+ *
+ * @param trustedProxies number of proxies in front of the application that each append the address
+ *     they received the request from to {@code X-Forwarded-For}. 1 on Cloud Run, 2 with an external
+ *     load balancer in front of it, 0 when clients connect directly.
+ */
+@ConfigurationProperties(prefix = "kaiz.client-ip")
+public record ClientIpProperties(@DefaultValue("1") int trustedProxies) {}
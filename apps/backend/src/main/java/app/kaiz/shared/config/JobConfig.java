@@ -0,0 +1,15 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cluster-safe scheduled jobs. Methods annotated with {@code @ClusterJob} are run by {@code
+ * JobRunner}; {@code @Scheduled} is not enabled in this application.
+ *
+ * <p>Metrics: {@code kaiz.job.duration} (tagged by job and status), {@code kaiz.job.rows}, {@code
+ * kaiz.job.skipped} (tagged by reason) and {@code kaiz.job.last.success} (epoch seconds).
+ */
+@Configuration
+@EnableConfigurationProperties(JobProperties.class)
+public class JobConfig {}
@@ -0,0 +1,18 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cluster job runner ({@code @ClusterJob}).
+ *
+ * @param enabled whether this instance schedules jobs at all
+ * @param defaultTimeout run time limit for jobs that do not declare their own
+ * @param historyRetention how long {@code job_runs} rows are kept
+ */
+@ConfigurationProperties(prefix = "kaiz.jobs")
+public record JobProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10m") Duration defaultTimeout,
+    @DefaultValue("30d") Duration historyRetention) {}
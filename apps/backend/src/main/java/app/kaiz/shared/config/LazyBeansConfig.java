@@ -0,0 +1,62 @@
+package app.kaiz.shared.config;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Defers creation of heavyweight beans that most requests never touch until first use.
+ *
+ * <p>The Spring AI client stack (Anthropic API client, chat model, tool-calling and observation
+ * support) and springdoc's OpenAPI generation are only needed by the command-center AI endpoints
+ * and the API docs. Marking their definitions lazy takes them off the cold-start path; the first
+ * request that needs them pays the cost instead. Injection points that would otherwise force eager
+ * creation use {@link org.springframework.context.annotation.Lazy @Lazy}.
+ *
+ * <p>With Spring AOT the post-processor runs at build time and the lazy flag is baked into the
+ * generated bean definitions.
+ */
+@Configuration
+@Slf4j
+public class LazyBeansConfig {
+
+  static final List<String> LAZY_TYPE_PREFIXES =
+      List.of("org.springframework.ai.", "org.springdoc.", "io.swagger.v3.oas.models.OpenAPI");
+
+  @Bean
+  static BeanFactoryPostProcessor lazyHeavyweightBeans() {
+    return beanFactory -> {
+      int marked = markLazy(beanFactory);
+      log.debug("Marked {} heavyweight bean definitions as lazy", marked);
+    };
+  }
+
+  static int markLazy(ConfigurableListableBeanFactory beanFactory) {
+    int marked = 0;
+    for (String name : beanFactory.getBeanDefinitionNames()) {
+      BeanDefinition definition = beanFactory.getBeanDefinition(name);
+      if (definition.isLazyInit() || !definition.isSingleton()) {
+        continue;
+      }
+      Class<?> type = beanFactory.getType(name, false);
+      if (type != null && isHeavyweight(type.getName())) {
+        definition.setLazyInit(true);
+        marked++;
+      }
+    }
+    return marked;
+  }
+
+  private static boolean isHeavyweight(String typeName) {
+    for (String prefix : LAZY_TYPE_PREFIXES) {
+      if (typeName.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,17 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Server-Sent Events stream of new notifications and unread-count changes ({@code
+ * NotificationStreamRegistry}, {@code NotificationStreamListener}). Open streams hold no request
+ * thread; events are written on virtual threads.
+ *
+ * <p>Metrics: {@code kaiz.notification.stream.connections}, {@code kaiz.notification.stream.sent}
+ * (tagged by event), {@code kaiz.notification.stream.received} and {@code
+ * kaiz.notification.stream.dropped}.
+ */
+@Configuration
+@EnableConfigurationProperties(NotificationStreamProperties.class)
+public class NotificationStreamConfig {}
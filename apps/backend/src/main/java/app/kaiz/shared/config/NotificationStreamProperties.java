@@ -0,0 +1,32 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Live notification stream ({@code GET /api/v1/notifications/stream}), fanned out between instances
+ * over PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * @param channel notification channel shared by all instances of one environment
+ * @param timeout how long one stream stays open; the client then reconnects with {@code
+ *     Last-Event-ID}
+ * @param heartbeatInterval interval of the comment lines that keep idle proxies from closing a
+ *     stream and reveal dead clients
+ * @param reconnectTime reconnect delay advertised to clients with the SSE {@code retry} field
+ * @param replayOverlap how far before the {@code Last-Event-ID} notification a resume looks back,
+ *     to catch notifications that committed late; clients drop the duplicates by id
+ * @param replayLimit most notifications replayed on resume; beyond that the client is told to
+ *     reload instead
+ * @param maxConnectionsPerUser open streams per user on one instance; the oldest is closed when a
+ *     new one exceeds this
+ */
+@ConfigurationProperties(prefix = "kaiz.notification-stream")
+public record NotificationStreamProperties(
+    @DefaultValue("kaiz_notification_stream") String channel,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("25s") Duration heartbeatInterval,
+    @DefaultValue("3s") Duration reconnectTime,
+    @DefaultValue("5s") Duration replayOverlap,
+    @DefaultValue("100") int replayLimit,
+    @DefaultValue("5") int maxConnectionsPerUser) {}
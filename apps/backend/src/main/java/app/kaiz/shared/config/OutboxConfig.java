@@ -0,0 +1,17 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Transactional outbox. Services enqueue through {@code OutboxPublisher}; {@code OutboxRelay}
+ * delivers to {@code @EventListener}s unless {@code kaiz.outbox.relay-enabled=false}.
+ *
+ * <p>Metrics: {@code kaiz.outbox.delivered}, {@code kaiz.outbox.failed} and {@code
+ * kaiz.outbox.dead} (throughput, tagged by event), {@code kaiz.outbox.lag} (commit to delivery) and
+ * {@code kaiz.outbox.oldest.pending} (seconds the oldest undelivered event has waited) and {@code
+ * kaiz.outbox.oldest.held} (seconds the oldest event has waited for older open transactions).
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {}
@@ -0,0 +1,27 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Delivery of transactional outbox events by {@code OutboxRelay}.
+ *
+ * @param relayEnabled whether this instance relays events; writing to the outbox is always on
+ * @param pollInterval delay between polls when the outbox has been drained
+ * @param batchSize events read per relay transaction
+ * @param maxAttempts delivery attempts before an event is parked with {@code failed_at} set
+ * @param maxBackoff upper bound of the exponential delay between attempts
+ * @param retention how long delivered events are kept before being deleted
+ * @param maxOrderingWait how long a committed event waits for older transactions that are still
+ *     running before it is delivered anyway, possibly ahead of their events
+ */
+@ConfigurationProperties(prefix = "kaiz.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean relayEnabled,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("5m") Duration maxBackoff,
+    @DefaultValue("7d") Duration retention,
+    @DefaultValue("1m") Duration maxOrderingWait) {}
@@ -0,0 +1,92 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.config.PasswordHashingProperties.Algorithm;
+import app.kaiz.shared.config.PasswordHashingProperties.Argon2;
+import app.kaiz.shared.config.PasswordHashingProperties.Bcrypt;
+import app.kaiz.shared.security.PasswordHasher;
+import app.kaiz.shared.security.PasswordWorkFactor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoding and the {@link PasswordHasher} pool it runs on.
+ *
+ * <p>New hashes are prefixed with their algorithm ({@code {bcrypt}} or {@code {argon2}}). Hashes
+ * without a prefix predate this and are plain BCrypt. Any stored hash whose algorithm or work
+ * factor differs from what new hashes get is replaced on the user's next successful login.
+ *
+ * <p>Metrics: {@code kaiz.password.queue.depth}, {@code kaiz.password.active}, {@code
+ * kaiz.password.wait}, {@code kaiz.password.duration} (tagged by operation) and {@code
+ * kaiz.password.rejected}.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHashingConfig {
+
+  @Bean
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+    boolean calibrate = properties.calibrate();
+    Algorithm algorithm = properties.algorithm();
+
+    Bcrypt bcrypt = properties.bcrypt();
+    int cost =
+        calibrate && algorithm == Algorithm.BCRYPT
+            ? PasswordWorkFactor.bcryptCost(
+                properties.targetLatency(), bcrypt.minCost(), bcrypt.maxCost())
+            : bcrypt.cost();
+
+    Argon2 argon2 = properties.argon2();
+    int iterations =
+        calibrate && algorithm == Algorithm.ARGON2
+            ? PasswordWorkFactor.argon2Iterations(
+                properties.targetLatency(),
+                argon2.memoryKib(),
+                argon2.parallelism(),
+                argon2.minIterations(),
+                argon2.maxIterations())
+            : argon2.iterations();
+
+    BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder(cost);
+    Map<String, PasswordEncoder> encoders =
+        Map.of(
+            Algorithm.BCRYPT.id(),
+            bcryptEncoder,
+            Algorithm.ARGON2.id(),
+            new Argon2PasswordEncoder(
+                PasswordWorkFactor.ARGON2_SALT_LENGTH,
+                PasswordWorkFactor.ARGON2_HASH_LENGTH,
+                argon2.parallelism(),
+                argon2.memoryKib(),
+                iterations));
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm.id(), encoders);
+    encoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+
+    if (algorithm == Algorithm.BCRYPT) {
+      log.info("Password hashing: bcrypt cost {} (calibrated: {})", cost, calibrate);
+    } else {
+      log.info(
+          "Password hashing: argon2id {} KiB, {} iterations (calibrated: {})",
+          argon2.memoryKib(),
+          iterations,
+          calibrate);
+    }
+    return encoder;
+  }
+
+  @Bean
+  public PasswordHasher passwordHasher(
+      PasswordEncoder passwordEncoder,
+      PasswordHashingProperties properties,
+      MeterRegistry meterRegistry) {
+    return new PasswordHasher(passwordEncoder, properties.pool(), meterRegistry);
+  }
+}
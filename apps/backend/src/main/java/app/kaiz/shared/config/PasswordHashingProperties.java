@@ -0,0 +1,76 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Password hashing: algorithm, work factor and the dedicated pool that runs it.
+ *
+ * @param algorithm algorithm for new hashes; stored hashes of the other one are upgraded on login
+ * @param calibrate whether to pick the work factor at startup by timing the host, within the bounds
+ *     below; otherwise the configured cost and iterations are used as they are
+ * @param targetLatency time one hash should take on this host when calibrating
+ * @param bcrypt BCrypt work factor
+ * @param argon2 Argon2id parameters
+ * @param pool the bounded executor hashing runs on
+ */
+@ConfigurationProperties(prefix = "kaiz.password-hashing")
+public record PasswordHashingProperties(
+    @DefaultValue("bcrypt") Algorithm algorithm,
+    @DefaultValue("true") boolean calibrate,
+    @DefaultValue("250ms") Duration targetLatency,
+    @DefaultValue Bcrypt bcrypt,
+    @DefaultValue Argon2 argon2,
+    @DefaultValue Pool pool) {
+
+  public enum Algorithm {
+    BCRYPT("bcrypt"),
+    ARGON2("argon2");
+
+    private final String id;
+
+    Algorithm(String id) {
+      this.id = id;
+    }
+
+    /** Prefix of the stored hash, as in {@code {bcrypt}$2a$...}. */
+    public String id() {
+      return id;
+    }
+  }
+
+  /**
+   * @param cost log2 rounds when not calibrating
+   * @param minCost lowest cost calibration may choose, however slow the host
+   * @param maxCost highest cost calibration may choose
+   */
+  public record Bcrypt(
+      @DefaultValue("12") int cost,
+      @DefaultValue("10") int minCost,
+      @DefaultValue("16") int maxCost) {}
+
+  /**
+   * @param memoryKib memory per hash; fixed, calibration only varies iterations
+   * @param parallelism lanes per hash; 1 since the pool already spreads hashes over cores
+   * @param iterations passes when not calibrating
+   * @param minIterations lowest pass count calibration may choose
+   * @param maxIterations highest pass count calibration may choose
+   */
+  public record Argon2(
+      @DefaultValue("19456") int memoryKib,
+      @DefaultValue("1") int parallelism,
+      @DefaultValue("2") int iterations,
+      @DefaultValue("2") int minIterations,
+      @DefaultValue("10") int maxIterations) {}
+
+  /**
+   * @param threads platform threads hashing in parallel; 0 means one per available core
+   * @param queueCapacity hashes allowed to wait for a thread before new ones are rejected
+   * @param retryAfter value of the {@code Retry-After} header when a hash is rejected
+   */
+  public record Pool(
+      @DefaultValue("0") int threads,
+      @DefaultValue("32") int queueCapacity,
+      @DefaultValue("2s") Duration retryAfter) {}
+}
@@ -0,0 +1,14 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Shared PostgreSQL {@code LISTEN} connection ({@code PgNotifyListener}), dispatching by channel to
+ * every {@code PgNotifySubscriber} bean.
+ *
+ * <p>Metrics: {@code kaiz.pgnotify.reconnects}; each subscriber counts what it receives.
+ */
+@Configuration
+@EnableConfigurationProperties(PgNotifyProperties.class)
+public class PgNotifyConfig {}
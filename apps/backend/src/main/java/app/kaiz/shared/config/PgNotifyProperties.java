@@ -0,0 +1,20 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The one PostgreSQL {@code LISTEN} connection each instance keeps for cache invalidation, token
+ * revocation and the notification stream.
+ *
+ * @param pollTimeout how long the listener waits for notifications before checking for shutdown
+ * @param reconnectDelay pause before re-opening a lost listener connection
+ * @param startupTimeout how long startup waits for the first connection, and for every subscriber
+ *     to catch up on it, before serving requests without them
+ */
+@ConfigurationProperties(prefix = "kaiz.pg-notify")
+public record PgNotifyProperties(
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("5s") Duration reconnectDelay,
+    @DefaultValue("10s") Duration startupTimeout) {}
@@ -0,0 +1,35 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.profiling.JfrProfiler;
+import app.kaiz.shared.profiling.ProfilingEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JFR profiling through {@code /actuator/profiling}, only when {@code kaiz.profiling.enabled=true}.
+ * Access needs the admin role and, when {@code kaiz.profiling.allowed-ips} is set, an allow-listed
+ * IP ({@code ProfilingIpFilter}).
+ *
+ * <p>Metrics: {@code kaiz.profiling.slo.dumps} (continuous recordings dumped on an SLO breach).
+ */
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+  @Bean
+  @ConditionalOnProperty(prefix = "kaiz.profiling", name = "enabled", havingValue = "true")
+  public JfrProfiler jfrProfiler(ProfilingProperties properties, MeterRegistry meterRegistry)
+      throws IOException {
+    return new JfrProfiler(properties, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "kaiz.profiling", name = "enabled", havingValue = "true")
+  public ProfilingEndpoint profilingEndpoint(JfrProfiler jfrProfiler) {
+    return new ProfilingEndpoint(jfrProfiler);
+  }
+}
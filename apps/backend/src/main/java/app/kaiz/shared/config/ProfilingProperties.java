@@ -0,0 +1,51 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * On-demand and continuous JFR profiling behind {@code /actuator/profiling}.
+ *
+ * @param enabled whether the profiling endpoint and continuous recording exist at all
+ * @param allowedIps client IPs allowed to reach the endpoint (exact or {@code 1.2.3.*}); empty
+ *     allows any IP, still subject to the admin role
+ * @param defaultProfile JFR configuration used when a request names none ({@code default} or {@code
+ *     profile})
+ * @param maxDuration upper bound of an on-demand recording
+ * @param topN entries kept per hot-method, allocation and lock-contention list
+ * @param continuous always-on low-overhead recording
+ * @param slo automatic dump of the continuous recording when request latency breaches an SLO
+ */
+@ConfigurationProperties(prefix = "kaiz.profiling")
+public record ProfilingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<String> allowedIps,
+    @DefaultValue("profile") String defaultProfile,
+    @DefaultValue("5m") Duration maxDuration,
+    @DefaultValue("20") int topN,
+    @DefaultValue Continuous continuous,
+    @DefaultValue Slo slo) {
+
+  /**
+   * @param enabled whether a rolling recording runs from startup
+   * @param maxAge how much history the rolling recording keeps
+   * @param maxSize upper bound of the rolling recording's size
+   */
+  public record Continuous(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("10m") Duration maxAge,
+      @DefaultValue("100MB") DataSize maxSize) {}
+
+  /**
+   * @param p99Threshold request p99 above which the continuous recording is dumped
+   * @param checkInterval how often the p99 is checked
+   * @param cooldown minimum time between two automatic dumps
+   */
+  public record Slo(
+      @DefaultValue("2s") Duration p99Threshold,
+      @DefaultValue("30s") Duration checkInterval,
+      @DefaultValue("30m") Duration cooldown) {}
+}
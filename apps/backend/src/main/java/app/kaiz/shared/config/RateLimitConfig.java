@@ -0,0 +1,33 @@
+package app.kaiz.shared.config;
+
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.postgresql.PostgreSQLSelectForUpdateBasedProxyManager;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+  /**
+   * Keeps bucket state in the {@code rate_limit_buckets} table so that limits hold across all Cloud
+   * Run instances. Only created when {@code rate-limit.store=postgres}.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "rate-limit.store", havingValue = "postgres")
+  public ProxyManager<String> rateLimitProxyManager(DataSource dataSource) {
+    SQLProxyConfiguration<String> configuration =
+        SQLProxyConfiguration.builder()
+            .withTableSettings(
+                BucketTableSettings.customSettings("rate_limit_buckets", "id", "state"))
+            .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+            .build(dataSource);
+    return new PostgreSQLSelectForUpdateBasedProxyManager<>(configuration);
+  }
+}
@@ -0,0 +1,39 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Token-bucket limits applied by {@code RateLimitFilter}.
+ *
+ * <p>{@code auth} throttles anonymous calls to {@code /api/v1/auth/**} per client IP, {@code api}
+ * throttles every authenticated request per user.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    Limit auth,
+    Limit api,
+    @DefaultValue("memory") Store store,
+    @DefaultValue("100000") long maxBuckets,
+    @DefaultValue("10m") Duration idleTimeout) {
+
+  /**
+   * @param capacity maximum burst size
+   * @param refillTokens tokens added back every {@code refillDuration}
+   * @param refillDuration refill period in seconds
+   */
+  public record Limit(long capacity, long refillTokens, long refillDuration) {
+
+    public Duration refillPeriod() {
+      return Duration.ofSeconds(refillDuration);
+    }
+  }
+
+  /** Where bucket state lives: per instance, or shared across instances in PostgreSQL. */
+  public enum Store {
+    MEMORY,
+    POSTGRES
+  }
+}
@@ -0,0 +1,104 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.persistence.ReadReplicaRoutingDataSource;
+import app.kaiz.shared.persistence.ReplicaLagGuard;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * Replaces the auto-configured pool with a primary pool plus one pool per read replica, routed by
+ * {@link ReadReplicaRoutingDataSource}.
+ *
+ * <p>Every pool reports Hikari metrics ({@code hikaricp.connections.*}) tagged with its own pool
+ * name, so replica saturation shows up separately from the primary.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "kaiz.read-replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig implements DisposableBean {
+
+  private static final String PRIMARY_POOL = "kaiz-primary";
+  private static final String REPLICA_POOL_PREFIX = "kaiz-replica-";
+
+  private final List<HikariDataSource> pools = new ArrayList<>();
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      DataSourceProperties dataSourceProperties,
+      ReadReplicaProperties replicaProperties,
+      Environment environment,
+      MeterRegistry meterRegistry) {
+    List<ReadReplicaProperties.Replica> replicas =
+        replicaProperties.replicas().stream()
+            .filter(replica -> StringUtils.hasText(replica.url()))
+            .toList();
+    if (replicas.isEmpty()) {
+      throw new IllegalStateException(
+          "kaiz.read-replica.enabled is true but no kaiz.read-replica.replicas[].url is set");
+    }
+    MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+    HikariDataSource primary =
+        dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    primary.setPoolName(PRIMARY_POOL);
+    primary.setMetricsTrackerFactory(metrics);
+    pools.add(primary);
+
+    List<DataSource> replicaPools = new ArrayList<>();
+    for (int i = 0; i < replicas.size(); i++) {
+      ReadReplicaProperties.Replica replica = replicas.get(i);
+      HikariDataSource pool = new HikariDataSource();
+      pool.setPoolName(REPLICA_POOL_PREFIX + i);
+      pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+      pool.setJdbcUrl(replica.url());
+      pool.setUsername(
+          replica.username() != null
+              ? replica.username()
+              : dataSourceProperties.determineUsername());
+      pool.setPassword(
+          replica.password() != null
+              ? replica.password()
+              : dataSourceProperties.determinePassword());
+      pool.setMaximumPoolSize(replica.maximumPoolSize());
+      pool.setReadOnly(true);
+      pool.setMetricsTrackerFactory(metrics);
+      pools.add(pool);
+      replicaPools.add(pool);
+    }
+
+    ReplicaLagGuard lagGuard =
+        new ReplicaLagGuard(
+            replicaProperties.readYourWritesWindow(), replicaProperties.maxTrackedUsers());
+    log.info(
+        "Routing read-only transactions to {} replica(s), read-your-writes window {}",
+        replicaPools.size(),
+        replicaProperties.readYourWritesWindow());
+    return new LazyConnectionDataSourceProxy(
+        new ReadReplicaRoutingDataSource(primary, replicaPools, lagGuard));
+  }
+
+  @Override
+  public void destroy() {
+    pools.forEach(HikariDataSource::close);
+  }
+}
@@ -0,0 +1,33 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Read-replica routing for {@code @Transactional(readOnly = true)} work.
+ *
+ * @param enabled whether read-only transactions are routed to replicas at all
+ * @param readYourWritesWindow how long a client's reads stay on the primary after it wrote, to
+ *     cover replication lag; across instances only for clients that echo the {@code X-Last-Write}
+ *     header (see {@link app.kaiz.shared.persistence.ReplicaLagGuard})
+ * @param maxTrackedUsers upper bound on users remembered by the replica-lag guard
+ * @param replicas replica pools, used round-robin
+ */
+@ConfigurationProperties(prefix = "kaiz.read-replica")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration readYourWritesWindow,
+    @DefaultValue("100000") long maxTrackedUsers,
+    @DefaultValue List<Replica> replicas) {
+
+  /**
+   * @param url JDBC url of the replica
+   * @param username defaults to {@code spring.datasource.username}
+   * @param password defaults to {@code spring.datasource.password}
+   * @param maximumPoolSize Hikari pool size for this replica
+   */
+  public record Replica(
+      String url, String username, String password, @DefaultValue("10") int maximumPoolSize) {}
+}
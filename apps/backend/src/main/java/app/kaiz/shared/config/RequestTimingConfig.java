@@ -0,0 +1,41 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.observability.RequestTiming;
+import app.kaiz.shared.observability.RequestTiming.Phase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Per-request latency breakdown: {@code db} (JDBC time, needs {@code kaiz.sql-monitoring}), {@code
+ * ai} (chat-model calls), {@code mapping} ({@code *Mapper} beans) and {@code serialization}
+ * (Jackson). Recorded as {@code kaiz.request.phase}, tagged by route and phase, and returned as a
+ * {@code Server-Timing} header on debug requests.
+ */
+@Configuration
+@EnableConfigurationProperties(RequestTimingProperties.class)
+public class RequestTimingConfig {
+
+  /** Replaces Boot's default JSON converter with one that times response serialization. */
+  @Bean
+  public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new MappingJackson2HttpMessageConverter(objectMapper) {
+      @Override
+      protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+          throws IOException {
+        RequestTiming.start(Phase.SERIALIZATION);
+        try {
+          super.writeInternal(object, type, outputMessage);
+        } finally {
+          RequestTiming.stop(Phase.SERIALIZATION);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,30 @@
+package app.kaiz.shared.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request latency breakdown recorded by {@code RequestObservationFilter}.
+ *
+ * @param enabled whether phase timers are recorded and {@code Server-Timing} can be requested
+ * @param allowDebugHeader whether an {@code X-Debug-Timing} request header is enough to get a
+ *     {@code Server-Timing} response header; otherwise only access tokens carrying a {@code debug}
+ *     claim get one
+ * @param debugUsers emails of the users whose access tokens carry the {@code debug} claim
+ */
+@ConfigurationProperties(prefix = "kaiz.request-timing")
+public record RequestTimingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("true") boolean allowDebugHeader,
+    List<String> debugUsers) {
+
+  public RequestTimingProperties {
+    debugUsers = debugUsers != null ? debugUsers : List.of();
+  }
+
+  /** Whether access tokens issued to this user should carry the {@code debug} claim. */
+  public boolean isDebugUser(String email) {
+    return debugUsers.stream().anyMatch(debugUser -> debugUser.equalsIgnoreCase(email));
+  }
+}
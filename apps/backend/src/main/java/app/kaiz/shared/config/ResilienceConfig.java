@@ -0,0 +1,46 @@
+package app.kaiz.shared.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bulkheads ({@code BulkheadAspect}) and pool-driven load shedding ({@code PoolSaturationMonitor},
+ * {@code LoadSheddingFilter}). The {@code poolSaturation} health indicator is part of the readiness
+ * group.
+ *
+ * <p>Metrics: {@code kaiz.bulkhead.available}, {@code kaiz.bulkhead.waiting} and {@code
+ * kaiz.bulkhead.rejected} (tagged by bulkhead), {@code kaiz.loadshed.acquire.p99}, {@code
+ * kaiz.loadshed.ratio} and {@code kaiz.loadshed.rejected}.
+ */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+  /**
+   * Publishes a short-window p99 for Hikari's acquisition timer, which the saturation monitor
+   * reads. The window is kept to about ten seconds so shedding follows the pool closely.
+   */
+  @Bean
+  public MeterFilter hikariAcquirePercentiles() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(
+          Meter.Id id, DistributionStatisticConfig config) {
+        if (!id.getName().equals("hikaricp.connections.acquire")) {
+          return config;
+        }
+        return DistributionStatisticConfig.builder()
+            .percentiles(0.99)
+            .expiry(Duration.ofSeconds(10))
+            .bufferLength(2)
+            .build()
+            .merge(config);
+      }
+    };
+  }
+}
@@ -0,0 +1,58 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Protection of the connection pool under overload: per-subsystem bulkheads and pool-driven load
+ * shedding.
+ *
+ * @param bulkheads semaphores keyed by subsystem name, entered before transactional service calls
+ * @param shedding rejection of incoming requests while the connection pool is saturated
+ */
+@ConfigurationProperties(prefix = "kaiz.resilience")
+public record ResilienceProperties(
+    Map<String, Bulkhead> bulkheads, @DefaultValue Shedding shedding) {
+
+  public ResilienceProperties {
+    bulkheads = bulkheads != null ? bulkheads : Map.of();
+  }
+
+  /**
+   * @param modules top-level packages under {@code app.kaiz} whose services share this bulkhead
+   * @param methods service methods, as {@code AuthService.login}, to limit the bulkhead to; empty
+   *     for every transactional method in the modules
+   * @param maxConcurrent calls allowed in at once
+   * @param maxWait how long a call waits for a permit before failing with 503
+   */
+  public record Bulkhead(
+      List<String> modules, List<String> methods, int maxConcurrent, Duration maxWait) {
+
+    public Bulkhead {
+      modules = modules != null ? modules : List.of();
+      methods = methods != null ? methods : List.of();
+      maxWait = maxWait != null ? maxWait : Duration.ofSeconds(1);
+    }
+  }
+
+  /**
+   * @param enabled whether {@code LoadSheddingFilter} may reject requests
+   * @param acquireThreshold p99 of Hikari connection acquisition above which the pool counts as
+   *     saturated
+   * @param maxPending threads waiting for a connection above which the pool counts as saturated
+   * @param sampleInterval how often pool metrics are sampled
+   * @param maxShedRatio upper bound of the share of requests rejected, so some traffic still probes
+   *     recovery
+   * @param retryAfter value of the {@code Retry-After} header on rejected requests
+   */
+  public record Shedding(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("250ms") Duration acquireThreshold,
+      @DefaultValue("20") int maxPending,
+      @DefaultValue("1s") Duration sampleInterval,
+      @DefaultValue("0.9") double maxShedRatio,
+      @DefaultValue("2s") Duration retryAfter) {}
+}
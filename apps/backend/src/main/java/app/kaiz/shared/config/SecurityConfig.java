@@ -1,8 +1,12 @@
 package app.kaiz.shared.config;
 
+import app.kaiz.shared.persistence.ReplicaLagGuard;
+import app.kaiz.shared.ratelimit.RateLimitFilter;
 import app.kaiz.shared.security.JwtAuthenticationEntryPoint;
 import app.kaiz.shared.security.JwtAuthenticationFilter;
+import app.kaiz.shared.security.ProfilingIpFilter;
 import app.kaiz.shared.security.SwaggerIpFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,8 +21,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -28,13 +30,15 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, ClientIpProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
   private final SwaggerIpFilter swaggerIpFilter;
+  private final ProfilingIpFilter profilingIpFilter;
+  private final RateLimitFilter rateLimitFilter;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -47,6 +51,9 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             auth ->
                 auth
+                    // Async re-dispatch of a request that was authorized when it started (SSE)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     // Public auth endpoints (signup, login, password reset) - Anyone can access
                     .requestMatchers("/api/v1/auth/register")
                     .permitAll()
@@ -69,6 +76,12 @@ public class SecurityConfig {
                     // Prometheus metrics - IP restricted via filter
                     .requestMatchers("/actuator/prometheus")
                     .permitAll()
+                    // Per-endpoint SQL statistics - admins only
+                    .requestMatchers("/actuator/sqlstats")
+                    .hasRole("ADMIN")
+                    // JFR profiling - admins only, IP restricted via ProfilingIpFilter
+                    .requestMatchers("/actuator/profiling", "/actuator/profiling/**")
+                    .hasRole("ADMIN")
                     // OpenAPI documentation - IP restricted via SwaggerIpFilter
                     .requestMatchers("/swagger-ui/**")
                     .permitAll()
@@ -86,7 +99,10 @@ public class SecurityConfig {
                     .authenticated())
         // Swagger IP filter runs first to block unauthorized swagger access
         .addFilterBefore(swaggerIpFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(profilingIpFilter, UsernamePasswordAuthenticationFilter.class)
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        // Rate limiting needs the authenticated principal, so it runs after JWT authentication
+        .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
         .headers(
             headers ->
                 headers
@@ -103,7 +119,7 @@ public class SecurityConfig {
     configuration.setAllowedOriginPatterns(List.of("*"));
     configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
     configuration.setAllowedHeaders(List.of("*"));
-    configuration.setExposedHeaders(List.of("Authorization"));
+    configuration.setExposedHeaders(List.of("Authorization", ReplicaLagGuard.LAST_WRITE_HEADER));
     configuration.setAllowCredentials(true);
     configuration.setMaxAge(3600L);
 
@@ -112,11 +128,6 @@ public class SecurityConfig {
     return source;
   }
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
-  }
-
   @Bean
   public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig)
       throws Exception {
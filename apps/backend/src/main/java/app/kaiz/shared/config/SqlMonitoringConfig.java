@@ -0,0 +1,60 @@
+package app.kaiz.shared.config;
+
+import app.kaiz.shared.observability.SqlMetricsInterceptor;
+import app.kaiz.shared.observability.SqlStatementInspector;
+import app.kaiz.shared.observability.SqlStatsEndpoint;
+import app.kaiz.shared.observability.SqlStatsRegistry;
+import app.kaiz.shared.observability.SqlTimingSessionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Counts SQL statements and JDBC time per HTTP request, flags repeated statements (likely N+1
+ * queries) and exposes the worst endpoints at {@code /actuator/sqlstats}.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMonitoringProperties.class)
+@ConditionalOnProperty(
+    prefix = "kaiz.sql-monitoring",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SqlMonitoringConfig implements WebMvcConfigurer {
+
+  private final SqlStatsRegistry sqlStatsRegistry;
+
+  public SqlMonitoringConfig(MeterRegistry meterRegistry, SqlMonitoringProperties properties) {
+    this.sqlStatsRegistry = new SqlStatsRegistry(meterRegistry, properties);
+  }
+
+  @Bean
+  public SqlStatsRegistry sqlStatsRegistry() {
+    return sqlStatsRegistry;
+  }
+
+  @Bean
+  public SqlStatsEndpoint sqlStatsEndpoint() {
+    return new SqlStatsEndpoint(sqlStatsRegistry);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer sqlMonitoringHibernateCustomizer() {
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+      properties.put(
+          AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+    };
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new SqlMetricsInterceptor(sqlStatsRegistry));
+  }
+}
@@ -0,0 +1,18 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request SQL statement monitoring.
+ *
+ * @param enabled whether statements are counted per request
+ * @param repeatedStatementThreshold how often one SQL shape may run in a single request before it
+ *     is reported as a likely N+1
+ * @param topEndpoints how many endpoints {@code /actuator/sqlstats} lists
+ */
+@ConfigurationProperties(prefix = "kaiz.sql-monitoring")
+public record SqlMonitoringProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10") int repeatedStatementThreshold,
+    @DefaultValue("20") int topEndpoints) {}
@@ -0,0 +1,14 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Streamed listings ({@code JsonStreamWriter}). Their service methods run under the {@code
+ * downloads} bulkhead rather than their module's, so slow downloads cannot take every permit.
+ *
+ * <p>Metrics: {@code kaiz.streaming.cut.off} (responses that exceeded the maximum duration).
+ */
+@Configuration
+@EnableConfigurationProperties(StreamingProperties.class)
+public class StreamingConfig {}
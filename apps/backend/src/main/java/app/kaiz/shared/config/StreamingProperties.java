@@ -0,0 +1,15 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Listings streamed straight into the response by {@code JsonStreamWriter}.
+ *
+ * @param maxDuration how long one streamed response may take before it is cut off, releasing the
+ *     database connection a slow reader would otherwise hold; a single blocked write is bounded by
+ *     {@code server.tomcat.connection-timeout} on top of this
+ */
+@ConfigurationProperties(prefix = "kaiz.streaming")
+public record StreamingProperties(@DefaultValue("2m") Duration maxDuration) {}
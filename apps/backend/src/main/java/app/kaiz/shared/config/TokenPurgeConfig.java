@@ -0,0 +1,15 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chunked purge of dead authentication tokens ({@code TokenPurgeScheduler}), run hourly as the
+ * {@code auth-token-purge} cluster job.
+ *
+ * <p>Metrics: {@code kaiz.token.purge.rows} and {@code kaiz.token.purge.duration}, both tagged by
+ * table, next to the usual {@code kaiz.job.*} metrics of the job.
+ */
+@Configuration
+@EnableConfigurationProperties(TokenPurgeProperties.class)
+public class TokenPurgeConfig {}
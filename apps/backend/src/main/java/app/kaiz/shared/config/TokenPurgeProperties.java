@@ -0,0 +1,19 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Purge of expired and spent refresh tokens, password reset tokens and email verification codes.
+ *
+ * @param chunkSize rows deleted per statement; each chunk is its own short transaction
+ * @param pause pause between chunks, so vacuum and concurrent logins keep up
+ * @param retention how long revoked, used or verified rows are kept before being purged, so a
+ *     replayed token still gets a precise error shortly after it was spent
+ */
+@ConfigurationProperties(prefix = "kaiz.token-purge")
+public record TokenPurgeProperties(
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("200ms") Duration pause,
+    @DefaultValue("1d") Duration retention) {}
@@ -0,0 +1,17 @@
+package app.kaiz.shared.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Access-token revocation ({@code TokenRevocationList}, {@code TokenRevocationListener}). Checked
+ * by {@code JwtAuthenticationFilter} on every authenticated request, from memory only.
+ *
+ * <p>Metrics: {@code kaiz.token.revocation.size} (tagged by kind: token or user), {@code
+ * kaiz.token.revocation.lookup}, {@code kaiz.token.revocation.rejected}, {@code
+ * kaiz.token.revocation.received} and {@code kaiz.token.revocation.current} (0 while tokens are
+ * refused because the list is not loaded or out of sync; readiness is down then too).
+ */
+@Configuration
+@EnableConfigurationProperties(TokenRevocationProperties.class)
+public class TokenRevocationConfig {}
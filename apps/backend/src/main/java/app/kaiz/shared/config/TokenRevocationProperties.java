@@ -0,0 +1,19 @@
+package app.kaiz.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Access-token revocation list, synced between instances over PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * @param channel notification channel shared by all instances of one environment
+ * @param maxStaleness how long access tokens are still accepted after the listener connection was
+ *     lost; after that they are refused until the list has been reloaded
+ * @param retryAfter {@code Retry-After} sent with the 503 for a token that cannot be checked
+ */
+@ConfigurationProperties(prefix = "kaiz.token-revocation")
+public record TokenRevocationProperties(
+    @DefaultValue("kaiz_token_revocation") String channel,
+    @DefaultValue("10s") Duration maxStaleness,
+    @DefaultValue("5s") Duration retryAfter) {}
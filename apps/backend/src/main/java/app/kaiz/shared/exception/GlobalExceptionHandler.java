@@ -28,6 +28,17 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(ex.getStatus()).body(response);
   }
 
+  @ExceptionHandler(ServiceOverloadedException.class)
+  public ResponseEntity<ErrorResponse> handleServiceOverloaded(
+      ServiceOverloadedException ex, HttpServletRequest request) {
+    log.warn("Service overloaded: {}", request.getRequestURI());
+    ErrorResponse response =
+        new ErrorResponse(ex.getCode(), ex.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(ex.getStatus())
+        .header("Retry-After", String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+        .body(response);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationException(
       MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,17 @@
+package app.kaiz.shared.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/** The request was turned away to protect a saturated resource; the client should retry later. */
+@Getter
+public class ServiceOverloadedException extends ApiException {
+
+  private final Duration retryAfter;
+
+  public ServiceOverloadedException(String message, Duration retryAfter) {
+    super(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_OVERLOADED", message);
+    this.retryAfter = retryAfter;
+  }
+}
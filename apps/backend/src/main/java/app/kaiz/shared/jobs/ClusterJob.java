@@ -0,0 +1,29 @@
+package app.kaiz.shared.jobs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean method as a cluster-wide scheduled job, run by {@link JobRunner} on exactly one
+ * instance per cron tick. Use instead of {@code @Scheduled}.
+ *
+ * <p>The method takes no arguments. If it returns a number, that is recorded as the rows the run
+ * affected.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterJob {
+
+  /** Unique job name, used for the advisory lock, {@code job_runs} and metric tags. */
+  String name();
+
+  /** Spring cron expression, evaluated in the server time zone. */
+  String cron();
+
+  /** Maximum run time, e.g. {@code "5m"}; empty means {@code kaiz.jobs.default-timeout}. */
+  String timeout() default "";
+}
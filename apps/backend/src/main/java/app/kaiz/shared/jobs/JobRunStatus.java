@@ -0,0 +1,9 @@
+package app.kaiz.shared.jobs;
+
+/** Outcome of one job run as stored in {@code job_runs.status}. */
+public enum JobRunStatus {
+  RUNNING,
+  SUCCEEDED,
+  FAILED,
+  TIMED_OUT
+}
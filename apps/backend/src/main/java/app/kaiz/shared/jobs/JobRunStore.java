@@ -0,0 +1,83 @@
+package app.kaiz.shared.jobs;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** SQL access to {@code job_runs}. */
+@Component
+class JobRunStore {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  JobRunStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Serializes claims of one job across instances until the caller's transaction ends; returns
+   * whether the lock was free.
+   */
+  boolean tryLock(int namespace, String jobName) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?, hashtext(?))", Boolean.class, namespace, jobName));
+  }
+
+  /** Whether a run of the job is still going somewhere, i.e. running with an unexpired lease. */
+  boolean hasLiveRun(String jobName, Instant now) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM job_runs"
+                + " WHERE job_name = ? AND status = ? AND lease_until > ?)",
+            Boolean.class,
+            jobName,
+            JobRunStatus.RUNNING.name(),
+            Timestamp.from(now)));
+  }
+
+  /** Claims a tick; returns the run id, or {@code null} if another instance already ran it. */
+  Long claim(
+      String jobName, Instant scheduledAt, String node, Instant startedAt, Instant leaseUntil) {
+    return jdbcTemplate
+        .query(
+            "INSERT INTO job_runs (job_name, scheduled_at, node, status, started_at, lease_until)"
+                + " VALUES (?, ?, ?, ?, ?, ?)"
+                + " ON CONFLICT (job_name, scheduled_at) DO NOTHING"
+                + " RETURNING id",
+            (rs, rowNum) -> rs.getLong("id"),
+            jobName,
+            Timestamp.from(scheduledAt),
+            node,
+            JobRunStatus.RUNNING.name(),
+            Timestamp.from(startedAt),
+            Timestamp.from(leaseUntil))
+        .stream()
+        .findFirst()
+        .orElse(null);
+  }
+
+  void finish(
+      long runId,
+      JobRunStatus status,
+      Instant finishedAt,
+      long durationMs,
+      Long rowsAffected,
+      String error) {
+    jdbcTemplate.update(
+        "UPDATE job_runs"
+            + " SET status = ?, finished_at = ?, duration_ms = ?, rows_affected = ?, error = ?"
+            + " WHERE id = ?",
+        status.name(),
+        Timestamp.from(finishedAt),
+        durationMs,
+        rowsAffected,
+        error,
+        runId);
+  }
+
+  int deleteStartedBefore(Instant cutoff) {
+    return jdbcTemplate.update("DELETE FROM job_runs WHERE started_at < ?", Timestamp.from(cutoff));
+  }
+}
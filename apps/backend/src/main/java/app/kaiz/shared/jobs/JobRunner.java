@@ -0,0 +1,316 @@
+package app.kaiz.shared.jobs;
+
+import app.kaiz.shared.config.JobProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs {@link ClusterJob} methods, and jobs registered through {@link #register}, on a cron
+ * schedule across a cluster of instances.
+ *
+ * <p>Each tick is dispatched to its own virtual thread, so a slow job never delays another. A run
+ * is skipped if the previous run of the job is still going on this instance or on any other. The
+ * tick is claimed in a short transaction that takes a transaction-scoped advisory lock on the job,
+ * checks {@code job_runs} for a running row with an unexpired lease and inserts the tick; the first
+ * instance to insert it runs it, without holding a connection while the job runs. The row then
+ * records status, duration and rows affected. A job that exceeds its timeout is interrupted; its
+ * lease lasts a little longer, so a job that ignores the interrupt still blocks the next run for
+ * that grace period, and a crashed instance only until its lease expires.
+ */
+@Component
+@Slf4j
+public class JobRunner implements SmartInitializingSingleton, SmartLifecycle {
+
+  /** First key of the two-key advisory lock space used for jobs ("kj"). */
+  private static final int LOCK_NAMESPACE = 0x6b6a;
+
+  private static final int MAX_ERROR_LENGTH = 2000;
+
+  /** How long a run's lease outlasts its timeout, for jobs slow to react to the interrupt. */
+  static final Duration LEASE_GRACE = Duration.ofMinutes(1);
+
+  private final ApplicationContext applicationContext;
+  private final TransactionTemplate claimTransaction;
+  private final JobRunStore store;
+  private final JobProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final String node = ManagementFactory.getRuntimeMXBean().getName();
+  private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+  private ThreadPoolTaskScheduler scheduler;
+  private ExecutorService executor;
+
+  public JobRunner(
+      ApplicationContext applicationContext,
+      PlatformTransactionManager transactionManager,
+      JobRunStore store,
+      JobProperties properties,
+      MeterRegistry meterRegistry) {
+    this.applicationContext = applicationContext;
+    this.claimTransaction = new TransactionTemplate(transactionManager);
+    this.store = store;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  private record Job(
+      String name,
+      CronExpression cron,
+      Duration timeout,
+      Callable<?> task,
+      AtomicBoolean running,
+      AtomicLong lastSuccess) {}
+
+  /** Outcome of claiming a tick: the run id, or why this instance does not run it. */
+  private record Claim(Long runId, String skipReason) {}
+
+  /**
+   * Registers a job. The task may return a {@link Number}, recorded as rows affected.
+   *
+   * @throws IllegalStateException if a job with that name already exists
+   */
+  public void register(String name, String cron, Duration timeout, Callable<?> task) {
+    Job job =
+        new Job(
+            name,
+            CronExpression.parse(cron),
+            timeout != null ? timeout : properties.defaultTimeout(),
+            task,
+            new AtomicBoolean(),
+            new AtomicLong());
+    if (jobs.putIfAbsent(name, job) != null) {
+      throw new IllegalStateException("Duplicate job name: " + name);
+    }
+    Gauge.builder("kaiz.job.last.success", job.lastSuccess(), AtomicLong::get)
+        .description("Epoch seconds of the job's last successful run on this instance")
+        .tag("job", name)
+        .register(meterRegistry);
+    if (isRunning()) {
+      scheduleNext(job);
+    }
+    log.debug("Registered job '{}' ({})", name, cron);
+  }
+
+  /** Picks up {@link ClusterJob} methods once all singletons exist. */
+  @Override
+  public void afterSingletonsInstantiated() {
+    for (String beanName : applicationContext.getBeanDefinitionNames()) {
+      Class<?> type = applicationContext.getType(beanName, false);
+      if (type == null) {
+        continue;
+      }
+      Map<Method, ClusterJob> methods =
+          MethodIntrospector.selectMethods(
+              ClassUtils.getUserClass(type),
+              (MethodIntrospector.MetadataLookup<ClusterJob>)
+                  method -> AnnotatedElementUtils.findMergedAnnotation(method, ClusterJob.class));
+      if (methods.isEmpty()) {
+        continue;
+      }
+      Object bean = applicationContext.getBean(beanName);
+      methods.forEach(
+          (method, annotation) -> {
+            if (method.getParameterCount() != 0) {
+              throw new IllegalStateException(
+                  "@ClusterJob method must take no arguments: " + method);
+            }
+            // Invoke through the proxy so @Transactional and friends apply
+            Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+            register(
+                annotation.name(),
+                annotation.cron(),
+                StringUtils.hasText(annotation.timeout())
+                    ? DurationStyle.detectAndParse(annotation.timeout())
+                    : null,
+                () -> ReflectionUtils.invokeMethod(invocable, bean));
+          });
+    }
+
+    register(
+        "job-runs-cleanup",
+        "0 30 3 * * *",
+        null,
+        () -> store.deleteStartedBefore(Instant.now().minus(properties.historyRetention())));
+  }
+
+  // ============ Scheduling ============
+
+  private void scheduleNext(Job job) {
+    ZonedDateTime next = job.cron().next(ZonedDateTime.now());
+    if (next == null) {
+      return;
+    }
+    Instant tick = next.toInstant();
+    scheduler.schedule(
+        () -> {
+          scheduleNext(job);
+          executor.execute(() -> execute(job, tick));
+        },
+        tick);
+  }
+
+  /** Runs one tick of a registered job on the calling thread, unless it is skipped. */
+  void execute(String jobName, Instant tick) {
+    execute(jobs.get(jobName), tick);
+  }
+
+  private void execute(Job job, Instant tick) {
+    if (!job.running().compareAndSet(false, true)) {
+      skipped(job, "still_running");
+      return;
+    }
+    try {
+      Instant startedAt = Instant.now();
+      Claim claim = claimTransaction.execute(status -> claim(job, tick, startedAt));
+      if (claim.runId() == null) {
+        skipped(job, claim.skipReason());
+        return;
+      }
+      run(job, claim.runId(), startedAt);
+    } catch (RuntimeException e) {
+      log.error("Could not run job '{}': {}", job.name(), e.getMessage(), e);
+    } finally {
+      job.running().set(false);
+    }
+  }
+
+  private Claim claim(Job job, Instant tick, Instant startedAt) {
+    if (!store.tryLock(LOCK_NAMESPACE, job.name()) || store.hasLiveRun(job.name(), startedAt)) {
+      return new Claim(null, "locked");
+    }
+    Instant leaseUntil = startedAt.plus(job.timeout()).plus(LEASE_GRACE);
+    Long runId = store.claim(job.name(), tick, node, startedAt, leaseUntil);
+    return runId != null ? new Claim(runId, null) : new Claim(null, "already_ran");
+  }
+
+  private void run(Job job, long runId, Instant startedAt) {
+    Thread worker = Thread.currentThread();
+    AtomicBoolean timedOut = new AtomicBoolean();
+    ScheduledFuture<?> watchdog =
+        scheduler.schedule(
+            () -> {
+              timedOut.set(true);
+              worker.interrupt();
+            },
+            startedAt.plus(job.timeout()));
+
+    JobRunStatus status = JobRunStatus.SUCCEEDED;
+    Long rows = null;
+    String error = null;
+    try {
+      Object result = job.task().call();
+      rows = result instanceof Number number ? number.longValue() : null;
+    } catch (Exception e) {
+      status = JobRunStatus.FAILED;
+      error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+      log.error("Job '{}' failed: {}", job.name(), e.getMessage(), e);
+    } finally {
+      watchdog.cancel(false);
+      Thread.interrupted(); // a late watchdog must not leak into the next job on this thread
+    }
+    if (timedOut.get()) {
+      status = JobRunStatus.TIMED_OUT;
+      log.warn("Job '{}' exceeded its timeout of {}", job.name(), job.timeout());
+    }
+
+    Instant finishedAt = Instant.now();
+    Duration duration = Duration.between(startedAt, finishedAt);
+    store.finish(runId, status, finishedAt, duration.toMillis(), rows, error);
+
+    Timer.builder("kaiz.job.duration")
+        .description("Run time of cluster jobs")
+        .tag("job", job.name())
+        .tag("status", status.name().toLowerCase())
+        .register(meterRegistry)
+        .record(duration);
+    if (rows != null) {
+      DistributionSummary.builder("kaiz.job.rows")
+          .description("Rows affected per job run")
+          .tag("job", job.name())
+          .register(meterRegistry)
+          .record(rows);
+    }
+    if (status == JobRunStatus.SUCCEEDED) {
+      job.lastSuccess().set(finishedAt.getEpochSecond());
+    }
+    log.debug("Job '{}' {} in {} ms", job.name(), status, duration.toMillis());
+  }
+
+  private void skipped(Job job, String reason) {
+    log.debug("Skipping job '{}': {}", job.name(), reason);
+    Counter.builder("kaiz.job.skipped")
+        .description("Job ticks not run by this instance")
+        .tag("job", job.name())
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private static String truncate(String error) {
+    return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  // ============ Lifecycle ============
+
+  @Override
+  public void start() {
+    if (!properties.enabled()) {
+      log.info("Cluster jobs disabled on this instance");
+      return;
+    }
+    scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setThreadNamePrefix("job-scheduler-");
+    scheduler.initialize();
+    executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-", 0).factory());
+    jobs.values().forEach(this::scheduleNext);
+    log.info("Scheduled {} cluster jobs", jobs.size());
+  }
+
+  @Override
+  public void stop() {
+    if (scheduler == null) {
+      return;
+    }
+    scheduler.shutdown();
+    executor.shutdownNow();
+    scheduler = null;
+    executor = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+}
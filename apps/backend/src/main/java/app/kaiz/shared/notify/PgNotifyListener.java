@@ -0,0 +1,192 @@
+package app.kaiz.shared.notify;
+
+import app.kaiz.shared.config.PgNotifyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * The instance's single PostgreSQL {@code LISTEN} connection, handing each notification to the
+ * {@link PgNotifySubscriber}s of its channel.
+ *
+ * <p>The connection is opened outside the pool, so it never holds a pooled connection and survives
+ * pool resizing. Every time it is (re)established it subscribes to all channels first and then lets
+ * each subscriber catch up, so nothing sent in between is missed. Starts before the web server
+ * (phase {@code DEFAULT_PHASE - 2048}) and holds up startup until the first catch-up is done,
+ * bounded by the startup timeout. Subscribers that must not serve without it, such as {@code
+ * TokenRevocationListener}, track their own state and keep readiness down until then.
+ */
+@Component
+@Slf4j
+public class PgNotifyListener implements SmartLifecycle {
+
+  private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+  private final List<PgNotifySubscriber> subscribers;
+  private final Map<String, List<PgNotifySubscriber>> byChannel;
+  private final DataSourceProperties dataSourceProperties;
+  private final PgNotifyProperties properties;
+  private final Counter reconnects;
+
+  private volatile boolean running;
+  private volatile boolean listening;
+  private volatile CountDownLatch connected;
+  private Thread thread;
+
+  public PgNotifyListener(
+      List<PgNotifySubscriber> subscribers,
+      DataSourceProperties dataSourceProperties,
+      PgNotifyProperties properties,
+      MeterRegistry meterRegistry) {
+    this.subscribers = List.copyOf(subscribers);
+    this.byChannel =
+        subscribers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    PgNotifySubscriber::channel, LinkedHashMap::new, Collectors.toList()));
+    this.dataSourceProperties = dataSourceProperties;
+    this.properties = properties;
+    this.reconnects =
+        Counter.builder("kaiz.pgnotify.reconnects")
+            .description("Times the listener connection was lost and re-opened")
+            .register(meterRegistry);
+  }
+
+  private void listen() {
+    boolean reconnect = false;
+    while (running) {
+      try (Connection connection = connect()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          for (String channel : byChannel.keySet()) {
+            statement.execute("LISTEN " + channel);
+          }
+        }
+        for (PgNotifySubscriber subscriber : subscribers) {
+          subscriber.onConnect(reconnect);
+        }
+        listening = true;
+        connected.countDown();
+        log.debug("Listening on {}", byChannel.keySet());
+
+        int timeout = (int) properties.pollTimeout().toMillis();
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(timeout);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              dispatch(notification.getName(), notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        listening = false;
+        if (!running) {
+          return;
+        }
+        log.warn("Notification listener lost its connection: {}", e.getMessage());
+        subscribers.forEach(PgNotifySubscriber::onDisconnect);
+        reconnect = true;
+        reconnects.increment();
+        sleep(properties.reconnectDelay());
+      }
+    }
+    listening = false;
+  }
+
+  private Connection connect() throws SQLException {
+    Connection connection =
+        DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword());
+    connection.setAutoCommit(true);
+    return connection;
+  }
+
+  /** Whether a LISTEN connection is currently established. */
+  public boolean isListening() {
+    return listening;
+  }
+
+  void dispatch(String channel, String payload) {
+    for (PgNotifySubscriber subscriber : byChannel.getOrDefault(channel, List.of())) {
+      try {
+        subscriber.onNotification(payload);
+      } catch (RuntimeException e) {
+        // One subscriber's failure must not cost the others their connection
+        log.warn("Subscriber failed on a notification from '{}': {}", channel, e.getMessage());
+      }
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // ============ Lifecycle ============
+
+  @Override
+  public void start() {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+    running = true;
+    connected = new CountDownLatch(1);
+    thread = Thread.ofPlatform().name("pg-notify").daemon().start(this::listen);
+    try {
+      if (!connected.await(properties.startupTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn(
+            "Not listening on {} within {}; serving without it until it connects",
+            byChannel.keySet(),
+            properties.startupTimeout());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    Thread current = thread;
+    thread = null;
+    if (current != null) {
+      current.interrupt();
+      try {
+        current.join(properties.pollTimeout().multipliedBy(2));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
@@ -0,0 +1,32 @@
+package app.kaiz.shared.notify;
+
+/**
+ * Receives the notifications sent to one channel, through the instance's shared {@link
+ * PgNotifyListener}. Register one by declaring it as a bean.
+ *
+ * <p>Both callbacks run on the listener thread, one at a time for all subscribers, so they must be
+ * quick and must not block on anything that waits for another notification.
+ */
+public interface PgNotifySubscriber {
+
+  /** Channel this subscriber receives; several subscribers may share one. */
+  String channel();
+
+  /**
+   * Called each time the connection is (re)established, after {@code LISTEN} and before any
+   * notification is delivered. Notifications sent while the connection was down are lost, so this
+   * is where a subscriber catches up. Throwing drops the connection and tries again later.
+   *
+   * @param reconnect {@code false} for the first connection after startup
+   */
+  default void onConnect(boolean reconnect) {}
+
+  /**
+   * Called when the connection is lost or could not be (re)established. Notifications are missed
+   * from now until the next {@link #onConnect}.
+   */
+  default void onDisconnect() {}
+
+  /** Called for each notification on {@link #channel()}, in the order they were committed. */
+  void onNotification(String payload);
+}
@@ -0,0 +1,29 @@
+package app.kaiz.shared.observability;
+
+import app.kaiz.shared.observability.RequestTiming.Phase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Counts calls into MapStruct and hand-written {@code *Mapper} beans as the mapping phase. */
+@Aspect
+@Component
+@ConditionalOnProperty(
+    prefix = "kaiz.request-timing",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class MappingTimingAspect {
+
+  @Around("execution(* app.kaiz..*Mapper+.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    RequestTiming.start(Phase.MAPPING);
+    try {
+      return joinPoint.proceed();
+    } finally {
+      RequestTiming.stop(Phase.MAPPING);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package app.kaiz.shared.observability;
+
+import app.kaiz.shared.config.RequestTimingProperties;
+import app.kaiz.shared.observability.RequestTiming.Phase;
+import app.kaiz.shared.security.JwtTokenProvider;
+import app.kaiz.shared.security.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Outermost filter of every request. It puts a correlation id in the MDC, which the JSON log
+ * encoder reads. It also times the request's {@link Phase}s into {@code kaiz.request.phase}, tagged
+ * by route.
+ *
+ * <p>For debug requests the response is buffered so that a {@code Server-Timing} header can be
+ * added once serialization has finished. A debug request has an {@code X-Debug-Timing} header (if
+ * allowed) or an access token with a {@code debug} claim.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestObservationFilter extends OncePerRequestFilter {
+
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+  public static final String CORRELATION_ID_MDC = "correlationId";
+  public static final String USER_ID_MDC = "userId";
+  private static final String DEBUG_HEADER = "X-Debug-Timing";
+  private static final String BEARER_PREFIX = "Bearer ";
+  private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  private final RequestTimingProperties properties;
+  private final JwtTokenProvider jwtTokenProvider;
+  private final MeterRegistry meterRegistry;
+
+  public RequestObservationFilter(
+      RequestTimingProperties properties,
+      JwtTokenProvider jwtTokenProvider,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    String correlationId = request.getHeader(CORRELATION_ID_HEADER);
+    if (correlationId == null || !VALID_CORRELATION_ID.matcher(correlationId).matches()) {
+      correlationId = UUID.randomUUID().toString();
+    }
+    MDC.put(CORRELATION_ID_MDC, correlationId);
+    response.setHeader(CORRELATION_ID_HEADER, correlationId);
+
+    if (!properties.enabled()) {
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        MDC.remove(CORRELATION_ID_MDC);
+        MDC.remove(USER_ID_MDC);
+      }
+      return;
+    }
+
+    ContentCachingResponseWrapper buffered =
+        isDebug(request) ? new ContentCachingResponseWrapper(response) : null;
+    RequestTiming.begin();
+    try {
+      filterChain.doFilter(request, buffered != null ? buffered : response);
+    } finally {
+      RequestTiming timing = RequestTiming.end();
+      record(request, timing);
+      if (buffered != null) {
+        buffered.setHeader("Server-Timing", timing.serverTiming());
+        buffered.copyBodyToResponse();
+      }
+      MDC.remove(CORRELATION_ID_MDC);
+      MDC.remove(USER_ID_MDC);
+    }
+  }
+
+  private boolean isDebug(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+      return false; // streams must not be buffered
+    }
+    if (properties.allowDebugHeader() && request.getHeader(DEBUG_HEADER) != null) {
+      return true;
+    }
+    String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+      return false;
+    }
+    // Served from the verified-token cache, so JwtAuthenticationFilter pays nothing extra
+    return jwtTokenProvider
+        .verify(authorization.substring(BEARER_PREFIX.length()))
+        .filter(VerifiedToken::isAccessToken)
+        .map(VerifiedToken::debug)
+        .orElse(false);
+  }
+
+  private void record(HttpServletRequest request, RequestTiming timing) {
+    Timer.builder("kaiz.request.latency")
+        .description("Request latency across all routes; its p99 drives SLO-triggered profiling")
+        .publishPercentiles(0.99)
+        .register(meterRegistry)
+        .record(timing.elapsedNanos(), TimeUnit.NANOSECONDS);
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String route = pattern != null ? pattern.toString() : "UNKNOWN";
+    for (Phase phase : Phase.values()) {
+      long nanos = timing.nanos(phase);
+      if (nanos > 0) {
+        Timer.builder("kaiz.request.phase")
+            .description("Time spent per request phase")
+            .tag("route", route)
+            .tag("phase", phase.metricName())
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
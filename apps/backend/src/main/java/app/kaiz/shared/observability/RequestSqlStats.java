@@ -0,0 +1,64 @@
+package app.kaiz.shared.observability;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL activity of the request running on the current thread.
+ *
+ * <p>Filled by {@link SqlStatementInspector} and {@link SqlTimingSessionListener} between {@link
+ * #begin()} and {@link #end()}. Statements issued outside a request (schedulers, async listeners)
+ * are not tracked.
+ */
+public final class RequestSqlStats {
+
+  private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+  /** Collapses IN lists so that {@code in (?,?)} and {@code in (?,?,?)} share one shape. */
+  private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+  private final Map<String, Integer> shapes = new HashMap<>();
+  private int statements;
+  private long jdbcNanos;
+
+  private RequestSqlStats() {}
+
+  public static RequestSqlStats begin() {
+    RequestSqlStats stats = new RequestSqlStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  public static RequestSqlStats current() {
+    return CURRENT.get();
+  }
+
+  public static RequestSqlStats end() {
+    RequestSqlStats stats = CURRENT.get();
+    CURRENT.remove();
+    return stats;
+  }
+
+  void recordStatement(String sql) {
+    statements++;
+    shapes.merge(IN_LIST.matcher(sql).replaceAll("(?)"), 1, Integer::sum);
+  }
+
+  void recordJdbcTime(long nanos) {
+    jdbcNanos += nanos;
+  }
+
+  public int statements() {
+    return statements;
+  }
+
+  public long jdbcNanos() {
+    return jdbcNanos;
+  }
+
+  /** The most frequently repeated statement shape, or {@code null} if no SQL ran. */
+  public Map.Entry<String, Integer> mostRepeatedShape() {
+    return shapes.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+  }
+}
@@ -0,0 +1,105 @@
+package app.kaiz.shared.observability;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Where the time of the request running on the current thread went, split into {@link Phase}s.
+ *
+ * <p>Opened and closed by {@link RequestObservationFilter}. Spans may nest; only the outermost span
+ * of a phase counts, so a mapper calling another mapper is not counted twice. Work outside a
+ * request is not tracked.
+ */
+public final class RequestTiming {
+
+  private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+  /** Request phases, named as they appear in the {@code Server-Timing} header. */
+  public enum Phase {
+    DB,
+    AI,
+    MAPPING,
+    SERIALIZATION;
+
+    public String metricName() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final long startedAt = System.nanoTime();
+  private final long[] nanos = new long[Phase.values().length];
+  private final long[] spanStart = new long[Phase.values().length];
+  private final int[] depth = new int[Phase.values().length];
+
+  private RequestTiming() {}
+
+  static RequestTiming begin() {
+    RequestTiming timing = new RequestTiming();
+    CURRENT.set(timing);
+    return timing;
+  }
+
+  static RequestTiming end() {
+    RequestTiming timing = CURRENT.get();
+    CURRENT.remove();
+    return timing;
+  }
+
+  /** Starts a span; pair with {@link #stop(Phase)} in a {@code finally} block. */
+  public static void start(Phase phase) {
+    RequestTiming timing = CURRENT.get();
+    if (timing != null && timing.depth[phase.ordinal()]++ == 0) {
+      timing.spanStart[phase.ordinal()] = System.nanoTime();
+    }
+  }
+
+  public static void stop(Phase phase) {
+    RequestTiming timing = CURRENT.get();
+    if (timing != null && --timing.depth[phase.ordinal()] == 0) {
+      timing.nanos[phase.ordinal()] += System.nanoTime() - timing.spanStart[phase.ordinal()];
+    }
+  }
+
+  /** Runs {@code work} as a span of {@code phase}. */
+  public static <T> T time(Phase phase, Supplier<T> work) {
+    start(phase);
+    try {
+      return work.get();
+    } finally {
+      stop(phase);
+    }
+  }
+
+  /** Adds time measured elsewhere, such as JDBC time reported by Hibernate. */
+  static void record(Phase phase, long elapsedNanos) {
+    RequestTiming timing = CURRENT.get();
+    if (timing != null) {
+      timing.nanos[phase.ordinal()] += elapsedNanos;
+    }
+  }
+
+  public long elapsedNanos() {
+    return System.nanoTime() - startedAt;
+  }
+
+  public long nanos(Phase phase) {
+    return nanos[phase.ordinal()];
+  }
+
+  /** Value of the {@code Server-Timing} header: every phase that took time, then the total. */
+  String serverTiming() {
+    StringJoiner header = new StringJoiner(", ");
+    for (Phase phase : Phase.values()) {
+      if (nanos(phase) > 0) {
+        header.add(entry(phase.metricName(), nanos(phase)));
+      }
+    }
+    header.add(entry("total", elapsedNanos()));
+    return header.toString();
+  }
+
+  private static String entry(String name, long nanos) {
+    return String.format(Locale.ROOT, "%s;dur=%.1f", name, nanos / 1_000_000.0);
+  }
+}
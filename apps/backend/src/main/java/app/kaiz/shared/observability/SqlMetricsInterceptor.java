@@ -0,0 +1,63 @@
+package app.kaiz.shared.observability;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Opens a {@link RequestSqlStats} scope around each controller invocation.
+ *
+ * <p>For async requests (SSE, {@code DeferredResult}) the scope closes when the controller method
+ * returns and releases the request thread; statements run later by the async work are not counted,
+ * and the async dispatch that completes the request is not recorded a second time.
+ */
+@RequiredArgsConstructor
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+  private final SqlStatsRegistry registry;
+
+  @Override
+  public boolean preHandle(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler) {
+    if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+      RequestSqlStats.begin();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler,
+      Exception ex) {
+    record(handler);
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler) {
+    record(handler);
+  }
+
+  private void record(Object handler) {
+    if (handler instanceof HandlerMethod handlerMethod) {
+      RequestSqlStats stats = RequestSqlStats.end();
+      if (stats != null) {
+        registry.record(handlerName(handlerMethod), stats);
+      }
+    }
+  }
+
+  private static String handlerName(HandlerMethod handlerMethod) {
+    return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+  }
+}
@@ -0,0 +1,16 @@
+package app.kaiz.shared.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Counts every SQL statement Hibernate prepares for the current request. Never rewrites SQL. */
+public class SqlStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    RequestSqlStats stats = RequestSqlStats.current();
+    if (stats != null) {
+      stats.recordStatement(sql);
+    }
+    return sql;
+  }
+}
@@ -0,0 +1,20 @@
+package app.kaiz.shared.observability;
+
+import app.kaiz.shared.observability.SqlStatsRegistry.HandlerSqlSummary;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/** {@code /actuator/sqlstats}: endpoints issuing the most SQL statements per request. */
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+  private final SqlStatsRegistry registry;
+
+  @ReadOperation
+  public List<HandlerSqlSummary> worstEndpoints() {
+    return registry.worstHandlers();
+  }
+}
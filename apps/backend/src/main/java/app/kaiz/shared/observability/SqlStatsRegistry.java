@@ -0,0 +1,121 @@
+package app.kaiz.shared.observability;
+
+import app.kaiz.shared.config.SqlMonitoringProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes per-request SQL statistics to Micrometer, tagged by handler method, and keeps
+ * per-handler aggregates for {@link SqlStatsEndpoint}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatsRegistry {
+
+  private final MeterRegistry meterRegistry;
+  private final SqlMonitoringProperties properties;
+  private final ConcurrentMap<String, HandlerStats> handlers = new ConcurrentHashMap<>();
+
+  public void record(String handler, RequestSqlStats stats) {
+    DistributionSummary.builder("kaiz.sql.statements")
+        .description("SQL statements issued per HTTP request")
+        .tag("handler", handler)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(stats.statements());
+    Timer.builder("kaiz.sql.time")
+        .description("JDBC execution time per HTTP request")
+        .tag("handler", handler)
+        .register(meterRegistry)
+        .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+    Map.Entry<String, Integer> repeated = stats.mostRepeatedShape();
+    boolean suspicious =
+        repeated != null && repeated.getValue() > properties.repeatedStatementThreshold();
+    if (suspicious) {
+      Counter.builder("kaiz.sql.repeated")
+          .description("Requests that ran one SQL shape more often than the N+1 threshold")
+          .tag("handler", handler)
+          .register(meterRegistry)
+          .increment();
+      log.warn(
+          "Possible N+1 in {}: same statement executed {} times: {}",
+          handler,
+          repeated.getValue(),
+          repeated.getKey());
+    }
+
+    handlers
+        .computeIfAbsent(handler, h -> new HandlerStats())
+        .record(stats, suspicious ? repeated : null);
+  }
+
+  /** Handlers ordered by average statements per request, worst first. */
+  public List<HandlerSqlSummary> worstHandlers() {
+    return handlers.entrySet().stream()
+        .map(e -> e.getValue().summarize(e.getKey()))
+        .sorted(Comparator.comparingDouble(HandlerSqlSummary::avgStatements).reversed())
+        .limit(properties.topEndpoints())
+        .toList();
+  }
+
+  public record HandlerSqlSummary(
+      String handler,
+      long requests,
+      double avgStatements,
+      long maxStatements,
+      double avgJdbcMillis,
+      long repeatedStatementRequests,
+      String worstRepeatedStatement,
+      int worstRepeatedCount) {}
+
+  private static final class HandlerStats {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+    private final LongAdder repeatedRequests = new LongAdder();
+    private volatile String worstShape;
+    private volatile int worstShapeCount;
+
+    void record(RequestSqlStats stats, Map.Entry<String, Integer> repeated) {
+      requests.increment();
+      statements.add(stats.statements());
+      jdbcNanos.add(stats.jdbcNanos());
+      maxStatements.accumulate(stats.statements());
+      if (repeated != null) {
+        repeatedRequests.increment();
+        if (repeated.getValue() > worstShapeCount) {
+          worstShapeCount = repeated.getValue();
+          worstShape = repeated.getKey();
+        }
+      }
+    }
+
+    HandlerSqlSummary summarize(String handler) {
+      long count = Math.max(1, requests.sum());
+      return new HandlerSqlSummary(
+          handler,
+          requests.sum(),
+          (double) statements.sum() / count,
+          maxStatements.get(),
+          jdbcNanos.sum() / 1_000_000.0 / count,
+          repeatedRequests.sum(),
+          worstShape,
+          worstShapeCount);
+    }
+  }
+}
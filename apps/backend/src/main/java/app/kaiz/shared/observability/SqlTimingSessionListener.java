@@ -0,0 +1,46 @@
+package app.kaiz.shared.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches to the current request, both to its
+ * {@link RequestSqlStats} and to the {@code db} phase of its {@link RequestTiming}. Hibernate
+ * creates one instance per session (see {@code hibernate.session.events.auto}).
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+  private long statementStart;
+  private long batchStart;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    statementStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    record(statementStart);
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    batchStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    record(batchStart);
+  }
+
+  private static void record(long start) {
+    if (start == 0) {
+      return;
+    }
+    long elapsed = System.nanoTime() - start;
+    RequestSqlStats stats = RequestSqlStats.current();
+    if (stats != null) {
+      stats.recordJdbcTime(elapsed);
+    }
+    RequestTiming.record(RequestTiming.Phase.DB, elapsed);
+  }
+}
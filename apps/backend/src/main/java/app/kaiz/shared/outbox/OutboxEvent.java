@@ -0,0 +1,7 @@
+package app.kaiz.shared.outbox;
+
+/**
+ * Marker for events that may be written to the outbox. Implementations must round-trip through
+ * Jackson, which records do out of the box.
+ */
+public interface OutboxEvent {}
@@ -0,0 +1,69 @@
+package app.kaiz.shared.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes events to the outbox as part of the caller's transaction, so an event exists if and only
+ * if the domain change that caused it committed. Delivery happens later through {@link
+ * OutboxRelay}.
+ */
+@Component
+@Slf4j
+public class OutboxPublisher {
+
+  private final OutboxStore store;
+  private final ObjectMapper objectMapper;
+  private final ObjectProvider<OutboxRelay> relay;
+
+  public OutboxPublisher(
+      OutboxStore store, ObjectMapper objectMapper, ObjectProvider<OutboxRelay> relay) {
+    this.store = store;
+    this.objectMapper = objectMapper;
+    this.relay = relay;
+  }
+
+  /**
+   * Enqueues an event.
+   *
+   * @param aggregateType kind of entity the event is about, e.g. {@code "task"}
+   * @param aggregateId id of that entity; events of one aggregate are delivered in order
+   * @param idempotencyKey unique per logical event; enqueueing the same key again is a no-op
+   * @param event the event, delivered to {@code @EventListener}s of its type
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(
+      String aggregateType, UUID aggregateId, String idempotencyKey, OutboxEvent event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot serialize outbox event " + event, e);
+    }
+
+    boolean inserted =
+        store.insert(
+            aggregateType, aggregateId, event.getClass().getName(), idempotencyKey, payload);
+    if (!inserted) {
+      log.debug("Outbox event {} already enqueued", idempotencyKey);
+      return;
+    }
+
+    // Deliver right after commit instead of waiting for the next poll
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            relay.ifAvailable(OutboxRelay::wakeUp);
+          }
+        });
+  }
+}
@@ -0,0 +1,269 @@
+package app.kaiz.shared.outbox;
+
+import app.kaiz.shared.config.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Delivers outbox events to {@code @EventListener}s after the transaction that wrote them has
+ * committed.
+ *
+ * <p>A single relay thread polls every {@code kaiz.outbox.poll-interval} and is woken right after a
+ * local commit that enqueued something. Each batch runs under a transaction-scoped advisory lock,
+ * so only one instance relays at a time. Every event is delivered in its own transaction together
+ * with marking it published: listener writes and the delivery record commit or roll back as one.
+ * Delivery is at-least-once and in commit order per aggregate, unless an older transaction stays
+ * open past {@code kaiz.outbox.max-ordering-wait} (see {@link OutboxStore#findDue}); a failed event
+ * is retried with exponential backoff, and later events of the same aggregate wait behind it while
+ * other aggregates carry on.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "kaiz.outbox",
+    name = "relay-enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+  private static final int MAX_ERROR_LENGTH = 2000;
+  private static final Duration CLEANUP_INTERVAL = Duration.ofHours(1);
+
+  private final OutboxStore store;
+  private final OutboxProperties properties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate batchTransaction;
+  private final TransactionTemplate deliveryTransaction;
+  private final Timer lag;
+  private final AtomicLong oldestPendingSeconds = new AtomicLong();
+  private final AtomicLong oldestHeldSeconds = new AtomicLong();
+  private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+
+  private ScheduledExecutorService executor;
+  private Instant lastCleanup = Instant.EPOCH;
+
+  public OutboxRelay(
+      OutboxStore store,
+      OutboxProperties properties,
+      ApplicationEventPublisher eventPublisher,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.store = store;
+    this.properties = properties;
+    this.eventPublisher = eventPublisher;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+    this.deliveryTransaction = new TransactionTemplate(transactionManager);
+    this.deliveryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    this.lag =
+        Timer.builder("kaiz.outbox.lag")
+            .description("Time from enqueueing an outbox event to its delivery")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    Gauge.builder("kaiz.outbox.oldest.pending", oldestPendingSeconds, AtomicLong::get)
+        .description("Age of the oldest undelivered outbox event")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder("kaiz.outbox.oldest.held", oldestHeldSeconds, AtomicLong::get)
+        .description("Age of the oldest outbox event waiting for older open transactions")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /** Schedules an immediate drain; cheap to call often, concurrent requests collapse into one. */
+  public void wakeUp() {
+    ScheduledExecutorService current = executor;
+    if (current != null && wakeUpRequested.compareAndSet(false, true)) {
+      current.execute(
+          () -> {
+            wakeUpRequested.set(false);
+            drain();
+          });
+    }
+  }
+
+  /** Relays batches until the outbox is empty or only holds events waiting for a retry. */
+  void drain() {
+    try {
+      boolean more;
+      do {
+        more = relayBatch();
+      } while (more);
+      cleanUpIfDue();
+    } catch (RuntimeException e) {
+      log.error("Outbox relay failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /** Returns whether another batch is likely waiting. */
+  private boolean relayBatch() {
+    Boolean more =
+        batchTransaction.execute(
+            status -> {
+              if (!store.tryRelayLock()) {
+                return false; // another instance is relaying
+              }
+              // At most one event per aggregate, so a failure only holds back its own aggregate
+              int delivered = 0;
+              for (PendingOutboxEvent event :
+                  store.findDue(properties.batchSize(), properties.maxOrderingWait())) {
+                if (deliver(event)) {
+                  delivered++;
+                }
+              }
+              oldestPendingSeconds.set(secondsSince(store.oldestPendingCreatedAt()));
+              oldestHeldSeconds.set(secondsSince(store.oldestHeldCreatedAt()));
+              // Delivering a head may have exposed the next event of its aggregate; events that
+              // only wait for retries must not spin the loop
+              return delivered > 0;
+            });
+    return Boolean.TRUE.equals(more);
+  }
+
+  private boolean deliver(PendingOutboxEvent event) {
+    String eventName = simpleName(event.eventType());
+    try {
+      Object payload = objectMapper.readValue(event.payload(), resolve(event.eventType()));
+      deliveryTransaction.executeWithoutResult(
+          status -> {
+            eventPublisher.publishEvent(payload);
+            store.markPublished(event.id(), Instant.now());
+          });
+      lag.record(Duration.between(event.createdAt(), Instant.now()));
+      counter("kaiz.outbox.delivered", eventName).increment();
+      return true;
+    } catch (Exception e) {
+      recordFailure(event, eventName, e);
+      return false;
+    }
+  }
+
+  private void recordFailure(PendingOutboxEvent event, String eventName, Exception e) {
+    String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+    int attempts = event.attempts() + 1;
+    if (attempts >= properties.maxAttempts()) {
+      log.error(
+          "Giving up on outbox event {} ({}) after {} attempts",
+          event.idempotencyKey(),
+          eventName,
+          attempts,
+          e);
+      store.markDead(event.id(), Instant.now(), error);
+      counter("kaiz.outbox.dead", eventName).increment();
+      return;
+    }
+    Duration backoff = backoff(attempts);
+    log.warn(
+        "Delivery of outbox event {} ({}) failed, attempt {}; retrying in {}: {}",
+        event.idempotencyKey(),
+        eventName,
+        attempts,
+        backoff,
+        e.getMessage());
+    store.markAttemptFailed(event.id(), Instant.now().plus(backoff), error);
+    counter("kaiz.outbox.failed", eventName).increment();
+  }
+
+  private Duration backoff(int attempts) {
+    Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 20));
+    return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+  }
+
+  private static long secondsSince(Optional<Instant> createdAt) {
+    return createdAt.map(at -> Duration.between(at, Instant.now()).toSeconds()).orElse(0L);
+  }
+
+  private void cleanUpIfDue() {
+    Instant now = Instant.now();
+    if (Duration.between(lastCleanup, now).compareTo(CLEANUP_INTERVAL) < 0) {
+      return;
+    }
+    lastCleanup = now;
+    Integer deleted =
+        batchTransaction.execute(
+            status -> store.deletePublishedBefore(now.minus(properties.retention())));
+    if (deleted != null && deleted > 0) {
+      log.info("Deleted {} delivered outbox events", deleted);
+    }
+  }
+
+  private static Class<?> resolve(String eventType) throws ClassNotFoundException {
+    Class<?> type = Class.forName(eventType, false, OutboxRelay.class.getClassLoader());
+    if (!OutboxEvent.class.isAssignableFrom(type)) {
+      throw new IllegalStateException(eventType + " is not an OutboxEvent");
+    }
+    return type;
+  }
+
+  private Counter counter(String name, String eventName) {
+    return Counter.builder(name).tag("event", eventName).register(meterRegistry);
+  }
+
+  private static String simpleName(String eventType) {
+    int start = Math.max(eventType.lastIndexOf('.'), eventType.lastIndexOf('$')) + 1;
+    return eventType.substring(start);
+  }
+
+  private static String truncate(String error) {
+    return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  // ============ Lifecycle ============
+
+  @Override
+  public void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("outbox-relay").daemon().unstarted(runnable));
+    long interval = properties.pollInterval().toMillis();
+    executor.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    log.info("Outbox relay started, polling every {}", properties.pollInterval());
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService current = executor;
+    executor = null;
+    if (current == null) {
+      return;
+    }
+    current.shutdown();
+    try {
+      if (!current.awaitTermination(10, TimeUnit.SECONDS)) {
+        current.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      current.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return executor != null;
+  }
+}
@@ -0,0 +1,147 @@
+package app.kaiz.shared.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL access to {@code outbox_events}. Plain JDBC rather than JPA so that enqueueing can use {@code
+ * ON CONFLICT DO NOTHING} without poisoning the caller's persistence context.
+ */
+@Component
+class OutboxStore {
+
+  /** Key for {@code pg_try_advisory_xact_lock}; only one instance relays at a time. */
+  private static final long RELAY_LOCK_KEY = 0x6b61697a6f757462L; // "kaizoutb"
+
+  private final JdbcTemplate jdbcTemplate;
+
+  OutboxStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Returns whether a row was inserted, i.e. the idempotency key had not been seen before. */
+  boolean insert(
+      String aggregateType,
+      UUID aggregateId,
+      String eventType,
+      String idempotencyKey,
+      String payload) {
+    return jdbcTemplate.update(
+            "INSERT INTO outbox_events"
+                + " (aggregate_type, aggregate_id, event_type, idempotency_key, payload)"
+                + " VALUES (?, ?, ?, ?, ?::jsonb)"
+                + " ON CONFLICT (idempotency_key) DO NOTHING",
+            aggregateType,
+            aggregateId,
+            eventType,
+            idempotencyKey,
+            payload)
+        > 0;
+  }
+
+  boolean tryRelayLock() {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+  }
+
+  /**
+   * The next undelivered event of each aggregate that is due, oldest transaction first.
+   *
+   * <p>Only events of transactions older than every transaction still running are considered: a
+   * later one could still commit an event of the same aggregate, so delivery waits for it. Events
+   * of one aggregate written in different transactions are ordered by transaction id, which matches
+   * commit order when the writers lock the aggregate, as its updates do.
+   *
+   * <p>Any long transaction, even one that never touches the outbox, holds back every event
+   * committed after it started. So the wait is bounded: an event older than {@code maxOrderingWait}
+   * (by {@code created_at}) is due regardless, at the price that a transaction still running may
+   * later commit an event of the same aggregate that is then delivered after it. {@link
+   * #oldestHeldCreatedAt} tells how long events are being held back.
+   */
+  List<PendingOutboxEvent> findDue(int limit, Duration maxOrderingWait) {
+    return jdbcTemplate.query(
+        "SELECT id, aggregate_type, aggregate_id, event_type, idempotency_key, payload,"
+            + " created_at, attempts, next_attempt_at"
+            + " FROM (SELECT DISTINCT ON (aggregate_type, aggregate_id)"
+            + "   id, aggregate_type, aggregate_id, event_type, idempotency_key, payload::text,"
+            + "   created_at, attempts, next_attempt_at, tx_id"
+            + "   FROM outbox_events"
+            + "   WHERE published_at IS NULL AND failed_at IS NULL"
+            + "   AND (tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+            + "     OR created_at < now() - make_interval(secs => ?))"
+            + "   ORDER BY aggregate_type, aggregate_id, tx_id, id) head"
+            + " WHERE next_attempt_at <= now()"
+            + " ORDER BY tx_id, id"
+            + " LIMIT ?",
+        (rs, rowNum) ->
+            new PendingOutboxEvent(
+                rs.getLong("id"),
+                rs.getString("aggregate_type"),
+                rs.getObject("aggregate_id", UUID.class),
+                rs.getString("event_type"),
+                rs.getString("idempotency_key"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getInt("attempts"),
+                rs.getTimestamp("next_attempt_at").toInstant()),
+        maxOrderingWait.toMillis() / 1000.0,
+        limit);
+  }
+
+  Optional<Instant> oldestPendingCreatedAt() {
+    return Optional.ofNullable(
+            jdbcTemplate.queryForObject(
+                "SELECT min(created_at) FROM outbox_events"
+                    + " WHERE published_at IS NULL AND failed_at IS NULL",
+                Timestamp.class))
+        .map(Timestamp::toInstant);
+  }
+
+  /** Creation of the oldest undelivered event that still waits for an older open transaction. */
+  Optional<Instant> oldestHeldCreatedAt() {
+    return Optional.ofNullable(
+            jdbcTemplate.queryForObject(
+                "SELECT min(created_at) FROM outbox_events"
+                    + " WHERE published_at IS NULL AND failed_at IS NULL"
+                    + " AND tx_id >= pg_snapshot_xmin(pg_current_snapshot())",
+                Timestamp.class))
+        .map(Timestamp::toInstant);
+  }
+
+  void markPublished(long id, Instant publishedAt) {
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET published_at = ? WHERE id = ?", Timestamp.from(publishedAt), id);
+  }
+
+  void markAttemptFailed(long id, Instant nextAttemptAt, String error) {
+    jdbcTemplate.update(
+        "UPDATE outbox_events"
+            + " SET attempts = attempts + 1, next_attempt_at = ?, last_error = ?"
+            + " WHERE id = ?",
+        Timestamp.from(nextAttemptAt),
+        error,
+        id);
+  }
+
+  void markDead(long id, Instant failedAt, String error) {
+    jdbcTemplate.update(
+        "UPDATE outbox_events"
+            + " SET attempts = attempts + 1, failed_at = ?, last_error = ?"
+            + " WHERE id = ?",
+        Timestamp.from(failedAt),
+        error,
+        id);
+  }
+
+  int deletePublishedBefore(Instant cutoff) {
+    return jdbcTemplate.update(
+        "DELETE FROM outbox_events WHERE published_at < ?", Timestamp.from(cutoff));
+  }
+}
@@ -0,0 +1,21 @@
+package app.kaiz.shared.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** An undelivered outbox row as read by the relay. */
+record PendingOutboxEvent(
+    long id,
+    String aggregateType,
+    UUID aggregateId,
+    String eventType,
+    String idempotencyKey,
+    String payload,
+    Instant createdAt,
+    int attempts,
+    Instant nextAttemptAt) {
+
+  String aggregateKey() {
+    return aggregateType + ':' + aggregateId;
+  }
+}
@@ -0,0 +1,48 @@
+package app.kaiz.shared.persistence;
+
+import jakarta.persistence.EntityManager;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains a forward-only repository {@link Stream}, handing each row's DTO to a sink and clearing
+ * the persistence context every {@link #FETCH_SIZE} rows, so a streamed listing holds about one
+ * fetch of entities in memory however long the result is.
+ *
+ * <p>Repository methods feeding it pass {@link #FETCH_SIZE} as the Hibernate fetch-size hint. The
+ * PostgreSQL driver only uses a cursor inside a transaction, so callers must be
+ * {@code @Transactional}; the connection stays checked out until the sink has seen the last row.
+ * They also fetch-join every association the mapper reads beyond its id, or each row costs its own
+ * lazy select.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityStreamer {
+
+  /** JDBC fetch size for streaming queries; a string so it can appear in {@code @QueryHint}. */
+  public static final String FETCH_SIZE = "500";
+
+  private static final int CLEAR_INTERVAL = Integer.parseInt(FETCH_SIZE);
+
+  private final EntityManager entityManager;
+
+  /** Maps and emits every row of {@code rows}, closing the stream; returns the row count. */
+  public <E, D> long forEach(
+      Stream<E> rows, Function<? super E, ? extends D> mapper, Consumer<? super D> sink) {
+    long count = 0;
+    try (rows) {
+      Iterator<E> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        sink.accept(mapper.apply(iterator.next()));
+        if (++count % CLEAR_INTERVAL == 0) {
+          entityManager.clear();
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,63 @@
+package app.kaiz.shared.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a replica pool (round-robin) and everything else to the primary.
+ *
+ * <p>The read-only flag is only known once the transaction has been set up, so this must sit behind
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching
+ * the physical connection to the first statement. Work outside a transaction and reads by a user
+ * who wrote within the {@link ReplicaLagGuard} window go to the primary.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  static final String PRIMARY = "primary";
+
+  private final List<String> replicaKeys;
+  private final ReplicaLagGuard lagGuard;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReadReplicaRoutingDataSource(
+      DataSource primary, List<DataSource> replicas, ReplicaLagGuard lagGuard) {
+    this.lagGuard = lagGuard;
+    Map<Object, Object> targets = new HashMap<>();
+    List<String> keys = new ArrayList<>();
+    targets.put(PRIMARY, primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      keys.add(replicaKey(i));
+      targets.put(replicaKey(i), replicas.get(i));
+    }
+    this.replicaKeys = List.copyOf(keys);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  static String replicaKey(int index) {
+    return "replica-" + index;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return PRIMARY;
+    }
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      lagGuard.recordWrite();
+      return PRIMARY;
+    }
+    if (replicaKeys.isEmpty() || lagGuard.mustReadFromPrimary()) {
+      return PRIMARY;
+    }
+    return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+  }
+}
@@ -0,0 +1,105 @@
+package app.kaiz.shared.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Keeps a client's reads on the primary for the read-your-writes window after it wrote, until
+ * replicas have caught up.
+ *
+ * <p>Two signals, either of which pins reads to the primary:
+ *
+ * <ul>
+ *   <li>The {@value #LAST_WRITE_HEADER} response header (epoch millis) set on every request that
+ *       wrote. Clients echo it on their next requests, so the pin holds on whichever instance
+ *       serves them; this is the one that works across Cloud Run instances.
+ *   <li>Users who wrote through this instance, remembered in memory, for clients that do not echo
+ *       the header. Entries expire on their own after the window.
+ * </ul>
+ */
+public class ReplicaLagGuard {
+
+  public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+  private final Duration readYourWritesWindow;
+  private final Cache<String, Boolean> recentWriters;
+
+  public ReplicaLagGuard(Duration readYourWritesWindow, long maxTrackedUsers) {
+    this.readYourWritesWindow = readYourWritesWindow;
+    this.recentWriters =
+        Caffeine.newBuilder()
+            .maximumSize(maxTrackedUsers)
+            .expireAfterWrite(readYourWritesWindow)
+            .build();
+  }
+
+  /** Records a write by the current user, if there is one, and tells the client about it. */
+  public void recordWrite() {
+    String user = currentUser();
+    if (user != null) {
+      recentWriters.put(user, Boolean.TRUE);
+    }
+    HttpServletResponse response = currentResponse();
+    if (response != null && !response.isCommitted()) {
+      response.setHeader(LAST_WRITE_HEADER, Long.toString(System.currentTimeMillis()));
+    }
+  }
+
+  /**
+   * Whether the current client wrote within the window; anonymous work without a marker never does.
+   */
+  public boolean mustReadFromPrimary() {
+    if (clientWroteRecently()) {
+      return true;
+    }
+    String user = currentUser();
+    return user != null && recentWriters.getIfPresent(user) != null;
+  }
+
+  private boolean clientWroteRecently() {
+    HttpServletRequest request = currentRequest();
+    String lastWrite = request != null ? request.getHeader(LAST_WRITE_HEADER) : null;
+    if (lastWrite == null) {
+      return false;
+    }
+    try {
+      long age = System.currentTimeMillis() - Long.parseLong(lastWrite.trim());
+      // A marker from the future (clock skew, tampering) counts as just written, within reason
+      return age < readYourWritesWindow.toMillis() && age > -readYourWritesWindow.toMillis();
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+
+  private static HttpServletRequest currentRequest() {
+    return RequestContextHolder.getRequestAttributes()
+            instanceof ServletRequestAttributes attributes
+        ? attributes.getRequest()
+        : null;
+  }
+
+  private static HttpServletResponse currentResponse() {
+    return RequestContextHolder.getRequestAttributes()
+            instanceof ServletRequestAttributes attributes
+        ? attributes.getResponse()
+        : null;
+  }
+}
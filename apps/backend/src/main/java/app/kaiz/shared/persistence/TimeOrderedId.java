@@ -0,0 +1,17 @@
+package app.kaiz.shared.persistence;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates the annotated {@code UUID} id as a time-ordered {@link UuidV7}. Use on {@code @Id}
+ * fields in place of {@code @GeneratedValue(strategy = GenerationType.UUID)}, whose random v4
+ * values scatter inserts across the whole primary-key index.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {}
@@ -0,0 +1,44 @@
+package app.kaiz.shared.persistence;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562): 48 bits of Unix milliseconds, a 12-bit sequence, then 62
+ * random bits. The sequence makes ids strictly increasing within this JVM, even for several per
+ * millisecond; when it runs out the timestamp is borrowed from the next millisecond.
+ *
+ * <p>Consecutive inserts therefore land on the right-most B-tree page instead of a random one,
+ * which keeps primary-key indexes compact and their hot pages in cache.
+ */
+public final class UuidV7 {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /** Last issued {@code (millis << 12) | sequence}. */
+  private static final AtomicLong LAST = new AtomicLong();
+
+  private UuidV7() {}
+
+  public static UUID next() {
+    return next(System.currentTimeMillis());
+  }
+
+  /** The creation time embedded in a version 7 UUID, or null for any other version. */
+  public static Instant timestamp(UUID id) {
+    if (id.version() != 7) {
+      return null;
+    }
+    return Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16);
+  }
+
+  static UUID next(long nowMillis) {
+    long candidate = nowMillis << 12;
+    long state = LAST.updateAndGet(previous -> candidate > previous ? candidate : previous + 1);
+    long msb = ((state >>> 12) << 16) | 0x7000L | (state & 0xFFFL);
+    long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+}
@@ -0,0 +1,25 @@
+package app.kaiz.shared.persistence;
+
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/** Hibernate generator behind {@link TimeOrderedId}; assigns a {@link UuidV7} on insert. */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session,
+      Object owner,
+      Object currentValue,
+      EventType eventType) {
+    return UuidV7.next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,327 @@
+package app.kaiz.shared.profiling;
+
+import app.kaiz.shared.config.ProfilingProperties;
+import app.kaiz.shared.profiling.ProfilingSummary.Hotspot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Runs JFR recordings for {@link ProfilingEndpoint}.
+ *
+ * <p>An on-demand recording writes a {@code .jfr} file and, through a parallel {@link
+ * RecordingStream}, keeps running tallies of hot methods, allocation sites and contended locks. One
+ * may run at a time and it stops by itself after its duration.
+ *
+ * <p>The optional continuous recording uses JFR's low-overhead {@code default} settings and keeps a
+ * rolling window of {@code maxAge}. It is dumped to disk on request, and automatically when the
+ * request p99 ({@code kaiz.request.latency}) stays above the SLO, at most once per cooldown. Each
+ * dump gets its own file, so a dump never overwrites one that is still being downloaded; only the
+ * latest {@value #KEPT_DUMPS} are kept.
+ */
+@Slf4j
+public class JfrProfiler implements SmartLifecycle {
+
+  static final String RECORDING = "recording";
+  static final String CONTINUOUS = "continuous";
+  private static final String REQUEST_LATENCY = "kaiz.request.latency";
+  private static final int KEPT_DUMPS = 5;
+
+  private final ProfilingProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Counter sloDumps;
+  private final Path directory;
+  private final Deque<Path> dumps = new ArrayDeque<>();
+
+  private Recording continuous;
+  private ScheduledExecutorService sloWatcher;
+  private volatile Instant lastSloDump = Instant.EPOCH;
+  private boolean running;
+
+  private OnDemand current;
+
+  public JfrProfiler(ProfilingProperties properties, MeterRegistry meterRegistry)
+      throws IOException {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.directory = Files.createTempDirectory("kaiz-profiling");
+    this.sloDumps =
+        Counter.builder("kaiz.profiling.slo.dumps")
+            .description("Continuous recordings dumped because request p99 breached the SLO")
+            .register(meterRegistry);
+  }
+
+  /** An on-demand recording with its file and live tallies. */
+  private static final class OnDemand {
+    private final String id;
+    private final String profile;
+    private final Instant startedAt = Instant.now();
+    private final Duration duration;
+    private final Path file;
+    private final Recording recording;
+    private final RecordingStream stream;
+    private final Map<String, LongAdder> hotMethods = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> allocationSites = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> lockContention = new ConcurrentHashMap<>();
+
+    private OnDemand(
+        String id,
+        String profile,
+        Duration duration,
+        Path file,
+        Recording recording,
+        RecordingStream stream) {
+      this.id = id;
+      this.profile = profile;
+      this.duration = duration;
+      this.file = file;
+      this.recording = recording;
+      this.stream = stream;
+    }
+
+    private boolean running() {
+      return Instant.now().isBefore(startedAt.plus(duration));
+    }
+  }
+
+  // ============ On-demand recordings ============
+
+  /**
+   * Starts an on-demand recording.
+   *
+   * @throws IllegalStateException if one is already running
+   * @throws IllegalArgumentException if the profile is unknown
+   */
+  public synchronized ProfilingSummary start(Duration duration, String profile) {
+    if (current != null && current.running()) {
+      throw new IllegalStateException("A recording is already running");
+    }
+    Duration bounded =
+        duration.compareTo(properties.maxDuration()) > 0 ? properties.maxDuration() : duration;
+    String profileName = profile != null ? profile : properties.defaultProfile();
+    Configuration configuration = configuration(profileName);
+    String id = RECORDING + "-" + Instant.now().getEpochSecond();
+    Path file = directory.resolve(id + ".jfr");
+
+    Recording recording = new Recording(configuration);
+    RecordingStream stream = new RecordingStream(configuration);
+    try {
+      recording.setName("kaiz-" + id);
+      recording.setToDisk(true);
+      recording.setDestination(file);
+      recording.setDuration(bounded);
+      OnDemand onDemand = new OnDemand(id, profileName, bounded, file, recording, stream);
+      subscribe(onDemand);
+      recording.start();
+      stream.startAsync();
+      CompletableFuture.delayedExecutor(bounded.toMillis(), TimeUnit.MILLISECONDS)
+          .execute(stream::close);
+
+      OnDemand previous = current;
+      current = onDemand;
+      if (previous != null) {
+        previous.recording.close();
+        Files.deleteIfExists(previous.file);
+      }
+      log.info("Started {} recording {} for {}", profileName, id, bounded);
+      return summary(onDemand);
+    } catch (IOException | RuntimeException e) {
+      recording.close();
+      stream.close();
+      throw new IllegalStateException("Could not start recording: " + e.getMessage(), e);
+    }
+  }
+
+  public synchronized ProfilingSummary status() {
+    return current != null ? summary(current) : null;
+  }
+
+  /** The latest on-demand recording once it has finished, or {@code null}. */
+  public synchronized Path recordingFile() {
+    if (current == null || current.running() || !Files.exists(current.file)) {
+      return null;
+    }
+    return current.file;
+  }
+
+  private void subscribe(OnDemand onDemand) {
+    onDemand.stream.onEvent(
+        "jdk.ExecutionSample", event -> tally(onDemand.hotMethods, topFrame(event), 1));
+    onDemand.stream.onEvent(
+        "jdk.ObjectAllocationSample",
+        event -> tally(onDemand.allocationSites, topFrame(event), event.getLong("weight")));
+    onDemand.stream.onEvent(
+        "jdk.JavaMonitorEnter",
+        event ->
+            tally(
+                onDemand.lockContention,
+                className(event.getClass("monitorClass")),
+                event.getDuration().toMillis()));
+    onDemand.stream.onEvent(
+        "jdk.ThreadPark",
+        event ->
+            tally(
+                onDemand.lockContention,
+                className(event.getClass("parkedClass")),
+                event.getDuration().toMillis()));
+  }
+
+  private static void tally(Map<String, LongAdder> counts, String key, long amount) {
+    if (key != null) {
+      counts.computeIfAbsent(key, k -> new LongAdder()).add(amount);
+    }
+  }
+
+  private static String topFrame(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+      return null;
+    }
+    RecordedFrame frame = stackTrace.getFrames().getFirst();
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+  }
+
+  private static String className(RecordedClass recordedClass) {
+    return recordedClass != null ? recordedClass.getName() : null;
+  }
+
+  private ProfilingSummary summary(OnDemand onDemand) {
+    return new ProfilingSummary(
+        onDemand.id,
+        onDemand.profile,
+        onDemand.startedAt,
+        onDemand.duration,
+        onDemand.running(),
+        top(onDemand.hotMethods),
+        top(onDemand.allocationSites),
+        top(onDemand.lockContention));
+  }
+
+  private List<Hotspot> top(Map<String, LongAdder> counts) {
+    return counts.entrySet().stream()
+        .map(entry -> new Hotspot(entry.getKey(), entry.getValue().sum()))
+        .sorted(Comparator.comparingLong(Hotspot::value).reversed())
+        .limit(properties.topN())
+        .toList();
+  }
+
+  private static Configuration configuration(String name) {
+    try {
+      return Configuration.getConfiguration(name);
+    } catch (IOException | ParseException e) {
+      throw new IllegalArgumentException("Unknown JFR profile: " + name, e);
+    }
+  }
+
+  // ============ Continuous recording ============
+
+  /** Writes the rolling window of the continuous recording to disk, or {@code null} if off. */
+  public synchronized Path dumpContinuous() throws IOException {
+    if (continuous == null) {
+      return null;
+    }
+    Path file = directory.resolve(CONTINUOUS + "-" + Instant.now().toEpochMilli() + ".jfr");
+    continuous.dump(file);
+    dumps.addLast(file);
+    while (dumps.size() > KEPT_DUMPS) {
+      Files.deleteIfExists(dumps.removeFirst());
+    }
+    return file;
+  }
+
+  private void checkSlo() {
+    Timer latency = meterRegistry.find(REQUEST_LATENCY).timer();
+    if (latency == null) {
+      return;
+    }
+    double p99 = 0;
+    for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+      p99 = Math.max(p99, value.value(TimeUnit.MILLISECONDS));
+    }
+    Instant now = Instant.now();
+    if (p99 <= properties.slo().p99Threshold().toMillis()
+        || now.isBefore(lastSloDump.plus(properties.slo().cooldown()))) {
+      return;
+    }
+    lastSloDump = now;
+    try {
+      Path file = dumpContinuous();
+      sloDumps.increment();
+      log.warn("Request p99 {} ms breached the SLO, dumped continuous recording to {}", p99, file);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Could not dump continuous recording: {}", e.getMessage());
+    }
+  }
+
+  // ============ Lifecycle ============
+
+  @Override
+  public synchronized void start() {
+    running = true;
+    if (!properties.continuous().enabled()) {
+      return;
+    }
+    continuous = new Recording(configuration("default"));
+    continuous.setName("kaiz-" + CONTINUOUS);
+    continuous.setToDisk(true);
+    continuous.setMaxAge(properties.continuous().maxAge());
+    continuous.setMaxSize(properties.continuous().maxSize().toBytes());
+    continuous.start();
+
+    sloWatcher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("profiling-slo").daemon().unstarted(runnable));
+    long interval = properties.slo().checkInterval().toMillis();
+    sloWatcher.scheduleWithFixedDelay(this::checkSlo, interval, interval, TimeUnit.MILLISECONDS);
+    log.info("Continuous JFR recording started, keeping {}", properties.continuous().maxAge());
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    if (sloWatcher != null) {
+      sloWatcher.shutdownNow();
+      sloWatcher = null;
+    }
+    if (continuous != null) {
+      continuous.close();
+      continuous = null;
+    }
+    if (current != null) {
+      current.stream.close();
+      current.recording.close();
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return running;
+  }
+}
@@ -0,0 +1,68 @@
+package app.kaiz.shared.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code /actuator/profiling}: JFR recordings for admins on allow-listed IPs.
+ *
+ * <ul>
+ *   <li>{@code GET} returns the latest on-demand recording and its hot-method, allocation and
+ *       lock-contention tallies
+ *   <li>{@code POST {"seconds": 60, "profile": "profile"}} starts an on-demand recording
+ *   <li>{@code GET /recording} downloads the finished {@code .jfr} file
+ *   <li>{@code GET /continuous} dumps and downloads the continuous recording's rolling window
+ * </ul>
+ */
+@WebEndpoint(id = "profiling")
+@RequiredArgsConstructor
+public class ProfilingEndpoint {
+
+  private static final long DEFAULT_SECONDS = 60;
+
+  private final JfrProfiler jfrProfiler;
+
+  @ReadOperation
+  public WebEndpointResponse<ProfilingSummary> status() {
+    ProfilingSummary summary = jfrProfiler.status();
+    return summary != null
+        ? new WebEndpointResponse<>(summary)
+        : new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+  }
+
+  @WriteOperation
+  public WebEndpointResponse<Object> start(@Nullable Long seconds, @Nullable String profile) {
+    try {
+      return new WebEndpointResponse<>(
+          jfrProfiler.start(
+              Duration.ofSeconds(seconds != null ? seconds : DEFAULT_SECONDS), profile));
+    } catch (IllegalArgumentException e) {
+      return new WebEndpointResponse<>(e.getMessage(), WebEndpointResponse.STATUS_BAD_REQUEST);
+    } catch (IllegalStateException e) {
+      return new WebEndpointResponse<>(e.getMessage(), 409);
+    }
+  }
+
+  @ReadOperation(produces = "application/octet-stream")
+  public WebEndpointResponse<Resource> download(@Selector String recording) throws IOException {
+    Path file =
+        switch (recording) {
+          case JfrProfiler.RECORDING -> jfrProfiler.recordingFile();
+          case JfrProfiler.CONTINUOUS -> jfrProfiler.dumpContinuous();
+          default -> null;
+        };
+    return file != null
+        ? new WebEndpointResponse<>(new FileSystemResource(file))
+        : new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+  }
+}
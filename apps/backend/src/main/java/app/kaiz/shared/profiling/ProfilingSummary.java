@@ -0,0 +1,25 @@
+package app.kaiz.shared.profiling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * State of the latest on-demand recording and what its event stream has seen so far.
+ *
+ * @param hotMethods top frames of CPU execution samples, by sample count
+ * @param allocationSites top frames of allocation samples, by sampled bytes
+ * @param lockContention contended monitor classes, by total blocked milliseconds
+ */
+public record ProfilingSummary(
+    String id,
+    String profile,
+    Instant startedAt,
+    Duration duration,
+    boolean running,
+    List<Hotspot> hotMethods,
+    List<Hotspot> allocationSites,
+    List<Hotspot> lockContention) {
+
+  public record Hotspot(String name, long value) {}
+}
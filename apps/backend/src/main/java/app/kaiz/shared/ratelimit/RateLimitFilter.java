@@ -0,0 +1,99 @@
+package app.kaiz.shared.ratelimit;
+
+import app.kaiz.shared.config.RateLimitProperties;
+import app.kaiz.shared.exception.ErrorResponse;
+import app.kaiz.shared.security.ClientIpResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Throttles authenticated requests per user and anonymous {@code /api/v1/auth/**} requests per
+ * client IP. Runs after {@code JwtAuthenticationFilter} so the user principal is already resolved.
+ *
+ * <p>Every throttled response, allowed or rejected, carries {@code X-RateLimit-Limit}, {@code
+ * X-RateLimit-Remaining} and {@code X-RateLimit-Reset} (seconds until the bucket is full again);
+ * rejections add {@code Retry-After}, the seconds until the next request is allowed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final String AUTH_PATH_PREFIX = "/api/v1/auth/";
+
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties properties;
+  private final ObjectMapper objectMapper;
+  private final ClientIpResolver clientIpResolver;
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.enabled();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+
+    RateLimitScope scope;
+    String key;
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.isAuthenticated()
+        && !(authentication instanceof AnonymousAuthenticationToken)) {
+      scope = RateLimitScope.API;
+      key = authentication.getName();
+    } else if (request.getRequestURI().startsWith(AUTH_PATH_PREFIX)) {
+      scope = RateLimitScope.AUTH;
+      key = clientIpResolver.resolve(request);
+    } else {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    ConsumptionProbe probe = rateLimiter.tryConsume(scope, key);
+    response.setHeader("X-RateLimit-Limit", String.valueOf(rateLimiter.limitFor(scope).capacity()));
+    response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+    response.setHeader(
+        "X-RateLimit-Reset", String.valueOf(ceilSeconds(probe.getNanosToWaitForReset())));
+
+    if (probe.isConsumed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    long retryAfterSeconds = Math.max(1, ceilSeconds(probe.getNanosToWaitForRefill()));
+    log.warn("Rate limit exceeded for {} {} on {}", scope, key, request.getRequestURI());
+
+    response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        new ErrorResponse(
+            "RATE_LIMITED", "Too many requests. Please try again later.", request.getRequestURI()));
+  }
+
+  private static long ceilSeconds(long nanos) {
+    return TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999);
+  }
+}
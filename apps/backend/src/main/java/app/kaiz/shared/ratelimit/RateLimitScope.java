@@ -0,0 +1,9 @@
+package app.kaiz.shared.ratelimit;
+
+/** Which limit a request is charged against. */
+public enum RateLimitScope {
+  /** Anonymous authentication endpoints, keyed by client IP. */
+  AUTH,
+  /** Authenticated API traffic, keyed by user ID. */
+  API
+}
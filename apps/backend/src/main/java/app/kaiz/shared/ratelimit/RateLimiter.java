@@ -0,0 +1,107 @@
+package app.kaiz.shared.ratelimit;
+
+import app.kaiz.shared.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves and consumes token buckets per scope and key.
+ *
+ * <p>Buckets are held in a bounded Caffeine map and dropped after {@code rate-limit.idle-timeout}
+ * without traffic. With {@code rate-limit.store=postgres} the map only caches bucket proxies whose
+ * state lives in PostgreSQL.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+  private final RateLimitProperties properties;
+  private final ProxyManager<String> proxyManager;
+  private final Map<RateLimitScope, BucketConfiguration> configurations =
+      new EnumMap<>(RateLimitScope.class);
+  private final Map<RateLimitScope, Counter> rejections = new EnumMap<>(RateLimitScope.class);
+  private final Cache<String, Bucket> buckets;
+
+  public RateLimiter(
+      RateLimitProperties properties,
+      ObjectProvider<ProxyManager<String>> proxyManager,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.proxyManager = proxyManager.getIfAvailable();
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(properties.maxBuckets())
+            .expireAfterAccess(properties.idleTimeout())
+            .build();
+
+    for (RateLimitScope scope : RateLimitScope.values()) {
+      configurations.put(scope, toConfiguration(limitFor(scope)));
+      rejections.put(
+          scope,
+          Counter.builder("kaiz.ratelimit.rejected")
+              .description("Requests rejected by the rate limiter")
+              .tag("scope", scope.name().toLowerCase())
+              .register(meterRegistry));
+    }
+    Gauge.builder("kaiz.ratelimit.buckets", buckets, Cache::estimatedSize)
+        .description("Rate limit buckets currently held in memory")
+        .register(meterRegistry);
+
+    log.info(
+        "Rate limiting {} with {} bucket store",
+        properties.enabled() ? "enabled" : "disabled",
+        this.proxyManager != null ? "postgres" : "in-memory");
+  }
+
+  public ConsumptionProbe tryConsume(RateLimitScope scope, String key) {
+    String bucketKey = scope.name() + ':' + key;
+    Bucket bucket = buckets.get(bucketKey, k -> createBucket(k, configurations.get(scope)));
+    ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+    if (!probe.isConsumed()) {
+      rejections.get(scope).increment();
+    }
+    return probe;
+  }
+
+  public RateLimitProperties.Limit limitFor(RateLimitScope scope) {
+    return switch (scope) {
+      case AUTH -> properties.auth();
+      case API -> properties.api();
+    };
+  }
+
+  private Bucket createBucket(String key, BucketConfiguration configuration) {
+    if (proxyManager != null) {
+      return proxyManager.builder().build(key, () -> configuration);
+    }
+    LocalBucketBuilder builder = Bucket.builder();
+    for (Bandwidth bandwidth : configuration.getBandwidths()) {
+      builder.addLimit(bandwidth);
+    }
+    return builder.build();
+  }
+
+  private static BucketConfiguration toConfiguration(RateLimitProperties.Limit limit) {
+    return BucketConfiguration.builder()
+        .addLimit(
+            Bandwidth.builder()
+                .capacity(limit.capacity())
+                .refillGreedy(limit.refillTokens(), limit.refillPeriod())
+                .build())
+        .build();
+  }
+}
@@ -0,0 +1,81 @@
+package app.kaiz.shared.resilience;
+
+import app.kaiz.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps concurrent entry into one subsystem. Re-entrant per thread: a call that already holds a
+ * permit, for example a service calling another service of the same subsystem, does not take a
+ * second one.
+ */
+public class Bulkhead {
+
+  private final String name;
+  private final Semaphore permits;
+  private final Duration maxWait;
+  private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+  private final Counter rejected;
+
+  public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxWait = maxWait;
+    Gauge.builder("kaiz.bulkhead.available", permits, Semaphore::availablePermits)
+        .description("Free permits")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+    Gauge.builder("kaiz.bulkhead.waiting", permits, Semaphore::getQueueLength)
+        .description("Calls waiting for a permit")
+        .tag("bulkhead", name)
+        .register(meterRegistry);
+    this.rejected =
+        Counter.builder("kaiz.bulkhead.rejected")
+            .description("Calls turned away after waiting maxWait")
+            .tag("bulkhead", name)
+            .register(meterRegistry);
+  }
+
+  /**
+   * Takes a permit, waiting up to {@code maxWait}. Every successful call must be paired with {@link
+   * #release()}.
+   *
+   * @throws ServiceOverloadedException if no permit frees up in time
+   */
+  public void acquire() {
+    int[] held = depth.get();
+    if (held[0] > 0) {
+      held[0]++;
+      return;
+    }
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      rejected.increment();
+      throw new ServiceOverloadedException(
+          "The " + name + " service is busy. Please try again shortly.", maxWait);
+    }
+    held[0] = 1;
+  }
+
+  public void release() {
+    int[] held = depth.get();
+    if (--held[0] == 0) {
+      depth.remove();
+      permits.release();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+}
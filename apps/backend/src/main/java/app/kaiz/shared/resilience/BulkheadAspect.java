@@ -0,0 +1,104 @@
+package app.kaiz.shared.resilience;
+
+import app.kaiz.shared.config.ResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Enters the subsystem's {@link Bulkhead} before a transactional application service runs. Ordered
+ * ahead of the transaction interceptor, so a call that cannot get a permit fails fast without ever
+ * asking Hikari for a connection.
+ *
+ * <p>A bulkhead that lists {@code methods} guards only those service methods, transactional or not,
+ * and leaves the rest of its modules unguarded. Listed methods are taken out of any module-wide
+ * bulkhead of the same module, so their load can be capped separately.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class BulkheadAspect {
+
+  private static final String BASE_PACKAGE = "app.kaiz.";
+
+  private final Map<String, List<Scope>> scopesByModule = new HashMap<>();
+  private final Map<Method, Optional<Bulkhead>> bulkheadsByMethod = new ConcurrentHashMap<>();
+
+  private record Scope(Bulkhead bulkhead, Set<String> methods) {}
+
+  public BulkheadAspect(ResilienceProperties properties, MeterRegistry meterRegistry) {
+    properties
+        .bulkheads()
+        .forEach(
+            (name, spec) -> {
+              Bulkhead bulkhead =
+                  new Bulkhead(name, spec.maxConcurrent(), spec.maxWait(), meterRegistry);
+              Scope scope = new Scope(bulkhead, Set.copyOf(spec.methods()));
+              spec.modules()
+                  .forEach(
+                      module ->
+                          scopesByModule
+                              .computeIfAbsent(module, m -> new ArrayList<>())
+                              .add(scope));
+            });
+  }
+
+  @Around(
+      "execution(public * app.kaiz..application..*(..))"
+          + " && (@within(org.springframework.transaction.annotation.Transactional)"
+          + " || @annotation(org.springframework.transaction.annotation.Transactional)"
+          + " || @within(org.springframework.stereotype.Service))")
+  public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    Bulkhead bulkhead = bulkheadsByMethod.computeIfAbsent(method, this::bulkheadFor).orElse(null);
+    if (bulkhead == null) {
+      return joinPoint.proceed();
+    }
+    bulkhead.acquire();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  private Optional<Bulkhead> bulkheadFor(Method method) {
+    Class<?> type = method.getDeclaringClass();
+    String packageName = type.getPackageName();
+    if (!packageName.startsWith(BASE_PACKAGE)) {
+      return Optional.empty();
+    }
+    String module = packageName.substring(BASE_PACKAGE.length());
+    int end = module.indexOf('.');
+    List<Scope> scopes =
+        scopesByModule.getOrDefault(end < 0 ? module : module.substring(0, end), List.of());
+    String qualifiedName = type.getSimpleName() + "." + method.getName();
+    for (Scope scope : scopes) {
+      if (scope.methods().contains(qualifiedName)) {
+        return Optional.of(scope.bulkhead());
+      }
+    }
+    boolean transactional =
+        AnnotatedElementUtils.hasAnnotation(method, Transactional.class)
+            || AnnotatedElementUtils.hasAnnotation(type, Transactional.class);
+    return scopes.stream()
+        .filter(scope -> scope.methods().isEmpty() && transactional)
+        .findFirst()
+        .map(Scope::bulkhead);
+  }
+}
@@ -0,0 +1,77 @@
+package app.kaiz.shared.resilience;
+
+import app.kaiz.shared.config.ResilienceProperties;
+import app.kaiz.shared.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects a share of requests with 503 and {@code Retry-After} while {@link PoolSaturationMonitor}
+ * reports the connection pool saturated. Runs ahead of Spring Security so that a shed request costs
+ * no token verification or database work. Actuator endpoints are never shed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+  private final PoolSaturationMonitor monitor;
+  private final ResilienceProperties.Shedding properties;
+  private final ObjectMapper objectMapper;
+  private final Counter shed;
+
+  public LoadSheddingFilter(
+      PoolSaturationMonitor monitor,
+      ResilienceProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.monitor = monitor;
+    this.properties = properties.shedding();
+    this.objectMapper = objectMapper;
+    this.shed =
+        Counter.builder("kaiz.loadshed.rejected")
+            .description("Requests rejected while the connection pool was saturated")
+            .register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.enabled() || request.getRequestURI().startsWith("/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!monitor.shouldShed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    shed.increment();
+    response.setHeader(
+        "Retry-After", String.valueOf(Math.max(1, properties.retryAfter().toSeconds())));
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        new ErrorResponse(
+            "SERVICE_OVERLOADED",
+            "The service is busy. Please try again shortly.",
+            request.getRequestURI()));
+  }
+}
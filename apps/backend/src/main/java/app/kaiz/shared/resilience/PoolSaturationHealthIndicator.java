@@ -0,0 +1,29 @@
+package app.kaiz.shared.resilience;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} while the connection pool is fully saturated, so the readiness
+ * probe takes the instance out of rotation until it recovers.
+ */
+@Component
+public class PoolSaturationHealthIndicator implements HealthIndicator {
+
+  private final PoolSaturationMonitor monitor;
+
+  public PoolSaturationHealthIndicator(PoolSaturationMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  @Override
+  public Health health() {
+    Health.Builder builder = monitor.isSaturated() ? Health.outOfService() : Health.up();
+    return builder
+        .withDetail("acquireP99Ms", Math.round(monitor.acquireP99Seconds() * 1000))
+        .withDetail("pending", Math.round(monitor.pending()))
+        .withDetail("shedRatio", monitor.shedRatio())
+        .build();
+  }
+}
@@ -0,0 +1,140 @@
+package app.kaiz.shared.resilience;
+
+import app.kaiz.shared.config.ResilienceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Samples Hikari's connection-acquisition p99 and waiting threads across all pools and turns them
+ * into a shed ratio: each saturated sample raises it by a tenth, each healthy one lowers it by a
+ * twentieth, capped at {@code maxShedRatio}. Rising faster than falling keeps the pool from
+ * flapping between overloaded and idle.
+ */
+@Component
+@Slf4j
+public class PoolSaturationMonitor implements SmartLifecycle {
+
+  private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+  private static final String PENDING_GAUGE = "hikaricp.connections.pending";
+  private static final double INCREASE = 0.1;
+  private static final double DECREASE = 0.05;
+
+  private final ResilienceProperties.Shedding properties;
+  private final MeterRegistry meterRegistry;
+  private volatile double acquireP99Seconds;
+  private volatile double pending;
+  private volatile double shedRatio;
+  private ScheduledExecutorService executor;
+
+  public PoolSaturationMonitor(ResilienceProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties.shedding();
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("kaiz.loadshed.acquire.p99", this, monitor -> monitor.acquireP99Seconds)
+        .description("Highest connection-acquisition p99 across pools, in seconds")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder("kaiz.loadshed.ratio", this, PoolSaturationMonitor::shedRatio)
+        .description("Share of incoming requests currently rejected")
+        .register(meterRegistry);
+  }
+
+  void sample() {
+    double p99 = 0;
+    for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+      for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+        p99 = Math.max(p99, value.value(TimeUnit.SECONDS));
+      }
+    }
+    double waiting = 0;
+    for (Gauge gauge : meterRegistry.find(PENDING_GAUGE).gauges()) {
+      waiting += gauge.value();
+    }
+    acquireP99Seconds = p99;
+    pending = waiting;
+
+    boolean saturated =
+        p99 > toSeconds(properties.acquireThreshold()) || waiting > properties.maxPending();
+    double previous = shedRatio;
+    shedRatio =
+        saturated
+            ? Math.min(properties.maxShedRatio(), previous + INCREASE)
+            : Math.max(0, previous - DECREASE);
+    if (previous == 0 && shedRatio > 0) {
+      log.warn(
+          "Connection pool saturated (acquire p99 {} ms, {} waiting), shedding load",
+          Math.round(p99 * 1000),
+          Math.round(waiting));
+    } else if (previous > 0 && shedRatio == 0) {
+      log.info("Connection pool recovered, no longer shedding load");
+    }
+  }
+
+  /** Whether to reject the current request; {@code true} for roughly {@link #shedRatio()}. */
+  public boolean shouldShed() {
+    double ratio = shedRatio;
+    return ratio > 0 && ThreadLocalRandom.current().nextDouble() < ratio;
+  }
+
+  public double shedRatio() {
+    return shedRatio;
+  }
+
+  public double acquireP99Seconds() {
+    return acquireP99Seconds;
+  }
+
+  public double pending() {
+    return pending;
+  }
+
+  /** The pool is as saturated as the monitor allows it to report: shedding at its cap. */
+  public boolean isSaturated() {
+    return shedRatio >= properties.maxShedRatio();
+  }
+
+  private static double toSeconds(Duration duration) {
+    return duration.toNanos() / 1e9;
+  }
+
+  // ============ Lifecycle ============
+
+  @Override
+  public void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("pool-saturation").daemon().unstarted(runnable));
+    long interval = properties.sampleInterval().toMillis();
+    executor.scheduleWithFixedDelay(this::sampleSafely, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  private void sampleSafely() {
+    try {
+      sample();
+    } catch (RuntimeException e) {
+      log.warn("Could not sample connection pool metrics: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return executor != null;
+  }
+}
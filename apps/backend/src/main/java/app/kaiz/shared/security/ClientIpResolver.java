@@ -0,0 +1,34 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.ClientIpProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the originating client IP of a request that passed through {@code
+ * kaiz.client-ip.trusted-proxies} reverse proxies.
+ *
+ * <p>Every proxy appends the address it received the request from to {@code X-Forwarded-For}, so
+ * only the last {@code trustedProxies} entries were written by our own infrastructure. The client
+ * is the right-most of those; anything to its left came from the client itself and may be forged.
+ */
+@Component
+public class ClientIpResolver {
+
+  private final ClientIpProperties properties;
+
+  public ClientIpResolver(ClientIpProperties properties) {
+    this.properties = properties;
+  }
+
+  public String resolve(HttpServletRequest request) {
+    int trustedProxies = properties.trustedProxies();
+    String forwardedFor = request.getHeader("X-Forwarded-For");
+    if (trustedProxies <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+      return request.getRemoteAddr();
+    }
+    String[] hops = forwardedFor.split(",");
+    // Fewer hops than proxies means the request skipped a proxy; the left-most is the best guess
+    return hops[Math.max(0, hops.length - trustedProxies)].trim();
+  }
+}
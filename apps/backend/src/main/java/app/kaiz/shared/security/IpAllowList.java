@@ -0,0 +1,43 @@
+package app.kaiz.shared.security;
+
+import java.util.Collection;
+
+/**
+ * Matches client IPs against allow-list entries: exact addresses or a wildcard suffix such as
+ * {@code 192.168.1.*}. Loopback is allowed for local development, but only when the connection
+ * itself comes from loopback: a forwarded-for header alone cannot claim to be local.
+ */
+public final class IpAllowList {
+
+  private IpAllowList() {}
+
+  /**
+   * @param clientIp the client IP resolved through trusted proxies ({@link ClientIpResolver})
+   * @param remoteAddr the peer address of the connection ({@code request.getRemoteAddr()})
+   */
+  public static boolean allows(String clientIp, String remoteAddr, Collection<String> allowedIps) {
+    if (isLoopback(clientIp) && isLoopback(remoteAddr)) {
+      return true;
+    }
+    return allowedIps.stream()
+        .map(String::trim)
+        .anyMatch(
+            allowedIp -> {
+              if (allowedIp.equals(clientIp)) {
+                return true;
+              }
+              if (allowedIp.endsWith("*")) {
+                String prefix = allowedIp.substring(0, allowedIp.length() - 1);
+                return clientIp.startsWith(prefix);
+              }
+              return false;
+            });
+  }
+
+  private static boolean isLoopback(String ip) {
+    return "127.0.0.1".equals(ip)
+        || "0:0:0:0:0:0:0:1".equals(ip)
+        || "::1".equals(ip)
+        || "localhost".equals(ip);
+  }
+}
@@ -1,14 +1,20 @@
 package app.kaiz.shared.security;
 
+import app.kaiz.shared.config.TokenRevocationProperties;
+import app.kaiz.shared.exception.ErrorResponse;
+import app.kaiz.shared.observability.RequestObservationFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,8 +31,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_PREFIX = "Bearer ";
+  private static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+      List.of(new SimpleGrantedAuthority("ROLE_USER"));
 
   private final JwtTokenProvider jwtTokenProvider;
+  private final TokenRevocationList tokenRevocationList;
+  private final TokenRevocationProperties revocationProperties;
+  private final ObjectMapper objectMapper;
 
   @Override
   protected void doFilterInternal(
@@ -35,32 +46,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain)
       throws ServletException, IOException {
 
+    VerifiedToken verified = null;
     try {
       String token = extractToken(request);
+      verified = StringUtils.hasText(token) ? jwtTokenProvider.verify(token).orElse(null) : null;
+    } catch (Exception e) {
+      log.debug("Could not verify token: {}", e.getMessage());
+    }
 
-      if (StringUtils.hasText(token)
-          && jwtTokenProvider.validateToken(token)
-          && jwtTokenProvider.isAccessToken(token)) {
-
-        UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-        String email = jwtTokenProvider.getEmailFromToken(token);
-
+    if (verified != null && verified.isAccessToken()) {
+      if (!tokenRevocationList.isCurrent()) {
+        // Fail closed: a list that is not loaded or not in sync could let a revoked token through
+        rejectUnchecked(request, response);
+        return;
+      }
+      if (!tokenRevocationList.isRevoked(verified)) {
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
-                userId.toString(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                verified.userId().toString(), verified, USER_AUTHORITIES);
 
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put(RequestObservationFilter.USER_ID_MDC, verified.userId().toString());
 
-        log.debug("Authenticated user: {}", email);
+        log.debug("Authenticated user: {}", verified.email());
       }
-    } catch (Exception e) {
-      log.debug("Could not set user authentication: {}", e.getMessage());
     }
 
     filterChain.doFilter(request, response);
   }
 
+  private void rejectUnchecked(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    response.setHeader(
+        "Retry-After",
+        String.valueOf(Math.max(1, revocationProperties.retryAfter().toSeconds())));
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        new ErrorResponse(
+            "TOKEN_CHECK_UNAVAILABLE",
+            "Your session cannot be verified right now. Please try again shortly.",
+            request.getRequestURI()));
+  }
+
   private String extractToken(HttpServletRequest request) {
     String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
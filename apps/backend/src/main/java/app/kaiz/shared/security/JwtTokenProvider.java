@@ -1,14 +1,19 @@
 package app.kaiz.shared.security;
 
 import app.kaiz.shared.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
@@ -18,15 +23,37 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JwtTokenProvider {
 
+  /** Upper bound on distinct tokens kept verified in memory (one per active session). */
+  private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
   private final JwtProperties jwtProperties;
   private final SecretKey secretKey;
 
+  /**
+   * Tokens that already passed signature verification, keyed by their Base64URL signature segment
+   * (the signature bytes in encoded form). Each entry expires together with its token.
+   */
+  private final Cache<String, CachedToken> verifiedTokens;
+
   public JwtTokenProvider(JwtProperties jwtProperties) {
     this.jwtProperties = jwtProperties;
     this.secretKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new TokenExpiry())
+            .build();
   }
 
   public String generateAccessToken(UUID userId, String email) {
+    return generateAccessToken(userId, email, false);
+  }
+
+  /**
+   * @param debug whether to add the {@code debug} claim, which gets requests made with this token a
+   *     {@code Server-Timing} response header
+   */
+  public String generateAccessToken(UUID userId, String email, boolean debug) {
     Instant now = Instant.now();
     Instant expiry = now.plusMillis(jwtProperties.accessTokenExpiration());
 
@@ -35,6 +62,7 @@ public class JwtTokenProvider {
         .subject(userId.toString())
         .claim("email", email)
         .claim("type", "access")
+        .claim("debug", debug ? Boolean.TRUE : null)
         .issuer(jwtProperties.issuer())
         .audience()
         .add(jwtProperties.audience())
@@ -63,6 +91,55 @@ public class JwtTokenProvider {
         .compact();
   }
 
+  /**
+   * Verifies the token once and returns its claims as a {@link VerifiedToken}. Repeated calls with
+   * the same token are served from memory until the token expires.
+   *
+   * @return the verified token, or empty if the token is missing, malformed, tampered or expired
+   */
+  public Optional<VerifiedToken> verify(String token) {
+    if (token == null || token.isBlank()) {
+      log.debug("JWT token is null or empty");
+      return Optional.empty();
+    }
+
+    int signatureStart = token.lastIndexOf('.') + 1;
+    if (signatureStart == 0 || signatureStart == token.length()) {
+      log.debug("JWT token has no signature");
+      return Optional.empty();
+    }
+    String signature = token.substring(signatureStart);
+
+    CachedToken cached = verifiedTokens.getIfPresent(signature);
+    if (cached != null && cached.rawToken().equals(token)) {
+      return Optional.of(cached.verified());
+    }
+
+    try {
+      VerifiedToken verified = parse(token);
+      verifiedTokens.put(signature, new CachedToken(token, verified));
+      return Optional.of(verified);
+    } catch (ExpiredJwtException e) {
+      log.debug("JWT token expired");
+    } catch (JwtException | IllegalArgumentException e) {
+      log.debug("Invalid JWT token: {}", e.getMessage());
+    }
+    return Optional.empty();
+  }
+
+  /** Single signature check and claims parse, bypassing the verified-token cache. */
+  VerifiedToken parse(String token) {
+    Claims claims = getClaims(token);
+    return new VerifiedToken(
+        UUID.fromString(claims.getSubject()),
+        claims.get("email", String.class),
+        claims.get("type", String.class),
+        claims.getId(),
+        claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+        claims.getExpiration().toInstant(),
+        Boolean.TRUE.equals(claims.get("debug", Boolean.class)));
+  }
+
   public boolean validateToken(String token) {
     if (token == null || token.isBlank()) {
       log.debug("JWT token is null or empty");
@@ -110,4 +187,27 @@ public class JwtTokenProvider {
   public boolean isRefreshToken(String token) {
     return "refresh".equals(getTokenType(token));
   }
+
+  private record CachedToken(String rawToken, VerifiedToken verified) {}
+
+  /** Evicts each cached token at the moment the token itself expires. */
+  private static final class TokenExpiry implements Expiry<String, CachedToken> {
+
+    @Override
+    public long expireAfterCreate(String signature, CachedToken cached, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), cached.verified().expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String signature, CachedToken cached, long currentTime, long currentDuration) {
+      return expireAfterCreate(signature, cached, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String signature, CachedToken cached, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
@@ -0,0 +1,126 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.PasswordHashingProperties.Pool;
+import app.kaiz.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs password hashing on a small pool of platform threads, one per core by default, instead of on
+ * request threads. A hash is pure CPU for hundreds of milliseconds; on virtual request threads a
+ * login storm would otherwise pin every carrier and stall unrelated traffic. Callers block until
+ * their hash is done (a virtual caller unmounts while waiting). When every thread is busy and the
+ * queue is full the call fails at once with {@link ServiceOverloadedException}.
+ */
+public class PasswordHasher implements DisposableBean {
+
+  private final PasswordEncoder encoder;
+  private final Duration retryAfter;
+  private final ThreadPoolExecutor executor;
+  private final Timer waitTimer;
+  private final Timer hashTimer;
+  private final Timer matchTimer;
+  private final Counter rejected;
+
+  public PasswordHasher(PasswordEncoder encoder, Pool pool, MeterRegistry meterRegistry) {
+    this.encoder = encoder;
+    this.retryAfter = pool.retryAfter();
+    int threads = pool.threads() > 0 ? pool.threads() : Runtime.getRuntime().availableProcessors();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(pool.queueCapacity()),
+            Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("kaiz.password.queue.depth", executor, p -> p.getQueue().size())
+        .description("Password hashes waiting for a thread")
+        .register(meterRegistry);
+    Gauge.builder("kaiz.password.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Password hashes currently running")
+        .register(meterRegistry);
+    this.waitTimer =
+        Timer.builder("kaiz.password.wait")
+            .description("Time a password hash waited for a thread")
+            .register(meterRegistry);
+    this.hashTimer =
+        Timer.builder("kaiz.password.duration")
+            .description("Password hashing time")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+    this.matchTimer =
+        Timer.builder("kaiz.password.duration")
+            .description("Password hashing time")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+    this.rejected =
+        Counter.builder("kaiz.password.rejected")
+            .description("Password hashes rejected because the pool was full")
+            .register(meterRegistry);
+  }
+
+  public String encode(CharSequence rawPassword) {
+    return run(hashTimer, () -> encoder.encode(rawPassword));
+  }
+
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(matchTimer, () -> encoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Whether a stored hash was made with another algorithm or weaker parameters than new hashes get.
+   * Cheap: it only parses the hash, so it runs on the caller's thread.
+   */
+  public boolean needsRehash(String encodedPassword) {
+    return encoder.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T run(Timer timer, Callable<T> work) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(work);
+              });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new ServiceOverloadedException(
+          "Too many sign-ins in progress, please retry shortly", retryAfter);
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing password", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,61 @@
+package app.kaiz.shared.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Picks password-hashing work factors by timing this host, so that one hash costs about the target
+ * latency whatever the hardware. Each measurement is the median of a few runs after a warm-up.
+ */
+public final class PasswordWorkFactor {
+
+  public static final int ARGON2_SALT_LENGTH = 16;
+  public static final int ARGON2_HASH_LENGTH = 32;
+
+  private static final int SAMPLES = 3;
+  private static final String PROBE = "work-factor-calibration";
+
+  private PasswordWorkFactor() {}
+
+  /**
+   * Highest BCrypt cost whose hash stays within {@code target}, clamped to the given bounds. Each
+   * extra round doubles the time, so only the minimum cost is measured.
+   */
+  public static int bcryptCost(Duration target, int minCost, int maxCost) {
+    long nanos = median(new BCryptPasswordEncoder(minCost));
+    int cost = minCost;
+    while (cost < maxCost && nanos * 2 <= target.toNanos()) {
+      nanos *= 2;
+      cost++;
+    }
+    return cost;
+  }
+
+  /**
+   * Argon2 pass count that fits {@code target} at the given memory and parallelism, clamped to the
+   * given bounds. Time grows linearly with passes, so a single pass is measured.
+   */
+  public static int argon2Iterations(
+      Duration target, int memoryKib, int parallelism, int minIterations, int maxIterations) {
+    long perIteration =
+        median(
+            new Argon2PasswordEncoder(
+                ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, 1));
+    return Math.clamp(target.toNanos() / Math.max(1, perIteration), minIterations, maxIterations);
+  }
+
+  private static long median(PasswordEncoder encoder) {
+    encoder.encode(PROBE);
+    long[] samples = new long[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.encode(PROBE);
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+    return samples[SAMPLES / 2];
+  }
+}
@@ -0,0 +1,45 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.ProfilingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** Restricts {@code /actuator/profiling} to {@code kaiz.profiling.allowed-ips}. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfilingIpFilter extends OncePerRequestFilter {
+
+  private static final String PROFILING_PATH = "/actuator/profiling";
+
+  private final ProfilingProperties properties;
+  private final ClientIpResolver clientIpResolver;
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(PROFILING_PATH) || properties.allowedIps().isEmpty();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    String clientIp = clientIpResolver.resolve(request);
+    if (!IpAllowList.allows(clientIp, request.getRemoteAddr(), properties.allowedIps())) {
+      log.warn("Profiling access denied for IP: {} - not in allowed list", clientIp);
+      response.sendError(HttpServletResponse.SC_FORBIDDEN, "Access denied");
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,9 +18,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * This provides additional security for API documentation in production.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class SwaggerIpFilter extends OncePerRequestFilter {
 
+  private final ClientIpResolver clientIpResolver;
+
   @Value("${security.swagger.allowed-ips:}")
   private String allowedIpsConfig;
 
@@ -55,7 +59,7 @@ public class SwaggerIpFilter extends OncePerRequestFilter {
         String clientIp = getClientIp(request);
         List<String> allowedIps = Arrays.asList(allowedIpsConfig.split(","));
 
-        if (!isIpAllowed(clientIp, allowedIps)) {
+        if (!isIpAllowed(clientIp, request.getRemoteAddr(), allowedIps)) {
           log.warn("Swagger access denied for IP: {} - not in allowed list", clientIp);
           response.sendError(HttpServletResponse.SC_FORBIDDEN, "Access denied");
           return;
@@ -72,43 +76,10 @@ public class SwaggerIpFilter extends OncePerRequestFilter {
   }
 
   private String getClientIp(HttpServletRequest request) {
-    // Check X-Forwarded-For header first (for requests behind load balancers/proxies)
-    String xForwardedFor = request.getHeader("X-Forwarded-For");
-    if (xForwardedFor != null && !xForwardedFor.isBlank()) {
-      // X-Forwarded-For can contain multiple IPs, take the first one (original client)
-      return xForwardedFor.split(",")[0].trim();
-    }
-
-    // Check X-Real-IP header
-    String xRealIp = request.getHeader("X-Real-IP");
-    if (xRealIp != null && !xRealIp.isBlank()) {
-      return xRealIp.trim();
-    }
-
-    // Fall back to remote address
-    return request.getRemoteAddr();
+    return clientIpResolver.resolve(request);
   }
 
-  private boolean isIpAllowed(String clientIp, List<String> allowedIps) {
-    // Allow localhost always for development
-    if ("127.0.0.1".equals(clientIp) || "0:0:0:0:0:0:0:1".equals(clientIp) || "localhost".equals(clientIp)) {
-      return true;
-    }
-
-    // Check if client IP is in allowed list
-    return allowedIps.stream()
-        .map(String::trim)
-        .anyMatch(allowedIp -> {
-          // Support CIDR notation in the future, for now exact match
-          if (allowedIp.equals(clientIp)) {
-            return true;
-          }
-          // Support wildcard suffix (e.g., "192.168.1.*")
-          if (allowedIp.endsWith("*")) {
-            String prefix = allowedIp.substring(0, allowedIp.length() - 1);
-            return clientIp.startsWith(prefix);
-          }
-          return false;
-        });
+  private boolean isIpAllowed(String clientIp, String remoteAddr, List<String> allowedIps) {
+    return IpAllowList.allows(clientIp, remoteAddr, allowedIps);
   }
 }
@@ -0,0 +1,19 @@
+package app.kaiz.shared.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One revocation of access tokens: a single token when {@code tokenId} is set, otherwise every
+ * token of the user issued before {@code revokedBefore}. Irrelevant once {@code expiresAt} has
+ * passed, since every token it covers has expired by then. Also the {@code NOTIFY} payload.
+ */
+public record TokenRevocation(
+    UUID userId, String tokenId, Instant revokedBefore, Instant expiresAt) {
+
+  @JsonIgnore
+  public boolean isSingleToken() {
+    return tokenId != null;
+  }
+}
@@ -0,0 +1,24 @@
+package app.kaiz.shared.security;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} while {@link TokenRevocationList} is not current, so the readiness
+ * probe keeps the instance out of rotation until every live revocation is loaded.
+ */
+@Component
+public class TokenRevocationHealthIndicator implements HealthIndicator {
+
+  private final TokenRevocationList revocationList;
+
+  public TokenRevocationHealthIndicator(TokenRevocationList revocationList) {
+    this.revocationList = revocationList;
+  }
+
+  @Override
+  public Health health() {
+    return revocationList.isCurrent() ? Health.up().build() : Health.outOfService().build();
+  }
+}
@@ -0,0 +1,224 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.JwtProperties;
+import app.kaiz.shared.config.TokenRevocationProperties;
+import app.kaiz.shared.jobs.ClusterJob;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Access tokens that must no longer be accepted although their signature and expiry are fine.
+ *
+ * <p>Holds two expiring maps: revoked token ids ({@code jti}) until the token's own expiry, and a
+ * per-user watermark that revokes every token issued before it, kept for one access-token lifetime.
+ * Both only ever contain revocations whose tokens could still be presented, so they stay small and
+ * the per-request check is two hash lookups with no database access. They are never bounded by
+ * size, as evicting an entry would silently reinstate a token.
+ *
+ * <p>Revocations are written to {@code access_token_revocations} and announced with {@code NOTIFY}
+ * in one transaction; {@link TokenRevocationListener} loads the table on startup and applies
+ * announcements from every instance, including this one.
+ *
+ * <p>The list fails closed: until the first load, and from {@code max-staleness} after the listener
+ * connection was lost until the reload, it is not {@link #isCurrent() current}. Readiness is then
+ * down and {@link JwtAuthenticationFilter} refuses access tokens instead of trusting a list that
+ * may miss revocations.
+ */
+@Component
+public class TokenRevocationList {
+
+  private final TokenRevocationStore store;
+  private final TransactionTemplate writeTransaction;
+  private final ObjectMapper objectMapper;
+  private final TokenRevocationProperties properties;
+  private final Duration accessTokenLifetime;
+  private final Cache<String, Instant> revokedTokens;
+  private final Cache<UUID, Instant> userWatermarks;
+  private final Timer lookup;
+  private final Counter rejected;
+
+  private volatile boolean loaded;
+  private volatile Instant staleSince;
+
+  public TokenRevocationList(
+      TokenRevocationStore store,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      TokenRevocationProperties properties,
+      JwtProperties jwtProperties,
+      MeterRegistry meterRegistry) {
+    this.store = store;
+    // Always a fresh read-write transaction, so the write never lands on a read replica
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+    this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.accessTokenLifetime = Duration.ofMillis(jwtProperties.accessTokenExpiration());
+    this.revokedTokens =
+        Caffeine.newBuilder().expireAfter(new ExpireAfterValue<String>(Duration.ZERO)).build();
+    this.userWatermarks =
+        Caffeine.newBuilder().expireAfter(new ExpireAfterValue<UUID>(accessTokenLifetime)).build();
+
+    Gauge.builder("kaiz.token.revocation.size", revokedTokens, Cache::estimatedSize)
+        .description("Live access-token revocations held in memory")
+        .tag("kind", "token")
+        .register(meterRegistry);
+    Gauge.builder("kaiz.token.revocation.size", userWatermarks, Cache::estimatedSize)
+        .description("Live access-token revocations held in memory")
+        .tag("kind", "user")
+        .register(meterRegistry);
+    Gauge.builder("kaiz.token.revocation.current", this, list -> list.isCurrent() ? 1 : 0)
+        .description("Whether the revocation list is loaded and in sync, so tokens are accepted")
+        .register(meterRegistry);
+    this.lookup =
+        Timer.builder("kaiz.token.revocation.lookup")
+            .description("Time to check an access token against the revocation list")
+            .register(meterRegistry);
+    this.rejected =
+        Counter.builder("kaiz.token.revocation.rejected")
+            .description("Requests rejected because their access token was revoked")
+            .register(meterRegistry);
+  }
+
+  /** Whether {@code token} has been revoked. Memory only; called on every authenticated request. */
+  public boolean isRevoked(VerifiedToken token) {
+    long start = System.nanoTime();
+    try {
+      Instant watermark = userWatermarks.getIfPresent(token.userId());
+      boolean revoked =
+          (watermark != null && (token.issuedAt() == null || !token.issuedAt().isAfter(watermark)))
+              || (token.tokenId() != null && revokedTokens.getIfPresent(token.tokenId()) != null);
+      if (revoked) {
+        rejected.increment();
+      }
+      return revoked;
+    } finally {
+      lookup.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Revokes every access token of the user issued so far. Token issue times ({@code iat}) have
+   * whole-second precision, so the watermark is the current second and every token issued in it is
+   * revoked, including one issued later in that second; such a client has to log in again.
+   */
+  public void revokeAllForUser(UUID userId) {
+    Instant revokedBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    revoke(
+        new TokenRevocation(userId, null, revokedBefore, revokedBefore.plus(accessTokenLifetime)));
+  }
+
+  /** Revokes a single access token, such as the one presented at logout. */
+  public void revokeToken(VerifiedToken token) {
+    revoke(new TokenRevocation(token.userId(), token.tokenId(), null, token.expiresAt()));
+  }
+
+  private void revoke(TokenRevocation revocation) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(revocation);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize token revocation", e);
+    }
+    writeTransaction.executeWithoutResult(
+        status -> {
+          store.insert(revocation);
+          store.sendNotification(properties.channel(), payload);
+        });
+    // Effective here at once; other instances follow when the notification arrives
+    apply(revocation);
+  }
+
+  /**
+   * Whether the list holds every live revocation, give or take {@code max-staleness}. Access tokens
+   * must not be accepted while it does not.
+   */
+  public boolean isCurrent() {
+    if (!loaded) {
+      return false;
+    }
+    Instant since = staleSince;
+    return since == null || !Instant.now().isAfter(since.plus(properties.maxStaleness()));
+  }
+
+  /** Called once all live revocations have been loaded on a fresh listener connection. */
+  void markLoaded() {
+    staleSince = null;
+    loaded = true;
+  }
+
+  /** Called when the listener connection is lost; announcements may be missed from now on. */
+  void markStale() {
+    if (staleSince == null) {
+      staleSince = Instant.now();
+    }
+  }
+
+  /** Adds revocations loaded from the database; entries already present are kept. */
+  void applyAll(Collection<TokenRevocation> revocations) {
+    revocations.forEach(this::apply);
+  }
+
+  void apply(TokenRevocation revocation) {
+    if (!revocation.expiresAt().isAfter(Instant.now())) {
+      return;
+    }
+    if (revocation.isSingleToken()) {
+      revokedTokens.put(revocation.tokenId(), revocation.expiresAt());
+    } else {
+      // Keep the later watermark; its expiry moves with it
+      userWatermarks
+          .asMap()
+          .merge(
+              revocation.userId(),
+              revocation.revokedBefore(),
+              (current, incoming) -> incoming.isAfter(current) ? incoming : current);
+    }
+  }
+
+  /** Deletes rows whose tokens have all expired; memory entries expire on their own. */
+  @ClusterJob(name = "access-token-revocations-cleanup", cron = "0 */30 * * * *")
+  public int purgeExpired() {
+    return store.deleteExpired(Instant.now());
+  }
+
+  /**
+   * Expires an entry {@code offset} after the instant it holds: token ids hold the token's expiry
+   * (no offset); watermarks expire one access-token lifetime after they were set, when every token
+   * issued before them has expired.
+   */
+  private record ExpireAfterValue<K>(Duration offset) implements Expiry<K, Instant> {
+
+    @Override
+    public long expireAfterCreate(K key, Instant value, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), value.plus(offset)).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, Instant value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(K key, Instant value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
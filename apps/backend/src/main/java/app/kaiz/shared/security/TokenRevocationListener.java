@@ -0,0 +1,78 @@
+package app.kaiz.shared.security;
+
+import app.kaiz.shared.config.TokenRevocationProperties;
+import app.kaiz.shared.notify.PgNotifyListener;
+import app.kaiz.shared.notify.PgNotifySubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link TokenRevocationList} in sync with {@code access_token_revocations}.
+ *
+ * <p>Receives revocations through {@link PgNotifyListener} and reloads all live ones every time its
+ * connection is (re)established, so nothing announced while it was away is missed. Until the first
+ * load, and while the connection is down, the list reports itself as not current.
+ */
+@Component
+@Slf4j
+public class TokenRevocationListener implements PgNotifySubscriber {
+
+  private final TokenRevocationList revocationList;
+  private final TokenRevocationStore store;
+  private final TokenRevocationProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Counter received;
+
+  public TokenRevocationListener(
+      TokenRevocationList revocationList,
+      TokenRevocationStore store,
+      TokenRevocationProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.revocationList = revocationList;
+    this.store = store;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.received =
+        Counter.builder("kaiz.token.revocation.received")
+            .description("Token revocations received over NOTIFY, including this instance's own")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String channel() {
+    return properties.channel();
+  }
+
+  /** Loads every live revocation, including any announced while the connection was down. */
+  @Override
+  public void onConnect(boolean reconnect) {
+    List<TokenRevocation> revocations = store.findLive(Instant.now());
+    revocationList.applyAll(revocations);
+    revocationList.markLoaded();
+    log.debug("Loaded {} live token revocations", revocations.size());
+  }
+
+  @Override
+  public void onDisconnect() {
+    revocationList.markStale();
+  }
+
+  @Override
+  public void onNotification(String payload) {
+    TokenRevocation revocation;
+    try {
+      revocation = objectMapper.readValue(payload, TokenRevocation.class);
+    } catch (Exception e) {
+      log.warn("Ignoring malformed token revocation: {}", payload);
+      return;
+    }
+    revocationList.apply(revocation);
+    received.increment();
+  }
+}
@@ -0,0 +1,54 @@
+package app.kaiz.shared.security;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** SQL access to {@code access_token_revocations}. */
+@Component
+class TokenRevocationStore {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  TokenRevocationStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  void insert(TokenRevocation revocation) {
+    jdbcTemplate.update(
+        "INSERT INTO access_token_revocations (user_id, token_id, revoked_before, expires_at)"
+            + " VALUES (?, ?, ?, ?)",
+        revocation.userId(),
+        revocation.tokenId(),
+        revocation.revokedBefore() != null ? Timestamp.from(revocation.revokedBefore()) : null,
+        Timestamp.from(revocation.expiresAt()));
+  }
+
+  /** Queues {@code payload} on {@code channel}; PostgreSQL delivers it when the caller commits. */
+  void sendNotification(String channel, String payload) {
+    jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+  }
+
+  List<TokenRevocation> findLive(Instant now) {
+    return jdbcTemplate.query(
+        "SELECT user_id, token_id, revoked_before, expires_at FROM access_token_revocations"
+            + " WHERE expires_at > ?",
+        (rs, rowNum) -> {
+          Timestamp revokedBefore = rs.getTimestamp("revoked_before");
+          return new TokenRevocation(
+              rs.getObject("user_id", UUID.class),
+              rs.getString("token_id"),
+              revokedBefore != null ? revokedBefore.toInstant() : null,
+              rs.getTimestamp("expires_at").toInstant());
+        },
+        Timestamp.from(now));
+  }
+
+  int deleteExpired(Instant now) {
+    return jdbcTemplate.update(
+        "DELETE FROM access_token_revocations WHERE expires_at <= ?", Timestamp.from(now));
+  }
+}
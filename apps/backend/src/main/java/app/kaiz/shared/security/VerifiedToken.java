@@ -0,0 +1,26 @@
+package app.kaiz.shared.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable view of a JWT whose signature and expiry have already been checked.
+ *
+ * <p>Produced once per distinct token by {@link JwtTokenProvider#verify(String)} so callers never
+ * need to re-parse the token to read individual claims. {@code debug} is set for tokens carrying a
+ * {@code debug: true} claim, which turns on {@code Server-Timing} responses. {@code issuedAt} has
+ * whole-second precision, as in the token.
+ */
+public record VerifiedToken(
+    UUID userId,
+    String email,
+    String type,
+    String tokenId,
+    Instant issuedAt,
+    Instant expiresAt,
+    boolean debug) {
+
+  public boolean isAccessToken() {
+    return "access".equals(type);
+  }
+}
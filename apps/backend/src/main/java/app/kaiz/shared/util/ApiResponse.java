@@ -17,10 +17,20 @@ public record ApiResponse<T>(boolean success, T data, PageMeta meta, String erro
     return new ApiResponse<>(false, null, null, error);
   }
 
-  public record PageMeta(int page, int size, long total, int totalPages) {
+  /**
+   * Paging details. Page-number listings fill {@code page}, {@code total} and {@code totalPages};
+   * cursor listings fill {@code nextCursor} instead (absent on the last page).
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record PageMeta(
+      Integer page, int size, Long total, Integer totalPages, String nextCursor) {
     public static PageMeta of(int page, int size, long total) {
       int totalPages = (int) Math.ceil((double) total / size);
-      return new PageMeta(page, size, total, totalPages);
+      return new PageMeta(page, size, total, totalPages, null);
+    }
+
+    public static PageMeta cursor(int size, String nextCursor) {
+      return new PageMeta(null, size, null, null, nextCursor);
     }
   }
 }
@@ -0,0 +1,43 @@
+package app.kaiz.shared.util;
+
+import app.kaiz.shared.exception.BadRequestException;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+/**
+ * One page of a keyset-paginated listing. Unlike {@link org.springframework.data.domain.Page} it
+ * carries no total, so producing it never needs a {@code COUNT(*)} query.
+ */
+public record CursorPage<T>(List<T> items, int size, String nextCursor) {
+
+  public static final int MAX_SIZE = 100;
+
+  /** Fetch one row more than the page size so the presence of a next page is known for free. */
+  public static Limit limitFor(int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new BadRequestException(
+          "INVALID_PAGE_SIZE", "Page size must be between 1 and " + MAX_SIZE);
+    }
+    return Limit.of(size + 1);
+  }
+
+  /**
+   * Builds a page from rows fetched with {@link #limitFor(int)}.
+   *
+   * @param rows rows in page order, at most {@code size + 1}
+   * @param cursorOf keyset position of a row
+   * @param mapper row to response mapping
+   */
+  public static <E, T> CursorPage<T> of(
+      List<E> rows, int size, Function<E, PageCursor> cursorOf, Function<E, T> mapper) {
+    boolean hasMore = rows.size() > size;
+    List<E> page = hasMore ? rows.subList(0, size) : rows;
+    String nextCursor = hasMore ? cursorOf.apply(page.get(size - 1)).encode() : null;
+    return new CursorPage<>(page.stream().map(mapper).toList(), size, nextCursor);
+  }
+
+  public ApiResponse.PageMeta meta() {
+    return ApiResponse.PageMeta.cursor(size, nextCursor);
+  }
+}
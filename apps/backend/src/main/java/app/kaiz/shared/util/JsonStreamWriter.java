@@ -0,0 +1,121 @@
+package app.kaiz.shared.util;
+
+import app.kaiz.shared.config.StreamingProperties;
+import app.kaiz.shared.observability.RequestTiming;
+import app.kaiz.shared.observability.RequestTiming.Phase;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes a list response element by element with Jackson's streaming generator instead of
+ * materialising it, for listings whose size grows with the account.
+ *
+ * <p>The producer is handed a sink and pushes DTOs into it; each one is serialized straight into
+ * the response. The JSON matches what the equivalent {@code List} endpoint returns. If the producer
+ * fails before anything reached the client the buffer is discarded and the exception propagates to
+ * the normal error handling; once the response is committed the client sees a truncated body.
+ *
+ * <p>The producer typically holds a database connection until the last element is written, so a
+ * client that reads slowly holds it too. A response still running after {@code
+ * kaiz.streaming.max-duration} is cut off the same way, truncating the body.
+ */
+@Slf4j
+@Component
+public class JsonStreamWriter {
+
+  private final ObjectMapper objectMapper;
+  private final long maxDurationNanos;
+  private final Counter cutOff;
+
+  public JsonStreamWriter(
+      ObjectMapper objectMapper, StreamingProperties properties, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    this.maxDurationNanos = properties.maxDuration().toNanos();
+    this.cutOff =
+        Counter.builder("kaiz.streaming.cut.off")
+            .description("Streamed responses cut off after the maximum duration")
+            .register(meterRegistry);
+  }
+
+  /** Writes {@code {"success":true,"data":[...]}}, the shape of {@link ApiResponse#success}. */
+  public <T> void writeApiResponse(HttpServletResponse response, Consumer<Consumer<T>> producer)
+      throws IOException {
+    write(response, producer, true);
+  }
+
+  /** Writes a bare JSON array. */
+  public <T> void writeArray(HttpServletResponse response, Consumer<Consumer<T>> producer)
+      throws IOException {
+    write(response, producer, false);
+  }
+
+  private <T> void write(
+      HttpServletResponse response, Consumer<Consumer<T>> producer, boolean envelope)
+      throws IOException {
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+    long deadline = System.nanoTime() + maxDurationNanos;
+    try {
+      if (envelope) {
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeFieldName("data");
+      }
+      generator.writeStartArray();
+      producer.accept(item -> writeItem(generator, item, deadline));
+      generator.writeEndArray();
+      if (envelope) {
+        generator.writeEndObject();
+      }
+    } catch (RuntimeException e) {
+      if (e instanceof StreamCutOffException) {
+        cutOff.increment();
+      }
+      if (!response.isCommitted()) {
+        response.resetBuffer();
+      } else {
+        log.warn("Streamed response failed after commit; body is truncated", e);
+      }
+      throw e;
+    }
+    generator.close();
+  }
+
+  private void writeItem(JsonGenerator generator, Object item, long deadline) {
+    if (System.nanoTime() - deadline > 0) {
+      throw new StreamCutOffException(
+          "Streamed response still running after " + Duration.ofNanos(maxDurationNanos));
+    }
+    RequestTiming.start(Phase.SERIALIZATION);
+    try {
+      generator.writeObject(item);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      RequestTiming.stop(Phase.SERIALIZATION);
+    }
+  }
+
+  /** Raised from the sink to abandon a response that ran past the maximum duration. */
+  static class StreamCutOffException extends RuntimeException {
+
+    StreamCutOffException(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package app.kaiz.shared.util;
+
+import app.kaiz.shared.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last row on a page: its sort timestamp and id, plus the pinned flag for
+ * feeds that list pinned rows first.
+ *
+ * <p>Clients only ever see the {@link #encode() encoded} form and pass it back unchanged, so the
+ * layout can change without breaking them.
+ */
+public record PageCursor(Instant timestamp, UUID id, boolean pinned) {
+
+  private static final String SEPARATOR = "|";
+
+  public static PageCursor of(Instant timestamp, UUID id) {
+    return new PageCursor(timestamp, id, false);
+  }
+
+  public String encode() {
+    String raw = timestamp + SEPARATOR + id + SEPARATOR + (pinned ? "1" : "0");
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Decodes a cursor received from a client; {@code null} or blank means the first page. */
+  public static PageCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + SEPARATOR);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Unexpected cursor layout");
+      }
+      return new PageCursor(
+          Instant.parse(parts[0]), UUID.fromString(parts[1]), "1".equals(parts[2]));
+    } catch (RuntimeException e) {
+      throw new BadRequestException("INVALID_CURSOR", "Invalid page cursor");
+    }
+  }
+}
@@ -7,10 +7,13 @@ import app.kaiz.tasks.application.dto.TaskHistoryDto;
 import app.kaiz.tasks.domain.TaskStatus;
 import app.kaiz.shared.security.CurrentUser;
 import app.kaiz.shared.util.ApiResponse;
+import app.kaiz.shared.util.JsonStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
   private final TaskService taskService;
+  private final JsonStreamWriter jsonStreamWriter;
 
   @GetMapping
   @Operation(summary = "Get all tasks", description = "Retrieve tasks with optional filters")
@@ -37,6 +41,16 @@ public class TaskController {
     return ResponseEntity.ok(ApiResponse.success(taskService.getTasksByUserId(userId, pageable)));
   }
 
+  @GetMapping("/all")
+  @Operation(
+      summary = "Get every task",
+      description = "Stream all tasks of the current user, newest first, without paging")
+  public void getAllTasks(@CurrentUser UUID userId, HttpServletResponse response)
+      throws IOException {
+    jsonStreamWriter.<TaskDto>writeApiResponse(
+        response, sink -> taskService.streamTasksByUserId(userId, sink));
+  }
+
   @GetMapping("/sprint/{sprintId}")
   @Operation(summary = "Get tasks by sprint", description = "Retrieve tasks for a specific sprint")
   public ResponseEntity<ApiResponse<List<TaskDto>>> getTasksBySprint(
@@ -66,8 +80,10 @@ public class TaskController {
 
   @GetMapping("/backlog")
   @Operation(summary = "Get backlog tasks", description = "Retrieve tasks not assigned to a sprint")
-  public ResponseEntity<ApiResponse<List<TaskDto>>> getBacklogTasks(@CurrentUser UUID userId) {
-    return ResponseEntity.ok(ApiResponse.success(taskService.getBacklogTasks(userId)));
+  public void getBacklogTasks(@CurrentUser UUID userId, HttpServletResponse response)
+      throws IOException {
+    jsonStreamWriter.<TaskDto>writeApiResponse(
+        response, sink -> taskService.streamBacklogTasks(userId, sink));
   }
 
   @GetMapping("/{id}")
@@ -189,6 +189,11 @@ public class OnboardingService {
         Map<String, EisenhowerQuadrant> quadrants = eisenhowerQuadrantRepository.findAll().stream()
             .collect(Collectors.toMap(EisenhowerQuadrant::getId, q -> q));
 
+        // Resolve each sprint once instead of once per task
+        Map<String, Optional<Sprint>> sprints = new HashMap<>();
+
+        List<PendingTask> pending = new ArrayList<>();
+
         for (String templateId : templateIds) {
             TaskTemplateDto template = templateMap.get(templateId);
             if (template == null) continue;
@@ -225,19 +230,24 @@ public class OnboardingService {
 
             // Set sprint if assigned
             if (sprintId != null) {
-                sprintRepository.findById(sprintId).ifPresent(task::setSprint);
+                sprints.computeIfAbsent(sprintId, sprintRepository::findById).ifPresent(task::setSprint);
             }
 
             // TODO: Handle recurring tasks - for now just create single instance
             // In future, create RecurringTask entity and TaskRecurrence
 
-            Task saved = taskRepository.save(task);
+            pending.add(new PendingTask(task, sprintId, template.isRecurring()));
+        }
+
+        // Inserted as JDBC batches on flush (see spring.jpa.properties.hibernate.jdbc)
+        taskRepository.saveAll(pending.stream().map(PendingTask::task).toList());
+        for (PendingTask p : pending) {
             created.add(new CreatedTask(
-                saved.getId().toString(),
-                saved.getTitle(),
-                saved.getStoryPoints(),
-                sprintId,
-                template.isRecurring()
+                p.task().getId().toString(),
+                p.task().getTitle(),
+                p.task().getStoryPoints(),
+                p.sprintId(),
+                p.recurring()
             ));
         }
 
@@ -261,6 +271,9 @@ public class OnboardingService {
         Map<String, LifeWheelArea> lifeWheelAreas = lifeWheelAreaRepository.findAll().stream()
             .collect(Collectors.toMap(LifeWheelArea::getId, a -> a));
 
+        Optional<Sprint> targetSprint = sprintRepository.findById(currentSprintId);
+        Map<Epic, EpicTemplateDto> epics = new LinkedHashMap<>();
+
         for (String epicId : epicIds) {
             EpicTemplateDto template = epicMap.get(epicId);
             if (template == null) continue;
@@ -283,17 +296,19 @@ public class OnboardingService {
                 .build();
 
             // Set target sprint
-            sprintRepository.findById(currentSprintId).ifPresent(epic::setTargetSprint);
-
-            Epic saved = epicRepository.save(epic);
-            created.add(new CreatedEpic(
-                saved.getId().toString(),
-                saved.getTitle(),
-                saved.getIcon(),
-                template.taskTemplateIds().size()
-            ));
+            targetSprint.ifPresent(epic::setTargetSprint);
+
+            epics.put(epic, template);
         }
 
+        epicRepository.saveAll(epics.keySet());
+        epics.forEach((epic, template) -> created.add(new CreatedEpic(
+            epic.getId().toString(),
+            epic.getTitle(),
+            epic.getIcon(),
+            template.taskTemplateIds().size()
+        )));
+
         return created;
     }
 
@@ -309,10 +324,12 @@ public class OnboardingService {
 
         // Get relationships life wheel area for events
         LifeWheelArea relationshipsArea = lifeWheelAreaRepository.findById("life-relationships")
-            .orElse(lifeWheelAreaRepository.findAll().get(0));
+            .orElseGet(() -> lifeWheelAreaRepository.findAll().get(0));
         
         EisenhowerQuadrant q2 = eisenhowerQuadrantRepository.findById("q2")
-            .orElse(eisenhowerQuadrantRepository.findAll().get(0));
+            .orElseGet(() -> eisenhowerQuadrantRepository.findAll().get(0));
+
+        List<Task> tasks = new ArrayList<>();
 
         for (ImportantDateRequest dateReq : dates) {
             // Create a recurring task for this event
@@ -344,9 +361,14 @@ public class OnboardingService {
             // TODO: Set up recurring yearly reminder
             // For now, just create the task
 
-            Task saved = taskRepository.save(task);
+            tasks.add(task);
+        }
+
+        taskRepository.saveAll(tasks);
+        for (int i = 0; i < tasks.size(); i++) {
+            ImportantDateRequest dateReq = dates.get(i);
             created.add(new CreatedEvent(
-                saved.getId().toString(),
+                tasks.get(i).getId().toString(),
                 dateReq.personName(),
                 dateReq.dateType(),
                 dateReq.date()
@@ -356,6 +378,8 @@ public class OnboardingService {
         return created;
     }
 
+    private record PendingTask(Task task, String sprintId, boolean recurring) {}
+
     private int calculateWeeklyPoints(List<CreatedTask> tasks) {
         // Simple estimate based on created tasks
         return tasks.stream()
@@ -1,5 +1,6 @@
 package app.kaiz.tasks.application;
 
+import app.kaiz.shared.cache.CacheReloader;
 import app.kaiz.tasks.application.dto.SprintDto;
 import app.kaiz.tasks.domain.Sprint;
 import app.kaiz.tasks.domain.SprintStatus;
@@ -10,6 +11,7 @@ import java.time.temporal.WeekFields;
 import java.util.List;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class SprintService {
+public class SprintService implements CacheReloader {
+
+  static final String CURRENT_SPRINT_CACHE = "currentSprint";
 
   private final SprintRepository sprintRepository;
   private final SdlcMapper sdlcMapper;
@@ -38,8 +42,23 @@ public class SprintService {
     return sdlcMapper.toSprintDto(sprint);
   }
 
-  @Cacheable(value = "currentSprint", key = "'active'")
+  @Cacheable(value = CURRENT_SPRINT_CACHE, key = "'active'")
   public SprintDto getCurrentSprint() {
+    return loadCurrentSprint();
+  }
+
+  @Override
+  public String cacheName() {
+    return CURRENT_SPRINT_CACHE;
+  }
+
+  /** Background refresh of the cached current sprint (see {@code kaiz.cache.caches}). */
+  @Override
+  public Object reload(Object key) {
+    return loadCurrentSprint();
+  }
+
+  private SprintDto loadCurrentSprint() {
     return sprintRepository
         .findByStatus(SprintStatus.ACTIVE)
         .map(sdlcMapper::toSprintDto)
@@ -70,7 +89,9 @@ public class SprintService {
         sprints.size() > limit ? sprints.subList(0, limit) : sprints);
   }
 
+  /** The newly activated sprint becomes the current sprint, so it replaces the cached one. */
   @Transactional
+  @CachePut(value = CURRENT_SPRINT_CACHE, key = "'active'")
   public SprintDto activateSprint(String sprintId) {
     // Deactivate any currently active sprint
     sprintRepository
@@ -4,15 +4,20 @@ import app.kaiz.identity.domain.User;
 import app.kaiz.identity.infrastructure.UserRepository;
 import app.kaiz.life_wheel.infrastructure.EisenhowerQuadrantRepository;
 import app.kaiz.life_wheel.infrastructure.LifeWheelAreaRepository;
+import app.kaiz.notification.application.NotificationEvents;
 import app.kaiz.tasks.application.dto.TaskCommentDto;
 import app.kaiz.tasks.application.dto.TaskDto;
 import app.kaiz.tasks.application.dto.TaskHistoryDto;
 import app.kaiz.tasks.domain.*;
 import app.kaiz.tasks.infrastructure.*;
 import app.kaiz.shared.exception.ResourceNotFoundException;
+import app.kaiz.shared.outbox.OutboxPublisher;
+import app.kaiz.shared.persistence.EntityStreamer;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TaskService {
 
+  private static final int XP_PER_STORY_POINT = 10;
+
   private final TaskRepository taskRepository;
   private final TaskCommentRepository taskCommentRepository;
   private final TaskHistoryRepository taskHistoryRepository;
@@ -34,10 +41,15 @@ public class TaskService {
   private final LifeWheelAreaRepository lifeWheelAreaRepository;
   private final EisenhowerQuadrantRepository eisenhowerQuadrantRepository;
   private final SdlcMapper sdlcMapper;
-
-  public List<TaskDto> getTasksByUserId(UUID userId) {
-    return sdlcMapper.toTaskDtoListWithoutDetails(
-        taskRepository.findByUserIdOrderByCreatedAtDesc(userId));
+  private final OutboxPublisher outbox;
+  private final EntityStreamer entityStreamer;
+
+  /** Emits every task of the user, newest first, without loading them all at once. */
+  public void streamTasksByUserId(UUID userId, Consumer<TaskDto> sink) {
+    entityStreamer.forEach(
+        taskRepository.streamByUserIdOrderByCreatedAtDesc(userId),
+        sdlcMapper::toTaskDtoWithoutDetails,
+        sink);
   }
 
   public Page<TaskDto> getTasksByUserId(UUID userId, Pageable pageable) {
@@ -63,8 +75,9 @@ public class TaskService {
     return sdlcMapper.toTaskDtoListWithoutDetails(taskRepository.findDraftsByUserId(userId));
   }
 
-  public List<TaskDto> getBacklogTasks(UUID userId) {
-    return sdlcMapper.toTaskDtoListWithoutDetails(taskRepository.findBacklogByUserId(userId));
+  public void streamBacklogTasks(UUID userId, Consumer<TaskDto> sink) {
+    entityStreamer.forEach(
+        taskRepository.streamBacklogByUserId(userId), sdlcMapper::toTaskDtoWithoutDetails, sink);
   }
 
   public TaskDto getTaskById(UUID userId, UUID taskId) {
@@ -138,8 +151,10 @@ public class TaskService {
             .findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User", userId.toString()));
 
+    List<TaskHistory> changes = new ArrayList<>();
+
     if (request.title() != null && !request.title().equals(task.getTitle())) {
-      recordHistory(task, user, "title", task.getTitle(), request.title());
+      recordHistory(changes, task, user, "title", task.getTitle(), request.title());
       task.setTitle(request.title());
     }
 
@@ -160,7 +175,12 @@ public class TaskService {
                       new ResourceNotFoundException("LifeWheelArea", request.lifeWheelAreaId()));
       if (!lifeWheelArea.getId().equals(task.getLifeWheelArea().getId())) {
         recordHistory(
-            task, user, "lifeWheelAreaId", task.getLifeWheelArea().getId(), lifeWheelArea.getId());
+            changes,
+            task,
+            user,
+            "lifeWheelAreaId",
+            task.getLifeWheelArea().getId(),
+            lifeWheelArea.getId());
         task.setLifeWheelArea(lifeWheelArea);
       }
     }
@@ -175,6 +195,7 @@ public class TaskService {
                           "EisenhowerQuadrant", request.eisenhowerQuadrantId()));
       if (!quadrant.getId().equals(task.getEisenhowerQuadrant().getId())) {
         recordHistory(
+            changes,
             task,
             user,
             "eisenhowerQuadrantId",
@@ -190,6 +211,7 @@ public class TaskService {
 
     if (request.storyPoints() != null && request.storyPoints() != task.getStoryPoints()) {
       recordHistory(
+          changes,
           task,
           user,
           "storyPoints",
@@ -199,17 +221,12 @@ public class TaskService {
     }
 
     if (request.status() != null && request.status() != task.getStatus()) {
-      recordHistory(task, user, "status", task.getStatus().name(), request.status().name());
-      task.setStatus(request.status());
-      if (request.status() == TaskStatus.DONE) {
-        task.setCompletedAt(Instant.now());
-      } else {
-        task.setCompletedAt(null);
-      }
+      changeStatus(task, user, request.status());
     }
 
     task.setDraft(request.isDraft());
 
+    taskHistoryRepository.saveAll(changes);
     return sdlcMapper.toTaskDto(taskRepository.save(task));
   }
 
@@ -226,13 +243,7 @@ public class TaskService {
             .orElseThrow(() -> new ResourceNotFoundException("User", userId.toString()));
 
     if (task.getStatus() != newStatus) {
-      recordHistory(task, user, "status", task.getStatus().name(), newStatus.name());
-      task.setStatus(newStatus);
-      if (newStatus == TaskStatus.DONE) {
-        task.setCompletedAt(Instant.now());
-      } else {
-        task.setCompletedAt(null);
-      }
+      changeStatus(task, user, newStatus);
     }
 
     return sdlcMapper.toTaskDto(taskRepository.save(task));
@@ -289,15 +300,50 @@ public class TaskService {
     return sdlcMapper.toTaskCommentDto(taskCommentRepository.save(comment));
   }
 
-  private void recordHistory(Task task, User user, String field, String oldValue, String newValue) {
+  /** Queues a history row; callers persist all queued rows with one batched saveAll. */
+  /**
+   * Moves {@code task} to {@code newStatus} and records it. Completing a task announces it through
+   * the outbox, keyed by the history entry so a retried request cannot announce it twice.
+   */
+  private void changeStatus(Task task, User user, TaskStatus newStatus) {
     TaskHistory history =
-        TaskHistory.builder()
-            .task(task)
-            .changedByUser(user)
-            .fieldName(field)
-            .oldValue(oldValue)
-            .newValue(newValue)
-            .build();
-    taskHistoryRepository.save(history);
+        taskHistoryRepository.save(
+            buildHistory(task, user, "status", task.getStatus().name(), newStatus.name()));
+    task.setStatus(newStatus);
+    if (newStatus == TaskStatus.DONE) {
+      task.setCompletedAt(Instant.now());
+      outbox.publish(
+          "task",
+          task.getId(),
+          "task-completed:" + history.getId(),
+          new NotificationEvents.TaskCompleted(
+              user.getId(),
+              task.getId(),
+              task.getTitle(),
+              task.getStoryPoints() * XP_PER_STORY_POINT));
+    } else {
+      task.setCompletedAt(null);
+    }
+  }
+
+  private void recordHistory(
+      List<TaskHistory> changes,
+      Task task,
+      User user,
+      String field,
+      String oldValue,
+      String newValue) {
+    changes.add(buildHistory(task, user, field, oldValue, newValue));
+  }
+
+  private TaskHistory buildHistory(
+      Task task, User user, String field, String oldValue, String newValue) {
+    return TaskHistory.builder()
+        .task(task)
+        .changedByUser(user)
+        .fieldName(field)
+        .oldValue(oldValue)
+        .newValue(newValue)
+        .build();
   }
 }
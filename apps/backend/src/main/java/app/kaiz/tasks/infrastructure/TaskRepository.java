@@ -1,21 +1,33 @@
 package app.kaiz.tasks.infrastructure;
 
+import app.kaiz.shared.persistence.EntityStreamer;
 import app.kaiz.tasks.domain.Task;
 import app.kaiz.tasks.domain.TaskStatus;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
 
-  List<Task> findByUserIdOrderByCreatedAtDesc(UUID userId);
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreamer.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT t FROM Task t LEFT JOIN FETCH t.epic LEFT JOIN FETCH t.lifeWheelArea"
+          + " WHERE t.user.id = :userId ORDER BY t.createdAt DESC")
+  Stream<Task> streamByUserIdOrderByCreatedAtDesc(@Param("userId") UUID userId);
 
   Page<Task> findByUserId(UUID userId, Pageable pageable);
 
@@ -28,8 +40,14 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
   @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.isDraft = true")
   List<Task> findDraftsByUserId(@Param("userId") UUID userId);
 
-  @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.sprint IS NULL AND t.isDraft = false")
-  List<Task> findBacklogByUserId(@Param("userId") UUID userId);
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreamer.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT t FROM Task t LEFT JOIN FETCH t.epic LEFT JOIN FETCH t.lifeWheelArea"
+          + " WHERE t.user.id = :userId AND t.sprint IS NULL AND t.isDraft = false")
+  Stream<Task> streamBacklogByUserId(@Param("userId") UUID userId);
 
   Optional<Task> findByIdAndUserId(UUID id, UUID userId);
 
@@ -0,0 +1,10 @@
+-- ============================================================================
+-- V17: Shared rate limit buckets
+-- Backing table for rate-limit.store=postgres (Bucket4j select-for-update proxy)
+-- so token buckets are shared by every application instance
+-- ============================================================================
+
+CREATE TABLE rate_limit_buckets (
+    id VARCHAR(255) PRIMARY KEY,
+    state BYTEA
+);
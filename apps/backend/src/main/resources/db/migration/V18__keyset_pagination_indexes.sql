@@ -0,0 +1,32 @@
+-- ============================================================================
+-- V18: Keyset pagination indexes
+-- Composite indexes matching the ORDER BY of the cursor endpoints, so each page
+-- is an index range scan starting right after the last (created_at, id) seen
+-- instead of an OFFSET scan plus COUNT(*)
+-- ============================================================================
+
+-- Notification inbox: pinned first, then newest (archived rows are never listed)
+CREATE INDEX idx_notifications_user_inbox_keyset
+    ON notifications(user_id, is_pinned DESC, created_at DESC, id DESC)
+    WHERE is_archived = false;
+
+-- Community questions, unfiltered and by status
+CREATE INDEX idx_community_questions_keyset
+    ON community_questions(created_at DESC, id DESC);
+CREATE INDEX idx_community_questions_status_keyset
+    ON community_questions(status, created_at DESC, id DESC);
+CREATE INDEX idx_question_tags_tag ON question_tags(tag, question_id);
+
+-- Success stories, unfiltered and by category
+CREATE INDEX idx_community_stories_keyset
+    ON community_stories(created_at DESC, id DESC);
+CREATE INDEX idx_community_stories_category_keyset
+    ON community_stories(category, created_at DESC, id DESC);
+
+-- Global community activity feed
+CREATE INDEX idx_community_activities_keyset
+    ON community_activities(created_at DESC, id DESC);
+
+-- SensAI intervention history (ordered by trigger time)
+CREATE INDEX idx_sensai_interventions_user_history_keyset
+    ON sensai_interventions(user_id, triggered_at DESC, id DESC);
@@ -0,0 +1,35 @@
+-- ============================================================================
+-- V19: Transactional outbox
+-- Domain events written in the same transaction as the change that caused
+-- them, delivered after commit by OutboxRelay (at-least-once, in commit order
+-- per aggregate). BIGSERIAL ids are handed out at insert, not at commit, so
+-- each row also records the id of the transaction that wrote it; the relay
+-- only delivers rows of transactions older than every transaction still
+-- running, and orders them by that id
+-- ============================================================================
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    published_at TIMESTAMPTZ,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_error TEXT,
+    failed_at TIMESTAMPTZ,
+    tx_id xid8 NOT NULL DEFAULT pg_current_xact_id(),
+    CONSTRAINT uq_outbox_events_idempotency_key UNIQUE (idempotency_key)
+);
+
+-- Relay scan: the next undelivered event of each aggregate
+CREATE INDEX idx_outbox_events_pending
+    ON outbox_events(aggregate_type, aggregate_id, tx_id, id)
+    WHERE published_at IS NULL AND failed_at IS NULL;
+
+-- Retention cleanup of delivered rows
+CREATE INDEX idx_outbox_events_published_at ON outbox_events(published_at)
+    WHERE published_at IS NOT NULL;
@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V20: Scheduled job runs
+-- One row per cron tick of a cluster job. The unique (job_name, scheduled_at)
+-- lets exactly one instance claim each tick; the row then records how it went.
+-- Claiming is a short transaction: while a run is RUNNING and its lease has
+-- not run out, other instances do not start an overlapping run (a crashed
+-- instance cannot finish its row, so the lease bounds how long it blocks)
+-- ============================================================================
+
+CREATE TABLE job_runs (
+    id BIGSERIAL PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    scheduled_at TIMESTAMPTZ NOT NULL,
+    node VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMPTZ NOT NULL,
+    finished_at TIMESTAMPTZ,
+    duration_ms BIGINT,
+    rows_affected BIGINT,
+    error TEXT,
+    lease_until TIMESTAMPTZ,
+    CONSTRAINT uq_job_runs_tick UNIQUE (job_name, scheduled_at)
+);
+
+-- Last runs per job
+CREATE INDEX idx_job_runs_job_started ON job_runs(job_name, started_at DESC);
+
+-- Live-run check before claiming a tick
+CREATE INDEX idx_job_runs_running ON job_runs(job_name, lease_until)
+    WHERE status = 'RUNNING';
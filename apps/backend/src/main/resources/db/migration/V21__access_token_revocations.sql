@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V21: Access token revocations
+-- Access tokens are stateless JWTs, so logging out or resetting a password
+-- records a revocation here: either one token (token_id = jti, on logout) or
+-- every token of a user issued up to revoked_before (on password reset). Rows
+-- are only needed until the tokens they cover have expired; each instance
+-- keeps the live ones in memory
+-- ============================================================================
+
+CREATE TABLE access_token_revocations (
+    id BIGSERIAL PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    token_id VARCHAR(64),
+    revoked_before TIMESTAMPTZ,
+    expires_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_access_token_revocation_kind
+        CHECK ((token_id IS NULL) <> (revoked_before IS NULL))
+);
+
+-- Startup load of live revocations and purge of expired ones
+CREATE INDEX idx_access_token_revocations_expires_at ON access_token_revocations(expires_at);
@@ -0,0 +1,33 @@
+-- ============================================================================
+-- V22: Indexes for purging dead authentication tokens
+-- The auth-token-purge job deletes expired rows, and revoked, used or verified
+-- rows after a retention period, in small chunks. Each chunk looks its rows up
+-- through these indexes instead of scanning the table. The "spent" indexes are
+-- partial, so they only hold the few rows waiting to be purged
+-- ============================================================================
+
+-- Refresh tokens: the UNIQUE constraint on token_hash already has an index.
+-- The purge reads expired rows among active ones only (revoked rows go by
+-- revoked_at), so that index holds no revoked tokens
+DROP INDEX IF EXISTS idx_refresh_tokens_token_hash;
+CREATE INDEX idx_refresh_tokens_expires_at_active ON refresh_tokens(expires_at)
+    WHERE revoked_at IS NULL;
+CREATE INDEX idx_refresh_tokens_revoked_at ON refresh_tokens(revoked_at)
+    WHERE revoked_at IS NOT NULL;
+
+-- Revoking all sessions of a user only touches active tokens
+CREATE INDEX idx_refresh_tokens_user_id_active ON refresh_tokens(user_id)
+    WHERE revoked_at IS NULL;
+
+-- Password reset tokens
+CREATE INDEX idx_password_reset_tokens_expires_at ON password_reset_tokens(expires_at);
+CREATE INDEX idx_password_reset_tokens_used_at ON password_reset_tokens(used_at)
+    WHERE used_at IS NOT NULL;
+
+-- Email verification codes; verification only reads the user's unverified codes
+CREATE INDEX idx_email_verification_codes_expires_at ON email_verification_codes(expires_at);
+CREATE INDEX idx_email_verification_codes_verified_at ON email_verification_codes(verified_at)
+    WHERE verified_at IS NOT NULL;
+CREATE INDEX idx_email_verification_codes_user_id_active
+    ON email_verification_codes(user_id, created_at DESC)
+    WHERE verified_at IS NULL;
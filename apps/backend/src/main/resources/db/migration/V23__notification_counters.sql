@@ -0,0 +1,21 @@
+-- ============================================================================
+-- V23: Per-user unread notification counters
+-- One row per user and category holding the number of notifications that are
+-- neither read nor archived. NotificationService applies deltas in the same
+-- transaction as every change to those notifications, so reading the counts
+-- is a primary key lookup instead of counting notifications. The nightly
+-- notification-counters-reconcile job repairs any drift
+-- ============================================================================
+
+CREATE TABLE notification_counters (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    category VARCHAR(20) NOT NULL,
+    unread INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, category)
+);
+
+INSERT INTO notification_counters (user_id, category, unread)
+SELECT user_id, category, count(*)
+FROM notifications
+WHERE is_read = false AND is_archived = false
+GROUP BY user_id, category;
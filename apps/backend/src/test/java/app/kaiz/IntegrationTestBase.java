@@ -1,5 +1,10 @@
 package app.kaiz;
 
+import app.kaiz.testdata.DatasetSpec;
+import app.kaiz.testdata.DatasetSummary;
+import app.kaiz.testdata.SyntheticDataGenerator;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
@@ -16,6 +21,8 @@ public abstract class IntegrationTestBase {
 
   @LocalServerPort protected int port;
 
+  @Autowired private DataSource dataSource;
+
   @Container
   static PostgreSQLContainer<?> postgres =
       new PostgreSQLContainer<>("postgres:16-alpine")
@@ -34,4 +41,14 @@ public abstract class IntegrationTestBase {
   protected String baseUrl() {
     return "http://localhost:" + port;
   }
+
+  /**
+   * Loads a synthetic dataset into the shared container unless it is already there (see {@link
+   * SyntheticDataGenerator#generate}), so the summary only has row counts for the call that wrote
+   * them. Call from a {@code @BeforeEach}; tests that need realistic cardinalities (query plans,
+   * load) should use this instead of seeding rows through repositories.
+   */
+  protected DatasetSummary syntheticDataset(DatasetSpec spec) {
+    return new SyntheticDataGenerator(dataSource).generate(spec);
+  }
 }
@@ -3,7 +3,10 @@ package app.kaiz.identity.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,11 +24,16 @@ import app.kaiz.identity.infrastructure.PasswordResetTokenRepository;
 import app.kaiz.identity.infrastructure.RefreshTokenRepository;
 import app.kaiz.identity.infrastructure.UserRepository;
 import app.kaiz.shared.config.JwtProperties;
+import app.kaiz.shared.config.RequestTimingProperties;
 import app.kaiz.shared.exception.BadRequestException;
 import app.kaiz.shared.exception.ResourceNotFoundException;
 import app.kaiz.shared.exception.UnauthorizedException;
 import app.kaiz.shared.security.JwtTokenProvider;
+import app.kaiz.shared.security.PasswordHasher;
+import app.kaiz.shared.security.TokenRevocationList;
+import app.kaiz.shared.security.VerifiedToken;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,9 +43,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -46,10 +56,12 @@ class AuthServiceTest {
   @Mock private RefreshTokenRepository refreshTokenRepository;
   @Mock private PasswordResetTokenRepository passwordResetTokenRepository;
   @Mock private EmailVerificationCodeRepository emailVerificationCodeRepository;
-  @Mock private PasswordEncoder passwordEncoder;
+  @Mock private PasswordHasher passwordHasher;
   @Mock private JwtTokenProvider jwtTokenProvider;
+  @Mock private TokenRevocationList tokenRevocationList;
   @Mock private JwtProperties jwtProperties;
   @Mock private UserMapper userMapper;
+  @Mock private PlatformTransactionManager transactionManager;
 
   @Captor private ArgumentCaptor<User> userCaptor;
   @Captor private ArgumentCaptor<RefreshToken> refreshTokenCaptor;
@@ -73,10 +85,13 @@ class AuthServiceTest {
             refreshTokenRepository,
             passwordResetTokenRepository,
             emailVerificationCodeRepository,
-            passwordEncoder,
+            passwordHasher,
             jwtTokenProvider,
+            tokenRevocationList,
             jwtProperties,
-            userMapper);
+            new RequestTimingProperties(true, false, List.of()),
+            userMapper,
+            new TransactionTemplate(transactionManager));
   }
 
   @Nested
@@ -111,9 +126,9 @@ class AuthServiceTest {
               false);
 
       when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
-      when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
+      when(passwordHasher.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
       when(userRepository.save(any(User.class))).thenReturn(savedUser);
-      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase()))
+      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase(), false))
           .thenReturn(ACCESS_TOKEN);
       when(jwtTokenProvider.generateRefreshToken(userId)).thenReturn(REFRESH_TOKEN);
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
@@ -162,9 +177,10 @@ class AuthServiceTest {
               false);
 
       when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
-      when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
+      when(passwordHasher.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
       when(userRepository.save(any(User.class))).thenReturn(savedUser);
-      when(jwtTokenProvider.generateAccessToken(any(), anyString())).thenReturn(ACCESS_TOKEN);
+      when(jwtTokenProvider.generateAccessToken(any(), anyString(), anyBoolean()))
+          .thenReturn(ACCESS_TOKEN);
       when(jwtTokenProvider.generateRefreshToken(any())).thenReturn(REFRESH_TOKEN);
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
       when(userMapper.toUserResponse(any())).thenReturn(userResponse);
@@ -218,9 +234,10 @@ class AuthServiceTest {
               false);
 
       when(userRepository.existsByEmail("  TEST@EXAMPLE.COM  ")).thenReturn(false);
-      when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
+      when(passwordHasher.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
       when(userRepository.save(any(User.class))).thenReturn(savedUser);
-      when(jwtTokenProvider.generateAccessToken(any(), anyString())).thenReturn(ACCESS_TOKEN);
+      when(jwtTokenProvider.generateAccessToken(any(), anyString(), anyBoolean()))
+          .thenReturn(ACCESS_TOKEN);
       when(jwtTokenProvider.generateRefreshToken(any())).thenReturn(REFRESH_TOKEN);
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
       when(userMapper.toUserResponse(any())).thenReturn(userResponse);
@@ -259,9 +276,9 @@ class AuthServiceTest {
               false);
 
       when(userRepository.existsByEmail(TEST_EMAIL)).thenReturn(false);
-      when(passwordEncoder.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
+      when(passwordHasher.encode(TEST_PASSWORD)).thenReturn(ENCODED_PASSWORD);
       when(userRepository.save(any(User.class))).thenReturn(savedUser);
-      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase()))
+      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase(), false))
           .thenReturn(ACCESS_TOKEN);
       when(jwtTokenProvider.generateRefreshToken(userId)).thenReturn(REFRESH_TOKEN);
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
@@ -307,8 +324,8 @@ class AuthServiceTest {
               false);
 
       when(userRepository.findByEmail(TEST_EMAIL.toLowerCase())).thenReturn(Optional.of(user));
-      when(passwordEncoder.matches(TEST_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
-      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase()))
+      when(passwordHasher.matches(TEST_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase(), false))
           .thenReturn(ACCESS_TOKEN);
       when(jwtTokenProvider.generateRefreshToken(userId)).thenReturn(REFRESH_TOKEN);
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
@@ -348,13 +365,13 @@ class AuthServiceTest {
       user.setId(userId);
 
       when(userRepository.findByEmail(TEST_EMAIL.toLowerCase())).thenReturn(Optional.of(user));
-      when(passwordEncoder.matches("wrongPassword", ENCODED_PASSWORD)).thenReturn(false);
+      when(passwordHasher.matches("wrongPassword", ENCODED_PASSWORD)).thenReturn(false);
 
       assertThatThrownBy(() -> authService.login(request))
           .isInstanceOf(UnauthorizedException.class)
           .hasMessageContaining("Invalid email or password");
 
-      verify(jwtTokenProvider, never()).generateAccessToken(any(), any());
+      verify(jwtTokenProvider, never()).generateAccessToken(any(), any(), anyBoolean());
     }
 
     @Test
@@ -383,8 +400,9 @@ class AuthServiceTest {
               false);
 
       when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-      when(passwordEncoder.matches(TEST_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
-      when(jwtTokenProvider.generateAccessToken(any(), anyString())).thenReturn(ACCESS_TOKEN);
+      when(passwordHasher.matches(TEST_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+      when(jwtTokenProvider.generateAccessToken(any(), anyString(), anyBoolean()))
+          .thenReturn(ACCESS_TOKEN);
       when(jwtTokenProvider.generateRefreshToken(any())).thenReturn(REFRESH_TOKEN);
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
       when(userMapper.toUserResponse(any())).thenReturn(userResponse);
@@ -393,6 +411,38 @@ class AuthServiceTest {
 
       verify(userRepository).findByEmail("test@example.com");
     }
+
+    @Test
+    @DisplayName("should rehash password when stored hash uses outdated parameters")
+    void shouldRehashOutdatedPasswordHash() {
+      LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD, null);
+      User user =
+          User.builder()
+              .email(TEST_EMAIL.toLowerCase())
+              .passwordHash(ENCODED_PASSWORD)
+              .fullName(TEST_FULL_NAME)
+              .build();
+      user.setId(UUID.randomUUID());
+
+      when(userRepository.findByEmail(TEST_EMAIL.toLowerCase())).thenReturn(Optional.of(user));
+      when(passwordHasher.matches(TEST_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+      when(passwordHasher.needsRehash(ENCODED_PASSWORD)).thenReturn(true);
+      when(passwordHasher.encode(TEST_PASSWORD)).thenReturn("{argon2}upgraded");
+      when(jwtTokenProvider.generateAccessToken(any(), anyString(), anyBoolean()))
+          .thenReturn(ACCESS_TOKEN);
+      when(jwtTokenProvider.generateRefreshToken(any())).thenReturn(REFRESH_TOKEN);
+      when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
+
+      authService.login(request);
+
+      InOrder inOrder = inOrder(passwordHasher, transactionManager, userRepository);
+      inOrder.verify(passwordHasher).encode(TEST_PASSWORD);
+      inOrder.verify(transactionManager).getTransaction(any());
+      inOrder
+          .verify(userRepository)
+          .replacePasswordHash(
+              eq(user.getId()), eq(ENCODED_PASSWORD), eq("{argon2}upgraded"), any());
+    }
   }
 
   @Nested
@@ -424,7 +474,7 @@ class AuthServiceTest {
           .thenReturn(Optional.of(storedToken));
       when(jwtTokenProvider.validateToken(REFRESH_TOKEN)).thenReturn(true);
       when(jwtTokenProvider.isRefreshToken(REFRESH_TOKEN)).thenReturn(true);
-      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase()))
+      when(jwtTokenProvider.generateAccessToken(userId, TEST_EMAIL.toLowerCase(), false))
           .thenReturn("new_access_token");
       when(jwtTokenProvider.generateRefreshToken(userId)).thenReturn("new_refresh_token");
       when(jwtProperties.refreshTokenExpiration()).thenReturn(REFRESH_TOKEN_EXPIRATION);
@@ -554,14 +604,32 @@ class AuthServiceTest {
   @DisplayName("logout")
   class LogoutTests {
 
+    private final UUID userId = UUID.randomUUID();
+    private final VerifiedToken accessToken =
+        new VerifiedToken(
+            userId,
+            "test@example.com",
+            "access",
+            "jti-1",
+            Instant.now(),
+            Instant.now().plusSeconds(900),
+            false);
+
     @Test
     @DisplayName("should revoke all refresh tokens for user")
     void shouldRevokeAllRefreshTokens() {
-      UUID userId = UUID.randomUUID();
+      authService.logout(accessToken);
 
-      authService.logout(userId);
+      verify(refreshTokenRepository).revokeAllByUserId(eq(userId), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("should revoke only the presented access token")
+    void shouldRevokePresentedAccessToken() {
+      authService.logout(accessToken);
 
-      verify(refreshTokenRepository).revokeAllByUserId(any(UUID.class), any(Instant.class));
+      verify(tokenRevocationList).revokeToken(accessToken);
+      verify(tokenRevocationList, never()).revokeAllForUser(any(UUID.class));
     }
   }
 
@@ -0,0 +1,125 @@
+package app.kaiz.identity.application;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.identity.application.dto.AuthDtos.RegisterRequest;
+import app.kaiz.identity.infrastructure.EmailVerificationCodeRepository;
+import app.kaiz.identity.infrastructure.PasswordResetTokenRepository;
+import app.kaiz.identity.infrastructure.RefreshTokenRepository;
+import app.kaiz.shared.config.TokenPurgeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Runs the purge with a chunk size of two against one user's tokens: expired and long-spent rows go
+ * over several chunks, live and recently spent ones stay.
+ */
+class TokenPurgeSchedulerIntegrationTest extends IntegrationTestBase {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private RefreshTokenRepository refreshTokenRepository;
+  @Autowired private PasswordResetTokenRepository passwordResetTokenRepository;
+  @Autowired private EmailVerificationCodeRepository emailVerificationCodeRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TokenPurgeScheduler scheduler;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    String email = "purge-" + UUID.randomUUID() + "@example.com";
+    given()
+        .contentType(ContentType.JSON)
+        .body(new RegisterRequest(email, "SecurePassword123!", "Purge User", null, null))
+        .when()
+        .post("/api/v1/auth/register")
+        .then()
+        .statusCode(201);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email);
+
+    scheduler =
+        new TokenPurgeScheduler(
+            refreshTokenRepository,
+            passwordResetTokenRepository,
+            emailVerificationCodeRepository,
+            transactionManager,
+            new TokenPurgeProperties(2, Duration.ZERO, Duration.ofDays(1)),
+            new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  @Test
+  @DisplayName("should purge expired and long-spent tokens in chunks and keep the rest")
+  void shouldPurgeDeadTokensOnly() {
+    Instant now = Instant.now();
+    Instant hourAgo = now.minus(1, ChronoUnit.HOURS);
+    Instant twoDaysAgo = now.minus(2, ChronoUnit.DAYS);
+    Instant nextWeek = now.plus(7, ChronoUnit.DAYS);
+    for (int i = 0; i < 5; i++) {
+      insert("refresh_tokens", "revoked_at", hourAgo, null);
+    }
+    insert("refresh_tokens", "revoked_at", nextWeek, twoDaysAgo);
+    insert("refresh_tokens", "revoked_at", nextWeek, hourAgo);
+    insert("password_reset_tokens", "used_at", hourAgo, null);
+    insert("password_reset_tokens", "used_at", nextWeek, twoDaysAgo);
+    insert("password_reset_tokens", "used_at", nextWeek, null);
+    jdbcTemplate.update(
+        "INSERT INTO email_verification_codes (user_id, code_hash, expires_at) VALUES (?, ?, ?)",
+        userId,
+        "expired",
+        Timestamp.from(hourAgo));
+
+    long purged = scheduler.purgeDeadTokens();
+
+    // 6 refresh tokens, 2 reset tokens and 1 code of this user; other tests may leave more
+    assertThat(purged).isGreaterThanOrEqualTo(9);
+    assertThat(count("refresh_tokens")).isEqualTo(2); // from registration, recently revoked
+    assertThat(count("password_reset_tokens")).isEqualTo(1);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM email_verification_codes"
+                    + " WHERE user_id = ? AND expires_at < now()",
+                Long.class,
+                userId))
+        .isZero();
+  }
+
+  private void insert(String table, String spentColumn, Instant expiresAt, Instant spentAt) {
+    jdbcTemplate.update(
+        "INSERT INTO "
+            + table
+            + " (user_id, token_hash, expires_at, "
+            + spentColumn
+            + ")"
+            + " VALUES (?, ?, ?, ?)",
+        userId,
+        UUID.randomUUID().toString(),
+        Timestamp.from(expiresAt),
+        spentAt != null ? Timestamp.from(spentAt) : null);
+  }
+
+  private long count(String table) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM " + table + " WHERE user_id = ?", Long.class, userId);
+  }
+}
@@ -0,0 +1,257 @@
+package app.kaiz.notification.api;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.identity.application.dto.AuthDtos.RegisterRequest;
+import app.kaiz.notification.application.NotificationService;
+import app.kaiz.notification.application.NotificationStreamRegistry;
+import app.kaiz.notification.application.dto.NotificationDto;
+import app.kaiz.notification.domain.NotificationType;
+import app.kaiz.shared.security.JwtTokenProvider;
+import com.sun.management.UnixOperatingSystemMXBean;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * {@code GET /api/v1/notifications/stream}: live delivery, {@code Last-Event-ID} resume, and 10k
+ * idle streams on one instance.
+ *
+ * <p>The load test opens the streams (as many distinct users), then holds them through several
+ * heartbeats. Heap per stream must stay small, heap must not grow while they sit idle, and the
+ * number of platform threads must not grow with the number of streams. Override the count with
+ * {@code -Dkaiz.stream.connections=N}; it is skipped when the process may not open enough files.
+ */
+@Slf4j
+@TestPropertySource(
+    properties = {
+      "kaiz.notification-stream.heartbeat-interval=1s",
+      "kaiz.resilience.shedding.enabled=false"
+    })
+class NotificationStreamIntegrationTest extends IntegrationTestBase {
+
+  private static final int CONNECTIONS = Integer.getInteger("kaiz.stream.connections", 10_000);
+  private static final int OPEN_BATCH = 250;
+  private static final long MAX_BYTES_PER_CONNECTION = 64 * 1024;
+  private static final long MAX_IDLE_GROWTH_BYTES = 16L * 1024 * 1024;
+  private static final int MAX_THREAD_GROWTH = 100;
+  private static final Duration EVENT_TIMEOUT = Duration.ofSeconds(10);
+
+  @Autowired private NotificationService notificationService;
+  @Autowired private NotificationStreamRegistry registry;
+  @Autowired private JwtTokenProvider jwtTokenProvider;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final HttpClient client =
+      HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+  }
+
+  @Test
+  @DisplayName("should push new notifications live and replay missed ones on resume")
+  void shouldPushAndResume() throws Exception {
+    String email = "sse-" + UUID.randomUUID() + "@example.com";
+    String accessToken =
+        given()
+            .contentType(ContentType.JSON)
+            .body(new RegisterRequest(email, "SecurePassword123!", "Stream User", null, null))
+            .when()
+            .post("/api/v1/auth/register")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("data.accessToken");
+    UUID userId =
+        jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email);
+
+    EventStream stream = EventStream.open(client, streamRequest(accessToken, null));
+    assertThat(stream.next("unread-count").data()).contains("\"total\":");
+
+    NotificationDto first = notify(userId, "First");
+    Event live = stream.next("notification");
+    assertThat(live.id()).isEqualTo(first.id().toString());
+    assertThat(live.data()).contains("First");
+    assertThat(stream.next("unread-delta").data()).contains("\"delta\":1");
+    stream.close();
+
+    NotificationDto missed = notify(userId, "Missed");
+
+    // Replay starts a little before the last event, so earlier notifications may come again
+    EventStream resumed = EventStream.open(client, streamRequest(accessToken, live.id()));
+    List<String> replayed = new ArrayList<>();
+    while (!replayed.contains(missed.id().toString())) {
+      replayed.add(resumed.next("notification").id());
+    }
+    assertThat(replayed).doesNotContain(first.id().toString());
+    resumed.close();
+  }
+
+  @Test
+  @DisplayName("should hold 10k idle streams with flat memory and no thread per stream")
+  void shouldHoldManyIdleStreams() throws Exception {
+    OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    if (os instanceof UnixOperatingSystemMXBean unix) {
+      // Client and server ends of every connection live in this process
+      assumeThat(unix.getMaxFileDescriptorCount()).isGreaterThan(2L * CONNECTIONS + 1_000);
+    }
+
+    List<String> tokens = new ArrayList<>(CONNECTIONS);
+    for (int i = 0; i < CONNECTIONS; i++) {
+      tokens.add(
+          jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "load-" + i + "@example.com"));
+    }
+    int baseStreams = registry.size();
+    int baseThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+    long baseHeap = usedHeapAfterGc();
+
+    List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONNECTIONS);
+    for (int from = 0; from < CONNECTIONS; from += OPEN_BATCH) {
+      int to = Math.min(from + OPEN_BATCH, CONNECTIONS);
+      for (String token : tokens.subList(from, to)) {
+        responses.add(
+            client.sendAsync(streamRequest(token, null), HttpResponse.BodyHandlers.discarding()));
+      }
+      awaitStreams(baseStreams + to);
+    }
+
+    long openHeap = usedHeapAfterGc();
+    int openThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+    Thread.sleep(5_000); // five heartbeats to every stream
+    long idleHeap = usedHeapAfterGc();
+
+    long perConnection = (openHeap - baseHeap) / CONNECTIONS;
+    log.info(
+        "{} streams: {} bytes each, {} KB idle growth, {} extra threads",
+        CONNECTIONS,
+        perConnection,
+        (idleHeap - openHeap) / 1024,
+        openThreads - baseThreads);
+    assertThat(registry.size()).isEqualTo(baseStreams + CONNECTIONS); // none dropped
+    assertThat(perConnection).isLessThan(MAX_BYTES_PER_CONNECTION);
+    assertThat(idleHeap - openHeap).isLessThan(MAX_IDLE_GROWTH_BYTES);
+    assertThat(openThreads - baseThreads).isLessThan(MAX_THREAD_GROWTH);
+
+    responses.forEach(response -> response.cancel(true));
+  }
+
+  private NotificationDto notify(UUID userId, String title) {
+    return notificationService.createNotification(
+        userId, NotificationType.TASK_CREATED, title, "Streamed", Map.of());
+  }
+
+  private HttpRequest streamRequest(String accessToken, String lastEventId) {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create(baseUrl() + "/api/v1/notifications/stream"))
+            .header("Authorization", "Bearer " + accessToken)
+            .header("Accept", "text/event-stream");
+    if (lastEventId != null) {
+      request.header("Last-Event-ID", lastEventId);
+    }
+    return request.build();
+  }
+
+  private void awaitStreams(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+    while (registry.size() < expected) {
+      assertThat(System.nanoTime()).as("streams open").isLessThan(deadline);
+      Thread.sleep(20);
+    }
+  }
+
+  private static long usedHeapAfterGc() throws InterruptedException {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private record Event(String name, String id, String data) {}
+
+  /** Reads one SSE response on a virtual thread and hands out its events in order. */
+  private static final class EventStream implements AutoCloseable {
+
+    private final Stream<String> lines;
+    private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+
+    private EventStream(Stream<String> lines) {
+      this.lines = lines;
+      Thread.ofVirtual().start(this::read);
+    }
+
+    static EventStream open(HttpClient client, HttpRequest request) throws Exception {
+      HttpResponse<Stream<String>> response =
+          client.send(request, HttpResponse.BodyHandlers.ofLines());
+      assertThat(response.statusCode()).isEqualTo(200);
+      return new EventStream(response.body());
+    }
+
+    private void read() {
+      Map<String, String> fields = new HashMap<>();
+      try {
+        lines.forEach(
+            line -> {
+              if (line.isEmpty()) {
+                if (fields.containsKey("event")) {
+                  events.add(new Event(fields.get("event"), fields.get("id"), fields.get("data")));
+                }
+                fields.clear();
+              } else if (!line.startsWith(":")) {
+                int colon = line.indexOf(':');
+                fields.merge(
+                    line.substring(0, colon), line.substring(colon + 1), (a, b) -> a + "\n" + b);
+              }
+            });
+      } catch (RuntimeException e) {
+        // Closed by the test
+      }
+    }
+
+    /** Skips ahead to the next event called {@code name}. */
+    Event next(String name) throws InterruptedException {
+      long deadline = System.nanoTime() + EVENT_TIMEOUT.toNanos();
+      while (true) {
+        Event event = events.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        assertThat(event).as("'%s' event", name).isNotNull();
+        if (event.name().equals(name)) {
+          return event;
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      lines.close();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package app.kaiz.notification.application;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.identity.application.dto.AuthDtos.RegisterRequest;
+import app.kaiz.notification.application.dto.NotificationDto;
+import app.kaiz.notification.application.dto.NotificationDto.UnreadCountDto;
+import app.kaiz.notification.domain.NotificationCategory;
+import app.kaiz.notification.domain.NotificationType;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Walks one user's notifications through every change that affects the unread counters and checks
+ * the (cached) counts against a count of the notifications after each step, then breaks a counter
+ * and lets the reconciliation job repair it.
+ */
+class NotificationCounterIntegrationTest extends IntegrationTestBase {
+
+  @Autowired private NotificationService notificationService;
+  @Autowired private NotificationCounterService counterService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    String email = "counters-" + UUID.randomUUID() + "@example.com";
+    given()
+        .contentType(ContentType.JSON)
+        .body(new RegisterRequest(email, "SecurePassword123!", "Counter User", null, null))
+        .when()
+        .post("/api/v1/auth/register")
+        .then()
+        .statusCode(201);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email);
+  }
+
+  @Test
+  @DisplayName("should keep unread counts equal to the notifications through every change")
+  void shouldMaintainCounters() {
+    NotificationDto task = notify(NotificationType.TASK_CREATED);
+    NotificationDto other = notify(NotificationType.TASK_CREATED);
+    NotificationDto challenge = notify(NotificationType.CHALLENGE_STARTED);
+    assertCounts();
+    assertThat(notificationService.getUnreadCount(userId)).isGreaterThanOrEqualTo(3);
+
+    notificationService.markAsRead(userId, task.id());
+    assertCounts();
+    notificationService.markAsRead(userId, task.id()); // already read: no change
+    assertCounts();
+    notificationService.markAsUnread(userId, task.id());
+    assertCounts();
+
+    notificationService.archiveNotification(userId, other.id());
+    assertCounts();
+    notificationService.markAsRead(userId, other.id()); // archived: not counted either way
+    notificationService.markAsUnread(userId, other.id());
+    assertCounts();
+    notificationService.unarchiveNotification(userId, other.id());
+    assertCounts();
+
+    notificationService.deleteNotification(userId, challenge.id());
+    assertCounts();
+
+    notificationService.markCategoryAsRead(userId, NotificationCategory.TASKS);
+    assertCounts();
+    notify(NotificationType.CHALLENGE_STARTED);
+    notificationService.markAllAsRead(userId);
+    assertCounts();
+    assertThat(notificationService.getUnreadCount(userId)).isZero();
+  }
+
+  @Test
+  @DisplayName("should repair a drifted counter in the nightly reconciliation")
+  void shouldRepairDrift() {
+    notify(NotificationType.TASK_CREATED);
+    notificationService.getDetailedUnreadCount(userId); // cache the correct counts
+    jdbcTemplate.update(
+        "UPDATE notification_counters SET unread = unread + 40 WHERE user_id = ?", userId);
+
+    assertThat(counterService.reconcileCounters()).isGreaterThanOrEqualTo(1);
+    assertCounts();
+  }
+
+  private NotificationDto notify(NotificationType type) {
+    return notificationService.createNotification(userId, type, "Counted", "Unread", Map.of());
+  }
+
+  private void assertCounts() {
+    Map<String, Long> expected =
+        jdbcTemplate.query(
+            "SELECT category, count(*) FROM notifications"
+                + " WHERE user_id = ? AND is_read = false AND is_archived = false"
+                + " GROUP BY category",
+            rs -> {
+              Map<String, Long> counts = new HashMap<>();
+              while (rs.next()) {
+                counts.put(NotificationCategory.valueOf(rs.getString(1)).getId(), rs.getLong(2));
+              }
+              return counts;
+            },
+            userId);
+    UnreadCountDto actual = notificationService.getDetailedUnreadCount(userId);
+    assertThat(actual.byCategory()).isEqualTo(expected);
+    assertThat(actual.total())
+        .isEqualTo(expected.values().stream().mapToLong(Long::longValue).sum());
+  }
+}
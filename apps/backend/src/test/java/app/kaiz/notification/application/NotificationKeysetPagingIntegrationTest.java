@@ -0,0 +1,102 @@
+package app.kaiz.notification.application;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.identity.application.dto.AuthDtos.RegisterRequest;
+import app.kaiz.notification.application.dto.NotificationDto;
+import app.kaiz.notification.domain.NotificationType;
+import app.kaiz.shared.util.CursorPage;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Pages through one user's notifications, pinned first, with one cursor on a pinned row, one on an
+ * unpinned row and two rows sharing a timestamp, and checks the pages add up to the full listing
+ * without gaps or repeats.
+ */
+class NotificationKeysetPagingIntegrationTest extends IntegrationTestBase {
+
+  private static final Instant BASE = Instant.parse("2026-01-01T12:00:00Z");
+
+  @Autowired private NotificationService notificationService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    String email = "paging-" + UUID.randomUUID() + "@example.com";
+    given()
+        .contentType(ContentType.JSON)
+        .body(new RegisterRequest(email, "SecurePassword123!", "Paging User", null, null))
+        .when()
+        .post("/api/v1/auth/register")
+        .then()
+        .statusCode(201);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email);
+    jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", userId);
+  }
+
+  @Test
+  @DisplayName("should page across the pinned boundary without gaps or repeats")
+  void shouldPageAcrossThePinnedBoundary() {
+    // Pinned rows are older than some unpinned ones, so only the pinned flag orders them first
+    notify(true, 10);
+    notify(true, 50);
+    notify(true, 30);
+    notify(false, 40);
+    notify(false, 20);
+    notify(false, 20);
+    notify(false, 60);
+    jdbcTemplate.update(
+        "UPDATE notifications SET is_archived = true WHERE user_id = ? AND created_at = ?",
+        userId,
+        Timestamp.from(BASE.plusSeconds(60)));
+
+    List<UUID> paged = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    String cursor = null;
+    do {
+      CursorPage<NotificationDto> page =
+          notificationService.getNotificationsByUserId(userId, cursor, 2);
+      page.items().forEach(n -> paged.add(n.id()));
+      pageSizes.add(page.items().size());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    List<UUID> expected =
+        jdbcTemplate.queryForList(
+            "SELECT id FROM notifications WHERE user_id = ? AND is_archived = false"
+                + " ORDER BY is_pinned DESC, created_at DESC, id DESC",
+            UUID.class,
+            userId);
+    assertThat(expected).hasSize(6);
+    assertThat(paged).containsExactlyElementsOf(expected);
+    assertThat(pageSizes).containsExactly(2, 2, 2);
+  }
+
+  private void notify(boolean pinned, int secondsAfterBase) {
+    NotificationDto notification =
+        notificationService.createNotification(
+            userId, NotificationType.TASK_CREATED, "Paged", "Keyset", Map.of());
+    jdbcTemplate.update(
+        "UPDATE notifications SET is_pinned = ?, created_at = ? WHERE id = ?",
+        pinned,
+        Timestamp.from(BASE.plusSeconds(secondsAfterBase)),
+        notification.id());
+  }
+}
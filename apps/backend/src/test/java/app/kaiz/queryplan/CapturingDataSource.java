@@ -0,0 +1,108 @@
+package app.kaiz.queryplan;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+
+/**
+ * Wraps a {@link DataSource} so that the queries a thread issues, with their bound parameters, can
+ * be recorded between {@link #startCapture()} and {@link #stopCapture()} and replayed under
+ * EXPLAIN.
+ */
+final class CapturingDataSource {
+
+  private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+  private CapturingDataSource() {}
+
+  /** A prepared query and the setter calls that bound its parameters, in parameter order. */
+  record CapturedQuery(String sql, Map<Integer, Binding> bindings) {
+
+    /** Prepares {@code prefix + sql} on {@code connection} and binds the captured parameters. */
+    PreparedStatement prepare(Connection connection, String prefix) throws Exception {
+      PreparedStatement statement = connection.prepareStatement(prefix + sql);
+      for (Binding binding : bindings.values()) {
+        binding.setter().invoke(statement, binding.arguments());
+      }
+      return statement;
+    }
+  }
+
+  record Binding(Method setter, Object[] arguments) {}
+
+  static DataSource wrap(DataSource target) {
+    return proxy(
+        DataSource.class,
+        (proxy, method, args) -> {
+          Object result = invoke(target, method, args);
+          return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+  }
+
+  static void startCapture() {
+    CAPTURED.set(new ArrayList<>());
+  }
+
+  static List<CapturedQuery> stopCapture() {
+    List<CapturedQuery> captured = CAPTURED.get();
+    CAPTURED.remove();
+    return captured != null ? captured : List.of();
+  }
+
+  private static Connection wrapConnection(Connection target) {
+    return proxy(
+        Connection.class,
+        (proxy, method, args) -> {
+          Object result = invoke(target, method, args);
+          if (result instanceof PreparedStatement statement
+              && method.getName().equals("prepareStatement")) {
+            return wrapStatement(statement, (String) args[0]);
+          }
+          return result;
+        });
+  }
+
+  private static PreparedStatement wrapStatement(PreparedStatement target, String sql) {
+    Map<Integer, Binding> bindings = new TreeMap<>();
+    return proxy(
+        PreparedStatement.class,
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if (name.startsWith("set")
+              && args != null
+              && args.length >= 2
+              && args[0] instanceof Integer index) {
+            bindings.put(index, new Binding(method, args.clone()));
+          } else if (name.equals("clearParameters")) {
+            bindings.clear();
+          } else if (name.equals("executeQuery") || name.equals("execute")) {
+            List<CapturedQuery> captured = CAPTURED.get();
+            if (captured != null && (args == null || args.length == 0)) {
+              captured.add(new CapturedQuery(sql, new TreeMap<>(bindings)));
+            }
+          }
+          return invoke(target, method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+}
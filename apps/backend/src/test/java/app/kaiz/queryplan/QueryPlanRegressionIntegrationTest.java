@@ -0,0 +1,374 @@
+package app.kaiz.queryplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.queryplan.CapturingDataSource.CapturedQuery;
+import app.kaiz.testdata.DatasetSpec;
+import app.kaiz.testdata.DatasetSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs every query method of every Spring Data repository against the synthetic dataset and replays
+ * the SQL it issues under {@code EXPLAIN (ANALYZE, BUFFERS)}.
+ *
+ * <p>Fails when a plan sequentially scans a table with more than {@link #SEQ_SCAN_ROW_LIMIT} rows,
+ * unless the method is listed in {@link #ACCEPTED_SEQ_SCANS}. Writes cost, time and buffer usage
+ * per method to {@code target/query-plans.md}, so plan changes show up in CI artifacts.
+ *
+ * <p>Arguments are derived from parameter types and names: user ids point at the heaviest synthetic
+ * user, dates at the last week. Modifying and delete methods are skipped because {@code ANALYZE}
+ * would execute them. Any other method that throws is reported as failed, and the test fails unless
+ * at least {@link #MIN_PLANNED_RATIO} of the remaining methods were planned, so a broken dataset or
+ * argument sampler cannot pass by planning nothing.
+ */
+class QueryPlanRegressionIntegrationTest extends IntegrationTestBase {
+
+  private static final DatasetSpec SPEC = DatasetSpec.ofUsers(2_000).withSeed(7);
+  private static final long SEQ_SCAN_ROW_LIMIT = 10_000;
+  private static final Path REPORT = Path.of("target", "query-plans.md");
+  private static final double MIN_PLANNED_RATIO = 0.9;
+
+  /** Tables the dataset must fill beyond {@link #SEQ_SCAN_ROW_LIMIT} for scans to be caught. */
+  private static final List<String> SEEDED_TABLES = List.of("tasks", "notifications");
+
+  /** {@code Repository.method} names whose sequential scans are known and accepted. */
+  private static final Set<String> ACCEPTED_SEQ_SCANS = Set.of();
+
+  @TestConfiguration
+  static class CaptureConfig {
+
+    @Bean
+    static BeanPostProcessor capturingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource dataSource
+              ? CapturingDataSource.wrap(dataSource)
+              : bean;
+        }
+      };
+    }
+  }
+
+  @Autowired private ApplicationContext applicationContext;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private DataSource dataSource;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, Long> tableRows = new HashMap<>();
+  private DatasetSummary summary;
+
+  private record PlannedMethod(
+      String name,
+      double totalCost,
+      double executionMs,
+      long sharedHit,
+      long sharedRead,
+      List<String> seqScans,
+      String skipped,
+      String failed) {}
+
+  @BeforeEach
+  void setUp() {
+    summary = syntheticDataset(SPEC);
+  }
+
+  @Test
+  @DisplayName("should not sequentially scan large tables from any repository query")
+  void shouldNotSeqScanLargeTables() throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      for (String table : SEEDED_TABLES) {
+        assertThat(rows(connection, table))
+            .as("Rows in %s", table)
+            .isGreaterThan(SEQ_SCAN_ROW_LIMIT);
+      }
+    }
+
+    List<PlannedMethod> results = new ArrayList<>();
+    Repositories repositories = new Repositories(applicationContext);
+    for (Class<?> domainType : repositories) {
+      RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+      Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+      for (Method method : information.getQueryMethods()) {
+        results.add(plan(information.getRepositoryInterface().getSimpleName(), repository, method));
+      }
+    }
+    results.sort(Comparator.comparingDouble(PlannedMethod::totalCost).reversed());
+    writeReport(results);
+
+    List<PlannedMethod> invoked = results.stream().filter(r -> r.skipped() == null).toList();
+    List<String> failures =
+        invoked.stream()
+            .filter(result -> result.failed() != null)
+            .map(result -> result.name() + ": " + result.failed())
+            .toList();
+    assertThat(invoked.size() - failures.size())
+        .as("Methods planned out of %d, failures: %s", invoked.size(), failures)
+        .isGreaterThanOrEqualTo((int) Math.ceil(invoked.size() * MIN_PLANNED_RATIO));
+
+    List<String> violations =
+        results.stream()
+            .filter(result -> !result.seqScans().isEmpty())
+            .filter(result -> !ACCEPTED_SEQ_SCANS.contains(result.name()))
+            .map(result -> result.name() + " scans " + result.seqScans())
+            .toList();
+    assertThat(violations).as("Sequential scans over large tables, see " + REPORT).isEmpty();
+  }
+
+  private PlannedMethod plan(String repositoryName, Object repository, Method method)
+      throws Exception {
+    String name = repositoryName + "." + method.getName();
+    if (method.isAnnotationPresent(Modifying.class)
+        || method.getName().startsWith("delete")
+        || method.getName().startsWith("remove")) {
+      return skipped(name, "modifying");
+    }
+
+    Object[] arguments = new Object[method.getParameterCount()];
+    Parameter[] parameters = method.getParameters();
+    for (int i = 0; i < parameters.length; i++) {
+      Parameter parameter = parameters[i];
+      arguments[i] =
+          sample(parameter.getType(), parameter.getParameterizedType(), parameter.getName());
+    }
+
+    List<CapturedQuery> queries;
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    try {
+      queries =
+          transaction.execute(
+              status -> {
+                CapturingDataSource.startCapture();
+                try {
+                  Object result = method.invoke(repository, arguments);
+                  if (result instanceof Stream<?> stream) {
+                    try (stream) {
+                      stream.forEach(row -> {});
+                    }
+                  }
+                } catch (ReflectiveOperationException e) {
+                  throw new IllegalStateException(e.getCause());
+                } finally {
+                  status.setRollbackOnly();
+                }
+                return CapturingDataSource.stopCapture();
+              });
+    } catch (RuntimeException e) {
+      CapturingDataSource.stopCapture();
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      return failed(name, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    }
+
+    double totalCost = 0;
+    double executionMs = 0;
+    long sharedHit = 0;
+    long sharedRead = 0;
+    List<String> seqScans = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        for (CapturedQuery query : queries) {
+          if (!query.sql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            continue;
+          }
+          JsonNode explained = explain(connection, query).get(0);
+          JsonNode root = explained.get("Plan");
+          totalCost += root.path("Total Cost").asDouble();
+          executionMs += explained.path("Execution Time").asDouble();
+          sharedHit += root.path("Shared Hit Blocks").asLong();
+          sharedRead += root.path("Shared Read Blocks").asLong();
+          collectSeqScans(connection, root, seqScans);
+        }
+      } finally {
+        connection.rollback();
+      }
+    }
+    return new PlannedMethod(
+        name, totalCost, executionMs, sharedHit, sharedRead, seqScans, null, null);
+  }
+
+  private JsonNode explain(Connection connection, CapturedQuery query) throws Exception {
+    try (PreparedStatement statement =
+            query.prepare(connection, "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ");
+        ResultSet resultSet = statement.executeQuery()) {
+      resultSet.next();
+      return objectMapper.readTree(resultSet.getString(1));
+    }
+  }
+
+  private void collectSeqScans(Connection connection, JsonNode node, List<String> seqScans)
+      throws Exception {
+    if ("Seq Scan".equals(node.path("Node Type").asText())) {
+      String table = node.path("Relation Name").asText();
+      if (rows(connection, table) > SEQ_SCAN_ROW_LIMIT && !seqScans.contains(table)) {
+        seqScans.add(table);
+      }
+    }
+    for (JsonNode child : node.path("Plans")) {
+      collectSeqScans(connection, child, seqScans);
+    }
+  }
+
+  private long rows(Connection connection, String table) throws Exception {
+    Long cached = tableRows.get(table);
+    if (cached != null) {
+      return cached;
+    }
+    try (PreparedStatement statement =
+        connection.prepareStatement("SELECT reltuples::bigint FROM pg_class WHERE relname = ?")) {
+      statement.setString(1, table);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        long rows = resultSet.next() ? resultSet.getLong(1) : 0;
+        tableRows.put(table, rows);
+        return rows;
+      }
+    }
+  }
+
+  /** A representative argument for a repository parameter, or {@code null} if none fits. */
+  private Object sample(Class<?> type, Type genericType, String name) {
+    if (type == UUID.class) {
+      return summary.heaviestUserId();
+    }
+    if (type == String.class) {
+      return name.toLowerCase(Locale.ROOT).contains("email")
+          ? "user1@synthetic.kaiz.app"
+          : "synthetic";
+    }
+    if (type == boolean.class || type == Boolean.class) {
+      return false;
+    }
+    if (type == int.class || type == Integer.class) {
+      return 10;
+    }
+    if (type == long.class || type == Long.class) {
+      return 10L;
+    }
+    if (type == BigDecimal.class) {
+      return BigDecimal.TEN;
+    }
+    if (type == Instant.class) {
+      return Instant.now().minus(7, ChronoUnit.DAYS);
+    }
+    if (type == LocalDate.class) {
+      return LocalDate.now().minusDays(7);
+    }
+    if (type == LocalDateTime.class) {
+      return LocalDateTime.now().minusDays(7);
+    }
+    if (type == Pageable.class) {
+      return PageRequest.of(0, 20);
+    }
+    if (type == Sort.class) {
+      return Sort.unsorted();
+    }
+    if (type == Limit.class) {
+      return Limit.of(20);
+    }
+    if (type.isEnum()) {
+      return type.getEnumConstants()[0];
+    }
+    if (Collection.class.isAssignableFrom(type)
+        && genericType instanceof ParameterizedType parameterized
+        && parameterized.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+      Object element = sample(elementType, elementType, name);
+      if (element == null) {
+        return null;
+      }
+      return Set.class.isAssignableFrom(type) ? Set.of(element) : List.of(element);
+    }
+    return null;
+  }
+
+  private static PlannedMethod skipped(String name, String reason) {
+    return new PlannedMethod(name, 0, 0, 0, 0, List.of(), reason, null);
+  }
+
+  private static PlannedMethod failed(String name, String error) {
+    return new PlannedMethod(name, 0, 0, 0, 0, List.of(), null, error);
+  }
+
+  private static void writeReport(List<PlannedMethod> results) throws IOException {
+    StringBuilder report =
+        new StringBuilder(
+            "# Query plans\n\n"
+                + "| Method | Total cost | Execution ms | Shared hit | Shared read |"
+                + " Large seq scans |\n"
+                + "|---|---:|---:|---:|---:|---|\n");
+    for (PlannedMethod result : results) {
+      if (result.skipped() == null && result.failed() == null) {
+        report.append(
+            String.format(
+                Locale.ROOT,
+                "| %s | %.1f | %.2f | %d | %d | %s |%n",
+                result.name(),
+                result.totalCost(),
+                result.executionMs(),
+                result.sharedHit(),
+                result.sharedRead(),
+                String.join(", ", result.seqScans())));
+      }
+    }
+    report.append("\n## Skipped\n\n");
+    for (PlannedMethod result : results) {
+      if (result.skipped() != null) {
+        report.append("- ").append(result.name()).append(": ").append(result.skipped());
+        report.append('\n');
+      }
+    }
+    report.append("\n## Failed\n\n");
+    for (PlannedMethod result : results) {
+      if (result.failed() != null) {
+        report.append("- ").append(result.name()).append(": ").append(result.failed());
+        report.append('\n');
+      }
+    }
+    Files.createDirectories(REPORT.getParent());
+    Files.writeString(REPORT, report);
+  }
+}
@@ -0,0 +1,96 @@
+package app.kaiz.shared.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.kaiz.shared.config.AsyncProperties.Lane;
+import app.kaiz.shared.config.AsyncProperties.RejectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+class AsyncLaneTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private AsyncLane lane;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    lane.stop();
+  }
+
+  @Test
+  void abortRejectsOnceConcurrencyAndQueueAreFull() throws InterruptedException {
+    lane = lane(RejectionPolicy.ABORT);
+    fill();
+
+    assertThatThrownBy(() -> lane.execute(() -> {})).isInstanceOf(TaskRejectedException.class);
+    assertThat(meterRegistry.get("kaiz.async.queue.depth").gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get("kaiz.async.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void callerRunsExecutesOverflowOnTheSubmittingThread() throws InterruptedException {
+    lane = lane(RejectionPolicy.CALLER_RUNS);
+    fill();
+    Thread caller = Thread.currentThread();
+    AtomicInteger ranOnCaller = new AtomicInteger();
+
+    lane.execute(
+        () -> {
+          if (Thread.currentThread() == caller) {
+            ranOnCaller.incrementAndGet();
+          }
+        });
+
+    assertThat(ranOnCaller).hasValue(1);
+  }
+
+  @Test
+  void stopDrainsQueuedTasks() {
+    lane = lane(RejectionPolicy.ABORT);
+    lane.execute(this::await);
+    AtomicInteger completed = new AtomicInteger();
+    lane.execute(completed::incrementAndGet);
+    release.countDown();
+
+    lane.stop();
+
+    assertThat(completed).hasValue(1);
+    assertThat(meterRegistry.get("kaiz.async.execution").timer().count()).isGreaterThanOrEqualTo(2);
+  }
+
+  private AsyncLane lane(RejectionPolicy policy) {
+    AsyncLane created =
+        new AsyncLane("test", new Lane(1, 1, policy), Duration.ofSeconds(5), meterRegistry);
+    created.start();
+    return created;
+  }
+
+  /** Occupies the single worker and the single queue slot until {@link #release} opens. */
+  private void fill() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    lane.execute(
+        () -> {
+          started.countDown();
+          await();
+        });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    lane.execute(this::await);
+  }
+
+  private void await() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package app.kaiz.shared.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.KaizApplication;
+import app.kaiz.shared.notify.PgNotifyListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/** Runs a second application context against the same database to stand in for another node. */
+class CacheInvalidationIntegrationTest extends IntegrationTestBase {
+
+  private static final String CACHE = "currentSprint";
+  private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+  @Autowired private CacheManager cacheManager;
+  @Autowired private CacheInvalidationBus bus;
+  @Autowired private PgNotifyListener listener;
+  @Autowired private DataSourceProperties dataSourceProperties;
+
+  private ConfigurableApplicationContext otherNode;
+
+  @BeforeEach
+  void startOtherNode() {
+    otherNode =
+        new SpringApplicationBuilder(KaizApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=" + dataSourceProperties.getUrl(),
+                "spring.datasource.username=" + dataSourceProperties.getUsername(),
+                "spring.datasource.password=" + dataSourceProperties.getPassword())
+            .run();
+    await(() -> listener.isListening() && otherNode(PgNotifyListener.class).isListening());
+  }
+
+  @AfterEach
+  void stopOtherNode() {
+    otherNode.close();
+  }
+
+  @Test
+  @DisplayName("evicting on one node evicts the entry on the other node")
+  void evictReachesOtherNode() {
+    cacheManager.getCache(CACHE).put("active", "local");
+    otherNode(CacheManager.class).getCache(CACHE).put("active", "remote");
+
+    bus.evict(CACHE, "active");
+
+    await(() -> otherNode(CacheManager.class).getCache(CACHE).get("active") == null);
+    assertThat(cacheManager.getCache(CACHE).get("active")).isNotNull();
+    assertThat(
+            otherNode(MeterRegistry.class)
+                .get("kaiz.cache.invalidation.received")
+                .tag("cache", CACHE)
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("clearing on the other node clears the cache here and reports latency")
+  void clearReachesThisNode() {
+    cacheManager.getCache(CACHE).put("active", "local");
+
+    otherNode(CacheInvalidationBus.class).clear(CACHE);
+
+    await(() -> cacheManager.getCache(CACHE).get("active") == null);
+    await(
+        () ->
+            otherNode(MeterRegistry.class).get("kaiz.cache.invalidation.roundtrip").timer().count()
+                > 0);
+  }
+
+  private <T> T otherNode(Class<T> type) {
+    return otherNode.getBean(type);
+  }
+
+  private static void await(BooleanSupplier condition) {
+    Instant deadline = Instant.now().plus(TIMEOUT);
+    while (!condition.getAsBoolean()) {
+      assertThat(Instant.now()).as("condition not met within %s", TIMEOUT).isBefore(deadline);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package app.kaiz.shared.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.properties.HasAnnotations;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mock.env.MockEnvironment;
+
+class AotConfigTest {
+
+  private final MockEnvironment environment = new MockEnvironment();
+  private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+  @Test
+  void acceptsARuntimeThatMatchesTheBuild() {
+    environment.setProperty("rate-limit.store", "postgres");
+    environment.setProperty("kaiz.outbox.relay-enabled", "false");
+    for (AotConfig.Switch condition : AotConfig.SWITCHES) {
+      if (condition.atRuntime().test(environment)) {
+        beanFactory.registerSingleton(condition.property(), mock(condition.beanType()));
+      }
+    }
+
+    assertThatCode(() -> AotConfig.verify(environment, beanFactory)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void refusesToggleChangesTheBuildDidNotSee() {
+    environment.setProperty("kaiz.read-replica.enabled", "true");
+    environment.setProperty("rate-limit.store", "postgres");
+    environment.setProperty("kaiz.sql-monitoring.enabled", "false");
+    environment.setProperty("kaiz.cache-invalidation.enabled", "false");
+    environment.setProperty("kaiz.outbox.relay-enabled", "false");
+    environment.setProperty("kaiz.request-timing.enabled", "false");
+
+    assertThatThrownBy(() -> AotConfig.verify(environment, beanFactory))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("-Daot.read-replica.enabled")
+        .hasMessageContaining("-Daot.rate-limit.store")
+        .hasMessageNotContaining("aot.profiling.enabled")
+        .hasMessageNotContaining("aot.outbox.relay-enabled");
+  }
+
+  @Test
+  void checksEveryPropertyAConditionReads() {
+    JavaClasses classes =
+        new ClassFileImporter()
+            .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+            .importPackages("app.kaiz");
+    Set<String> conditioned = new HashSet<>();
+    for (JavaClass type : classes) {
+      List<HasAnnotations<?>> elements = new ArrayList<>(type.getMethods());
+      elements.add(type);
+      for (HasAnnotations<?> element : elements) {
+        element
+            .tryGetAnnotationOfType(ConditionalOnProperty.class)
+            .ifPresent(
+                condition -> {
+                  String prefix = condition.prefix().isEmpty() ? "" : condition.prefix() + ".";
+                  String[] names =
+                      condition.name().length > 0 ? condition.name() : condition.value();
+                  for (String name : names) {
+                    conditioned.add(prefix + name);
+                  }
+                });
+      }
+    }
+
+    assertThat(conditioned).isNotEmpty();
+    assertThat(AotConfig.SWITCHES)
+        .extracting(AotConfig.Switch::property)
+        .containsExactlyInAnyOrderElementsOf(conditioned);
+  }
+}
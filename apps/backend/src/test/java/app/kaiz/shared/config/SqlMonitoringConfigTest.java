@@ -0,0 +1,35 @@
+package app.kaiz.shared.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.shared.observability.SqlStatementInspector;
+import app.kaiz.shared.observability.SqlTimingSessionListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+
+class SqlMonitoringConfigTest {
+
+  private final SqlMonitoringConfig config =
+      new SqlMonitoringConfig(new SimpleMeterRegistry(), new SqlMonitoringProperties(true, 10, 20));
+
+  @Test
+  void registersTheInspectorAndTimingListenerWithHibernate() {
+    Map<String, Object> properties = new HashMap<>();
+
+    config.sqlMonitoringHibernateCustomizer().customize(properties);
+
+    assertThat(properties.get(AvailableSettings.STATEMENT_INSPECTOR))
+        .isInstanceOf(SqlStatementInspector.class);
+    assertThat(properties.get(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER))
+        .isEqualTo(SqlTimingSessionListener.class.getName());
+  }
+
+  @Test
+  void sharesOneRegistryBetweenTheInterceptorAndTheEndpoint() {
+    assertThat(config.sqlStatsRegistry()).isSameAs(config.sqlStatsRegistry());
+    assertThat(config.sqlStatsEndpoint().worstEndpoints()).isEmpty();
+  }
+}
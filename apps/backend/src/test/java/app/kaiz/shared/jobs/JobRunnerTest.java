@@ -0,0 +1,162 @@
+package app.kaiz.shared.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import app.kaiz.shared.config.JobProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class JobRunnerTest {
+
+  private static final String NEVER = "0 0 0 1 1 *";
+  private static final Instant TICK = Instant.parse("2026-01-01T03:30:00Z");
+
+  private final JobRunStore store = mock(JobRunStore.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger runs = new AtomicInteger();
+  private JobRunner runner;
+
+  @BeforeEach
+  void setUp() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(store.tryLock(anyInt(), anyString())).thenReturn(true);
+    runner =
+        new JobRunner(
+            mock(ApplicationContext.class),
+            transactionManager,
+            store,
+            new JobProperties(true, Duration.ofMinutes(10), Duration.ofDays(30)),
+            meterRegistry);
+    runner.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    runner.stop();
+  }
+
+  @Test
+  void claimsTheTickInAShortTransactionAndRecordsTheRun() {
+    when(store.claim(eq("job"), eq(TICK), anyString(), any(), any())).thenReturn(7L);
+    runner.register("job", NEVER, Duration.ofMinutes(5), () -> runs.incrementAndGet() * 3);
+
+    runner.execute("job", TICK);
+
+    assertThat(runs).hasValue(1);
+    ArgumentCaptor<Instant> startedAt = ArgumentCaptor.forClass(Instant.class);
+    ArgumentCaptor<Instant> leaseUntil = ArgumentCaptor.forClass(Instant.class);
+    verify(store)
+        .claim(eq("job"), eq(TICK), anyString(), startedAt.capture(), leaseUntil.capture());
+    assertThat(leaseUntil.getValue())
+        .isEqualTo(startedAt.getValue().plus(Duration.ofMinutes(5)).plus(JobRunner.LEASE_GRACE));
+    verify(transactionManager).commit(any());
+    verify(store).finish(eq(7L), eq(JobRunStatus.SUCCEEDED), any(), anyLong(), eq(3L), isNull());
+  }
+
+  @Test
+  void skipsATickAnotherInstanceAlreadyClaimed() {
+    when(store.claim(eq("job"), eq(TICK), anyString(), any(), any())).thenReturn(null);
+    runner.register("job", NEVER, null, runs::incrementAndGet);
+
+    runner.execute("job", TICK);
+
+    assertThat(runs).hasValue(0);
+    assertThat(skipped("already_ran")).isEqualTo(1);
+  }
+
+  @Test
+  void skipsWhileARunIsLiveOnAnotherInstance() {
+    when(store.hasLiveRun(eq("job"), any())).thenReturn(true);
+    runner.register("job", NEVER, null, runs::incrementAndGet);
+
+    runner.execute("job", TICK);
+
+    assertThat(runs).hasValue(0);
+    assertThat(skipped("locked")).isEqualTo(1);
+    verify(store, never()).claim(anyString(), any(), anyString(), any(), any());
+  }
+
+  @Test
+  void skipsWhileAnotherInstanceIsClaiming() {
+    when(store.tryLock(anyInt(), eq("job"))).thenReturn(false);
+    runner.register("job", NEVER, null, runs::incrementAndGet);
+
+    runner.execute("job", TICK);
+
+    assertThat(runs).hasValue(0);
+    assertThat(skipped("locked")).isEqualTo(1);
+  }
+
+  @Test
+  void skipsAnOverlappingTickOnThisInstance() throws Exception {
+    when(store.claim(eq("job"), any(), anyString(), any(), any())).thenReturn(1L, 2L);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    runner.register(
+        "job",
+        NEVER,
+        null,
+        () -> {
+          runs.incrementAndGet();
+          started.countDown();
+          return release.await(10, TimeUnit.SECONDS);
+        });
+
+    CompletableFuture<Void> first = CompletableFuture.runAsync(() -> runner.execute("job", TICK));
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+    runner.execute("job", TICK.plusSeconds(60));
+    release.countDown();
+    first.get(10, TimeUnit.SECONDS);
+
+    assertThat(runs).hasValue(1);
+    assertThat(skipped("still_running")).isEqualTo(1);
+  }
+
+  @Test
+  void interruptsAJobThatExceedsItsTimeout() {
+    when(store.claim(eq("job"), eq(TICK), anyString(), any(), any())).thenReturn(9L);
+    runner.register(
+        "job",
+        NEVER,
+        Duration.ofMillis(100),
+        () -> {
+          Thread.sleep(10_000);
+          return null;
+        });
+
+    runner.execute("job", TICK);
+
+    verify(store, timeout(5_000))
+        .finish(eq(9L), eq(JobRunStatus.TIMED_OUT), any(), anyLong(), isNull(), anyString());
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
+  private double skipped(String reason) {
+    return meterRegistry.get("kaiz.job.skipped").tag("reason", reason).counter().count();
+  }
+}
@@ -0,0 +1,73 @@
+package app.kaiz.shared.notify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.shared.config.PgNotifyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+class PgNotifyListenerTest {
+
+  record Recording(String channel, List<String> received) implements PgNotifySubscriber {
+
+    Recording(String channel) {
+      this(channel, new CopyOnWriteArrayList<>());
+    }
+
+    @Override
+    public void onNotification(String payload) {
+      received.add(payload);
+    }
+  }
+
+  @Test
+  void dispatchesEachNotificationToTheSubscribersOfItsChannel() {
+    Recording cache = new Recording("cache");
+    Recording tokens = new Recording("tokens");
+    Recording moreTokens = new Recording("tokens");
+    PgNotifyListener listener = listener(List.of(cache, tokens, moreTokens));
+
+    listener.dispatch("tokens", "a");
+    listener.dispatch("cache", "b");
+    listener.dispatch("unknown", "c");
+
+    assertThat(cache.received()).containsExactly("b");
+    assertThat(tokens.received()).containsExactly("a");
+    assertThat(moreTokens.received()).containsExactly("a");
+  }
+
+  @Test
+  void keepsDispatchingWhenASubscriberFails() {
+    PgNotifySubscriber failing =
+        new PgNotifySubscriber() {
+          @Override
+          public String channel() {
+            return "tokens";
+          }
+
+          @Override
+          public void onNotification(String payload) {
+            throw new IllegalStateException("broken");
+          }
+        };
+    Recording healthy = new Recording("tokens");
+    PgNotifyListener listener = listener(List.of(failing, healthy));
+
+    listener.dispatch("tokens", "a");
+
+    assertThat(healthy.received()).containsExactly("a");
+  }
+
+  private static PgNotifyListener listener(List<PgNotifySubscriber> subscribers) {
+    return new PgNotifyListener(
+        subscribers,
+        new DataSourceProperties(),
+        new PgNotifyProperties(
+            Duration.ofMillis(500), Duration.ofSeconds(5), Duration.ofSeconds(10)),
+        new SimpleMeterRegistry());
+  }
+}
@@ -0,0 +1,40 @@
+package app.kaiz.shared.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.shared.observability.RequestTiming.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingTest {
+
+  @AfterEach
+  void tearDown() {
+    RequestTiming.end();
+  }
+
+  @Test
+  void countsOnlyTheOutermostSpanOfNestedCalls() {
+    RequestTiming timing = RequestTiming.begin();
+
+    RequestTiming.start(Phase.MAPPING);
+    RequestTiming.record(Phase.DB, 2_000_000);
+    RequestTiming.start(Phase.MAPPING);
+    RequestTiming.stop(Phase.MAPPING);
+    long afterInner = timing.nanos(Phase.MAPPING);
+    RequestTiming.stop(Phase.MAPPING);
+
+    assertThat(afterInner).isZero();
+    assertThat(timing.nanos(Phase.MAPPING)).isPositive();
+    assertThat(timing.serverTiming())
+        .startsWith("db;dur=2.0, mapping;dur=")
+        .contains("total;dur=")
+        .doesNotContain("ai;");
+  }
+
+  @Test
+  void ignoresSpansOutsideARequest() {
+    assertThat(RequestTiming.time(Phase.AI, () -> "reply")).isEqualTo("reply");
+    assertThat(RequestTiming.end()).isNull();
+  }
+}
@@ -0,0 +1,107 @@
+package app.kaiz.shared.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.shared.config.SqlMonitoringProperties;
+import app.kaiz.shared.observability.SqlStatsRegistry.HandlerSqlSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class SqlMetricsInterceptorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SqlStatsRegistry registry =
+      new SqlStatsRegistry(meterRegistry, new SqlMonitoringProperties(true, 3, 20));
+  private final SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(registry);
+  private final SqlStatementInspector inspector = new SqlStatementInspector();
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @AfterEach
+  void tearDown() {
+    RequestSqlStats.end();
+  }
+
+  @Test
+  void countsStatementsPerRequestAndFlagsRepeatedShapes() throws Exception {
+    HandlerMethod handler = handler("list");
+
+    interceptor.preHandle(request, response, handler);
+    inspector.inspect("select * from tasks where user_id=?");
+    for (int i = 1; i <= 4; i++) {
+      // Differently sized IN lists are one shape
+      inspector.inspect("select * from tags where task_id in (?" + ",?".repeat(i) + ")");
+    }
+    interceptor.afterCompletion(request, response, handler, null);
+
+    HandlerSqlSummary summary = registry.worstHandlers().getFirst();
+    assertThat(summary.handler()).isEqualTo("Controller.list");
+    assertThat(summary.requests()).isEqualTo(1);
+    assertThat(summary.maxStatements()).isEqualTo(5);
+    assertThat(summary.repeatedStatementRequests()).isEqualTo(1);
+    assertThat(summary.worstRepeatedStatement())
+        .isEqualTo("select * from tags where task_id in (?)");
+    assertThat(summary.worstRepeatedCount()).isEqualTo(4);
+    assertThat(meterRegistry.get("kaiz.sql.repeated").tag("handler", "Controller.list").counter())
+        .extracting(c -> c.count())
+        .isEqualTo(1.0);
+    assertThat(RequestSqlStats.current()).isNull();
+  }
+
+  @Test
+  void doesNotFlagStatementsAtTheThreshold() throws Exception {
+    HandlerMethod handler = handler("list");
+
+    interceptor.preHandle(request, response, handler);
+    for (int i = 0; i < 3; i++) {
+      inspector.inspect("select * from tasks where id=?");
+    }
+    interceptor.afterCompletion(request, response, handler, null);
+
+    assertThat(registry.worstHandlers().getFirst().repeatedStatementRequests()).isZero();
+    assertThat(meterRegistry.find("kaiz.sql.repeated").counter()).isNull();
+  }
+
+  @Test
+  void recordsAsyncRequestsOnceWhenTheHandlerReturns() throws Exception {
+    HandlerMethod handler = handler("stream");
+
+    interceptor.preHandle(request, response, handler);
+    inspector.inspect("select * from notifications where user_id=?");
+    interceptor.afterConcurrentHandlingStarted(request, response, handler);
+    assertThat(RequestSqlStats.current()).isNull();
+
+    inspector.inspect("select * from notifications where id=?"); // emitter thread: not counted
+    request.setDispatcherType(DispatcherType.ASYNC);
+    interceptor.preHandle(request, response, handler);
+    interceptor.afterCompletion(request, response, handler, null);
+
+    List<HandlerSqlSummary> summaries = new SqlStatsEndpoint(registry).worstEndpoints();
+    assertThat(summaries).hasSize(1);
+    assertThat(summaries.getFirst().requests()).isEqualTo(1);
+    assertThat(summaries.getFirst().maxStatements()).isEqualTo(1);
+  }
+
+  @Test
+  void ignoresStatementsOutsideARequest() {
+    assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    assertThat(registry.worstHandlers()).isEmpty();
+  }
+
+  private static HandlerMethod handler(String method) throws NoSuchMethodException {
+    return new HandlerMethod(new Controller(), Controller.class.getMethod(method));
+  }
+
+  static class Controller {
+
+    public void list() {}
+
+    public void stream() {}
+  }
+}
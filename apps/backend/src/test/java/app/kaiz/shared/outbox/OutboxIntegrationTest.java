@@ -0,0 +1,296 @@
+package app.kaiz.shared.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.shared.config.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Enqueues events through {@link OutboxPublisher} and delivers them with a relay of the test's own
+ * (the application's relay is off in tests), whose listener fails on demand.
+ */
+class OutboxIntegrationTest extends IntegrationTestBase {
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final Duration MAX_ORDERING_WAIT = Duration.ofMinutes(1);
+
+  @Autowired private OutboxPublisher publisher;
+  @Autowired private OutboxStore store;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final List<TestEvent> delivered = new CopyOnWriteArrayList<>();
+  private final Set<UUID> failing = ConcurrentHashMap.newKeySet();
+  private TransactionTemplate transaction;
+  private OutboxRelay relay;
+
+  record TestEvent(UUID aggregateId, int sequence) implements OutboxEvent {}
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+    // Park events left undelivered by earlier tests so they cannot interfere
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET failed_at = now()"
+            + " WHERE published_at IS NULL AND failed_at IS NULL");
+    OutboxProperties properties =
+        new OutboxProperties(
+            true,
+            Duration.ofSeconds(1),
+            100,
+            MAX_ATTEMPTS,
+            Duration.ofMinutes(5),
+            Duration.ofDays(7),
+            MAX_ORDERING_WAIT);
+    relay =
+        new OutboxRelay(
+            store,
+            properties,
+            event -> {
+              TestEvent testEvent = (TestEvent) event;
+              if (failing.contains(testEvent.aggregateId())) {
+                throw new IllegalStateException("Listener failed for " + testEvent);
+              }
+              delivered.add(testEvent);
+            },
+            objectMapper,
+            transactionManager,
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("should enqueue an event only with its transaction and only once per key")
+  void shouldEnqueueTransactionally() {
+    UUID committed = UUID.randomUUID();
+    UUID rolledBack = UUID.randomUUID();
+
+    publish(committed, 1);
+    transaction.executeWithoutResult(
+        status -> {
+          publisher.publish("test", rolledBack, key(rolledBack, 1), new TestEvent(rolledBack, 1));
+          status.setRollbackOnly();
+        });
+    publish(committed, 1);
+
+    assertThat(rows(committed)).isEqualTo(1);
+    assertThat(rows(rolledBack)).isZero();
+    assertThatThrownBy(
+            () ->
+                publisher.publish(
+                    "test", committed, key(committed, 2), new TestEvent(committed, 2)))
+        .isInstanceOf(IllegalTransactionStateException.class);
+  }
+
+  @Test
+  @DisplayName("should deliver every event once, in order per aggregate")
+  void shouldDeliverInOrder() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    for (int sequence = 1; sequence <= 3; sequence++) {
+      publish(first, sequence);
+      publish(second, sequence);
+    }
+
+    relay.drain();
+    relay.drain();
+
+    assertThat(sequencesOf(first)).containsExactly(1, 2, 3);
+    assertThat(sequencesOf(second)).containsExactly(1, 2, 3);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events"
+                    + " WHERE aggregate_id IN (?, ?) AND published_at IS NULL",
+                Long.class,
+                first,
+                second))
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("should hold back a failing aggregate without starving the others")
+  void shouldRetryFailedEvents() {
+    UUID broken = UUID.randomUUID();
+    UUID healthy = UUID.randomUUID();
+    publish(broken, 1);
+    publish(broken, 2);
+    publish(healthy, 1);
+    publish(healthy, 2);
+    failing.add(broken);
+
+    relay.drain();
+
+    assertThat(sequencesOf(broken)).isEmpty();
+    assertThat(sequencesOf(healthy)).containsExactly(1, 2);
+    assertThat(
+            jdbcTemplate.queryForMap(
+                "SELECT attempts, next_attempt_at > now() AS waiting, last_error"
+                    + " FROM outbox_events WHERE idempotency_key = ?",
+                key(broken, 1)))
+        .containsEntry("attempts", 1)
+        .containsEntry("waiting", true)
+        .hasEntrySatisfying(
+            "last_error", error -> assertThat((String) error).contains("Listener failed"));
+
+    failing.remove(broken);
+    relay.drain(); // the backoff has not passed yet
+    assertThat(sequencesOf(broken)).isEmpty();
+
+    dueNow(broken);
+    relay.drain();
+
+    assertThat(sequencesOf(broken)).containsExactly(1, 2);
+  }
+
+  @Test
+  @DisplayName("should park an event after the last attempt and move on")
+  void shouldDeadLetterAfterMaxAttempts() {
+    UUID broken = UUID.randomUUID();
+    publish(broken, 1);
+    publish(broken, 2);
+    failing.add(broken);
+
+    for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+      dueNow(broken);
+      relay.drain();
+    }
+
+    assertThat(
+            jdbcTemplate.queryForMap(
+                "SELECT attempts, failed_at IS NOT NULL AS dead FROM outbox_events"
+                    + " WHERE idempotency_key = ?",
+                key(broken, 1)))
+        .containsEntry("attempts", MAX_ATTEMPTS)
+        .containsEntry("dead", true);
+
+    failing.remove(broken);
+    dueNow(broken);
+    relay.drain();
+
+    assertThat(sequencesOf(broken)).containsExactly(2);
+  }
+
+  @Test
+  @DisplayName("should wait for older transactions before delivering later commits")
+  void shouldDeliverInCommitOrder() throws Exception {
+    UUID aggregate = UUID.randomUUID();
+    CountDownLatch enqueued = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> slowWriter =
+        CompletableFuture.runAsync(
+            () ->
+                transaction.executeWithoutResult(
+                    status -> {
+                      publisher.publish(
+                          "test", aggregate, key(aggregate, 1), new TestEvent(aggregate, 1));
+                      enqueued.countDown();
+                      await(release);
+                    }));
+    await(enqueued);
+    publish(aggregate, 2); // commits first, but its transaction started writing later
+
+    relay.drain();
+    assertThat(sequencesOf(aggregate)).isEmpty();
+
+    release.countDown();
+    slowWriter.get(10, TimeUnit.SECONDS);
+    relay.drain();
+
+    assertThat(sequencesOf(aggregate)).containsExactly(1, 2);
+  }
+
+  @Test
+  @DisplayName("should stop waiting for an older transaction after the ordering bound")
+  void shouldBoundTheWaitForOlderTransactions() throws Exception {
+    UUID aggregate = UUID.randomUUID();
+    UUID unrelated = UUID.randomUUID();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> longTransaction =
+        CompletableFuture.runAsync(
+            () ->
+                transaction.executeWithoutResult(
+                    status -> {
+                      publisher.publish(
+                          "test", unrelated, key(unrelated, 1), new TestEvent(unrelated, 1));
+                      started.countDown();
+                      await(release);
+                    }));
+    await(started);
+    publish(aggregate, 1);
+
+    relay.drain();
+    assertThat(sequencesOf(aggregate)).isEmpty();
+
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET created_at = now() - make_interval(secs => ?)"
+            + " WHERE idempotency_key = ?",
+        MAX_ORDERING_WAIT.plusSeconds(1).toSeconds(),
+        key(aggregate, 1));
+    relay.drain();
+    assertThat(sequencesOf(aggregate)).containsExactly(1);
+
+    release.countDown();
+    longTransaction.get(10, TimeUnit.SECONDS);
+  }
+
+  private void publish(UUID aggregateId, int sequence) {
+    transaction.executeWithoutResult(
+        status ->
+            publisher.publish(
+                "test",
+                aggregateId,
+                key(aggregateId, sequence),
+                new TestEvent(aggregateId, sequence)));
+  }
+
+  private void dueNow(UUID aggregateId) {
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET next_attempt_at = now() WHERE aggregate_id = ?", aggregateId);
+  }
+
+  private long rows(UUID aggregateId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, aggregateId);
+  }
+
+  private List<Integer> sequencesOf(UUID aggregateId) {
+    return delivered.stream()
+        .filter(event -> event.aggregateId().equals(aggregateId))
+        .map(TestEvent::sequence)
+        .toList();
+  }
+
+  private static String key(UUID aggregateId, int sequence) {
+    return "test:" + aggregateId + ":" + sequence;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package app.kaiz.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EntityStreamerTest {
+
+  private static final int FETCH_SIZE = Integer.parseInt(EntityStreamer.FETCH_SIZE);
+
+  private final EntityManager entityManager = mock(EntityManager.class);
+  private final EntityStreamer streamer = new EntityStreamer(entityManager);
+
+  @Test
+  void clearsThePersistenceContextOncePerFetch() {
+    List<String> sink = new ArrayList<>();
+
+    long count =
+        streamer.forEach(
+            IntStream.range(0, FETCH_SIZE * 3 + 1).boxed(), String::valueOf, sink::add);
+
+    assertThat(count).isEqualTo(FETCH_SIZE * 3 + 1);
+    assertThat(sink).hasSize(FETCH_SIZE * 3 + 1).startsWith("0", "1");
+    verify(entityManager, times(3)).clear();
+  }
+
+  @Test
+  void closesTheStreamWhenTheSinkFails() {
+    AtomicBoolean closed = new AtomicBoolean();
+
+    assertThatThrownBy(
+            () ->
+                streamer.forEach(
+                    IntStream.range(0, 10).boxed().onClose(() -> closed.set(true)),
+                    Function.identity(),
+                    row -> {
+                      throw new IllegalStateException("client went away");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(closed).isTrue();
+  }
+}
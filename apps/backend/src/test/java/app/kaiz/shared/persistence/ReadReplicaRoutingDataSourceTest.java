@@ -0,0 +1,145 @@
+package app.kaiz.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReadReplicaRoutingDataSourceTest {
+
+  private ReadReplicaRoutingDataSource routing;
+
+  @BeforeEach
+  void setUp() {
+    routing =
+        new ReadReplicaRoutingDataSource(
+            mock(DataSource.class),
+            List.of(mock(DataSource.class), mock(DataSource.class)),
+            new ReplicaLagGuard(Duration.ofMinutes(1), 100));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    SecurityContextHolder.clearContext();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void routesWorkOutsideTransactionsToPrimary() {
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  void routesReadWriteTransactionsToPrimary() {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  void spreadsReadOnlyTransactionsAcrossReplicas() {
+    readOnlyTransaction();
+
+    assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey()))
+        .containsExactly(
+            ReadReplicaRoutingDataSource.replicaKey(0), ReadReplicaRoutingDataSource.replicaKey(1));
+  }
+
+  @Test
+  void keepsReadsOnPrimaryRightAfterTheUsersOwnWrite() {
+    authenticate(UUID.randomUUID());
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    routing.determineCurrentLookupKey();
+
+    readOnlyTransaction();
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  void otherUsersStillReadFromReplicas() {
+    authenticate(UUID.randomUUID());
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    routing.determineCurrentLookupKey();
+
+    authenticate(UUID.randomUUID());
+    readOnlyTransaction();
+
+    assertThat(routing.determineCurrentLookupKey())
+        .isNotEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  void tellsTheClientWhenItWrote() {
+    MockHttpServletResponse response = inRequest(new MockHttpServletRequest());
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    routing.determineCurrentLookupKey();
+
+    assertThat(Long.parseLong(response.getHeader(ReplicaLagGuard.LAST_WRITE_HEADER)))
+        .isCloseTo(System.currentTimeMillis(), within(5_000L));
+  }
+
+  @Test
+  void keepsReadsOnPrimaryForAClientEchoingARecentWrite() {
+    // The write went through another instance, so only the client's marker knows about it
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(
+        ReplicaLagGuard.LAST_WRITE_HEADER, Long.toString(System.currentTimeMillis() - 1_000));
+    inRequest(request);
+    authenticate(UUID.randomUUID());
+    readOnlyTransaction();
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  void ignoresStaleOrMalformedWriteMarkers() {
+    for (String marker :
+        List.of(Long.toString(System.currentTimeMillis() - 120_000), "yesterday")) {
+      MockHttpServletRequest request = new MockHttpServletRequest();
+      request.addHeader(ReplicaLagGuard.LAST_WRITE_HEADER, marker);
+      inRequest(request);
+      readOnlyTransaction();
+
+      assertThat(routing.determineCurrentLookupKey())
+          .as(marker)
+          .isNotEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+    }
+  }
+
+  private static MockHttpServletResponse inRequest(MockHttpServletRequest request) {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    return response;
+  }
+
+  private static void readOnlyTransaction() {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+  }
+
+  private static void authenticate(UUID userId) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                userId.toString(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+  }
+}
@@ -0,0 +1,91 @@
+package app.kaiz.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.testdata.DatasetSpec;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares random v4 and time-ordered v7 primary keys on a copy of {@code notifications}, with the
+ * synthetic dataset loaded so that the database is not empty. Logs insert throughput and index size
+ * for both, and asserts that v7 keeps the primary key smaller.
+ */
+@Slf4j
+class UuidKeyLayoutIntegrationTest extends IntegrationTestBase {
+
+  private static final int ROWS = 200_000;
+  private static final int BATCH = 1_000;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_bench_v4, uuid_bench_v7");
+  }
+
+  @Test
+  @DisplayName("should keep the primary key index smaller with UUIDv7 than with UUIDv4")
+  void shouldKeepIndexSmallerWithV7() {
+    syntheticDataset(DatasetSpec.ofUsers(2_000).withSeed(7));
+
+    Result v4 = load("uuid_bench_v4", UUID::randomUUID);
+    Result v7 = load("uuid_bench_v7", UuidV7::next);
+
+    log.info(
+        "UUIDv4: {} rows/s, pkey {} KB; UUIDv7: {} rows/s, pkey {} KB",
+        v4.rowsPerSecond(),
+        v4.indexBytes() / 1024,
+        v7.rowsPerSecond(),
+        v7.indexBytes() / 1024);
+    assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+  }
+
+  private Result load(String table, Supplier<UUID> ids) {
+    jdbcTemplate.execute(
+        "CREATE TABLE " + table + " (LIKE notifications INCLUDING DEFAULTS INCLUDING INDEXES)");
+    UUID userId = jdbcTemplate.queryForObject("SELECT id FROM users LIMIT 1", UUID.class);
+    String sql =
+        "INSERT INTO "
+            + table
+            + " (id, user_id, type, title, content)"
+            + " VALUES (?, ?, 'SYSTEM', 'Benchmark', 'Body')";
+
+    long start = System.nanoTime();
+    for (int offset = 0; offset < ROWS; offset += BATCH) {
+      List<UUID> batch = new ArrayList<>(BATCH);
+      for (int i = 0; i < BATCH; i++) {
+        batch.add(ids.get());
+      }
+      jdbcTemplate.batchUpdate(
+          sql,
+          batch,
+          BATCH,
+          (PreparedStatement statement, UUID id) -> {
+            statement.setObject(1, id);
+            statement.setObject(2, userId);
+          });
+    }
+    long elapsedNanos = System.nanoTime() - start;
+
+    Long indexBytes =
+        jdbcTemplate.queryForObject(
+            "SELECT pg_relation_size(indexrelid) FROM pg_index"
+                + " WHERE indrelid = ?::regclass AND indisprimary",
+            Long.class,
+            table);
+    return new Result(ROWS * 1_000_000_000L / elapsedNanos, indexBytes);
+  }
+
+  private record Result(long rowsPerSecond, long indexBytes) {}
+}
@@ -0,0 +1,36 @@
+package app.kaiz.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+  @Test
+  void carriesVersionVariantAndTimestamp() {
+    long now = System.currentTimeMillis() + 60_000;
+
+    UUID id = UuidV7.next(now);
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(now);
+  }
+
+  @Test
+  void increasesWithinTheSameMillisecondAndWhenTheClockStepsBack() {
+    long now = System.currentTimeMillis() + 120_000;
+    UUID previous = UuidV7.next(now);
+
+    for (int i = 0; i < 10_000; i++) {
+      UUID next = UuidV7.next(i % 2 == 0 ? now : now - 5);
+      // Unsigned order of the high bits is the order Postgres sorts uuid values in
+      assertThat(
+              Long.compareUnsigned(
+                  next.getMostSignificantBits(), previous.getMostSignificantBits()))
+          .isPositive();
+      previous = next;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package app.kaiz.shared.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import app.kaiz.shared.config.ClientIpProperties;
+import app.kaiz.shared.config.RateLimitProperties;
+import app.kaiz.shared.config.RateLimitProperties.Limit;
+import app.kaiz.shared.config.RateLimitProperties.Store;
+import app.kaiz.shared.security.ClientIpResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RateLimitFilterTest {
+
+  private final RateLimiter rateLimiter = mock(RateLimiter.class);
+  private final FilterChain chain = mock(FilterChain.class);
+  private final RateLimitProperties properties =
+      new RateLimitProperties(
+          true,
+          new Limit(5, 5, 60),
+          new Limit(100, 100, 60),
+          Store.MEMORY,
+          100,
+          Duration.ofMinutes(10));
+  private RateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter =
+        new RateLimitFilter(
+            rateLimiter,
+            properties,
+            new ObjectMapper().findAndRegisterModules(),
+            new ClientIpResolver(new ClientIpProperties(1)));
+    when(rateLimiter.limitFor(any())).thenReturn(properties.auth());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void limitsAnonymousAuthCallsByTheIpTheProxySaw() throws Exception {
+    when(rateLimiter.tryConsume(RateLimitScope.AUTH, "203.0.113.7")).thenReturn(consumed(4));
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+    // The client forged the first entry; Cloud Run appended the real address
+    request.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, chain);
+
+    verify(chain).doFilter(request, response);
+    assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("5");
+    assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("4");
+    assertThat(response.getHeader("X-RateLimit-Reset")).isEqualTo("12");
+  }
+
+  @Test
+  void limitsAuthenticatedCallsByUser() throws Exception {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                "user-1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    when(rateLimiter.tryConsume(RateLimitScope.API, "user-1")).thenReturn(consumed(99));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    verify(rateLimiter).tryConsume(RateLimitScope.API, "user-1");
+    verify(chain).doFilter(any(), any());
+  }
+
+  @Test
+  void rejectsWith429AndRetryAfter() throws Exception {
+    ConsumptionProbe rejected =
+        ConsumptionProbe.rejected(
+            0, TimeUnit.MILLISECONDS.toNanos(1_500), TimeUnit.SECONDS.toNanos(60));
+    when(rateLimiter.tryConsume(any(), anyString())).thenReturn(rejected);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+    request.setRemoteAddr("203.0.113.7");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, chain);
+
+    verify(chain, never()).doFilter(any(), any());
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+    assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("5");
+    assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+    assertThat(response.getHeader("X-RateLimit-Reset")).isEqualTo("60");
+    assertThat(response.getContentAsString()).contains("RATE_LIMITED");
+  }
+
+  @Test
+  void passesAnonymousCallsOutsideAuthThrough() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    verify(chain).doFilter(any(), any());
+    verify(rateLimiter, never()).tryConsume(any(), anyString());
+  }
+
+  @Test
+  void doesNothingWhenDisabled() throws Exception {
+    RateLimitFilter disabled =
+        new RateLimitFilter(
+            rateLimiter,
+            new RateLimitProperties(
+                false, properties.auth(), properties.api(), Store.MEMORY, 100, Duration.ZERO),
+            new ObjectMapper().findAndRegisterModules(),
+            new ClientIpResolver(new ClientIpProperties(1)));
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+
+    disabled.doFilter(request, new MockHttpServletResponse(), chain);
+
+    verify(chain).doFilter(any(), any());
+    verifyNoInteractions(rateLimiter);
+  }
+
+  private static ConsumptionProbe consumed(long remaining) {
+    return ConsumptionProbe.consumed(remaining, TimeUnit.MILLISECONDS.toNanos(11_200));
+  }
+}
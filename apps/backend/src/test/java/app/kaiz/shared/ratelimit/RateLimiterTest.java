@@ -0,0 +1,64 @@
+package app.kaiz.shared.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import app.kaiz.shared.config.RateLimitProperties;
+import app.kaiz.shared.config.RateLimitProperties.Limit;
+import app.kaiz.shared.config.RateLimitProperties.Store;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class RateLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RateLimiter rateLimiter =
+      new RateLimiter(
+          new RateLimitProperties(
+              true,
+              new Limit(2, 2, 60),
+              new Limit(3, 3, 60),
+              Store.MEMORY,
+              100,
+              Duration.ofMinutes(10)),
+          noProxyManager(),
+          meterRegistry);
+
+  @Test
+  void rejectsOnceTheBucketIsEmpty() {
+    assertThat(rateLimiter.tryConsume(RateLimitScope.AUTH, "10.0.0.1").isConsumed()).isTrue();
+    ConsumptionProbe last = rateLimiter.tryConsume(RateLimitScope.AUTH, "10.0.0.1");
+    assertThat(last.isConsumed()).isTrue();
+    assertThat(last.getRemainingTokens()).isZero();
+
+    ConsumptionProbe rejected = rateLimiter.tryConsume(RateLimitScope.AUTH, "10.0.0.1");
+
+    assertThat(rejected.isConsumed()).isFalse();
+    assertThat(rejected.getNanosToWaitForRefill()).isPositive();
+    assertThat(rejectedCount("auth")).isEqualTo(1);
+  }
+
+  @Test
+  void keepsSeparateBucketsPerKeyAndScope() {
+    rateLimiter.tryConsume(RateLimitScope.AUTH, "10.0.0.1");
+    rateLimiter.tryConsume(RateLimitScope.AUTH, "10.0.0.1");
+
+    assertThat(rateLimiter.tryConsume(RateLimitScope.AUTH, "10.0.0.2").isConsumed()).isTrue();
+    assertThat(rateLimiter.tryConsume(RateLimitScope.API, "10.0.0.1").getRemainingTokens())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get("kaiz.ratelimit.buckets").gauge().value()).isEqualTo(3);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ObjectProvider<ProxyManager<String>> noProxyManager() {
+    return mock(ObjectProvider.class);
+  }
+
+  private double rejectedCount(String scope) {
+    return meterRegistry.get("kaiz.ratelimit.rejected").tag("scope", scope).counter().count();
+  }
+}
@@ -0,0 +1,101 @@
+package app.kaiz.shared.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import app.kaiz.shared.config.ResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+class BulkheadAspectTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  static class HashingService {
+
+    @Transactional
+    public void hash() {}
+
+    @Transactional
+    public void refresh() {}
+
+    public void plain() {}
+  }
+
+  @Test
+  void scopedBulkheadGuardsOnlyTheListedMethods() throws Throwable {
+    BulkheadAspect aspect = aspect(List.of("HashingService.hash", "HashingService.plain"));
+
+    assertThat(permitsDuring(aspect, "hash")).isZero();
+    assertThat(permitsDuring(aspect, "plain")).isZero();
+    assertThat(permitsDuring(aspect, "refresh")).isEqualTo(1);
+  }
+
+  @Test
+  void unscopedBulkheadGuardsTransactionalMethods() throws Throwable {
+    BulkheadAspect aspect = aspect(List.of());
+
+    assertThat(permitsDuring(aspect, "hash")).isZero();
+    assertThat(permitsDuring(aspect, "refresh")).isZero();
+    assertThat(permitsDuring(aspect, "plain")).isEqualTo(1);
+  }
+
+  @Test
+  void listedMethodsLeaveTheModuleWideBulkhead() throws Throwable {
+    ResilienceProperties properties =
+        new ResilienceProperties(
+            Map.of(
+                "module",
+                new ResilienceProperties.Bulkhead(
+                    List.of("shared"), List.of(), 1, Duration.ofMillis(50)),
+                "listed",
+                new ResilienceProperties.Bulkhead(
+                    List.of("shared"), List.of("HashingService.hash"), 1, Duration.ofMillis(50))),
+            null);
+    BulkheadAspect aspect = new BulkheadAspect(properties, meterRegistry);
+
+    assertThat(permitsDuring(aspect, "hash", "listed")).isZero();
+    assertThat(permitsDuring(aspect, "hash", "module")).isEqualTo(1);
+    assertThat(permitsDuring(aspect, "refresh", "module")).isZero();
+    assertThat(permitsDuring(aspect, "refresh", "listed")).isEqualTo(1);
+  }
+
+  private BulkheadAspect aspect(List<String> methods) {
+    ResilienceProperties properties =
+        new ResilienceProperties(
+            Map.of(
+                "test",
+                new ResilienceProperties.Bulkhead(
+                    List.of("shared"), methods, 1, Duration.ofMillis(50))),
+            null);
+    return new BulkheadAspect(properties, meterRegistry);
+  }
+
+  private double permitsDuring(BulkheadAspect aspect, String methodName) throws Throwable {
+    return permitsDuring(aspect, methodName, "test");
+  }
+
+  private double permitsDuring(BulkheadAspect aspect, String methodName, String bulkhead)
+      throws Throwable {
+    MethodSignature signature = mock(MethodSignature.class);
+    when(signature.getMethod()).thenReturn(HashingService.class.getMethod(methodName));
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    when(joinPoint.getSignature()).thenReturn(signature);
+    when(joinPoint.proceed())
+        .thenAnswer(
+            invocation ->
+                meterRegistry
+                    .get("kaiz.bulkhead.available")
+                    .tag("bulkhead", bulkhead)
+                    .gauge()
+                    .value());
+    return (double) aspect.guard(joinPoint);
+  }
+}
@@ -0,0 +1,45 @@
+package app.kaiz.shared.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.kaiz.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(50), meterRegistry);
+
+  @Test
+  void nestedEntryOnTheSameThreadReusesThePermit() {
+    bulkhead.acquire();
+    bulkhead.acquire();
+    bulkhead.release();
+
+    assertThat(available()).isZero();
+
+    bulkhead.release();
+
+    assertThat(available()).isEqualTo(1);
+  }
+
+  @Test
+  void rejectsOtherThreadsOnceFull() {
+    bulkhead.acquire();
+    try {
+      assertThatThrownBy(() -> CompletableFuture.runAsync(bulkhead::acquire).join())
+          .hasCauseInstanceOf(ServiceOverloadedException.class);
+      assertThat(meterRegistry.get("kaiz.bulkhead.rejected").counter().count()).isEqualTo(1);
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  private double available() {
+    return meterRegistry.get("kaiz.bulkhead.available").gauge().value();
+  }
+}
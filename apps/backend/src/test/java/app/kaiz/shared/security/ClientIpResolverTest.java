@@ -0,0 +1,46 @@
+package app.kaiz.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.shared.config.ClientIpProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+  @Test
+  void takesTheEntryAppendedByTheOutermostTrustedProxy() {
+    MockHttpServletRequest request = request("1.1.1.1, 2.2.2.2, 203.0.113.7, 10.0.0.5");
+
+    assertThat(resolver(1).resolve(request)).isEqualTo("10.0.0.5");
+    assertThat(resolver(2).resolve(request)).isEqualTo("203.0.113.7");
+  }
+
+  @Test
+  void ignoresForwardedHeadersWithoutTrustedProxies() {
+    assertThat(resolver(0).resolve(request("1.1.1.1"))).isEqualTo("192.0.2.10");
+  }
+
+  @Test
+  void fallsBackToTheRemoteAddress() {
+    assertThat(resolver(1).resolve(request(null))).isEqualTo("192.0.2.10");
+  }
+
+  @Test
+  void takesTheLeftMostEntryWhenThereAreFewerHopsThanProxies() {
+    assertThat(resolver(3).resolve(request("203.0.113.7, 10.0.0.5"))).isEqualTo("203.0.113.7");
+  }
+
+  private static ClientIpResolver resolver(int trustedProxies) {
+    return new ClientIpResolver(new ClientIpProperties(trustedProxies));
+  }
+
+  private static MockHttpServletRequest request(String forwardedFor) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr("192.0.2.10");
+    if (forwardedFor != null) {
+      request.addHeader("X-Forwarded-For", forwardedFor);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,26 @@
+package app.kaiz.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IpAllowListTest {
+
+  private static final List<String> ALLOWED = List.of("203.0.113.7", " 192.168.1.*");
+
+  @Test
+  void allowsListedAddressesAndWildcards() {
+    assertThat(IpAllowList.allows("203.0.113.7", "10.0.0.1", ALLOWED)).isTrue();
+    assertThat(IpAllowList.allows("192.168.1.42", "10.0.0.1", ALLOWED)).isTrue();
+    assertThat(IpAllowList.allows("198.51.100.1", "10.0.0.1", ALLOWED)).isFalse();
+  }
+
+  @Test
+  void allowsLoopbackOnlyOverALoopbackConnection() {
+    assertThat(IpAllowList.allows("127.0.0.1", "127.0.0.1", ALLOWED)).isTrue();
+    assertThat(IpAllowList.allows("0:0:0:0:0:0:0:1", "0:0:0:0:0:0:0:1", ALLOWED)).isTrue();
+    assertThat(IpAllowList.allows("127.0.0.1", "10.0.0.1", ALLOWED)).isFalse();
+    assertThat(IpAllowList.allows("198.51.100.1", "127.0.0.1", ALLOWED)).isFalse();
+  }
+}
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import app.kaiz.shared.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -65,6 +66,19 @@ class JwtTokenProviderTest {
       assertThat(jwtTokenProvider.isRefreshToken(token)).isFalse();
     }
 
+    @Test
+    @DisplayName("should carry the debug claim only when asked to")
+    void shouldCarryDebugClaim() {
+      UUID userId = UUID.randomUUID();
+
+      String debugToken = jwtTokenProvider.generateAccessToken(userId, "test@example.com", true);
+      String plainToken = jwtTokenProvider.generateAccessToken(userId, "test@example.com");
+
+      assertThat(jwtTokenProvider.verify(debugToken).map(VerifiedToken::debug)).contains(true);
+      assertThat(jwtTokenProvider.verify(plainToken).map(VerifiedToken::debug)).contains(false);
+      assertThat(jwtTokenProvider.getClaims(plainToken)).doesNotContainKey("debug");
+    }
+
     @Test
     @DisplayName("should include unique token ID (jti)")
     void shouldIncludeUniqueTokenId() {
@@ -210,6 +224,70 @@ class JwtTokenProviderTest {
     }
   }
 
+  @Nested
+  @DisplayName("verify")
+  class VerifyTests {
+
+    @Test
+    @DisplayName("should return all claims of a valid access token")
+    void shouldReturnVerifiedAccessToken() {
+      UUID userId = UUID.randomUUID();
+      String token = jwtTokenProvider.generateAccessToken(userId, "test@example.com");
+
+      VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+      assertThat(verified.userId()).isEqualTo(userId);
+      assertThat(verified.email()).isEqualTo("test@example.com");
+      assertThat(verified.isAccessToken()).isTrue();
+      assertThat(verified.tokenId()).isEqualTo(jwtTokenProvider.getTokenId(token));
+      assertThat(verified.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("should serve repeated verifications of the same token from cache")
+    void shouldReuseVerifiedToken() {
+      String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "test@example.com");
+
+      VerifiedToken first = jwtTokenProvider.verify(token).orElseThrow();
+      VerifiedToken second = jwtTokenProvider.verify(token).orElseThrow();
+
+      assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("should reject a forged payload that reuses a cached signature")
+    void shouldRejectForgedPayloadWithCachedSignature() {
+      String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "test@example.com");
+      String other = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), "other@example.com");
+      jwtTokenProvider.verify(token);
+
+      String signature = token.substring(token.lastIndexOf('.'));
+      String forged = other.substring(0, other.lastIndexOf('.')) + signature;
+
+      assertThat(jwtTokenProvider.verify(forged)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return empty for null, malformed and expired tokens")
+    void shouldReturnEmptyForInvalidTokens() {
+      JwtProperties shortLivedProps =
+          new JwtProperties(TEST_SECRET, TEST_ISSUER, TEST_AUDIENCE, 1L, 1L);
+      JwtTokenProvider shortLivedProvider = new JwtTokenProvider(shortLivedProps);
+      String expired = shortLivedProvider.generateAccessToken(UUID.randomUUID(), "a@b.com");
+
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      assertThat(jwtTokenProvider.verify(null)).isEmpty();
+      assertThat(jwtTokenProvider.verify("invalid.token.here")).isEmpty();
+      assertThat(jwtTokenProvider.verify("unsigned.token.")).isEmpty();
+      assertThat(shortLivedProvider.verify(expired)).isEmpty();
+    }
+  }
+
   @Nested
   @DisplayName("getClaims")
   class GetClaimsTests {
@@ -0,0 +1,133 @@
+package app.kaiz.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import app.kaiz.shared.config.JwtProperties;
+import app.kaiz.shared.config.TokenRevocationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TokenRevocationListTest {
+
+  private static final long ACCESS_TOKEN_EXPIRATION = 900_000L;
+  private static final Duration MAX_STALENESS = Duration.ofMillis(200);
+
+  private TokenRevocationStore store;
+  private TokenRevocationList revocationList;
+  private final UUID userId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    store = mock(TokenRevocationStore.class);
+    revocationList =
+        new TokenRevocationList(
+            store,
+            mock(PlatformTransactionManager.class),
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            new TokenRevocationProperties("test", MAX_STALENESS, Duration.ofSeconds(5)),
+            new JwtProperties("secret", "kaiz", "kaiz-mobile", ACCESS_TOKEN_EXPIRATION, 0L),
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("should revoke tokens issued before the user watermark only")
+  void shouldRevokeTokensIssuedBeforeWatermark() {
+    Instant now = Instant.now();
+    VerifiedToken earlier = token(UUID.randomUUID().toString(), now.minusSeconds(60));
+
+    revocationList.revokeAllForUser(userId);
+    VerifiedToken later = token(UUID.randomUUID().toString(), now.plusSeconds(1));
+
+    assertThat(revocationList.isRevoked(earlier)).isTrue();
+    assertThat(revocationList.isRevoked(later)).isFalse();
+    verify(store).insert(any(TokenRevocation.class));
+    verify(store).sendNotification(eq("test"), anyString());
+  }
+
+  @Test
+  @DisplayName("should revoke tokens issued in the same second as the watermark")
+  void shouldRevokeTokensIssuedInWatermarkSecond() {
+    Instant second = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    revocationList.applyAll(
+        List.of(
+            new TokenRevocation(userId, null, second, second.plusMillis(ACCESS_TOKEN_EXPIRATION))));
+
+    assertThat(revocationList.isRevoked(token("same", second))).isTrue();
+    assertThat(revocationList.isRevoked(token("next", second.plusSeconds(1)))).isFalse();
+  }
+
+  @Test
+  @DisplayName("should revoke a single token by id")
+  void shouldRevokeSingleToken() {
+    Instant issuedAt = Instant.now().minusSeconds(60);
+    VerifiedToken revoked = token("jti-1", issuedAt);
+    VerifiedToken other = token("jti-2", issuedAt);
+
+    revocationList.revokeToken(revoked);
+
+    assertThat(revocationList.isRevoked(revoked)).isTrue();
+    assertThat(revocationList.isRevoked(other)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should keep the latest watermark and ignore expired revocations")
+  void shouldMergeLoadedRevocations() {
+    Instant now = Instant.now();
+    Instant older = now.minusSeconds(120);
+    Instant newer = now.minusSeconds(30);
+
+    revocationList.applyAll(
+        List.of(
+            new TokenRevocation(userId, null, newer, newer.plusMillis(ACCESS_TOKEN_EXPIRATION)),
+            new TokenRevocation(userId, null, older, older.plusMillis(ACCESS_TOKEN_EXPIRATION)),
+            new TokenRevocation(userId, "expired", null, now.minusSeconds(1))));
+
+    assertThat(revocationList.isRevoked(token("a", now.minusSeconds(60)))).isTrue();
+    assertThat(revocationList.isRevoked(token("b", now.minusSeconds(10)))).isFalse();
+    assertThat(revocationList.isRevoked(token("expired", now))).isFalse();
+  }
+
+  @Test
+  @DisplayName("should be current only once loaded and until max staleness after a disconnect")
+  void shouldFailClosedUntilLoadedAndWhenStale() throws InterruptedException {
+    assertThat(revocationList.isCurrent()).isFalse();
+
+    revocationList.markLoaded();
+    assertThat(revocationList.isCurrent()).isTrue();
+
+    revocationList.markStale();
+    assertThat(revocationList.isCurrent()).isTrue();
+    Thread.sleep(MAX_STALENESS.multipliedBy(2));
+    assertThat(revocationList.isCurrent()).isFalse();
+
+    revocationList.markLoaded();
+    assertThat(revocationList.isCurrent()).isTrue();
+  }
+
+  private VerifiedToken token(String tokenId, Instant issuedAt) {
+    return new VerifiedToken(
+        userId,
+        "user@example.com",
+        "access",
+        tokenId,
+        issuedAt,
+        issuedAt.plusMillis(ACCESS_TOKEN_EXPIRATION),
+        false);
+  }
+}
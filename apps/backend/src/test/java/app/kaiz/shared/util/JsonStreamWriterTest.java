@@ -0,0 +1,55 @@
+package app.kaiz.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.kaiz.shared.config.StreamingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class JsonStreamWriterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void writesTheApiResponseEnvelope() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    writer(Duration.ofMinutes(1))
+        .<String>writeApiResponse(response, sink -> List.of("a", "b").forEach(sink));
+
+    assertThat(response.getContentAsString())
+        .isEqualTo("{\"success\":true,\"data\":[\"a\",\"b\"]}");
+  }
+
+  @Test
+  void cutsOffAResponseRunningPastTheMaximumDuration() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicInteger produced = new AtomicInteger();
+
+    assertThatThrownBy(
+            () ->
+                writer(Duration.ZERO)
+                    .<Integer>writeArray(
+                        response,
+                        sink -> {
+                          for (int i = 0; i < 1_000; i++) {
+                            sink.accept(produced.incrementAndGet());
+                          }
+                        }))
+        .isInstanceOf(JsonStreamWriter.StreamCutOffException.class);
+
+    assertThat(produced).hasValue(1);
+    assertThat(meterRegistry.get("kaiz.streaming.cut.off").counter().count()).isEqualTo(1);
+  }
+
+  private JsonStreamWriter writer(Duration maxDuration) {
+    return new JsonStreamWriter(
+        new ObjectMapper(), new StreamingProperties(maxDuration), meterRegistry);
+  }
+}
@@ -0,0 +1,91 @@
+package app.kaiz.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.kaiz.shared.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+  private static final Instant TIMESTAMP = Instant.parse("2026-03-01T10:15:30.123456Z");
+  private static final UUID ID = UUID.fromString("0190b5e4-7c1a-7a3b-9c2d-1e2f3a4b5c6d");
+
+  @Test
+  void roundTripsPinnedAndUnpinnedPositions() {
+    PageCursor pinned = new PageCursor(TIMESTAMP, ID, true);
+    PageCursor unpinned = PageCursor.of(TIMESTAMP, ID);
+
+    assertThat(PageCursor.decode(pinned.encode())).isEqualTo(pinned);
+    assertThat(PageCursor.decode(unpinned.encode())).isEqualTo(unpinned);
+    assertThat(pinned.encode()).isNotEqualTo(unpinned.encode()).doesNotContain("=", "+", "/");
+  }
+
+  @Test
+  void treatsAMissingCursorAsTheFirstPage() {
+    assertThat(PageCursor.decode(null)).isNull();
+    assertThat(PageCursor.decode(" ")).isNull();
+  }
+
+  @Test
+  void rejectsMalformedCursors() {
+    for (String cursor :
+        List.of(
+            "not base64!",
+            encoded("2026-03-01T10:15:30Z|" + ID),
+            encoded("yesterday|" + ID + "|0"),
+            encoded("2026-03-01T10:15:30Z|not-a-uuid|1"),
+            encoded("2026-03-01T10:15:30Z|" + ID + "|0|extra"))) {
+      assertThatThrownBy(() -> PageCursor.decode(cursor))
+          .as(cursor)
+          .isInstanceOf(BadRequestException.class)
+          .hasMessage("Invalid page cursor");
+    }
+  }
+
+  @Test
+  void pointsTheNextCursorAtTheLastRowOfAFullPage() {
+    List<Integer> rows = List.of(1, 2, 3);
+
+    CursorPage<String> page = CursorPage.of(rows, 2, PageCursorTest::cursorOf, String::valueOf);
+
+    assertThat(page.items()).containsExactly("1", "2");
+    assertThat(PageCursor.decode(page.nextCursor())).isEqualTo(cursorOf(2));
+  }
+
+  @Test
+  void endsOnTheLastPage() {
+    CursorPage<String> exact =
+        CursorPage.of(List.of(1, 2), 2, PageCursorTest::cursorOf, String::valueOf);
+    CursorPage<String> empty =
+        CursorPage.of(List.<Integer>of(), 2, PageCursorTest::cursorOf, String::valueOf);
+
+    assertThat(exact.items()).hasSize(2);
+    assertThat(exact.nextCursor()).isNull();
+    assertThat(empty.items()).isEmpty();
+    assertThat(empty.nextCursor()).isNull();
+  }
+
+  @Test
+  void fetchesOneRowMoreThanTheBoundedPageSize() {
+    assertThat(CursorPage.limitFor(20).max()).isEqualTo(21);
+    assertThatThrownBy(() -> CursorPage.limitFor(0)).isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> CursorPage.limitFor(CursorPage.MAX_SIZE + 1))
+        .isInstanceOf(BadRequestException.class);
+  }
+
+  private static PageCursor cursorOf(int row) {
+    return new PageCursor(TIMESTAMP.plusSeconds(row), ID, row % 2 == 0);
+  }
+
+  private static String encoded(String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,154 @@
+package app.kaiz.tasks.api;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.identity.application.dto.AuthDtos.RegisterRequest;
+import app.kaiz.shared.observability.RequestSqlStats;
+import app.kaiz.tasks.application.TaskService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Streams 100k tasks through {@code GET /api/v1/tasks/all} and checks that the server does not
+ * materialise the result: the first task reaches the client while the query is still open on the
+ * server, and the listing runs as one statement. {@code EntityStreamerTest} covers the clearing of
+ * the persistence context that keeps the server's memory flat meanwhile.
+ */
+class TaskStreamingIntegrationTest extends IntegrationTestBase {
+
+  private static final int TASKS = 100_000;
+  private static final int EPICS = 100;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TaskService taskService;
+
+  private UUID userId;
+  private String accessToken;
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    String email = "stream-" + UUID.randomUUID() + "@example.com";
+    accessToken =
+        given()
+            .contentType(ContentType.JSON)
+            .body(new RegisterRequest(email, "SecurePassword123!", "Stream User", null, null))
+            .when()
+            .post("/api/v1/auth/register")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("data.accessToken");
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email);
+    jdbcTemplate.update(
+        """
+        INSERT INTO epics (title, user_id, life_wheel_area_id)
+        SELECT 'Epic ' || g, ?, (SELECT id FROM life_wheel_areas ORDER BY id LIMIT 1)
+        FROM generate_series(1, ?) g
+        """,
+        userId,
+        EPICS);
+    jdbcTemplate.update(
+        """
+        INSERT INTO tasks (title, user_id, epic_id, life_wheel_area_id, eisenhower_quadrant_id,
+                           created_at)
+        SELECT 'Task ' || g, ?, e.id,
+               (SELECT id FROM life_wheel_areas ORDER BY id LIMIT 1),
+               (SELECT id FROM eisenhower_quadrants ORDER BY id LIMIT 1),
+               now() - g * interval '1 second'
+        FROM generate_series(1, ?) g
+        JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n FROM epics WHERE user_id = ?) e
+          ON e.n = g % ?
+        """,
+        userId, TASKS, userId, EPICS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  @Test
+  @DisplayName("should start sending tasks while the streaming query is still running")
+  void shouldStreamAllTasksWhileTheQueryRuns() throws Exception {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(baseUrl() + "/api/v1/tasks/all"))
+            .header("Authorization", "Bearer " + accessToken)
+            .build();
+    HttpResponse<InputStream> response =
+        HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+    assertThat(response.statusCode()).isEqualTo(200);
+
+    long runningAtFirstTask = -1;
+    int tasks = 0;
+    boolean success = false;
+    try (JsonParser parser = new JsonFactory().createParser(response.body())) {
+      while (parser.nextToken() != null) {
+        if (parser.currentToken() == JsonToken.VALUE_TRUE
+            && "success".equals(parser.currentName())) {
+          success = true;
+        } else if (parser.currentToken() == JsonToken.START_OBJECT
+            && parser.getParsingContext().getParent().inArray()) {
+          parser.skipChildren();
+          if (++tasks == 1) {
+            // The client has not read the rest, so the server cannot have run the query to its end
+            runningAtFirstTask = runningStreamingQueries();
+          }
+        }
+      }
+    }
+
+    assertThat(success).isTrue();
+    assertThat(tasks).isEqualTo(TASKS);
+    assertThat(runningAtFirstTask).isEqualTo(1);
+    assertThat(runningStreamingQueries()).isZero();
+  }
+
+  @Test
+  @DisplayName("should load each task's epic and life wheel area in the streaming query")
+  void shouldStreamWithOneQuery() {
+    AtomicLong withEpic = new AtomicLong();
+    RequestSqlStats stats = RequestSqlStats.begin();
+    try {
+      taskService.streamTasksByUserId(
+          userId,
+          task -> {
+            if (task.epicTitle() != null && task.lifeWheelAreaId() != null) {
+              withEpic.incrementAndGet();
+            }
+          });
+    } finally {
+      RequestSqlStats.end();
+    }
+
+    assertThat(withEpic).hasValue(TASKS);
+    assertThat(stats.statements()).isEqualTo(1);
+  }
+
+  /** Sessions still inside a transaction that opened the task listing query. */
+  private long runningStreamingQueries() {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM pg_stat_activity"
+            + " WHERE pid <> pg_backend_pid() AND state <> 'idle'"
+            + " AND query ILIKE '%from tasks%left join epics%'",
+        Long.class);
+  }
+}
@@ -0,0 +1,87 @@
+package app.kaiz.tasks.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import app.kaiz.identity.domain.User;
+import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.tasks.application.dto.OnboardingDto.ImportantDateRequest;
+import app.kaiz.tasks.application.dto.OnboardingDto.OnboardingRequest;
+import app.kaiz.tasks.application.dto.OnboardingDto.OnboardingResponse;
+import app.kaiz.tasks.application.dto.OnboardingDto.PlanType;
+import app.kaiz.tasks.application.dto.OnboardingDto.TaskTemplateDto;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class OnboardingServiceIntegrationTest extends IntegrationTestBase {
+
+  /**
+   * Reads plus batched inserts for a 20-template onboarding. Saving each row individually used more
+   * than twice this many statements.
+   */
+  private static final long STATEMENT_BUDGET = 25;
+
+  @Autowired private OnboardingService onboardingService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    User user =
+        userRepository.save(
+            User.builder()
+                .email("onboarding-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName("Onboarding User")
+                .build());
+    userId = user.getId();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("should onboard 20 templates within the JDBC statement budget")
+  void shouldOnboardWithinStatementBudget() {
+    List<String> templateIds =
+        onboardingService.getTaskTemplates().categories().stream()
+            .flatMap(category -> category.templates().stream())
+            .map(TaskTemplateDto::id)
+            .limit(20)
+            .toList();
+    OnboardingRequest request =
+        new OnboardingRequest(
+            "Batch",
+            "Tester",
+            PlanType.INDIVIDUAL,
+            null,
+            null,
+            templateIds,
+            List.of("epic-fitness-journey", "epic-learn-skill", "epic-mindfulness"),
+            List.of(
+                new ImportantDateRequest("Alex", "friend", "birthday", "04-12", null, 7),
+                new ImportantDateRequest("Sam", "family", "anniversary", "09-30", null, null)),
+            "morning",
+            5,
+            null,
+            null);
+
+    OnboardingResponse response = onboardingService.completeOnboarding(userId, request);
+
+    assertThat(response.tasksCreated()).isEqualTo(20);
+    assertThat(response.epicsCreated()).isEqualTo(3);
+    assertThat(response.eventsCreated()).isEqualTo(2);
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(STATEMENT_BUDGET);
+  }
+}
@@ -0,0 +1,142 @@
+package app.kaiz.tasks.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import app.kaiz.identity.domain.User;
+import app.kaiz.identity.infrastructure.UserRepository;
+import app.kaiz.life_wheel.infrastructure.EisenhowerQuadrantRepository;
+import app.kaiz.life_wheel.infrastructure.LifeWheelAreaRepository;
+import app.kaiz.notification.application.NotificationEvents;
+import app.kaiz.shared.outbox.OutboxPublisher;
+import app.kaiz.shared.persistence.EntityStreamer;
+import app.kaiz.tasks.application.dto.TaskDto.UpdateTaskRequest;
+import app.kaiz.tasks.domain.Task;
+import app.kaiz.tasks.domain.TaskHistory;
+import app.kaiz.tasks.domain.TaskStatus;
+import app.kaiz.tasks.infrastructure.EpicRepository;
+import app.kaiz.tasks.infrastructure.SprintRepository;
+import app.kaiz.tasks.infrastructure.TaskCommentRepository;
+import app.kaiz.tasks.infrastructure.TaskHistoryRepository;
+import app.kaiz.tasks.infrastructure.TaskRepository;
+import app.kaiz.tasks.infrastructure.TaskTemplateRepository;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceTest {
+
+  @Mock private TaskRepository taskRepository;
+  @Mock private TaskCommentRepository taskCommentRepository;
+  @Mock private TaskHistoryRepository taskHistoryRepository;
+  @Mock private TaskTemplateRepository taskTemplateRepository;
+  @Mock private EpicRepository epicRepository;
+  @Mock private SprintRepository sprintRepository;
+  @Mock private UserRepository userRepository;
+  @Mock private LifeWheelAreaRepository lifeWheelAreaRepository;
+  @Mock private EisenhowerQuadrantRepository eisenhowerQuadrantRepository;
+  @Mock private SdlcMapper sdlcMapper;
+  @Mock private OutboxPublisher outbox;
+  @Mock private EntityStreamer entityStreamer;
+
+  @Captor private ArgumentCaptor<NotificationEvents.TaskCompleted> eventCaptor;
+
+  @InjectMocks private TaskService taskService;
+
+  private UUID userId;
+  private UUID taskId;
+  private Task task;
+
+  @BeforeEach
+  void setUp() {
+    userId = UUID.randomUUID();
+    taskId = UUID.randomUUID();
+    User user = new User();
+    user.setId(userId);
+    task = Task.builder().title("Ship it").storyPoints(5).status(TaskStatus.IN_PROGRESS).build();
+    task.setId(taskId);
+
+    when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(task));
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(taskRepository.save(task)).thenReturn(task);
+  }
+
+  private static UpdateTaskRequest statusUpdate(TaskStatus status) {
+    return new UpdateTaskRequest(null, null, null, null, null, null, null, status, false);
+  }
+
+  private void historySavesItsArgument() {
+    when(taskHistoryRepository.save(any(TaskHistory.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Nested
+  @DisplayName("updateTask")
+  class UpdateTaskTests {
+
+    @Test
+    @DisplayName("should publish TaskCompleted when the update moves the task to DONE")
+    void shouldPublishTaskCompletedWhenDone() {
+      historySavesItsArgument();
+
+      taskService.updateTask(userId, taskId, statusUpdate(TaskStatus.DONE));
+
+      verify(outbox).publish(eq("task"), eq(taskId), anyString(), eventCaptor.capture());
+      assertThat(eventCaptor.getValue())
+          .isEqualTo(new NotificationEvents.TaskCompleted(userId, taskId, "Ship it", 50));
+      assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE);
+      assertThat(task.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should not publish when the update moves the task elsewhere")
+    void shouldNotPublishWhenNotDone() {
+      historySavesItsArgument();
+
+      taskService.updateTask(userId, taskId, statusUpdate(TaskStatus.TODO));
+
+      verify(outbox, never()).publish(anyString(), any(), anyString(), any());
+      assertThat(task.getCompletedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("should not publish when the update leaves the status unchanged")
+    void shouldNotPublishWhenStatusUnchanged() {
+      taskService.updateTask(userId, taskId, statusUpdate(TaskStatus.IN_PROGRESS));
+
+      verify(outbox, never()).publish(anyString(), any(), anyString(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("updateTaskStatus")
+  class UpdateTaskStatusTests {
+
+    @Test
+    @DisplayName("should publish TaskCompleted when the task moves to DONE")
+    void shouldPublishTaskCompletedWhenDone() {
+      historySavesItsArgument();
+
+      taskService.updateTaskStatus(userId, taskId, TaskStatus.DONE);
+
+      verify(outbox).publish(eq("task"), eq(taskId), anyString(), eventCaptor.capture());
+      assertThat(eventCaptor.getValue().xpEarned()).isEqualTo(50);
+      assertThat(task.getCompletedAt()).isNotNull();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package app.kaiz.testdata;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.UUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/** Writes rows to one table through {@code COPY ... FROM STDIN} in PostgreSQL text format. */
+final class CopyStream implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final PGCopyOutputStream out;
+  private final StringBuilder row = new StringBuilder(512);
+  private boolean firstColumn = true;
+
+  CopyStream(Connection connection, String table, String... columns) throws SQLException {
+    String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+    this.out = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE);
+  }
+
+  CopyStream value(Object value) {
+    if (!firstColumn) {
+      row.append('\t');
+    }
+    firstColumn = false;
+    if (value == null) {
+      row.append("\\N");
+    } else if (value instanceof Boolean bool) {
+      row.append(bool ? 't' : 'f');
+    } else if (value instanceof Instant instant) {
+      row.append(instant);
+    } else if (value instanceof Number || value instanceof UUID) {
+      row.append(value);
+    } else {
+      escape(value.toString());
+    }
+    return this;
+  }
+
+  void endRow() throws IOException {
+    row.append('\n');
+    out.write(row.toString().getBytes(StandardCharsets.UTF_8));
+    row.setLength(0);
+    firstColumn = true;
+  }
+
+  /** Completes the COPY and returns the number of rows the server accepted. */
+  long finish() throws IOException, SQLException {
+    return out.endCopy();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (out.isActive()) {
+      out.close();
+    }
+  }
+
+  private void escape(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '\\' -> row.append("\\\\");
+        case '\t' -> row.append("\\t");
+        case '\n' -> row.append("\\n");
+        case '\r' -> row.append("\\r");
+        default -> row.append(c);
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package app.kaiz.testdata;
+
+/**
+ * Shape of a synthetic dataset. All per-user and per-member figures are means; the actual counts
+ * follow a power law driven by {@code activitySkew} (Pareto alpha, lower is more skewed), so a
+ * small share of users owns most of the rows, as in production.
+ *
+ * @param users number of users to create
+ * @param seed random seed; the same spec always produces the same rows
+ * @param activitySkew Pareto alpha for per-user activity, must be greater than 1
+ * @param historyDays how far back timestamps reach; recent days are denser
+ * @param parallelism number of concurrent COPY streams per table
+ */
+public record DatasetSpec(
+    int users,
+    long seed,
+    double activitySkew,
+    int historyDays,
+    double epicsPerUser,
+    double tasksPerUser,
+    double historyPerTask,
+    double challengesPerUser,
+    double notificationsPerUser,
+    double draftsPerUser,
+    double communityShare,
+    double storiesPerMember,
+    double likesPerStory,
+    double activitiesPerMember,
+    int parallelism) {
+
+  public DatasetSpec {
+    if (users <= 0) {
+      throw new IllegalArgumentException("users must be positive");
+    }
+    if (activitySkew <= 1.0) {
+      throw new IllegalArgumentException("activitySkew must be greater than 1");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+  }
+
+  /**
+   * Production-like ratios for the given number of users. 100k users yields roughly 30 million
+   * rows.
+   */
+  public static DatasetSpec ofUsers(int users) {
+    return new DatasetSpec(
+        users,
+        42L,
+        1.5,
+        365,
+        3,
+        60,
+        2,
+        2,
+        80,
+        3,
+        0.3,
+        1,
+        20,
+        10,
+        Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors())));
+  }
+
+  public DatasetSpec withSeed(long seed) {
+    return new DatasetSpec(
+        users,
+        seed,
+        activitySkew,
+        historyDays,
+        epicsPerUser,
+        tasksPerUser,
+        historyPerTask,
+        challengesPerUser,
+        notificationsPerUser,
+        draftsPerUser,
+        communityShare,
+        storiesPerMember,
+        likesPerStory,
+        activitiesPerMember,
+        parallelism);
+  }
+
+  public DatasetSpec withParallelism(int parallelism) {
+    return new DatasetSpec(
+        users,
+        seed,
+        activitySkew,
+        historyDays,
+        epicsPerUser,
+        tasksPerUser,
+        historyPerTask,
+        challengesPerUser,
+        notificationsPerUser,
+        draftsPerUser,
+        communityShare,
+        storiesPerMember,
+        likesPerStory,
+        activitiesPerMember,
+        parallelism);
+  }
+}
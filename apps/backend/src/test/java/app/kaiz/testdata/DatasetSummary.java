@@ -0,0 +1,34 @@
+package app.kaiz.testdata;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of a {@link SyntheticDataGenerator} run.
+ *
+ * @param rowCounts rows written per table, in insertion order
+ * @param heaviestUserId the user with the most activity, handy for worst-case query plans
+ * @param elapsed wall-clock time including the final ANALYZE
+ */
+public record DatasetSummary(
+    DatasetSpec spec, Map<String, Long> rowCounts, UUID heaviestUserId, Duration elapsed) {
+
+  public long totalRows() {
+    return rowCounts.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  public long rows(String table) {
+    return rowCounts.getOrDefault(table, 0L);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%,d rows in %ds (%,.0f rows/s) %s",
+        totalRows(),
+        elapsed.toSeconds(),
+        totalRows() / Math.max(0.001, elapsed.toMillis() / 1000.0),
+        rowCounts);
+  }
+}
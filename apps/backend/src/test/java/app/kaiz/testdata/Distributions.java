@@ -0,0 +1,49 @@
+package app.kaiz.testdata;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/** Skewed samplers used by {@link SyntheticDataGenerator}. */
+final class Distributions {
+
+  /** Upper bound on a single Pareto draw, as a multiple of the minimum. */
+  static final double PARETO_CAP = 200.0;
+
+  private Distributions() {}
+
+  /** Pareto draw with minimum 1, capped at {@link #PARETO_CAP}. */
+  static double pareto(SplittableRandom random, double alpha) {
+    double u = 1.0 - random.nextDouble();
+    return Math.min(PARETO_CAP, Math.pow(u, -1.0 / alpha));
+  }
+
+  /** Expected value of {@link #pareto} ignoring the cap. */
+  static double paretoMean(double alpha) {
+    return alpha / (alpha - 1.0);
+  }
+
+  /**
+   * Count with the given mean scaled by a Pareto weight, rounded stochastically so small means
+   * still average out correctly.
+   */
+  static int skewedCount(SplittableRandom random, double mean, double weight, double alpha) {
+    return stochasticRound(random, mean * weight / paretoMean(alpha));
+  }
+
+  static int stochasticRound(SplittableRandom random, double value) {
+    int whole = (int) value;
+    return random.nextDouble() < value - whole ? whole + 1 : whole;
+  }
+
+  /** A timestamp within the last {@code days} days, denser towards now. */
+  static Instant recent(SplittableRandom random, Instant now, int days) {
+    double age = random.nextDouble();
+    long seconds = (long) (age * age * Duration.ofDays(days).toSeconds());
+    return now.minusSeconds(seconds);
+  }
+
+  static <T> T pick(SplittableRandom random, T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+}
@@ -0,0 +1,67 @@
+package app.kaiz.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.testdata.SyntheticIds.Kind;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DistributionsTest {
+
+  @Nested
+  @DisplayName("skewedCount")
+  class SkewedCountTests {
+
+    @Test
+    @DisplayName("should keep the requested mean while concentrating volume in few owners")
+    void shouldBeHeavyTailed() {
+      SplittableRandom random = new SplittableRandom(1);
+      double alpha = 1.5;
+      int[] counts = new int[20_000];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] =
+            Distributions.skewedCount(random, 50, Distributions.pareto(random, alpha), alpha);
+      }
+
+      double mean = Arrays.stream(counts).average().orElseThrow();
+      int[] sorted = Arrays.stream(counts).sorted().toArray();
+      long total = Arrays.stream(counts).asLongStream().sum();
+      long topTenth =
+          Arrays.stream(sorted, sorted.length - sorted.length / 10, sorted.length)
+              .asLongStream()
+              .sum();
+
+      assertThat(mean).isBetween(40.0, 55.0);
+      assertThat((double) topTenth / total).isGreaterThan(0.35);
+    }
+  }
+
+  @Nested
+  @DisplayName("SyntheticIds")
+  class SyntheticIdsTests {
+
+    @Test
+    @DisplayName("should be deterministic, unique and valid v4 UUIDs")
+    void shouldBeDeterministicAndUnique() {
+      Set<UUID> ids = new HashSet<>();
+      for (int owner = 0; owner < 100; owner++) {
+        for (int index = 0; index < 1_000; index++) {
+          ids.add(SyntheticIds.of(42, Kind.TASK, owner, index));
+        }
+      }
+
+      UUID id = SyntheticIds.of(42, Kind.TASK, 7, 3);
+      assertThat(ids).hasSize(100_000);
+      assertThat(SyntheticIds.of(42, Kind.TASK, 7, 3)).isEqualTo(id);
+      assertThat(SyntheticIds.of(42, Kind.EPIC, 7, 3)).isNotEqualTo(id);
+      assertThat(id.version()).isEqualTo(4);
+      assertThat(id.variant()).isEqualTo(2);
+    }
+  }
+}
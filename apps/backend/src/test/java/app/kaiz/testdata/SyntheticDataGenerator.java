@@ -0,0 +1,933 @@
+package app.kaiz.testdata;
+
+import static app.kaiz.testdata.Distributions.pareto;
+import static app.kaiz.testdata.Distributions.pick;
+import static app.kaiz.testdata.Distributions.recent;
+import static app.kaiz.testdata.Distributions.skewedCount;
+
+import app.kaiz.command_center.domain.DraftType;
+import app.kaiz.community.domain.ActivityType;
+import app.kaiz.community.domain.StoryCategory;
+import app.kaiz.notification.domain.NotificationCategory;
+import app.kaiz.notification.domain.NotificationPriority;
+import app.kaiz.notification.domain.NotificationType;
+import app.kaiz.testdata.SyntheticIds.Kind;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Fills a migrated Kaiz database with a production-scale synthetic dataset through the COPY
+ * protocol.
+ *
+ * <p>Per-user activity follows a Pareto distribution shared across tables, so the same heavy users
+ * own most tasks, notifications and challenge entries; story likes are skewed the same way towards
+ * a few hot stories. Every row is derived from the {@link DatasetSpec} alone, so child tables are
+ * written in later passes by regenerating their parents instead of holding ids in memory. Each
+ * table is split into {@link DatasetSpec#parallelism()} ranges written over separate connections.
+ *
+ * <p>Enum-like columns use the values allowed by the schema's CHECK constraints. When the role
+ * permits it, foreign-key triggers are skipped for the load.
+ *
+ * <p>Run standalone against any database migrated by Flyway:
+ *
+ * <pre>
+ * java -cp ... app.kaiz.testdata.SyntheticDataGenerator \
+ *     --url=jdbc:postgresql://localhost:5432/kaiz --user=kaiz --password=... --users=100000
+ * </pre>
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+  /** Plain-text password of every synthetic user, for load tests that log in. */
+  public static final String SYNTHETIC_PASSWORD = "Synthetic-Passw0rd";
+
+  private static final int[] STORY_POINTS = {1, 2, 3, 5, 8, 13, 21};
+  private static final int[] CHALLENGE_DURATIONS = {7, 21, 30, 66, 90};
+  private static final int MAX_HISTORY_PER_TASK = 32;
+  private static final String[] EPIC_STATUSES = {"planning", "active", "active", "completed"};
+  private static final String[] DRAFT_TYPES = {"TASK", "TASK", "TASK", "EVENT", "NOTE", "BILL"};
+  private static final String[] DRAFT_STATUSES = {"APPROVED", "REJECTED", "MODIFIED", "EXPIRED"};
+  private static final String[] COLORS = {"#3B82F6", "#10B981", "#F59E0B", "#EF4444", "#8B5CF6"};
+  private static final String[] TIMEZONES = {
+    "UTC", "America/New_York", "Europe/Berlin", "Asia/Tokyo", "America/Los_Angeles"
+  };
+  private static final String[] LEVEL_TITLES = {"Novice", "Apprentice", "Achiever", "Expert"};
+
+  private final DataSource dataSource;
+
+  public SyntheticDataGenerator(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  public static void main(String[] args) {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+      options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+    }
+
+    PGSimpleDataSource dataSource = new PGSimpleDataSource();
+    dataSource.setUrl(options.getOrDefault("url", "jdbc:postgresql://localhost:5432/kaiz"));
+    dataSource.setUser(options.getOrDefault("user", "kaiz"));
+    dataSource.setPassword(options.getOrDefault("password", ""));
+
+    DatasetSpec spec =
+        DatasetSpec.ofUsers(Integer.parseInt(options.getOrDefault("users", "10000")));
+    if (options.containsKey("seed")) {
+      spec = spec.withSeed(Long.parseLong(options.get("seed")));
+    }
+    if (options.containsKey("parallelism")) {
+      spec = spec.withParallelism(Integer.parseInt(options.get("parallelism")));
+    }
+
+    DatasetSummary summary = new SyntheticDataGenerator(dataSource).generate(spec);
+    System.out.println(summary);
+  }
+
+  /**
+   * Writes the dataset and runs ANALYZE. If the first synthetic user of this spec already exists
+   * (for example in a reused Testcontainers database) nothing is written.
+   */
+  public DatasetSummary generate(DatasetSpec spec) {
+    long started = System.nanoTime();
+    Run run = new Run(spec, loadReferenceData());
+
+    if (exists(run.userId(0))) {
+      log.info("Synthetic dataset {} already present, skipping", spec);
+      return new DatasetSummary(spec, Map.of(), run.heaviestUserId(), Duration.ZERO);
+    }
+
+    Map<String, Long> rowCounts = new LinkedHashMap<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(spec.parallelism())) {
+      int users = spec.users();
+      int members = run.memberUsers.length;
+      copy(executor, spec, Run.USERS, users, run::writeUsers, rowCounts);
+      copy(executor, spec, Run.EPICS, users, run::writeEpics, rowCounts);
+      copy(executor, spec, Run.TASKS, users, run::writeTasks, rowCounts);
+      copy(executor, spec, Run.TASK_HISTORY, users, run::writeTaskHistory, rowCounts);
+      copy(executor, spec, Run.CHALLENGES, users, run::writeChallenges, rowCounts);
+      copy(executor, spec, Run.CHALLENGE_ENTRIES, users, run::writeChallengeEntries, rowCounts);
+      copy(executor, spec, Run.NOTIFICATIONS, users, run::writeNotifications, rowCounts);
+      copy(executor, spec, Run.DRAFTS, users, run::writeDrafts, rowCounts);
+      copy(executor, spec, Run.MEMBERS, members, run::writeMembers, rowCounts);
+      copy(executor, spec, Run.STORIES, members, run::writeStories, rowCounts);
+      copy(executor, spec, Run.STORY_LIKES, members, run::writeStoryLikes, rowCounts);
+      copy(executor, spec, Run.ACTIVITIES, members, run::writeActivities, rowCounts);
+    }
+
+    analyze();
+    DatasetSummary summary =
+        new DatasetSummary(
+            spec, rowCounts, run.heaviestUserId(), Duration.ofNanos(System.nanoTime() - started));
+    log.info("Synthetic dataset loaded: {}", summary);
+    return summary;
+  }
+
+  // ==================== COPY plumbing ====================
+
+  @FunctionalInterface
+  private interface RangeWriter {
+    void write(CopyStream out, int from, int to) throws IOException;
+  }
+
+  private void copy(
+      ExecutorService executor,
+      DatasetSpec spec,
+      Table table,
+      int count,
+      RangeWriter writer,
+      Map<String, Long> rowCounts) {
+    int shards = Math.min(spec.parallelism(), Math.max(1, count));
+    List<Future<Long>> futures = new ArrayList<>(shards);
+    for (int shard = 0; shard < shards; shard++) {
+      int from = (int) ((long) count * shard / shards);
+      int to = (int) ((long) count * (shard + 1) / shards);
+      futures.add(
+          executor.submit(
+              () -> {
+                try (Connection connection = dataSource.getConnection()) {
+                  boolean triggersSkipped = skipTriggers(connection);
+                  try (CopyStream out = new CopyStream(connection, table.name(), table.columns())) {
+                    writer.write(out, from, to);
+                    return out.finish();
+                  } finally {
+                    if (triggersSkipped) {
+                      restoreTriggers(connection);
+                    }
+                  }
+                }
+              }));
+    }
+
+    long rows = 0;
+    try {
+      for (Future<Long> future : futures) {
+        rows += future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while copying " + table.name(), e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to copy " + table.name(), e.getCause());
+    }
+    log.debug("Copied {} rows into {}", rows, table.name());
+    rowCounts.put(table.name(), rows);
+  }
+
+  /**
+   * Foreign-key checks dominate COPY time and the generated rows are consistent by construction, so
+   * skip them when the role is allowed to (superusers, which includes Testcontainers).
+   */
+  private static boolean skipTriggers(Connection connection) {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET session_replication_role = replica");
+      return true;
+    } catch (SQLException e) {
+      log.debug("Cannot skip triggers, copying with foreign-key checks: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private static void restoreTriggers(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET session_replication_role = DEFAULT");
+    }
+  }
+
+  private ReferenceData loadReferenceData() {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      List<String> areas = new ArrayList<>();
+      try (ResultSet rs =
+          statement.executeQuery("SELECT id FROM life_wheel_areas ORDER BY display_order")) {
+        while (rs.next()) {
+          areas.add(rs.getString(1));
+        }
+      }
+      List<String> quadrants = new ArrayList<>();
+      try (ResultSet rs =
+          statement.executeQuery("SELECT id FROM eisenhower_quadrants ORDER BY display_order")) {
+        while (rs.next()) {
+          quadrants.add(rs.getString(1));
+        }
+      }
+      NavigableMap<LocalDate, SprintRange> sprints = new TreeMap<>();
+      try (ResultSet rs = statement.executeQuery("SELECT id, start_date, end_date FROM sprints")) {
+        while (rs.next()) {
+          LocalDate start = rs.getObject(2, LocalDate.class);
+          sprints.put(start, new SprintRange(rs.getString(1), rs.getObject(3, LocalDate.class)));
+        }
+      }
+      if (areas.isEmpty() || quadrants.isEmpty()) {
+        throw new IllegalStateException("Reference data missing; run the Flyway migrations first");
+      }
+      return new ReferenceData(
+          areas.toArray(String[]::new), quadrants.toArray(String[]::new), sprints);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read reference data", e);
+    }
+  }
+
+  private boolean exists(UUID userId) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement("SELECT 1 FROM users WHERE id = ?")) {
+      statement.setObject(1, userId);
+      try (ResultSet rs = statement.executeQuery()) {
+        return rs.next();
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to check for an existing dataset", e);
+    }
+  }
+
+  private void analyze() {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE");
+    } catch (SQLException e) {
+      throw new IllegalStateException("ANALYZE failed", e);
+    }
+  }
+
+  private record Table(String name, String... columns) {}
+
+  private record SprintRange(String id, LocalDate endDate) {}
+
+  private record ReferenceData(
+      String[] lifeWheelAreas,
+      String[] quadrants,
+      NavigableMap<LocalDate, SprintRange> sprintsByStart) {}
+
+  // ==================== Row generation ====================
+
+  /** Everything derived from one spec; safe to share between COPY threads. */
+  private static final class Run {
+
+    static final Table USERS =
+        new Table(
+            "users",
+            "id",
+            "email",
+            "password_hash",
+            "full_name",
+            "subscription_tier",
+            "timezone",
+            "email_verified",
+            "created_at",
+            "updated_at");
+    static final Table EPICS =
+        new Table(
+            "epics",
+            "id",
+            "title",
+            "description",
+            "user_id",
+            "life_wheel_area_id",
+            "status",
+            "color",
+            "created_at",
+            "updated_at");
+    static final Table TASKS =
+        new Table(
+            "tasks",
+            "id",
+            "title",
+            "description",
+            "user_id",
+            "epic_id",
+            "life_wheel_area_id",
+            "eisenhower_quadrant_id",
+            "sprint_id",
+            "story_points",
+            "status",
+            "is_draft",
+            "created_at",
+            "updated_at",
+            "completed_at");
+    static final Table TASK_HISTORY =
+        new Table(
+            "task_history",
+            "id",
+            "task_id",
+            "field_name",
+            "old_value",
+            "new_value",
+            "changed_by_user_id",
+            "created_at",
+            "updated_at");
+    static final Table CHALLENGES =
+        new Table(
+            "challenges",
+            "id",
+            "name",
+            "user_id",
+            "life_wheel_area_id",
+            "metric_type",
+            "target_value",
+            "unit",
+            "duration",
+            "recurrence",
+            "status",
+            "start_date",
+            "end_date",
+            "grace_days",
+            "current_streak",
+            "best_streak",
+            "created_at",
+            "updated_at");
+    static final Table CHALLENGE_ENTRIES =
+        new Table(
+            "challenge_entries",
+            "id",
+            "challenge_id",
+            "user_id",
+            "entry_date",
+            "value_numeric",
+            "value_boolean",
+            "created_at",
+            "updated_at");
+    static final Table NOTIFICATIONS =
+        new Table(
+            "notifications",
+            "id",
+            "user_id",
+            "type",
+            "category",
+            "priority",
+            "title",
+            "content",
+            "is_read",
+            "is_pinned",
+            "is_archived",
+            "read_at",
+            "deep_link",
+            "metadata",
+            "created_at",
+            "updated_at");
+    static final Table DRAFTS =
+        new Table(
+            "command_center_drafts",
+            "id",
+            "user_id",
+            "draft_type",
+            "status",
+            "draft_content",
+            "confidence_score",
+            "ai_reasoning",
+            "original_input_text",
+            "processed_at",
+            "expires_at",
+            "created_at",
+            "updated_at");
+    static final Table MEMBERS =
+        new Table(
+            "community_members",
+            "id",
+            "user_id",
+            "display_name",
+            "level",
+            "level_title",
+            "reputation_points",
+            "role",
+            "sprints_completed",
+            "current_streak",
+            "created_at",
+            "updated_at");
+    static final Table STORIES =
+        new Table(
+            "community_stories",
+            "id",
+            "author_id",
+            "title",
+            "story",
+            "category",
+            "life_wheel_area_id",
+            "like_count",
+            "comment_count",
+            "celebrate_count",
+            "created_at",
+            "updated_at");
+    static final Table STORY_LIKES = new Table("story_likes", "story_id", "member_id");
+    static final Table ACTIVITIES =
+        new Table(
+            "community_activities",
+            "id",
+            "member_id",
+            "activity_type",
+            "title",
+            "description",
+            "celebrate_count",
+            "created_at",
+            "updated_at");
+
+    private final DatasetSpec spec;
+    private final ReferenceData reference;
+    private final long key;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final String passwordHash;
+    private final String emailTag;
+    private final double[] activity;
+    private final int[] memberUsers;
+
+    Run(DatasetSpec spec, ReferenceData reference) {
+      this.spec = spec;
+      this.reference = reference;
+      this.key = SyntheticIds.mix(spec.hashCode() ^ spec.seed());
+      this.passwordHash = new BCryptPasswordEncoder().encode(SYNTHETIC_PASSWORD);
+      this.emailTag = Long.toHexString(key & 0xFFFFFFFFL);
+
+      activity = new double[spec.users()];
+      for (int u = 0; u < activity.length; u++) {
+        activity[u] = pareto(random(Kind.USER, u, 0), spec.activitySkew());
+      }
+      double mean = Distributions.paretoMean(spec.activitySkew());
+      memberUsers =
+          IntStream.range(0, spec.users())
+              .filter(
+                  u ->
+                      random(Kind.MEMBER, u, 0).nextDouble()
+                          < spec.communityShare() * Math.min(2.0, activity[u] / mean))
+              .toArray();
+    }
+
+    UUID userId(int u) {
+      return SyntheticIds.of(key, Kind.USER, u, 0);
+    }
+
+    UUID heaviestUserId() {
+      int heaviest = 0;
+      for (int u = 1; u < activity.length; u++) {
+        if (activity[u] > activity[heaviest]) {
+          heaviest = u;
+        }
+      }
+      return userId(heaviest);
+    }
+
+    private SplittableRandom random(Kind kind, int owner, long index) {
+      return new SplittableRandom(
+          SyntheticIds.of(key, kind, owner, index).getLeastSignificantBits());
+    }
+
+    private int count(Kind kind, int u, double mean) {
+      return skewedCount(random(kind, u, -1), mean, activity[u], spec.activitySkew());
+    }
+
+    // ---------- users ----------
+
+    void writeUsers(CopyStream out, int from, int to) throws IOException {
+      for (int u = from; u < to; u++) {
+        SplittableRandom r = random(Kind.USER, u, 1);
+        Instant created = now.minus(spec.historyDays() + r.nextInt(30), ChronoUnit.DAYS);
+        out.value(userId(u))
+            .value("user" + u + "." + emailTag + "@synthetic.kaiz.app")
+            .value(passwordHash)
+            .value("Synthetic User " + u)
+            .value(r.nextDouble() < 0.15 ? "PRO" : "FREE")
+            .value(pick(r, TIMEZONES))
+            .value(r.nextDouble() < 0.8)
+            .value(created)
+            .value(created)
+            .endRow();
+      }
+    }
+
+    // ---------- epics ----------
+
+    private int epicCount(int u) {
+      return count(Kind.EPIC, u, spec.epicsPerUser());
+    }
+
+    void writeEpics(CopyStream out, int from, int to) throws IOException {
+      for (int u = from; u < to; u++) {
+        int epics = epicCount(u);
+        for (int e = 0; e < epics; e++) {
+          SplittableRandom r = random(Kind.EPIC, u, e);
+          Instant created = recent(r, now, spec.historyDays());
+          out.value(SyntheticIds.of(key, Kind.EPIC, u, e))
+              .value("Epic " + e + " of user " + u)
+              .value("A multi-sprint goal")
+              .value(userId(u))
+              .value(pick(r, reference.lifeWheelAreas()))
+              .value(pick(r, EPIC_STATUSES))
+              .value(pick(r, COLORS))
+              .value(created)
+              .value(created)
+              .endRow();
+        }
+      }
+    }
+
+    // ---------- tasks ----------
+
+    private record SyntheticTask(
+        UUID id, String status, Instant createdAt, Instant completedAt, int historyCount) {}
+
+    private SyntheticTask task(int u, int i) {
+      SplittableRandom r = random(Kind.TASK, u, i);
+      Instant created = recent(r, now, spec.historyDays());
+      double roll = r.nextDouble();
+      String status =
+          roll < 0.55 ? "done" : roll < 0.8 ? "todo" : roll < 0.95 ? "in_progress" : "draft";
+      Instant completed = null;
+      if ("done".equals(status)) {
+        Instant candidate = created.plusSeconds(3600 + r.nextLong(14 * 86_400L));
+        completed = candidate.isAfter(now) ? now : candidate;
+      }
+      int history =
+          Math.min(
+              MAX_HISTORY_PER_TASK,
+              skewedCount(
+                  r, spec.historyPerTask(), pareto(r, spec.activitySkew()), spec.activitySkew()));
+      return new SyntheticTask(
+          SyntheticIds.of(key, Kind.TASK, u, i), status, created, completed, history);
+    }
+
+    void writeTasks(CopyStream out, int from, int to) throws IOException {
+      for (int u = from; u < to; u++) {
+        int epics = epicCount(u);
+        int tasks = count(Kind.TASK, u, spec.tasksPerUser());
+        for (int i = 0; i < tasks; i++) {
+          SyntheticTask task = task(u, i);
+          SplittableRandom r = random(Kind.TASK, u, i + (1L << 40));
+          UUID epicId =
+              epics > 0 && r.nextDouble() < 0.3
+                  ? SyntheticIds.of(key, Kind.EPIC, u, r.nextInt(epics))
+                  : null;
+          out.value(task.id())
+              .value("Task " + i + " of user " + u)
+              .value(r.nextDouble() < 0.4 ? null : "Synthetic task used for load testing")
+              .value(userId(u))
+              .value(epicId)
+              .value(pick(r, reference.lifeWheelAreas()))
+              .value(pick(r, reference.quadrants()))
+              .value(r.nextDouble() < 0.7 ? sprintFor(task.createdAt()) : null)
+              .value(STORY_POINTS[r.nextInt(STORY_POINTS.length)])
+              .value(task.status())
+              .value("draft".equals(task.status()))
+              .value(task.createdAt())
+              .value(task.completedAt() != null ? task.completedAt() : task.createdAt())
+              .value(task.completedAt())
+              .endRow();
+        }
+      }
+    }
+
+    private String sprintFor(Instant instant) {
+      LocalDate date = LocalDate.ofInstant(instant, ZoneOffset.UTC);
+      Map.Entry<LocalDate, SprintRange> entry = reference.sprintsByStart().floorEntry(date);
+      return entry != null && !entry.getValue().endDate().isBefore(date)
+          ? entry.getValue().id()
+          : null;
+    }
+
+    void writeTaskHistory(CopyStream out, int from, int to) throws IOException {
+      String[] transitions = {"todo", "in_progress", "done"};
+      for (int u = from; u < to; u++) {
+        int tasks = count(Kind.TASK, u, spec.tasksPerUser());
+        for (int i = 0; i < tasks; i++) {
+          SyntheticTask task = task(u, i);
+          for (int h = 0; h < task.historyCount(); h++) {
+            Instant at = task.createdAt().plusSeconds(600L * (h + 1));
+            boolean statusChange = h % 3 != 2;
+            out.value(SyntheticIds.of(key, Kind.TASK_HISTORY, u, ((long) i << 8) | h))
+                .value(task.id())
+                .value(statusChange ? "status" : "story_points")
+                .value(statusChange ? transitions[h % 2] : "3")
+                .value(statusChange ? transitions[h % 2 + 1] : "5")
+                .value(userId(u))
+                .value(at)
+                .value(at)
+                .endRow();
+          }
+        }
+      }
+    }
+
+    // ---------- challenges ----------
+
+    private record SyntheticChallenge(
+        UUID id,
+        LocalDate startDate,
+        int duration,
+        int days,
+        double adherence,
+        boolean yesNo,
+        int target) {}
+
+    private SyntheticChallenge challenge(int u, int c) {
+      SplittableRandom r = random(Kind.CHALLENGE, u, c);
+      LocalDate start = LocalDate.ofInstant(recent(r, now, spec.historyDays()), ZoneOffset.UTC);
+      int duration = CHALLENGE_DURATIONS[r.nextInt(CHALLENGE_DURATIONS.length)];
+      int elapsed =
+          (int) ChronoUnit.DAYS.between(start, LocalDate.ofInstant(now, ZoneOffset.UTC)) + 1;
+      double engagement =
+          Math.min(1.0, activity[u] / Distributions.paretoMean(spec.activitySkew()));
+      boolean yesNo = r.nextBoolean();
+      return new SyntheticChallenge(
+          SyntheticIds.of(key, Kind.CHALLENGE, u, c),
+          start,
+          duration,
+          Math.min(duration, elapsed),
+          0.3 + 0.65 * engagement * r.nextDouble(),
+          yesNo,
+          yesNo ? 1 : 5 + r.nextInt(16));
+    }
+
+    /** Calls {@code day} with the offset from the start date of each day that has an entry. */
+    private void forEachEntryDay(int u, int c, SyntheticChallenge challenge, EntryDay day)
+        throws IOException {
+      SplittableRandom r = random(Kind.CHALLENGE_ENTRY, u, c);
+      for (int d = 0; d < challenge.days(); d++) {
+        if (r.nextDouble() < challenge.adherence()) {
+          day.accept(d);
+        }
+      }
+    }
+
+    @FunctionalInterface
+    private interface EntryDay {
+      void accept(int offset) throws IOException;
+    }
+
+    void writeChallenges(CopyStream out, int from, int to) throws IOException {
+      for (int u = from; u < to; u++) {
+        int challenges = count(Kind.CHALLENGE, u, spec.challengesPerUser());
+        for (int c = 0; c < challenges; c++) {
+          SyntheticChallenge challenge = challenge(u, c);
+          int[] streak = new int[3]; // current, best, last offset
+          streak[2] = -2;
+          forEachEntryDay(
+              u,
+              c,
+              challenge,
+              d -> {
+                streak[0] = d == streak[2] + 1 ? streak[0] + 1 : 1;
+                streak[1] = Math.max(streak[1], streak[0]);
+                streak[2] = d;
+              });
+          int current = streak[2] >= challenge.days() - 2 ? streak[0] : 0;
+          boolean completed = challenge.days() >= challenge.duration();
+          Instant start = challenge.startDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+          out.value(challenge.id())
+              .value("Challenge " + c + " of user " + u)
+              .value(userId(u))
+              .value(reference.lifeWheelAreas()[c % reference.lifeWheelAreas().length])
+              .value(challenge.yesNo() ? "yesno" : "count")
+              .value(challenge.target())
+              .value(challenge.yesNo() ? null : "reps")
+              .value(challenge.duration())
+              .value("daily")
+              .value(completed ? "completed" : "active")
+              .value(start)
+              .value(start.plus(challenge.duration(), ChronoUnit.DAYS))
+              .value(1)
+              .value(current)
+              .value(streak[1])
+              .value(start)
+              .value(start)
+              .endRow();
+        }
+      }
+    }
+
+    void writeChallengeEntries(CopyStream out, int from, int to) throws IOException {
+      for (int u = from; u < to; u++) {
+        UUID userId = userId(u);
+        int challenges = count(Kind.CHALLENGE, u, spec.challengesPerUser());
+        for (int c = 0; c < challenges; c++) {
+          SyntheticChallenge challenge = challenge(u, c);
+          int owner = u;
+          long entryBase = (long) c << 20;
+          forEachEntryDay(
+              u,
+              c,
+              challenge,
+              d -> {
+                LocalDate date = challenge.startDate().plusDays(d);
+                Instant at = date.atTime(20, 0).toInstant(ZoneOffset.UTC);
+                out.value(SyntheticIds.of(key, Kind.CHALLENGE_ENTRY, owner, entryBase | d))
+                    .value(challenge.id())
+                    .value(userId)
+                    .value(date)
+                    .value(challenge.yesNo() ? null : challenge.target() + (d % 3) - 1)
+                    .value(challenge.yesNo() ? Boolean.TRUE : null)
+                    .value(at)
+                    .value(at)
+                    .endRow();
+              });
+        }
+      }
+    }
+
+    // ---------- notifications and drafts ----------
+
+    void writeNotifications(CopyStream out, int from, int to) throws IOException {
+      NotificationType[] types = NotificationType.values();
+      NotificationCategory[] categories = NotificationCategory.values();
+      NotificationPriority[] priorities = NotificationPriority.values();
+      for (int u = from; u < to; u++) {
+        SplittableRandom r = random(Kind.NOTIFICATION, u, 0);
+        int notifications = count(Kind.NOTIFICATION, u, spec.notificationsPerUser());
+        for (int i = 0; i < notifications; i++) {
+          Instant created = recent(r, now, spec.historyDays());
+          boolean old = created.isBefore(now.minus(2, ChronoUnit.DAYS));
+          boolean read = r.nextDouble() < (old ? 0.9 : 0.3);
+          NotificationType type = types[r.nextInt(types.length)];
+          out.value(SyntheticIds.of(key, Kind.NOTIFICATION, u, i))
+              .value(userId(u))
+              .value(type.name())
+              .value(categories[r.nextInt(categories.length)].getId())
+              .value(priorities[Math.min(r.nextInt(6), priorities.length - 1)].name().toLowerCase())
+              .value("Notification " + i)
+              .value("Synthetic " + type.name().toLowerCase().replace('_', ' ') + " notification")
+              .value(read)
+              .value(r.nextDouble() < 0.01)
+              .value(old && r.nextDouble() < 0.05)
+              .value(read ? created.plusSeconds(r.nextInt(86_400)) : null)
+              .value(r.nextBoolean() ? "/tasks" : null)
+              .value("{\"source\": \"synthetic\"}")
+              .value(created)
+              .value(created)
+              .endRow();
+        }
+      }
+    }
+
+    void writeDrafts(CopyStream out, int from, int to) throws IOException {
+      for (int u = from; u < to; u++) {
+        SplittableRandom r = random(Kind.DRAFT, u, 0);
+        int drafts = count(Kind.DRAFT, u, spec.draftsPerUser());
+        for (int i = 0; i < drafts; i++) {
+          Instant created = recent(r, now, spec.historyDays());
+          boolean pending = created.isAfter(now.minus(1, ChronoUnit.DAYS));
+          String type = pick(r, DRAFT_TYPES);
+          out.value(SyntheticIds.of(key, Kind.DRAFT, u, i))
+              .value(userId(u))
+              .value(type)
+              .value(pending ? "PENDING_APPROVAL" : pick(r, DRAFT_STATUSES))
+              .value(
+                  "{\"type\": \"" + DraftType.valueOf(type) + "\", \"title\": \"Draft " + i + "\"}")
+              .value(Math.round(r.nextDouble() * 100) / 100.0)
+              .value("Synthetic reasoning")
+              .value("remind me to do thing " + i)
+              .value(created)
+              .value(created.plus(1, ChronoUnit.DAYS))
+              .value(created)
+              .value(created)
+              .endRow();
+        }
+      }
+    }
+
+    // ---------- community ----------
+
+    private UUID memberId(int memberIndex) {
+      return SyntheticIds.of(key, Kind.MEMBER, memberUsers[memberIndex], 0);
+    }
+
+    void writeMembers(CopyStream out, int from, int to) throws IOException {
+      for (int m = from; m < to; m++) {
+        int u = memberUsers[m];
+        SplittableRandom r = random(Kind.MEMBER, u, 1);
+        int reputation = (int) (10 * activity[u] * (1 + r.nextInt(10)));
+        int level = Math.min(LEVEL_TITLES.length, 1 + reputation / 500);
+        Instant created = recent(r, now, spec.historyDays());
+        out.value(memberId(m))
+            .value(userId(u))
+            .value("Member " + u)
+            .value(level)
+            .value(LEVEL_TITLES[level - 1])
+            .value(reputation)
+            .value(reputation > 1500 ? "MENTOR" : "MEMBER")
+            .value((int) activity[u])
+            .value(r.nextInt(30))
+            .value(created)
+            .value(created)
+            .endRow();
+      }
+    }
+
+    private record SyntheticStory(UUID id, Instant createdAt, int likeCount, long likeSeed) {}
+
+    private int storyCount(int m) {
+      return count(Kind.STORY, memberUsers[m], spec.storiesPerMember());
+    }
+
+    private SyntheticStory story(int m, int s) {
+      int u = memberUsers[m];
+      SplittableRandom r = random(Kind.STORY, u, s);
+      double hotness = pareto(r, spec.activitySkew());
+      int likes =
+          Math.min(
+              memberUsers.length - 1,
+              skewedCount(r, spec.likesPerStory(), hotness, spec.activitySkew()));
+      return new SyntheticStory(
+          SyntheticIds.of(key, Kind.STORY, u, s),
+          recent(r, now, spec.historyDays()),
+          likes,
+          r.nextLong());
+    }
+
+    void writeStories(CopyStream out, int from, int to) throws IOException {
+      StoryCategory[] categories = StoryCategory.values();
+      for (int m = from; m < to; m++) {
+        int stories = storyCount(m);
+        for (int s = 0; s < stories; s++) {
+          SyntheticStory story = story(m, s);
+          SplittableRandom r = new SplittableRandom(story.likeSeed() ^ 1);
+          out.value(story.id())
+              .value(memberId(m))
+              .value("Story " + s + " by member " + m)
+              .value("Finished a sprint and kept the streak alive.")
+              .value(categories[r.nextInt(categories.length)].name())
+              .value(pick(r, reference.lifeWheelAreas()))
+              .value(story.likeCount())
+              .value(r.nextInt(1 + story.likeCount() / 4))
+              .value(r.nextInt(1 + story.likeCount() / 2))
+              .value(story.createdAt())
+              .value(story.createdAt())
+              .endRow();
+        }
+      }
+    }
+
+    void writeStoryLikes(CopyStream out, int from, int to) throws IOException {
+      int members = memberUsers.length;
+      for (int m = from; m < to; m++) {
+        int stories = storyCount(m);
+        for (int s = 0; s < stories; s++) {
+          SyntheticStory story = story(m, s);
+          if (story.likeCount() == 0) {
+            continue;
+          }
+          // Distinct likers: walk the member ring with a stride coprime to its size
+          SplittableRandom r = new SplittableRandom(story.likeSeed());
+          int offset = r.nextInt(members);
+          int stride = 1 + r.nextInt(members - 1);
+          while (gcd(stride, members) != 1) {
+            stride = stride % (members - 1) + 1;
+          }
+          for (int j = 0; j < story.likeCount(); j++) {
+            out.value(story.id())
+                .value(memberId((int) ((offset + (long) j * stride) % members)))
+                .endRow();
+          }
+        }
+      }
+    }
+
+    private static int gcd(int a, int b) {
+      return b == 0 ? a : gcd(b, a % b);
+    }
+
+    void writeActivities(CopyStream out, int from, int to) throws IOException {
+      ActivityType[] types = ActivityType.values();
+      for (int m = from; m < to; m++) {
+        int u = memberUsers[m];
+        SplittableRandom r = random(Kind.ACTIVITY, u, 0);
+        int activities = count(Kind.ACTIVITY, u, spec.activitiesPerMember());
+        for (int i = 0; i < activities; i++) {
+          ActivityType type = types[r.nextInt(types.length)];
+          Instant created = recent(r, now, spec.historyDays());
+          out.value(SyntheticIds.of(key, Kind.ACTIVITY, u, i))
+              .value(memberId(m))
+              .value(type.name())
+              .value(type.name().replace('_', ' ').toLowerCase())
+              .value(null)
+              .value(r.nextInt(5))
+              .value(created)
+              .value(created)
+              .endRow();
+        }
+      }
+    }
+  }
+}
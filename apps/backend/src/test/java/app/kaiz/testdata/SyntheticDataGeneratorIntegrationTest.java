@@ -0,0 +1,81 @@
+package app.kaiz.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.kaiz.IntegrationTestBase;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class SyntheticDataGeneratorIntegrationTest extends IntegrationTestBase {
+
+  private static final DatasetSpec SPEC = DatasetSpec.ofUsers(2_000).withSeed(7);
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private DatasetSummary summary;
+
+  @BeforeEach
+  void setUp() {
+    summary = syntheticDataset(SPEC);
+  }
+
+  @Test
+  @DisplayName("should write every table of the spec")
+  void shouldWriteEveryTable() {
+    assertThat(syntheticRows("users", "id")).isGreaterThanOrEqualTo(SPEC.users());
+    assertThat(syntheticRows("task_history", "changed_by_user_id")).isPositive();
+    for (String table : List.of("challenge_entries", "notifications")) {
+      assertThat(syntheticRows(table, "user_id")).as(table).isPositive();
+    }
+    assertThat(syntheticRows("tasks", "user_id")).isGreaterThan(SPEC.users() * 20L);
+
+    Long tasksOfHeaviestUser =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM tasks WHERE user_id = ?", Long.class, summary.heaviestUserId());
+    assertThat(tasksOfHeaviestUser).isGreaterThan((long) (SPEC.tasksPerUser() * 10));
+  }
+
+  @Test
+  @DisplayName("should skew activity so the top 10% of users own most notifications")
+  void shouldSkewActivity() {
+    List<Long> perUser =
+        jdbcTemplate.queryForList(
+            "SELECT count(*) FROM notifications n JOIN users u ON u.id = n.user_id "
+                + "WHERE u.email LIKE '%@synthetic.kaiz.app' GROUP BY n.user_id ORDER BY 1 DESC",
+            Long.class);
+    long total = perUser.stream().mapToLong(Long::longValue).sum();
+    long top = perUser.stream().limit(SPEC.users() / 10).mapToLong(Long::longValue).sum();
+
+    assertThat((double) top / total).isGreaterThan(0.35);
+  }
+
+  @Test
+  @DisplayName("should not write the same spec twice")
+  void shouldBeIdempotentPerSpec() {
+    DatasetSummary again = new SyntheticDataGenerator(jdbcTemplate.getDataSource()).generate(SPEC);
+
+    assertThat(again.totalRows()).isZero();
+    assertThat(again.heaviestUserId()).isEqualTo(summary.heaviestUserId());
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM users WHERE id = ?", Long.class, summary.heaviestUserId()))
+        .isEqualTo(1L);
+    assertThat(summary.heaviestUserId()).isInstanceOf(UUID.class);
+  }
+
+  /** Rows of {@code table} that belong to synthetic users, whichever test wrote them. */
+  private long syntheticRows(String table, String userColumn) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM "
+            + table
+            + " t JOIN users u ON u.id = t."
+            + userColumn
+            + " WHERE u.email LIKE '%@synthetic.kaiz.app'",
+        Long.class);
+  }
+}
@@ -0,0 +1,42 @@
+package app.kaiz.testdata;
+
+import java.util.UUID;
+
+/**
+ * Deterministic, random-looking v4 UUIDs. Each id is a function of the dataset key, the entity
+ * kind, the owning user and an index, so dependent tables can be written in later passes without
+ * keeping every parent id in memory.
+ */
+final class SyntheticIds {
+
+  private SyntheticIds() {}
+
+  static UUID of(long datasetKey, Kind kind, int owner, long index) {
+    long msb = mix(datasetKey ^ ((long) kind.ordinal() << 56) ^ ((long) owner << 20));
+    long lsb = mix(msb ^ index);
+    msb = (msb & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+
+  /** SplitMix64 finalizer; a bijection on 64-bit values. */
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  enum Kind {
+    USER,
+    EPIC,
+    TASK,
+    TASK_HISTORY,
+    CHALLENGE,
+    CHALLENGE_ENTRY,
+    NOTIFICATION,
+    DRAFT,
+    MEMBER,
+    STORY,
+    ACTIVITY
+  }
+}
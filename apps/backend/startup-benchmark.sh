@@ -0,0 +1,130 @@
+#!/bin/bash
+
+# ============================================
+# KaizApp Backend - Cold start benchmark
+# ============================================
+# Compares the plain fat-jar image (Dockerfile) with the startup-optimized image
+# (Dockerfile.fast-start: Spring AOT + CDS archive + layered jar).
+#
+# For each image it starts RUNS fresh containers, limited to the Cloud Run shape
+# (1 CPU, 1 GiB), and reports:
+#   - time to ready:      docker run -> /actuator/health/readiness answers 200
+#   - first request:      latency of the first API call after ready (login with bad credentials)
+#   - second request:     the same call again, for comparison with a warmed-up path
+#
+# Usage: ./startup-benchmark.sh [runs]
+#   SKIP_BUILD=true  reuse existing kaiz-api:plain / kaiz-api:fast-start images
+#   CPUS=1 MEMORY=1g container limits
+
+set -e
+
+RUNS=${1:-5}
+CPUS=${CPUS:-1}
+MEMORY=${MEMORY:-1g}
+NETWORK="kaiz-startup-bench"
+DB_CONTAINER="kaiz-startup-bench-db"
+APP_CONTAINER="kaiz-startup-bench-app"
+PORT=18080
+
+# Colors for output
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+echo_step() {
+    echo -e "${GREEN}==>${NC} $1"
+}
+
+now_ms() {
+    perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'
+}
+
+cleanup() {
+    docker rm -f $APP_CONTAINER > /dev/null 2>&1 || true
+    docker rm -f $DB_CONTAINER > /dev/null 2>&1 || true
+    docker network rm $NETWORK > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+cd "$(dirname "$0")"
+
+if [ "$SKIP_BUILD" != "true" ]; then
+    echo_step "Building plain image..."
+    docker build -q -f Dockerfile -t kaiz-api:plain . > /dev/null
+    echo_step "Building fast-start image (AOT + CDS training run)..."
+    docker build -q -f Dockerfile.fast-start -t kaiz-api:fast-start . > /dev/null
+fi
+
+echo_step "Starting PostgreSQL..."
+cleanup
+docker network create $NETWORK > /dev/null
+docker run -d --name $DB_CONTAINER --network $NETWORK \
+    -e POSTGRES_DB=kaiz -e POSTGRES_USER=kaiz -e POSTGRES_PASSWORD=kaiz \
+    postgres:16-alpine > /dev/null
+until docker exec $DB_CONTAINER pg_isready -U kaiz -d kaiz > /dev/null 2>&1; do sleep 1; done
+
+start_app() {
+    docker run -d --name $APP_CONTAINER --network $NETWORK -p $PORT:8080 \
+        --cpus "$CPUS" --memory "$MEMORY" \
+        -e SPRING_PROFILES_ACTIVE=prod \
+        -e SPRING_DATASOURCE_URL=jdbc:postgresql://$DB_CONTAINER:5432/kaiz \
+        -e SPRING_DATASOURCE_USERNAME=kaiz \
+        -e SPRING_DATASOURCE_PASSWORD=kaiz \
+        -e JWT_SECRET=startup-benchmark-secret-key-that-is-at-least-256-bits-long \
+        "$1" > /dev/null
+}
+
+wait_ready() {
+    local deadline=$(( $(now_ms) + 180000 ))
+    until curl -sf -o /dev/null http://localhost:$PORT/actuator/health/readiness; do
+        if [ "$(now_ms)" -gt "$deadline" ]; then
+            docker logs --tail 50 $APP_CONTAINER
+            echo "Timed out waiting for readiness" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+}
+
+request_ms() {
+    curl -s -o /dev/null -w '%{time_total}' \
+        -H 'Content-Type: application/json' \
+        -d '{"email":"startup-benchmark@kaiz.app","password":"not-the-password"}' \
+        http://localhost:$PORT/api/v1/auth/login \
+        | awk '{ printf "%d", $1 * 1000 }'
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# One unmeasured start applies the Flyway migrations so no measured run pays for them
+echo_step "Warm-up run (applies migrations)..."
+start_app kaiz-api:plain
+wait_ready
+docker rm -f $APP_CONTAINER > /dev/null
+
+RESULTS=$(mktemp)
+for image in kaiz-api:plain kaiz-api:fast-start; do
+    for run in $(seq 1 "$RUNS"); do
+        started=$(now_ms)
+        start_app $image
+        wait_ready
+        ready=$(( $(now_ms) - started ))
+        first=$(request_ms)
+        second=$(request_ms)
+        docker rm -f $APP_CONTAINER > /dev/null
+        echo "$image $ready $first $second" >> "$RESULTS"
+        printf "  %-20s run %2d  ready %6d ms  first %5d ms  second %5d ms\n" "$image" "$run" "$ready" "$first" "$second"
+    done
+done
+
+echo ""
+echo_step "Median over $RUNS runs (cpus=$CPUS, memory=$MEMORY):"
+printf "  %-20s %12s %14s %15s\n" "image" "ready (ms)" "first (ms)" "second (ms)"
+for image in kaiz-api:plain kaiz-api:fast-start; do
+    ready=$(awk -v i=$image '$1 == i { print $2 }' "$RESULTS" | median)
+    first=$(awk -v i=$image '$1 == i { print $3 }' "$RESULTS" | median)
+    second=$(awk -v i=$image '$1 == i { print $4 }' "$RESULTS" | median)
+    printf "  %-20s %12d %14d %15d\n" "$image" "$ready" "$first" "$second"
+done
+rm -f "$RESULTS"